@@ -0,0 +1,87 @@
+package it.unich.jppl.benchmarks;
+
+import it.unich.jppl.CPolyhedron;
+import it.unich.jppl.DoubleBox;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the most frequently used operations on boxes.
+ *
+ * <p>
+ * As in {@link PolyhedronBenchmark}, mutating benchmarks work on a fresh copy
+ * of their input, whose cost is measured by {@link #copy()}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleBoxBenchmark {
+
+    /**
+     * Space dimension of the boxes.
+     */
+    @Param({ "4", "16", "64" })
+    public int dimension;
+
+    /**
+     * Number of constraints of the polyhedra the boxes are obtained from.
+     */
+    @Param({ "8", "32" })
+    public int constraints;
+
+    private DoubleBox x;
+
+    private DoubleBox y;
+
+    private DoubleBox xy;
+
+    @Setup
+    public void setup() {
+        var random = new RandomConstraints(dimension * 1000L + constraints);
+        x = DoubleBox.from(CPolyhedron.from(random.nextConstraintSystem(dimension, constraints)));
+        y = DoubleBox.from(CPolyhedron.from(random.nextConstraintSystem(dimension, constraints)));
+        xy = x.clone().upperBound(y);
+    }
+
+    @Benchmark
+    public DoubleBox copy() {
+        return x.clone();
+    }
+
+    @Benchmark
+    public DoubleBox intersection() {
+        return x.clone().intersection(y);
+    }
+
+    @Benchmark
+    public DoubleBox upperBound() {
+        return x.clone().upperBound(y);
+    }
+
+    @Benchmark
+    public DoubleBox CC76Widening() {
+        return xy.clone().CC76Widening(x);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return xy.contains(y);
+    }
+
+}
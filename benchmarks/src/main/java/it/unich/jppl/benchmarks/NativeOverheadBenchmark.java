@@ -0,0 +1,91 @@
+package it.unich.jppl.benchmarks;
+
+import it.unich.jppl.CPolyhedron;
+import it.unich.jppl.Coefficient;
+import it.unich.jppl.Constraint;
+import it.unich.jppl.LinearExpression;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for operations whose cost is dominated by the Java/native
+ * transition rather than by the work done in the PPL.
+ *
+ * <p>
+ * Comparing these figures with the ones of {@link PolyhedronBenchmark} gives an
+ * estimate of the fraction of time spent in JNA marshalling.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NativeOverheadBenchmark {
+
+    /**
+     * Space dimension of linear expressions, constraints and polyhedra.
+     */
+    @Param({ "4", "16" })
+    public int dimension;
+
+    private CPolyhedron ph;
+
+    private Constraint c;
+
+    private long[] coeffs;
+
+    @Setup
+    public void setup() {
+        var random = new RandomConstraints(dimension);
+        ph = CPolyhedron.from(random.nextConstraintSystem(dimension, dimension));
+        c = random.nextConstraint(dimension);
+        coeffs = new long[dimension];
+        for (int i = 0; i < dimension; i++)
+            coeffs[i] = i + 1;
+    }
+
+    /**
+     * A native call which does no work at all in the PPL.
+     */
+    @Benchmark
+    public long getSpaceDimension() {
+        return ph.getSpaceDimension();
+    }
+
+    @Benchmark
+    public Coefficient coefficientValueOf() {
+        return Coefficient.valueOf(dimension);
+    }
+
+    @Benchmark
+    public long coefficientLongValue() {
+        return Coefficient.ONE.longValue();
+    }
+
+    @Benchmark
+    public LinearExpression linearExpressionOf() {
+        return LinearExpression.of(1, coeffs);
+    }
+
+    @Benchmark
+    public void constraintCoefficients(Blackhole bh) {
+        for (long i = 0; i < dimension; i++)
+            bh.consume(c.getCoefficient(i).longValue());
+    }
+
+}
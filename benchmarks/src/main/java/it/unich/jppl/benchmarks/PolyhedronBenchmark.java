@@ -0,0 +1,113 @@
+package it.unich.jppl.benchmarks;
+
+import it.unich.jppl.CPolyhedron;
+import it.unich.jppl.Coefficient;
+import it.unich.jppl.LinearExpression;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the most frequently used operations on closed polyhedra.
+ *
+ * <p>
+ * All the operations of {@link CPolyhedron} modify the receiver, hence each
+ * mutating benchmark works on a fresh copy of its input. The cost of the copy
+ * is measured separately by {@link #copy()} and should be subtracted from the
+ * other results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolyhedronBenchmark {
+
+    /**
+     * Space dimension of the polyhedra.
+     */
+    @Param({ "4", "8", "16" })
+    public int dimension;
+
+    /**
+     * Number of constraints of each polyhedron.
+     */
+    @Param({ "8", "32" })
+    public int constraints;
+
+    private CPolyhedron x;
+
+    private CPolyhedron y;
+
+    private CPolyhedron xy;
+
+    private LinearExpression le;
+
+    @Setup
+    public void setup() {
+        var random = new RandomConstraints(dimension * 1000L + constraints);
+        x = CPolyhedron.from(random.nextConstraintSystem(dimension, constraints));
+        y = CPolyhedron.from(random.nextConstraintSystem(dimension, constraints));
+        xy = x.clone().polyHull(y);
+        le = random.nextLinearExpression(dimension);
+        // Polyhedra are kept minimized, so that all the benchmarks start from the
+        // same internal representation.
+        x.getMinimizedConstraints();
+        y.getMinimizedConstraints();
+        xy.getMinimizedConstraints();
+    }
+
+    @Benchmark
+    public CPolyhedron copy() {
+        return x.clone();
+    }
+
+    @Benchmark
+    public CPolyhedron intersection() {
+        return x.clone().intersection(y);
+    }
+
+    @Benchmark
+    public CPolyhedron upperBound() {
+        return x.clone().upperBound(y);
+    }
+
+    @Benchmark
+    public CPolyhedron polyHull() {
+        return x.clone().polyHull(y);
+    }
+
+    @Benchmark
+    public CPolyhedron H79Widening() {
+        return xy.clone().H79Widening(x);
+    }
+
+    @Benchmark
+    public CPolyhedron BHRZ03Widening() {
+        return xy.clone().BHRZ03Widening(x);
+    }
+
+    @Benchmark
+    public CPolyhedron affineImage() {
+        return x.clone().affineImage(0, le, Coefficient.ONE);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return xy.contains(y);
+    }
+
+}
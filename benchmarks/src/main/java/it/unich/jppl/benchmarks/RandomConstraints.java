@@ -0,0 +1,60 @@
+package it.unich.jppl.benchmarks;
+
+import it.unich.jppl.Constraint;
+import it.unich.jppl.Constraint.ConstraintType;
+import it.unich.jppl.ConstraintSystem;
+import it.unich.jppl.LinearExpression;
+
+import java.util.Random;
+
+/**
+ * Generator of pseudo-random constraint systems used as benchmark inputs.
+ *
+ * <p>
+ * Each constraint has the form \(\sum_{i=0}^{d-1} a_i x_i + b \geq 0\) with
+ * \(-5 \leq a_i \leq 5\) and \(1 \leq b \leq 20\). Since \(b\) is positive, the
+ * origin satisfies all the constraints, hence the polyhedra built from these
+ * systems are never empty. The generator is seeded, so that different runs of
+ * the same benchmark work on the same data.
+ * </p>
+ */
+public class RandomConstraints {
+
+    private final Random random;
+
+    /**
+     * Creates a generator with the specified {@code seed}.
+     */
+    public RandomConstraints(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns a random linear expression in a {@code d}-dimensional space.
+     */
+    public LinearExpression nextLinearExpression(int d) {
+        var coeffs = new long[d];
+        for (int i = 0; i < d; i++)
+            coeffs[i] = random.nextInt(11) - 5;
+        return LinearExpression.of(1 + random.nextInt(20), coeffs);
+    }
+
+    /**
+     * Returns a random constraint in a {@code d}-dimensional space.
+     */
+    public Constraint nextConstraint(int d) {
+        return Constraint.of(nextLinearExpression(d), ConstraintType.GREATER_OR_EQUAL);
+    }
+
+    /**
+     * Returns a system of {@code n} random constraints in a {@code d}-dimensional
+     * space.
+     */
+    public ConstraintSystem nextConstraintSystem(int d, int n) {
+        var cs = ConstraintSystem.empty();
+        for (int i = 0; i < n; i++)
+            cs.add(nextConstraint(d));
+        return cs;
+    }
+
+}
@@ -0,0 +1,144 @@
+package it.unich.jppl;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Common abstract parent for the immutable Java representations of the systems
+ * of geometric descriptors.
+ *
+ * <p>
+ * A matrix is a sequence of rows of type {@code R}, one for each geometric
+ * descriptor of the original system. Since matrices do not refer to any native
+ * object, their rows may be iterated and streamed in parallel without calling
+ * the PPL.
+ * </p>
+ */
+abstract class AbstractMatrix<R> implements Iterable<R> {
+
+    /**
+     * Returns the number of rows in this matrix.
+     */
+    public abstract int size();
+
+    /**
+     * Returns the row at position {@code row}.
+     *
+     * @throws IndexOutOfBoundsException if {@code row} is not a valid position.
+     */
+    public abstract R getRow(int row);
+
+    /**
+     * Returns an iterator over the rows of this matrix.
+     */
+    @Override
+    public Iterator<R> iterator() {
+        return new Iterator<R>() {
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return row < size();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return getRow(row++);
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the rows of this matrix. The spliterator is
+     * sized and it splits in balanced halves, hence it is well suited for
+     * parallel streams.
+     */
+    @Override
+    public Spliterator<R> spliterator() {
+        return new RowSpliterator(0, size());
+    }
+
+    /**
+     * Returns a sequential stream of the rows of this matrix.
+     */
+    public Stream<R> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the rows of this matrix.
+     */
+    public Stream<R> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * A spliterator over the rows from {@code origin} (inclusive) to
+     * {@code fence} (exclusive).
+     */
+    private class RowSpliterator implements Spliterator<R> {
+        private int origin;
+        private final int fence;
+
+        RowSpliterator(int origin, int fence) {
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (origin >= fence)
+                return false;
+            action.accept(getRow(origin++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            while (origin < fence)
+                action.accept(getRow(origin++));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin)
+                return null;
+            var prefix = new RowSpliterator(origin, mid);
+            origin = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Returns the first {@code d} elements of {@code values}, padded with zeros
+     * when {@code values} has less than {@code d + 1} elements. It is used for
+     * extracting the coefficients from the result of the bulk extraction methods
+     * of the geometric descriptors, whose last element is not a coefficient.
+     */
+    static BigInteger[] linearPart(BigInteger[] values, int d) {
+        var coeffs = Arrays.copyOf(values, d);
+        for (int i = values.length - 1; i < d; i++)
+            coeffs[i] = BigInteger.ZERO;
+        return coeffs;
+    }
+
+}
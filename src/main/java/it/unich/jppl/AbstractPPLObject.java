@@ -14,6 +14,54 @@ public abstract class AbstractPPLObject<T extends AbstractPPLObject<T>> implemen
      */
     protected Pointer pplObj;
 
+    /**
+     * The thread which owns this object, or {@code null} if the object is not
+     * confined to a thread. Objects created by the worker threads of a
+     * {@link PPLExecutor} are confined to the thread which created them.
+     */
+    final Thread owner = PPLExecutor.currentOwner();
+
+    /**
+     * Returns the pointer to the native PPL object, after checking that this
+     * object may be used by the current thread. It should be used instead of
+     * {@link #pplObj} when passing the native object to the PPL. Subclasses may
+     * override it for allocating the native object lazily.
+     *
+     * @throws IllegalStateException if this object is confined to a thread which
+     *                               is not the current one, or it has been
+     *                               released by its {@link PPLScope}.
+     */
+    Pointer ptr() {
+        checkOwner();
+        if (pplObj == null)
+            throw new IllegalStateException("The object has been released by its scope");
+        return pplObj;
+    }
+
+    /**
+     * Checks that this object may be used by the current thread.
+     *
+     * @throws IllegalStateException if this object is confined to a thread which
+     *                               is not the current one.
+     */
+    final void checkOwner() {
+        if (owner != null && owner != Thread.currentThread())
+            throw confinementViolation();
+    }
+
+    /**
+     * Forgets the native object, after it has been deallocated by the
+     * {@link PPLScope} of this object.
+     */
+    void release() {
+        pplObj = null;
+    }
+
+    private IllegalStateException confinementViolation() {
+        return new IllegalStateException("A PPL object owned by thread " + owner.getName()
+                + " cannot be used by thread " + Thread.currentThread().getName());
+    }
+
     /**
      * Assigns to this object a copy of the object {@code obj}.
      */
@@ -0,0 +1,226 @@
+package it.unich.jppl;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * A view of a polyhedron whose operations have a time budget, or a weight
+ * budget.
+ *
+ * <p>
+ * Each operation is performed on a copy of the polyhedron, under a PPL timeout
+ * equal to the budget, rounded up to hundredths of seconds. If the operation
+ * completes in time, its result is assigned to the polyhedron. Otherwise, the
+ * computation is abandoned and the polyhedron is assigned a fallback, which is
+ * computed by algorithms of polynomial complexity. For the poly-hull and the
+ * intersection, the fallback is a sound over-approximation of the result: the
+ * poly-hull falls back to the hull of the bounding boxes of the operands, and
+ * the intersection falls back to the first operand, dropping the constraints
+ * of the second one. For the widenings, the fallback is the widening of the
+ * bounding boxes, which is an upper bound of both operands, but it does not
+ * necessarily contain the result of the widening on polyhedra. Therefore, it
+ * is still suitable for the iteration sequences of an abstract interpreter, but
+ * the polyhedra computed with and without fallbacks may be incomparable. The
+ * number of operations which fell back is returned by {@link #getFallbacks()}.
+ * </p>
+ *
+ * <p>
+ * Since PPL timeouts are global, budgeted operations are serialized, and they
+ * should not run concurrently with other computations of the PPL, which might
+ * be abandoned as well. Budgeted operations replace any timeout set by
+ * {@link PPL#setTimeout(int)}. They require the PPL to be built with support
+ * for timeouts.
+ * </p>
+ *
+ * <p>
+ * Views created with a {@link WeightBudget} use deterministic timeouts
+ * instead, and they apply the degradation policy of the budget: the operations
+ * exceeding the budget only fall back when the policy
+ * is {@link WeightBudget.Degradation#OVER_APPROXIMATE OVER_APPROXIMATE}.
+ * </p>
+ *
+ * @param <T> the type of the polyhedron.
+ * @see Polyhedron#withBudget(Duration)
+ * @see Polyhedron#withBudget(WeightBudget)
+ */
+public final class BudgetedPolyhedron<T extends Polyhedron<T>> {
+
+    /**
+     * The lock which serializes the budgeted operations.
+     */
+    static final Object LOCK = new Object();
+
+    private final T ph;
+
+    private final int csecs;
+
+    private final WeightBudget weights;
+
+    private int fallbacks;
+
+    /**
+     * Creates a view of {@code ph} with budget {@code budget}.
+     *
+     * @throws IllegalArgumentException if {@code budget} is not positive.
+     */
+    BudgetedPolyhedron(T ph, Duration budget) {
+        if (budget.isNegative() || budget.isZero())
+            throw new IllegalArgumentException("The budget should be positive");
+        this.ph = ph;
+        this.csecs = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (budget.toMillis() + 9) / 10));
+        this.weights = null;
+    }
+
+    /**
+     * Creates a view of {@code ph} which uses the weight budget {@code budget}.
+     */
+    BudgetedPolyhedron(T ph, WeightBudget budget) {
+        this.ph = ph;
+        this.csecs = 0;
+        this.weights = budget;
+    }
+
+    /**
+     * Returns the number of operations of this view which exceeded the budget
+     * and fell back to an over-approximation.
+     */
+    public int getFallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Assigns to the polyhedron the result of {@code op} on a copy of it. If the
+     * budget is exceeded, it assigns the result of {@code fallback} on the
+     * polyhedron instead, which should be an over-approximation of the result of
+     * {@code op} computed without timeouts. When {@code op} is a widening, it is
+     * enough that the fallback is an upper bound of both of its operands.
+     *
+     * @return the polyhedron.
+     * @throws UnsupportedOperationException if the polyhedron has been interned.
+     * @throws PPLRuntimeException           with code {@code TIMEOUT_EXCEPTION}
+     *                                       if the weight budget is exceeded and
+     *                                       its policy is
+     *                                       {@link WeightBudget.Degradation#THROW
+     *                                       THROW}.
+     */
+    public T apply(UnaryOperator<T> op, UnaryOperator<T> fallback) {
+        return apply("apply", op, fallback);
+    }
+
+    /**
+     * Implements {@link #apply(UnaryOperator, UnaryOperator)}, where
+     * {@code name} is the name of the operation charged with the weight.
+     */
+    private T apply(String name, UnaryOperator<T> op, UnaryOperator<T> fallback) {
+        ph.checkMutable();
+        T result = null;
+        if (weights != null) {
+            result = weights.run(name, ph, op);
+        } else {
+            synchronized (LOCK) {
+                var copy = ph.clone();
+                PPL.setTimeout(csecs);
+                try {
+                    result = op.apply(copy);
+                } catch (PPLRuntimeException e) {
+                    if (e.getCode() != PPLRuntimeException.TIMEOUT_EXCEPTION)
+                        throw e;
+                } finally {
+                    PPL.resetTimeout();
+                }
+            }
+        }
+        if (result == null) {
+            fallbacks++;
+            result = fallback.apply(ph);
+        }
+        return ph.assign(result);
+    }
+
+    /**
+     * Assigns to the polyhedron its poly-hull with {@code y}. It falls back to the
+     * hull of the bounding boxes.
+     *
+     * @see Polyhedron#polyHull(Polyhedron)
+     */
+    public T polyHull(T y) {
+        return apply("polyHull", x -> x.polyHull(y), x -> boxHull(x, y));
+    }
+
+    /**
+     * Assigns to the polyhedron its upper bound with {@code y}, which is the
+     * poly-hull.
+     *
+     * @see #polyHull(Polyhedron)
+     */
+    public T upperBound(T y) {
+        return polyHull(y);
+    }
+
+    /**
+     * Assigns to the polyhedron its intersection with {@code y}. It falls back to
+     * the polyhedron itself.
+     *
+     * @see Polyhedron#intersection(Polyhedron)
+     */
+    public T intersection(T y) {
+        return apply("intersection", x -> x.intersection(y), x -> x);
+    }
+
+    /**
+     * Assigns to the polyhedron its H79 widening with {@code y}. It falls back to
+     * the widening of the bounding boxes, which contains both operands but not
+     * necessarily their H79 widening.
+     *
+     * @see Polyhedron#H79Widening(Polyhedron)
+     */
+    public T H79Widening(T y) {
+        return apply("H79Widening", x -> x.H79Widening(y), x -> boxWidening(x, y));
+    }
+
+    /**
+     * Assigns to the polyhedron its BHRZ03 widening with {@code y}. It falls back
+     * to the widening of the bounding boxes, which contains both operands but not
+     * necessarily their BHRZ03 widening.
+     *
+     * @see Polyhedron#BHRZ03Widening(Polyhedron)
+     */
+    public T BHRZ03Widening(T y) {
+        return apply("BHRZ03Widening", x -> x.BHRZ03Widening(y), x -> boxWidening(x, y));
+    }
+
+    /**
+     * Assigns to the polyhedron its standard widening with {@code y}. It falls
+     * back to the widening of the bounding boxes, which contains both operands
+     * but not necessarily their widening.
+     *
+     * @see Polyhedron#widening(Polyhedron)
+     */
+    public T widening(T y) {
+        return apply("widening", x -> x.widening(y), x -> boxWidening(x, y));
+    }
+
+    /**
+     * Returns the polyhedron corresponding to the hull of the bounding boxes of
+     * {@code x} and {@code y}.
+     */
+    private static <T extends Polyhedron<T>> T boxHull(T x, T y) {
+        var box = x.toBox(ComplexityClass.POLYNOMIAL_COMPLEXITY);
+        box.upperBound(y.toBox(ComplexityClass.POLYNOMIAL_COMPLEXITY));
+        return x.fromBox(box);
+    }
+
+    /**
+     * Returns the polyhedron corresponding to the widening of the bounding box of
+     * {@code x} with the hull of the bounding boxes of {@code x} and {@code y}.
+     * It is an upper bound of {@code x} and {@code y}, but it is not an
+     * over-approximation of the widenings of polyhedra, which may keep
+     * constraints which are not parallel to the axes.
+     */
+    private static <T extends Polyhedron<T>> T boxWidening(T x, T y) {
+        var bx = x.toBox(ComplexityClass.POLYNOMIAL_COMPLEXITY);
+        var box = bx.clone().upperBound(y.toBox(ComplexityClass.POLYNOMIAL_COMPLEXITY));
+        return x.fromBox(box.widening(bx));
+    }
+
+}
@@ -1,8 +1,7 @@
 package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
-
-import it.unich.jppl.nativelib.SizeT;
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
 
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
@@ -15,7 +14,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public CPolyhedron(Pointer p) {
         pplObj = p;
-        PPL.cleaner.register(this, new PolyhedronCleaner(pplObj));
+        PPLScope.register(this, new PolyhedronCleaner(pplObj));
     }
 
     /**
@@ -35,11 +34,11 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      *                             exceeds the maximum allowed space dimension.
      */
     public static CPolyhedron empty(long d) {
-        var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_space_dimension(pph, new SizeT(d), 1);
+        var pph = scratch();
+        int result = ppl_new_C_Polyhedron_from_space_dimension(pph, d, 1);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CPolyhedron(pph.getValue());
+        return new CPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -50,11 +49,11 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      *                             exceeds the maximum allowed space dimension.
      */
     public static CPolyhedron universe(long d) {
-        var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_space_dimension(pph, new SizeT(d), 0);
+        var pph = scratch();
+        int result = ppl_new_C_Polyhedron_from_space_dimension(pph, d, 0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CPolyhedron(pph.getValue());
+        return new CPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -65,11 +64,11 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      *                             contains strict inequalities.
      */
     public static CPolyhedron from(ConstraintSystem cs) {
-        var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_Constraint_System(pph, cs.pplObj);
+        var pph = scratch();
+        int result = ppl_new_C_Polyhedron_from_Constraint_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CPolyhedron(pph.getValue());
+        return new CPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -78,11 +77,11 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      * performance, its internal data structure might have been reused.
      */
     public static CPolyhedron recycledFrom(ConstraintSystem cs) {
-        var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_recycle_Constraint_System(pph, cs.pplObj);
+        var pph = scratch();
+        int result = ppl_new_C_Polyhedron_recycle_Constraint_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CPolyhedron(pph.getValue());
+        return new CPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -95,7 +94,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(CongruenceSystem cs) {
         PointerByReference pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_Congruence_System(pph, cs.pplObj);
+        int result = ppl_new_C_Polyhedron_from_Congruence_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -108,7 +107,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron recycledFrom(CongruenceSystem cs) {
         PointerByReference pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_recycle_Congruence_System(pph, cs.pplObj);
+        int result = ppl_new_C_Polyhedron_recycle_Congruence_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -124,7 +123,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(GeneratorSystem gs) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_Generator_System(pph, gs.pplObj);
+        int result = ppl_new_C_Polyhedron_from_Generator_System(pph, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -137,7 +136,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron recycledFrom(GeneratorSystem gs) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_recycle_Generator_System(pph, gs.pplObj);
+        int result = ppl_new_C_Polyhedron_recycle_Generator_System(pph, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -147,11 +146,11 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      * Creates and returns a copy of {@code ph}.
      */
     public static CPolyhedron from(CPolyhedron ph) {
-        var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_C_Polyhedron(pph, ph.pplObj);
+        var pph = scratch();
+        int result = ppl_new_C_Polyhedron_from_C_Polyhedron(pph, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CPolyhedron(pph.getValue());
+        return new CPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -160,7 +159,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(CPolyhedron ph, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -172,7 +171,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(NNCPolyhedron ph) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_NNC_Polyhedron(pph, ph.pplObj);
+        int result = ppl_new_C_Polyhedron_from_NNC_Polyhedron(pph, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -184,7 +183,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(NNCPolyhedron ph, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -197,7 +196,7 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(DoubleBox box) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_Double_Box(pph, box.pplObj);
+        int result = ppl_new_C_Polyhedron_from_Double_Box(pph, box.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
@@ -209,18 +208,29 @@ public class CPolyhedron extends Polyhedron<CPolyhedron> {
      */
     public static CPolyhedron from(DoubleBox box, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_C_Polyhedron_from_Double_Box_with_complexity(pph, box.pplObj, complexity.ordinal());
+        int result = ppl_new_C_Polyhedron_from_Double_Box_with_complexity(pph, box.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CPolyhedron(pph.getValue());
     }
 
+    @Override
+    DoubleBox toBox(ComplexityClass complexity) {
+        return DoubleBox.from(this, complexity);
+    }
+
+    @Override
+    CPolyhedron fromBox(DoubleBox box) {
+        return from(box);
+    }
+
     @Override
     CPolyhedron assign(CPolyhedron p) {
-        int result = ppl_assign_C_Polyhedron_from_C_Polyhedron(pplObj, p.pplObj);
+        checkMutable();
+        int result = ppl_assign_C_Polyhedron_from_C_Polyhedron(ptr(), p.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
@@ -1,11 +1,15 @@
 package it.unich.jppl;
 
 import it.unich.jgmp.*;
+import it.unich.jppl.nativelib.LibGMP;
+import it.unich.jppl.nativelib.SizeT;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
 import java.math.BigInteger;
 
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -27,23 +31,53 @@ import com.sun.jna.ptr.PointerByReference;
  * immutable. Almost all methods throw {@link PPLRuntimeException} when the
  * underlying PPL library generates an error.
  * </p>
+ *
+ * <p>
+ * A coefficient whose value fits in a {@code long} is kept on the Java side,
+ * and its native counterpart is only allocated when it is actually needed by
+ * the PPL. Passing a coefficient as an argument to the methods of JPPL objects
+ * does not allocate the native counterpart. Arithmetic operations and
+ * comparisons between such coefficients never call the PPL.
+ * </p>
  */
-public class Coefficient extends AbstractPPLObject<Coefficient> {
+public class Coefficient extends AbstractPPLObject<Coefficient> implements Comparable<Coefficient> {
 
     /**
      * A coefficient which is equal to zero.
      */
-    public static final Coefficient ZERO = Coefficient.zero();
+    public static final Coefficient ZERO = PPLExecutor.shared(() -> Coefficient.zero().materialize());
 
     /**
      * A coefficient which is equal to one.
      */
-    public static final Coefficient ONE = Coefficient.valueOf(1);
+    public static final Coefficient ONE = PPLExecutor.shared(() -> Coefficient.valueOf(1).materialize());
 
     /**
      * A coefficient which is equal to minus one.
      */
-    public static final Coefficient MINUS_ONE = Coefficient.valueOf(-1);
+    public static final Coefficient MINUS_ONE = PPLExecutor.shared(() -> Coefficient.valueOf(-1).materialize());
+
+    /**
+     * The value of the coefficient is in {@link #value}. The native counterpart,
+     * if it exists, has the same value.
+     */
+    private static final byte SMALL = 0;
+
+    /**
+     * The value of the coefficient does not fit in a {@code long} and it is only
+     * in the native counterpart.
+     */
+    private static final byte BIG = 1;
+
+    /**
+     * The value of the coefficient is only in the native counterpart, but it has
+     * not been checked whether it fits in a {@code long}.
+     */
+    private static final byte UNKNOWN = 2;
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
 
     private static class CoefficientCleaner implements Runnable {
         private Pointer pplObj;
@@ -58,23 +92,345 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
         }
     }
 
+    /**
+     * Temporary objects of a thread, used for moving values between Java and
+     * the PPL without allocating new native objects.
+     */
+    private static class Scratch {
+        final MPZ z = new MPZ();
+        final MPZ z2 = new MPZ();
+        final Pointer c;
+        MPZ tmp;
+
+        /**
+         * Native buffer for the magnitude of the big values, which grows when
+         * needed.
+         */
+        Memory buffer = new Memory(64);
+
+        /**
+         * Native buffer for the number of bytes written by {@code mpz_export}.
+         */
+        final Memory count = new Memory(Native.SIZE_T_SIZE);
+
+        Scratch() {
+            var pc = new PointerByReference();
+            int result = ppl_new_Coefficient(pc);
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            c = pc.getValue();
+            PPL.cleaner.register(this, new CoefficientCleaner(c));
+        }
+
+        /**
+         * Returns a pointer to a GNU MP integer whose value is {@code v}.
+         */
+        Pointer mpz(long v) {
+            if (LibGMP.LP64) {
+                LibGMP.mpz_set_si(z.getPointer(), v);
+                return z.getPointer();
+            }
+            tmp = new MPZ(v);
+            return tmp.getPointer();
+        }
+
+        /**
+         * Copies the value of the native coefficient {@code p} in the temporary
+         * GNU MP integer and returns true if it fits in a {@code long}.
+         */
+        boolean load(Pointer p) {
+            int result = ppl_Coefficient_to_mpz_t(p, z.getPointer());
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            if (LibGMP.LP64)
+                return LibGMP.mpz_fits_slong_p(z.getPointer()) != 0;
+            var bi = bigIntegerValue();
+            return bi.compareTo(LONG_MIN) >= 0 && bi.compareTo(LONG_MAX) <= 0;
+        }
+
+        /**
+         * Returns a pointer to a GNU MP integer whose value is {@code bi}. The
+         * magnitude of {@code bi} is moved as a sequence of bytes through the
+         * native buffer.
+         */
+        Pointer mpz(BigInteger bi) {
+            if (!LibGMP.LP64) {
+                // We use radix 32 since we suspect it to be faster than radix 10.
+                // Values bigger than 32 do not work.
+                tmp = new MPZ(bi.toString(32), 32);
+                return tmp.getPointer();
+            }
+            var bytes = bi.abs().toByteArray();
+            var buf = buffer(bytes.length);
+            buf.write(0, bytes, 0, bytes.length);
+            LibGMP.mpz_import(z.getPointer(), bytes.length, 1, 1, 1, 0, buf);
+            if (bi.signum() < 0)
+                LibGMP.mpz_neg(z.getPointer(), z.getPointer());
+            return z.getPointer();
+        }
+
+        /**
+         * Returns the value of the temporary GNU MP integer as a BigInteger. The
+         * magnitude is moved as a sequence of bytes through the native buffer.
+         */
+        BigInteger bigIntegerValue() {
+            if (!LibGMP.LP64)
+                return new BigInteger(z.toString(32), 32);
+            int signum = Integer.signum(LibGMP.mpz_cmp_si(z.getPointer(), 0));
+            if (signum == 0)
+                return BigInteger.ZERO;
+            var buf = buffer((LibGMP.mpz_sizeinbase(z.getPointer(), 2) + 7) / 8);
+            LibGMP.mpz_export(buf, count, 1, 1, 1, 0, z.getPointer());
+            return new BigInteger(signum, buf.getByteArray(0, (int) count.getLong(0)));
+        }
+
+        /**
+         * Returns the native buffer, after enlarging it to at least {@code size}
+         * bytes.
+         */
+        Memory buffer(long size) {
+            if (buffer.size() < size)
+                buffer = new Memory(Math.max(size, 2 * buffer.size()));
+            return buffer;
+        }
+
+        /**
+         * Returns the value of the temporary GNU MP integer, which should fit in
+         * a {@code long}.
+         */
+        long longValue() {
+            return LibGMP.LP64 ? LibGMP.mpz_get_si(z.getPointer()) : z.longValue();
+        }
+
+        /**
+         * Returns the value of the temporary native coefficient, after it has
+         * been written by a native call whose result is {@code result}.
+         *
+         * @throws ArithmeticException if the value does not fit in a
+         *                             {@code long}.
+         */
+        long longValue(int result) {
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            if (!load(c))
+                throw new ArithmeticException("Coefficient does not fit in a long");
+            return longValue();
+        }
+
+        /**
+         * Copies the value of the temporary native coefficient in {@code dest},
+         * after it has been written by a native call whose result is
+         * {@code result}.
+         */
+        void read(int result, MPZ dest) {
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            result = ppl_Coefficient_to_mpz_t(c, dest.getPointer());
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+        }
+
+        /**
+         * Returns true if the GNU MP integer {@code x} is zero.
+         */
+        boolean isZero(MPZ x) {
+            return LibGMP.LP64 ? LibGMP.mpz_cmp_si(x.getPointer(), 0) == 0 : x.toString(16).equals("0");
+        }
+
+        /**
+         * Returns true if the two temporary GNU MP integers have the same value.
+         */
+        boolean sameValues() {
+            return LibGMP.LP64 ? LibGMP.mpz_cmp(z.getPointer(), z2.getPointer()) == 0
+                    : z.toString(16).equals(z2.toString(16));
+        }
+
+        /**
+         * Returns the hash code of the temporary native coefficient, after it has
+         * been written by a native call whose result is {@code result}. It is
+         * the same value returned by {@link Coefficient#hashCode()}.
+         */
+        int hashCode(int result) {
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            return load(c) ? Long.hashCode(longValue()) : bigIntegerValue().hashCode();
+        }
+
+        /**
+         * Returns the value of the temporary native coefficient as a
+         * BigInteger, after it has been written by a native call whose result
+         * is {@code result}.
+         */
+        BigInteger bigIntegerValue(int result) {
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            return load(c) ? BigInteger.valueOf(longValue()) : bigIntegerValue();
+        }
+    }
+
+    private static final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * A native function which reads the {@code i}-th coefficient of a linear
+     * object.
+     */
+    @FunctionalInterface
+    interface Reader {
+        int read(Pointer obj, SizeT i, Pointer n);
+    }
+
+    /**
+     * A native function which reads a single coefficient of a linear object,
+     * such as its inhomogeneous term.
+     */
+    @FunctionalInterface
+    interface TermReader {
+        int read(Pointer obj, Pointer n);
+    }
+
+    /**
+     * Returns the {@code dim} coefficients of the linear object {@code obj},
+     * followed by the coefficient read by {@code term}, or zero if {@code term}
+     * is null. The values are written in {@code buffer} if it is large enough,
+     * otherwise in a new array. No native coefficient is allocated.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    static long[] longValues(Pointer obj, long dim, Reader reader, TermReader term, long[] buffer) {
+        int size = Math.toIntExact(dim + 1);
+        var values = buffer != null && buffer.length >= size ? buffer : new long[size];
+        var s = scratch.get();
+        var i = new SizeT();
+        for (int j = 0; j < dim; j++) {
+            i.setValue(j);
+            values[j] = s.longValue(reader.read(obj, i, s.c));
+        }
+        values[size - 1] = term == null ? 0 : s.longValue(term.read(obj, s.c));
+        return values;
+    }
+
+    /**
+     * Returns true if the linear objects {@code obj1} and {@code obj2}, with
+     * space dimensions {@code dim1} and {@code dim2}, have the same coefficients
+     * and, if {@code term} is not null, the same coefficient read by
+     * {@code term}. Missing coefficients are considered to be zero. No native
+     * coefficient is allocated.
+     */
+    static boolean sameValues(Pointer obj1, long dim1, Pointer obj2, long dim2, Reader reader, TermReader term) {
+        if (term != null && !sameValue(obj1, obj2, term))
+            return false;
+        var s = scratch.get();
+        var i = new SizeT();
+        long dim = Math.min(dim1, dim2);
+        for (long j = 0; j < dim; j++) {
+            i.setValue(j);
+            s.read(reader.read(obj1, i, s.c), s.z);
+            s.read(reader.read(obj2, i, s.c), s.z2);
+            if (!s.sameValues())
+                return false;
+        }
+        var obj = dim1 > dim2 ? obj1 : obj2;
+        for (long j = dim; j < Math.max(dim1, dim2); j++) {
+            i.setValue(j);
+            s.read(reader.read(obj, i, s.c), s.z);
+            if (!s.isZero(s.z))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the coefficients read by {@code term} from the linear
+     * objects {@code obj1} and {@code obj2} are equal. No native coefficient is
+     * allocated.
+     */
+    static boolean sameValue(Pointer obj1, Pointer obj2, TermReader term) {
+        var s = scratch.get();
+        s.read(term.read(obj1, s.c), s.z);
+        s.read(term.read(obj2, s.c), s.z2);
+        return s.sameValues();
+    }
+
+    /**
+     * Returns a hash code for the {@code dim} coefficients of the linear object
+     * {@code obj}, followed by the coefficient read by {@code term} if it is not
+     * null. Trailing zero coefficients do not change the result, hence linear
+     * objects which are equal according to
+     * {@link #sameValues(Pointer, long, Pointer, long, Reader, TermReader)} have
+     * the same hash code. No native coefficient is allocated.
+     */
+    static int hashValues(Pointer obj, long dim, Reader reader, TermReader term) {
+        var s = scratch.get();
+        var i = new SizeT();
+        int h = 0;
+        int hash = 0;
+        for (long j = 0; j < dim; j++) {
+            i.setValue(j);
+            h = 31 * h + s.hashCode(reader.read(obj, i, s.c));
+            if (!s.isZero(s.z))
+                hash = h;
+        }
+        return term == null ? hash : 31 * hash + s.hashCode(term.read(obj, s.c));
+    }
+
+    /**
+     * Returns the {@code dim} coefficients of the linear object {@code obj},
+     * followed by the coefficient read by {@code term}, or zero if {@code term}
+     * is null. No native coefficient is allocated.
+     */
+    static BigInteger[] bigIntegerValues(Pointer obj, long dim, Reader reader, TermReader term) {
+        int size = Math.toIntExact(dim + 1);
+        var values = new BigInteger[size];
+        var s = scratch.get();
+        var i = new SizeT();
+        for (int j = 0; j < dim; j++) {
+            i.setValue(j);
+            values[j] = s.bigIntegerValue(reader.read(obj, i, s.c));
+        }
+        values[size - 1] = term == null ? BigInteger.ZERO : s.bigIntegerValue(term.read(obj, s.c));
+        return values;
+    }
+
+    /**
+     * The value of this coefficient, when {@link #state} is {@link #SMALL}.
+     */
+    private long value;
+
+    /**
+     * Whether the value of this coefficient is kept on the Java side.
+     */
+    private byte state;
+
+    /**
+     * Whether the native counterpart of this coefficient has been deallocated by
+     * its {@link PPLScope}.
+     */
+    private boolean released;
+
     /**
      * Creates a coefficient from the native object pointed by {@code p}.
      */
     private Coefficient(Pointer p) {
         pplObj = p;
-        PPL.cleaner.register(this, new CoefficientCleaner(pplObj));
+        state = UNKNOWN;
+        PPLScope.register(this, new CoefficientCleaner(pplObj));
+    }
+
+    /**
+     * Creates a coefficient whose value is {@code value}, without allocating its
+     * native counterpart.
+     */
+    private Coefficient(long value) {
+        this.value = value;
+        this.state = SMALL;
     }
 
     /**
      * Creates and returns a coefficient whose value is zero.
      */
     public static Coefficient zero() {
-        var pc = new PointerByReference();
-        int result = ppl_new_Coefficient(pc);
-        if (result < 0)
-            PPLRuntimeException.checkError(result);
-        return new Coefficient(pc.getValue());
+        return new Coefficient(0);
     }
 
     /**
@@ -92,7 +448,7 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * Creates and returns a coefficient whose value is {@code l}.
      */
     public static Coefficient valueOf(long l) {
-        return valueOf(new MPZ(l));
+        return new Coefficient(l);
     }
 
     /**
@@ -100,7 +456,11 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * representation {@code s} in the specified {@code radix}.
      */
     public static Coefficient valueOf(String s, int radix) {
-        return valueOf(new MPZ(s, radix));
+        try {
+            return new Coefficient(Long.parseLong(s, radix));
+        } catch (NumberFormatException e) {
+            return valueOf(new MPZ(s, radix));
+        }
     }
 
     /**
@@ -115,25 +475,188 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * Creates and returns a coefficient whose value is equal to {@code bi}.
      */
     public static Coefficient valueOf(BigInteger bi) {
-        // We use radix 32 since we suspect it to be faster than radix 10.
-        // Values bigger than 32 do not work.
-        return valueOf(bi.toString(32), 32);
+        return valueOf(bi, null);
+    }
+
+    /**
+     * Creates and returns an array of coefficients whose values are equal to the
+     * elements of {@code values}. It is faster than calling
+     * {@link #valueOf(BigInteger)} on each element, since the temporary native
+     * objects are shared among all conversions.
+     */
+    public static Coefficient[] valuesOf(BigInteger[] values) {
+        var cs = new Coefficient[values.length];
+        Scratch s = null;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].bitLength() >= 64 && s == null)
+                s = scratch.get();
+            cs[i] = valueOf(values[i], s);
+        }
+        return cs;
+    }
+
+    /**
+     * Creates and returns a coefficient whose value is equal to {@code bi}, using
+     * the temporary objects {@code s} for big values. If {@code s} is null, the
+     * temporary objects of the current thread are used.
+     */
+    private static Coefficient valueOf(BigInteger bi, Scratch s) {
+        if (bi.bitLength() < 64)
+            return new Coefficient(bi.longValue());
+        if (s == null)
+            s = scratch.get();
+        var pc = new PointerByReference();
+        int result = ppl_new_Coefficient_from_mpz_t(pc, s.mpz(bi));
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+        var c = new Coefficient(pc.getValue());
+        c.state = BIG;
+        return c;
+    }
+
+    /**
+     * Allocates the native counterpart of this coefficient if it does not
+     * exist.
+     *
+     * @return this coefficient.
+     */
+    private Coefficient materialize() {
+        if (pplObj == null) {
+            var pc = new PointerByReference();
+            int result = ppl_new_Coefficient_from_mpz_t(pc, scratch.get().mpz(value));
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            pplObj = pc.getValue();
+            // the native counterpart only caches the value, hence it does not belong to the current scope
+            PPLScope.unscoped(() -> {
+                PPLScope.register(this, new CoefficientCleaner(pc.getValue()));
+                return null;
+            });
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the native counterpart of this coefficient does not exist, and its value
+     * is kept on the Java side, it is allocated.
+     * </p>
+     */
+    @Override
+    Pointer ptr() {
+        if (pplObj == null && state == SMALL && !released) {
+            checkOwner();
+            materialize();
+        }
+        return super.ptr();
+    }
+
+    @Override
+    void release() {
+        super.release();
+        released = true;
+    }
+
+    /**
+     * Returns a pointer to a native coefficient with the same value of this
+     * coefficient, which may only be used as a read-only argument of a native
+     * call. If the native counterpart of this coefficient does not exist, it is
+     * not allocated: the result is a temporary native coefficient of the current
+     * thread, which is overwritten by the next call to this method. Therefore,
+     * it should never be used twice for the same native call.
+     */
+    Pointer valuePtr() {
+        return pplObj == null && state == SMALL && !released ? valuePtr(value) : ptr();
+    }
+
+    /**
+     * Returns a pointer to the temporary native coefficient of the current
+     * thread, after setting its value to {@code v}. The same restrictions of
+     * {@link #valuePtr()} apply.
+     */
+    static Pointer valuePtr(long v) {
+        var s = scratch.get();
+        int result = ppl_assign_Coefficient_from_mpz_t(s.c, s.mpz(v));
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+        return s.c;
+    }
+
+    /**
+     * Returns a pointer to the temporary native coefficient of the current
+     * thread, after setting its value to {@code bi}. The same restrictions of
+     * {@link #valuePtr()} apply.
+     */
+    static Pointer valuePtr(BigInteger bi) {
+        if (bi.bitLength() < 64)
+            return valuePtr(bi.longValue());
+        var s = scratch.get();
+        int result = ppl_assign_Coefficient_from_mpz_t(s.c, s.mpz(bi));
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+        return s.c;
+    }
+
+    /**
+     * Returns a pointer to the native counterpart of this coefficient, which is
+     * going to be modified by a native call. It should only be used on newly
+     * created coefficients, since it breaks immutability.
+     */
+    Pointer outputPtr() {
+        if (pplObj == null && !released) {
+            var pc = new PointerByReference();
+            int result = ppl_new_Coefficient(pc);
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            pplObj = pc.getValue();
+            PPLScope.register(this, new CoefficientCleaner(pplObj));
+        }
+        state = UNKNOWN;
+        return ptr();
+    }
+
+    /**
+     * Returns true if the value of this coefficient fits in a {@code long}, in
+     * which case it is stored in {@link #value}.
+     */
+    boolean isSmall() {
+        if (state == UNKNOWN) {
+            var s = scratch.get();
+            if (s.load(ptr())) {
+                value = s.longValue();
+                state = SMALL;
+            } else {
+                state = BIG;
+            }
+        }
+        return state == SMALL;
+    }
+
+    @Override
+    public Pointer getNative() {
+        return ptr();
     }
 
     @Override
     public Coefficient clone() {
+        if (isSmall())
+            return new Coefficient(value);
         var pc = new PointerByReference();
-        int result = ppl_new_Coefficient_from_Coefficient(pc, pplObj);
+        int result = ppl_new_Coefficient_from_Coefficient(pc, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new Coefficient(pc.getValue());
+        var c = new Coefficient(pc.getValue());
+        c.state = BIG;
+        return c;
     }
 
     /**
      * Set the value of this coefficient to {@code z}.
      */
     Coefficient assign(MPZ z) {
-        int result = ppl_assign_Coefficient_from_mpz_t(pplObj, z.getPointer());
+        int result = ppl_assign_Coefficient_from_mpz_t(outputPtr(), z.getPointer());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -141,9 +664,20 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
 
     @Override
     Coefficient assign(Coefficient c) {
-        int result = ppl_assign_Coefficient_from_Coefficient(pplObj, this.pplObj);
-        if (result < 0)
-            PPLRuntimeException.checkError(result);
+        if (c.isSmall()) {
+            value = c.value;
+            state = SMALL;
+            if (pplObj != null) {
+                int result = ppl_assign_Coefficient_from_mpz_t(ptr(), scratch.get().mpz(value));
+                if (result < 0)
+                    PPLRuntimeException.checkError(result);
+            }
+        } else {
+            int result = ppl_assign_Coefficient_from_Coefficient(outputPtr(), c.ptr());
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+            state = BIG;
+        }
         return this;
     }
 
@@ -151,8 +685,10 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * Converts the coefficient to a GNU MP integer.
      */
     public MPZ MPZValue() {
+        if (isSmall())
+            return new MPZ(value);
         var z = new MPZ();
-        int result = ppl_Coefficient_to_mpz_t(pplObj, z.getPointer());
+        int result = ppl_Coefficient_to_mpz_t(ptr(), z.getPointer());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return z;
@@ -163,7 +699,11 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * {@code radix}.
      */
     public String stringValue(int radix) {
-        return MPZValue().toString(radix);
+        if (isSmall())
+            return Long.toString(value, radix);
+        var s = scratch.get();
+        s.load(ptr());
+        return s.z.toString(radix);
     }
 
     /**
@@ -178,40 +718,145 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * Converts the coefficient to a BigInteger.
      */
     public BigInteger bigIntegerValue() {
-        return new BigInteger(stringValue(32), 32);
+        return bigIntegerValue(null);
+    }
+
+    /**
+     * Converts the coefficients in {@code cs} to BigIntegers. It is faster than
+     * calling {@link #bigIntegerValue()} on each coefficient, since the temporary
+     * native objects are shared among all conversions.
+     */
+    public static BigInteger[] bigIntegerValues(Coefficient[] cs) {
+        var values = new BigInteger[cs.length];
+        Scratch s = null;
+        for (int i = 0; i < cs.length; i++) {
+            if (cs[i].state != SMALL && s == null)
+                s = scratch.get();
+            values[i] = cs[i].bigIntegerValue(s);
+        }
+        return values;
+    }
+
+    /**
+     * Converts the coefficient to a BigInteger, using the temporary objects
+     * {@code s} for big values. If {@code s} is null, the temporary objects of
+     * the current thread are used.
+     */
+    private BigInteger bigIntegerValue(Scratch s) {
+        if (state == SMALL)
+            return BigInteger.valueOf(value);
+        if (s == null)
+            s = scratch.get();
+        // the native value is loaded only once, even if its size is unknown
+        if (s.load(ptr())) {
+            value = s.longValue();
+            state = SMALL;
+            return BigInteger.valueOf(value);
+        }
+        state = BIG;
+        return s.bigIntegerValue();
     }
 
     /**
      * Converts the coefficient to a long.
      */
     public long longValue() {
-        return MPZValue().longValue();
+        return isSmall() ? value : MPZValue().longValue();
     }
 
     /**
      * Converts the coefficient to an int.
      */
     public int intValue() {
-        return MPZValue().intValue();
+        return isSmall() ? (int) value : MPZValue().intValue();
     }
 
     /**
      * Converts the coefficient to a double.
      */
     public double doubleValue() {
-        return MPZValue().doubleValue();
+        return isSmall() ? value : MPZValue().doubleValue();
     }
 
     /**
      * Converts the coefficient to a float.
      */
     public float floatValue() {
-        return MPZValue().floatValue();
+        return isSmall() ? value : MPZValue().floatValue();
+    }
+
+    /**
+     * Returns -1, 0 or 1 as the value of this coefficient is negative, zero or
+     * positive.
+     */
+    public int signum() {
+        return isSmall() ? Long.signum(value) : bigIntegerValue().signum();
+    }
+
+    /**
+     * Returns a coefficient whose value is {@code -this}.
+     */
+    public Coefficient negate() {
+        if (isSmall() && value != Long.MIN_VALUE)
+            return new Coefficient(-value);
+        return valueOf(bigIntegerValue().negate());
+    }
+
+    /**
+     * Returns a coefficient whose value is {@code this + c}.
+     */
+    public Coefficient add(Coefficient c) {
+        if (isSmall() && c.isSmall()) {
+            long r = value + c.value;
+            if (((value ^ r) & (c.value ^ r)) >= 0)
+                return new Coefficient(r);
+        }
+        return valueOf(bigIntegerValue().add(c.bigIntegerValue()));
+    }
+
+    /**
+     * Returns a coefficient whose value is {@code this - c}.
+     */
+    public Coefficient subtract(Coefficient c) {
+        if (isSmall() && c.isSmall()) {
+            long r = value - c.value;
+            if (((value ^ c.value) & (value ^ r)) >= 0)
+                return new Coefficient(r);
+        }
+        return valueOf(bigIntegerValue().subtract(c.bigIntegerValue()));
+    }
+
+    /**
+     * Returns a coefficient whose value is {@code this * c}.
+     */
+    public Coefficient multiply(Coefficient c) {
+        if (isSmall() && c.isSmall()) {
+            long hi = Math.multiplyHigh(value, c.value);
+            long lo = value * c.value;
+            if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0))
+                return new Coefficient(lo);
+        }
+        return valueOf(bigIntegerValue().multiply(c.bigIntegerValue()));
+    }
+
+    /**
+     * Compares this coefficient with {@code c}.
+     *
+     * @return -1, 0 or 1 as this coefficient is less than, equal to, or greater
+     *         than {@code c}.
+     */
+    @Override
+    public int compareTo(Coefficient c) {
+        if (isSmall() && c.isSmall())
+            return Long.compare(value, c.value);
+        return bigIntegerValue().compareTo(c.bigIntegerValue());
     }
 
     @Override
     boolean isOK() {
-        int result = ppl_Coefficient_OK(pplObj);
+        if (pplObj == null)
+            return true;
+        int result = ppl_Coefficient_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -221,7 +866,7 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * If coefficients are native integral types, returns their minimum value.
      */
     public int minAllowed() {
-        int result = ppl_Coefficient_min(pplObj);
+        int result = ppl_Coefficient_min(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -231,7 +876,7 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
      * If coefficients are native integral types, returns their maximum value.
      */
     public int maxAllowed() {
-        int result = ppl_Coefficient_max(pplObj);
+        int result = ppl_Coefficient_max(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -239,7 +884,12 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Coefficient(pstr, pplObj);
+        return ppl_io_asprint_Coefficient(pstr, ptr());
+    }
+
+    @Override
+    public String toString() {
+        return isSmall() ? Long.toString(value) : super.toString();
     }
 
     /**
@@ -251,11 +901,19 @@ public class Coefficient extends AbstractPPLObject<Coefficient> {
             return true;
         if (obj instanceof Coefficient) {
             Coefficient c = (Coefficient) obj;
-            return MPZValue().equals(c.MPZValue());
+            boolean small = isSmall();
+            if (small != c.isSmall())
+                return false;
+            return small ? value == c.value : MPZValue().equals(c.MPZValue());
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return isSmall() ? Long.hashCode(value) : bigIntegerValue().hashCode();
+    }
+
     /**
      * Returns true if and only if the Coefficient class is implemented using native
      * integral types.
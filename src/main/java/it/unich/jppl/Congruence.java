@@ -2,9 +2,12 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.nativelib.LibPPL;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.math.BigInteger;
+
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -52,7 +55,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
     Congruence(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new CongruenceCleaner(p));
+            PPLScope.register(this, new CongruenceCleaner(p));
     }
 
     /**
@@ -68,7 +71,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
      */
     public static Congruence of(LinearExpression le, Coefficient m) {
         var pc = new PointerByReference();
-        int result = ppl_new_Congruence(pc, le.pplObj, m.pplObj);
+        int result = ppl_new_Congruence(pc, le.ptr(), m.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Congruence(pc.getValue());
@@ -100,7 +103,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
     @Override
     public Congruence clone() {
         var pc = new PointerByReference();
-        int result = ppl_new_Congruence_from_Congruence(pc, pplObj);
+        int result = ppl_new_Congruence_from_Congruence(pc, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Congruence(pc.getValue());
@@ -108,7 +111,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
 
     @Override
     Congruence assign(Congruence c) {
-        int result = ppl_assign_Congruence_from_Congruence(pplObj, c.pplObj);
+        int result = ppl_assign_Congruence_from_Congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -117,7 +120,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Congruence_space_dimension(pplObj, m);
+        int result = ppl_Congruence_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -126,7 +129,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
     @Override
     public Coefficient getCoefficient(long i) {
         var n = Coefficient.zero();
-        int result = ppl_Congruence_coefficient(pplObj, new SizeT(i), n.pplObj);
+        int result = ppl_Congruence_coefficient(ptr(), new SizeT(i), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
@@ -137,18 +140,54 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
      */
     public Coefficient getInhomogeneousTerm() {
         var n = Coefficient.zero();
-        int result = ppl_Congruence_inhomogeneous_term(pplObj, n.pplObj);
+        int result = ppl_Congruence_inhomogeneous_term(ptr(), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
     }
 
+    /**
+     * Returns the coefficients of this congruence, followed by its
+     * inhomogeneous term. It is faster than calling
+     * {@link #getCoefficient(long)} for each variable, since no native
+     * coefficient is allocated.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients() {
+        return getCoefficients(null);
+    }
+
+    /**
+     * Returns the coefficients of this congruence, followed by its
+     * inhomogeneous term. The values are written in {@code buffer} if it has
+     * room for them, otherwise in a new array. Therefore, the same buffer may
+     * be reused for many objects.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients(long[] buffer) {
+        return Coefficient.longValues(ptr(), getSpaceDimension(), LibPPL::ppl_Congruence_coefficient,
+                LibPPL::ppl_Congruence_inhomogeneous_term, buffer);
+    }
+
+    /**
+     * Returns the coefficients of this congruence as BigIntegers, followed by
+     * its inhomogeneous term.
+     */
+    public BigInteger[] getBigIntegerCoefficients() {
+        return Coefficient.bigIntegerValues(ptr(), getSpaceDimension(), LibPPL::ppl_Congruence_coefficient,
+                LibPPL::ppl_Congruence_inhomogeneous_term);
+    }
+
     /**
      * Returns the modulus of this congruence.
      */
     public Coefficient getModulus() {
         var n = Coefficient.zero();
-        int result = ppl_Congruence_modulus(pplObj, n.pplObj);
+        int result = ppl_Congruence_modulus(ptr(), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
@@ -156,7 +195,7 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
 
     @Override
     boolean isOK() {
-        int result = ppl_Congruence_OK(pplObj);
+        int result = ppl_Congruence_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -164,37 +203,43 @@ public class Congruence extends AbstractPPLObject<Congruence> implements Geometr
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Congruence(pstr, pplObj);
+        return ppl_io_asprint_Congruence(pstr, ptr());
     }
 
     /**
      * Returns whether {@code obj} is the same as this congruence. Two congruences
      * are the same if they have the same space dimension, coefficients,
-     * inhomogeneous term and modulus.
+     * inhomogeneous term and modulus. The comparison does not allocate any
+     * native coefficient.
      */
     @Override
     public boolean equals(Object obj) {
-        // The equals method is probably slow since it calls native methods several times
-        // and allocates many Java objects. However, this is used mainly for debugging
-        // purpose, hence this should not be a problem.
-
         if (this == obj)
             return true;
         if (obj instanceof Congruence) {
             var c = (Congruence) obj;
-            if (c.getSpaceDimension() != getSpaceDimension())
-                return false;
-            if (c.getModulus() != getModulus())
+            long d = getSpaceDimension();
+            if (c.getSpaceDimension() != d)
                 return false;
-            if (!c.getInhomogeneousTerm().equals(getInhomogeneousTerm()))
+            if (!Coefficient.sameValue(ptr(), c.ptr(), LibPPL::ppl_Congruence_modulus))
                 return false;
-            for (long d = 0; d < getSpaceDimension(); d++) {
-                if (!c.getCoefficient(d).equals(getCoefficient(d)))
-                    return false;
-            }
-            return true;
+            return Coefficient.sameValues(ptr(), d, c.ptr(), d, LibPPL::ppl_Congruence_coefficient,
+                    LibPPL::ppl_Congruence_inhomogeneous_term);
         }
         return false;
     }
 
+    /**
+     * Returns a hash code for this congruence, which only depends on its space
+     * dimension, coefficients, inhomogeneous term and modulus.
+     */
+    @Override
+    public int hashCode() {
+        long d = getSpaceDimension();
+        int hash = Coefficient.hashValues(ptr(), d, LibPPL::ppl_Congruence_coefficient,
+                LibPPL::ppl_Congruence_inhomogeneous_term);
+        int modulus = Coefficient.hashValues(ptr(), 0, null, LibPPL::ppl_Congruence_modulus);
+        return 31 * (31 * modulus + Long.hashCode(d)) + hash;
+    }
+
 }
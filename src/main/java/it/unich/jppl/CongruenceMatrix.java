@@ -0,0 +1,195 @@
+package it.unich.jppl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable Java representation of a congruence system.
+ *
+ * <p>
+ * A congruence matrix contains the space dimension of the system and, for each
+ * congruence, the coefficients \(a_0, \ldots, a_{n-1}\), the inhomogeneous term
+ * and the modulus. Since it does not refer to any native object, a congruence
+ * matrix may be freely shared between threads and it is not affected by
+ * {@link PPLScope}. Its congruences may be visited as {@link Row} objects, also
+ * with parallel streams.
+ * </p>
+ *
+ * @see CongruenceSystem#snapshot()
+ */
+public final class CongruenceMatrix extends AbstractMatrix<CongruenceMatrix.Row> {
+
+    private final long spaceDimension;
+
+    private final BigInteger[][] coefficients;
+
+    private final BigInteger[] inhomogeneousTerms;
+
+    private final BigInteger[] moduli;
+
+    private CongruenceMatrix(long spaceDimension, BigInteger[][] coefficients, BigInteger[] inhomogeneousTerms,
+            BigInteger[] moduli) {
+        this.spaceDimension = spaceDimension;
+        this.coefficients = coefficients;
+        this.inhomogeneousTerms = inhomogeneousTerms;
+        this.moduli = moduli;
+    }
+
+    /**
+     * Creates and returns the congruence matrix corresponding to the congruence
+     * system {@code cs}.
+     */
+    public static CongruenceMatrix from(CongruenceSystem cs) {
+        long d = cs.getSpaceDimension();
+        var coefficients = new ArrayList<BigInteger[]>();
+        var inhomogeneousTerms = new ArrayList<BigInteger>();
+        var moduli = new ArrayList<BigInteger>();
+        for (var c : cs) {
+            var values = c.getBigIntegerCoefficients();
+            coefficients.add(linearPart(values, Math.toIntExact(d)));
+            inhomogeneousTerms.add(values[values.length - 1]);
+            moduli.add(c.getModulus().bigIntegerValue());
+        }
+        return new CongruenceMatrix(d, coefficients.toArray(new BigInteger[0][]),
+                inhomogeneousTerms.toArray(new BigInteger[0]), moduli.toArray(new BigInteger[0]));
+    }
+
+    /**
+     * Returns the space dimension of this matrix.
+     */
+    public long getSpaceDimension() {
+        return spaceDimension;
+    }
+
+    /**
+     * Returns the number of congruences in this matrix.
+     */
+    @Override
+    public int size() {
+        return coefficients.length;
+    }
+
+    /**
+     * Returns the congruence at position {@code row}.
+     *
+     * @throws IndexOutOfBoundsException if {@code row} is not a valid position.
+     */
+    @Override
+    public Row getRow(int row) {
+        Objects.checkIndex(row, coefficients.length);
+        return new Row(row);
+    }
+
+    /**
+     * Returns the coefficient of the variable \(x_i\) in the congruence at
+     * position {@code row}.
+     */
+    public BigInteger getCoefficient(int row, int i) {
+        return coefficients[row][i];
+    }
+
+    /**
+     * Returns the inhomogeneous term of the congruence at position {@code row}.
+     */
+    public BigInteger getInhomogeneousTerm(int row) {
+        return inhomogeneousTerms[row];
+    }
+
+    /**
+     * Returns the modulus of the congruence at position {@code row}.
+     */
+    public BigInteger getModulus(int row) {
+        return moduli[row];
+    }
+
+    /**
+     * Returns whether {@code obj} is a congruence matrix with the same space
+     * dimension and the same congruences, in the same order, of this matrix.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj instanceof CongruenceMatrix) {
+            var m = (CongruenceMatrix) obj;
+            return spaceDimension == m.spaceDimension && Arrays.equals(inhomogeneousTerms, m.inhomogeneousTerms)
+                    && Arrays.equals(moduli, m.moduli)
+                    && Arrays.deepEquals(coefficients, m.coefficients);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * Long.hashCode(spaceDimension) + Arrays.hashCode(inhomogeneousTerms);
+        hash = 31 * hash + Arrays.hashCode(moduli);
+        return 31 * hash + Arrays.deepHashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        sb.append("CongruenceMatrix[").append(spaceDimension).append("]{");
+        for (int row = 0; row < coefficients.length; row++) {
+            if (row > 0)
+                sb.append(", ");
+            sb.append(getRow(row));
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A congruence of a congruence matrix. It is a view of a row of the matrix,
+     * hence it is immutable and it may be freely shared between threads.
+     */
+    public final class Row {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        /**
+         * Returns the position of this congruence in the matrix.
+         */
+        public int getIndex() {
+            return row;
+        }
+
+        /**
+         * Returns the coefficient of the variable \(x_i\).
+         */
+        public BigInteger getCoefficient(int i) {
+            return coefficients[row][i];
+        }
+
+        /**
+         * Returns a copy of the coefficients of the variables.
+         */
+        public BigInteger[] getCoefficients() {
+            return coefficients[row].clone();
+        }
+
+        /**
+         * Returns the inhomogeneous term of this congruence.
+         */
+        public BigInteger getInhomogeneousTerm() {
+            return inhomogeneousTerms[row];
+        }
+
+        /**
+         * Returns the modulus of this congruence.
+         */
+        public BigInteger getModulus() {
+            return moduli[row];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(coefficients[row]) + " " + inhomogeneousTerms[row] + " " + moduli[row];
+        }
+    }
+
+}
@@ -60,16 +60,16 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cit = pcsit.getValue();
-            PPL.cleaner.register(this, new CongruenceSystemIteratorCleaner(cit));
-            result = ppl_Congruence_System_begin(pplObj, cit);
+            PPLScope.register(this, new CongruenceSystemIteratorCleaner(cit));
+            result = ppl_Congruence_System_begin(ptr(), cit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             result = ppl_new_Congruence_System_const_iterator(pcsit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cend = pcsit.getValue();
-            PPL.cleaner.register(this, new CongruenceSystemIteratorCleaner(cend));
-            result = ppl_Congruence_System_end(pplObj, cend);
+            PPLScope.register(this, new CongruenceSystemIteratorCleaner(cend));
+            result = ppl_Congruence_System_end(ptr(), cend);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
         }
@@ -114,7 +114,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
     CongruenceSystem(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new CongruenceSystemCleaner(pplObj));
+            PPLScope.register(this, new CongruenceSystemCleaner(pplObj));
     }
 
     /**
@@ -156,7 +156,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
      */
     public static CongruenceSystem singleton(Congruence c) {
         var pcs = new PointerByReference();
-        int result = ppl_new_Congruence_System_from_Congruence(pcs, c.pplObj);
+        int result = ppl_new_Congruence_System_from_Congruence(pcs, c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CongruenceSystem(pcs.getValue());
@@ -178,7 +178,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
     @Override
     public CongruenceSystem clone() {
         var pcs = new PointerByReference();
-        int result = ppl_new_Congruence_System_from_Congruence_System(pcs, pplObj);
+        int result = ppl_new_Congruence_System_from_Congruence_System(pcs, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new CongruenceSystem(pcs.getValue());
@@ -186,7 +186,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
 
     @Override
     CongruenceSystem assign(CongruenceSystem cs) {
-        int result = ppl_assign_Congruence_System_from_Congruence_System(pplObj, cs.pplObj);
+        int result = ppl_assign_Congruence_System_from_Congruence_System(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -195,7 +195,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Congruence_System_space_dimension(pplObj, m);
+        int result = ppl_Congruence_System_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -203,7 +203,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Congruence_System_empty(pplObj);
+        int result = ppl_Congruence_System_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -211,7 +211,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
 
     @Override
     boolean isOK() {
-        int result = ppl_Congruence_System_OK(pplObj);
+        int result = ppl_Congruence_System_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -219,7 +219,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
 
     @Override
     public CongruenceSystem clear() {
-        int result = ppl_Congruence_System_clear(pplObj);
+        int result = ppl_Congruence_System_clear(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -227,7 +227,7 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
 
     @Override
     public CongruenceSystem add(Congruence c) {
-        int result = ppl_Congruence_System_insert_Congruence(pplObj, c.pplObj);
+        int result = ppl_Congruence_System_insert_Congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -238,9 +238,18 @@ public class CongruenceSystem extends AbstractPPLObject<CongruenceSystem>
         return new CongruenceSystemIterator();
     }
 
+    /**
+     * Returns an immutable copy of this system, which is built in a single
+     * traversal. The copy does not refer to any native object, hence its
+     * congruences may be visited, also in parallel, without calling the PPL.
+     */
+    public CongruenceMatrix snapshot() {
+        return CongruenceMatrix.from(this);
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Congruence_System(pstr, pplObj);
+        return ppl_io_asprint_Congruence_System(pstr, ptr());
     }
 
 }
@@ -2,9 +2,12 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.nativelib.LibPPL;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.math.BigInteger;
+
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -90,7 +93,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
     Constraint(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new ConstraintCleaner(p));
+            PPLScope.register(this, new ConstraintCleaner(p));
     }
 
     /**
@@ -106,7 +109,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
      */
     public static Constraint of(LinearExpression le, ConstraintType rel) {
         var pc = new PointerByReference();
-        int result = ppl_new_Constraint(pc, le.pplObj, rel.ordinal());
+        int result = ppl_new_Constraint(pc, le.ptr(), rel.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Constraint(pc.getValue());
@@ -138,7 +141,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
     @Override
     public Constraint clone() {
         var pc = new PointerByReference();
-        int result = ppl_new_Constraint_from_Constraint(pc, pplObj);
+        int result = ppl_new_Constraint_from_Constraint(pc, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Constraint(pc.getValue());
@@ -146,7 +149,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
 
     @Override
     Constraint assign(Constraint c) {
-        int result = ppl_assign_Constraint_from_Constraint(pplObj, c.pplObj);
+        int result = ppl_assign_Constraint_from_Constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -155,7 +158,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Constraint_space_dimension(pplObj, m);
+        int result = ppl_Constraint_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -164,7 +167,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
     @Override
     public Coefficient getCoefficient(long i) {
         var n = Coefficient.zero();
-        int result = ppl_Constraint_coefficient(pplObj, new SizeT(i), n.pplObj);
+        int result = ppl_Constraint_coefficient(ptr(), new SizeT(i), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
@@ -175,17 +178,53 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
      */
     public Coefficient getInhomogeneousTerm() {
         var n = Coefficient.zero();
-        int result = ppl_Constraint_inhomogeneous_term(pplObj, n.pplObj);
+        int result = ppl_Constraint_inhomogeneous_term(ptr(), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
     }
 
+    /**
+     * Returns the coefficients of this constraint, followed by its
+     * inhomogeneous term. It is faster than calling
+     * {@link #getCoefficient(long)} for each variable, since no native
+     * coefficient is allocated.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients() {
+        return getCoefficients(null);
+    }
+
+    /**
+     * Returns the coefficients of this constraint, followed by its
+     * inhomogeneous term. The values are written in {@code buffer} if it has
+     * room for them, otherwise in a new array. Therefore, the same buffer may
+     * be reused for many objects.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients(long[] buffer) {
+        return Coefficient.longValues(ptr(), getSpaceDimension(), LibPPL::ppl_Constraint_coefficient,
+                LibPPL::ppl_Constraint_inhomogeneous_term, buffer);
+    }
+
+    /**
+     * Returns the coefficients of this constraint as BigIntegers, followed by
+     * its inhomogeneous term.
+     */
+    public BigInteger[] getBigIntegerCoefficients() {
+        return Coefficient.bigIntegerValues(ptr(), getSpaceDimension(), LibPPL::ppl_Constraint_coefficient,
+                LibPPL::ppl_Constraint_inhomogeneous_term);
+    }
+
     /**
      * Returns the type of this constraint.
      */
     public ConstraintType getType() {
-        int result = ppl_Constraint_type(pplObj);
+        int result = ppl_Constraint_type(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return ConstraintType.valueOf(result);
@@ -193,7 +232,7 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
 
     @Override
     boolean isOK() {
-        int result = ppl_Constraint_OK(pplObj);
+        int result = ppl_Constraint_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -201,36 +240,42 @@ public class Constraint extends AbstractPPLObject<Constraint> implements Geometr
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Constraint(pstr, pplObj);
+        return ppl_io_asprint_Constraint(pstr, ptr());
     }
 
     /**
      * Returns whether {@code obj} is the same as this constraint. Two constraints
      * are the same if they have the same space dimension, coefficients,
-     * inhomogeneous term and type.
+     * inhomogeneous term and type. The comparison does not allocate any native
+     * coefficient.
      */
     @Override
     public boolean equals(Object obj) {
-        // The equals method is probably slow since it calls native methods several times
-        // and allocates many Java objects. However, this is used mainly for debugging
-        // purpose, hence this should not be a problem.
         if (this == obj)
             return true;
         if (obj instanceof Constraint) {
             var c = (Constraint) obj;
             if (c.getType() != getType())
                 return false;
-            if (c.getSpaceDimension() != getSpaceDimension())
+            long d = getSpaceDimension();
+            if (c.getSpaceDimension() != d)
                 return false;
-            if (!c.getInhomogeneousTerm().equals(getInhomogeneousTerm()))
-                return false;
-            for (long d = 0; d < getSpaceDimension(); d++) {
-                if (!c.getCoefficient(d).equals(getCoefficient(d)))
-                    return false;
-            }
-            return true;
+            return Coefficient.sameValues(ptr(), d, c.ptr(), d, LibPPL::ppl_Constraint_coefficient,
+                    LibPPL::ppl_Constraint_inhomogeneous_term);
         }
         return false;
     }
 
+    /**
+     * Returns a hash code for this constraint, which only depends on its type,
+     * space dimension, coefficients and inhomogeneous term.
+     */
+    @Override
+    public int hashCode() {
+        long d = getSpaceDimension();
+        int hash = Coefficient.hashValues(ptr(), d, LibPPL::ppl_Constraint_coefficient,
+                LibPPL::ppl_Constraint_inhomogeneous_term);
+        return 31 * (31 * getType().ordinal() + Long.hashCode(d)) + hash;
+    }
+
 }
@@ -0,0 +1,309 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable Java representation of a constraint system.
+ *
+ * <p>
+ * A constraint matrix contains the space dimension of the system and, for each
+ * constraint \(\sum_{i=0}^{n-1} a_i x_i + b \bowtie 0\), the coefficients
+ * \(a_0, \ldots, a_{n-1}\), the inhomogeneous term \(b\) and the relation
+ * \(\bowtie\). Since it does not refer to any native object, a constraint
+ * matrix may be freely shared between threads and it is not affected by
+ * {@link PPLScope}.
+ * </p>
+ *
+ * <p>
+ * Constraint matrices are serializable. They are serialized with the compact
+ * binary encoding of {@link PPLCodec}, which is also used for exchanging
+ * properties with the worker processes of a {@link PPLProcessPool}.
+ * </p>
+ *
+ * <p>
+ * The constraints of a matrix may be visited as {@link Row} objects, also
+ * with parallel streams. A constraint matrix is obtained from a constraint
+ * system in a single traversal with {@link ConstraintSystem#snapshot()}.
+ * </p>
+ */
+public final class ConstraintMatrix extends AbstractMatrix<ConstraintMatrix.Row> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long spaceDimension;
+
+    private final BigInteger[][] coefficients;
+
+    private final BigInteger[] inhomogeneousTerms;
+
+    private final ConstraintType[] types;
+
+    ConstraintMatrix(long spaceDimension, BigInteger[][] coefficients, BigInteger[] inhomogeneousTerms,
+            ConstraintType[] types) {
+        this.spaceDimension = spaceDimension;
+        this.coefficients = coefficients;
+        this.inhomogeneousTerms = inhomogeneousTerms;
+        this.types = types;
+    }
+
+    /**
+     * Creates and returns the constraint matrix corresponding to the constraint
+     * system {@code cs}.
+     */
+    public static ConstraintMatrix from(ConstraintSystem cs) {
+        long d = cs.getSpaceDimension();
+        var coefficients = new ArrayList<BigInteger[]>();
+        var inhomogeneousTerms = new ArrayList<BigInteger>();
+        var types = new ArrayList<ConstraintType>();
+        for (var c : cs) {
+            var values = c.getBigIntegerCoefficients();
+            coefficients.add(linearPart(values, Math.toIntExact(d)));
+            inhomogeneousTerms.add(values[values.length - 1]);
+            types.add(c.getType());
+        }
+        return new ConstraintMatrix(d, coefficients.toArray(new BigInteger[0][]),
+                inhomogeneousTerms.toArray(new BigInteger[0]), types.toArray(new ConstraintType[0]));
+    }
+
+    /**
+     * Creates and returns the constraint matrix corresponding to the constraints
+     * of the property {@code p}.
+     */
+    public static ConstraintMatrix from(Property<?> p) {
+        var m = from(p.getConstraints());
+        return m.spaceDimension == p.getSpaceDimension() ? m
+                : new ConstraintMatrix(p.getSpaceDimension(), m.coefficients, m.inhomogeneousTerms, m.types);
+    }
+
+    /**
+     * Creates and returns a new constraint system with the constraints in this
+     * matrix. The space dimension of the result may be smaller than the space
+     * dimension of the matrix when there are no constraints.
+     */
+    public ConstraintSystem toConstraintSystem() {
+        var cs = ConstraintSystem.empty();
+        for (int row = 0; row < types.length; row++) {
+            var le = LinearExpression.of(inhomogeneousTerms[row], coefficients[row]);
+            cs.add(Constraint.of(le, types[row]));
+        }
+        return cs;
+    }
+
+    /**
+     * Creates and returns a new property of the domain {@code domain} with the
+     * same space dimension of this matrix and determined by its constraints.
+     */
+    public <T extends Property<T>> T toProperty(Domain<T> domain) {
+        return domain.createUniverse(spaceDimension).add(toConstraintSystem());
+    }
+
+    /**
+     * Returns the space dimension of this matrix.
+     */
+    public long getSpaceDimension() {
+        return spaceDimension;
+    }
+
+    /**
+     * Returns the number of constraints in this matrix.
+     */
+    @Override
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the constraint at position {@code row}.
+     *
+     * @throws IndexOutOfBoundsException if {@code row} is not a valid position.
+     */
+    @Override
+    public Row getRow(int row) {
+        Objects.checkIndex(row, types.length);
+        return new Row(row);
+    }
+
+    /**
+     * Returns the coefficient of the variable \(x_i\) in the constraint at
+     * position {@code row}.
+     */
+    public BigInteger getCoefficient(int row, int i) {
+        return coefficients[row][i];
+    }
+
+    /**
+     * Returns the inhomogeneous term of the constraint at position {@code row}.
+     */
+    public BigInteger getInhomogeneousTerm(int row) {
+        return inhomogeneousTerms[row];
+    }
+
+    /**
+     * Returns the type of the constraint at position {@code row}.
+     */
+    public ConstraintType getType(int row) {
+        return types[row];
+    }
+
+    /**
+     * Returns whether {@code obj} is a constraint matrix with the same space
+     * dimension and the same constraints, in the same order, of this matrix.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj instanceof ConstraintMatrix) {
+            var m = (ConstraintMatrix) obj;
+            return spaceDimension == m.spaceDimension && Arrays.equals(types, m.types)
+                    && Arrays.equals(inhomogeneousTerms, m.inhomogeneousTerms)
+                    && Arrays.deepEquals(coefficients, m.coefficients);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // ordinals instead of the identity hash codes of the types, which change between runs
+        int h = Long.hashCode(spaceDimension);
+        for (var t : types)
+            h = 31 * h + t.ordinal();
+        h = 31 * h + Arrays.hashCode(inhomogeneousTerms);
+        return 31 * h + Arrays.deepHashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        sb.append("ConstraintMatrix[").append(spaceDimension).append("]{");
+        for (int row = 0; row < types.length; row++) {
+            if (row > 0)
+                sb.append(", ");
+            sb.append(Arrays.toString(coefficients[row])).append(' ').append(inhomogeneousTerms[row]).append(' ')
+                    .append(types[row]);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A constraint of a constraint matrix. It is a view of a row of the matrix,
+     * hence it is immutable and it may be freely shared between threads.
+     */
+    public final class Row {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        /**
+         * Returns the position of this constraint in the matrix.
+         */
+        public int getIndex() {
+            return row;
+        }
+
+        /**
+         * Returns the coefficient of the variable \(x_i\).
+         */
+        public BigInteger getCoefficient(int i) {
+            return coefficients[row][i];
+        }
+
+        /**
+         * Returns a copy of the coefficients of the variables.
+         */
+        public BigInteger[] getCoefficients() {
+            return coefficients[row].clone();
+        }
+
+        /**
+         * Returns the inhomogeneous term of this constraint.
+         */
+        public BigInteger getInhomogeneousTerm() {
+            return inhomogeneousTerms[row];
+        }
+
+        /**
+         * Returns the type of this constraint.
+         */
+        public ConstraintType getType() {
+            return types[row];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(coefficients[row]) + " " + inhomogeneousTerms[row] + " " + types[row];
+        }
+    }
+
+    /**
+     * Writes this matrix to {@code out} using the binary encoding of
+     * {@link PPLCodec}.
+     */
+    void write(OutputStream out) throws IOException {
+        PPLCodec.write(this, Channels.newChannel(out));
+    }
+
+    /**
+     * Reads a matrix written by {@link #write(OutputStream)} from {@code in}.
+     * Only the bytes of the encoded matrix are read.
+     *
+     * @throws IOException if an I/O error occurs or the data is malformed.
+     */
+    static ConstraintMatrix read(InputStream in) throws IOException {
+        try {
+            return PPLCodec.read(Channels.newChannel(in), ConstraintMatrix.class);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+    }
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("A serialization proxy is required");
+    }
+
+    /**
+     * The serialized form of a constraint matrix, which uses the compact binary
+     * encoding.
+     */
+    private static class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private transient ConstraintMatrix matrix;
+
+        SerializationProxy(ConstraintMatrix matrix) {
+            this.matrix = matrix;
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            matrix.write(out);
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException {
+            matrix = read(in);
+        }
+
+        private Object readResolve() {
+            return matrix;
+        }
+    }
+
+}
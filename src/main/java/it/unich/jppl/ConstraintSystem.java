@@ -2,8 +2,10 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.Constraint.ConstraintType;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -60,16 +62,16 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cit = pcsit.getValue();
-            PPL.cleaner.register(this, new ConstraintSystemIteratorCleaner(cit));
-            result = ppl_Constraint_System_begin(pplObj, cit);
+            PPLScope.register(this, new ConstraintSystemIteratorCleaner(cit));
+            result = ppl_Constraint_System_begin(ptr(), cit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             result = ppl_new_Constraint_System_const_iterator(pcsit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cend = pcsit.getValue();
-            PPL.cleaner.register(this, new ConstraintSystemIteratorCleaner(cend));
-            result = ppl_Constraint_System_end(pplObj, cend);
+            PPLScope.register(this, new ConstraintSystemIteratorCleaner(cend));
+            result = ppl_Constraint_System_end(ptr(), cend);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
         }
@@ -114,7 +116,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
     ConstraintSystem(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new ConstraintSystemCleaner(pplObj));
+            PPLScope.register(this, new ConstraintSystemCleaner(pplObj));
     }
 
     /**
@@ -156,7 +158,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
      */
     public static ConstraintSystem singleton(Constraint c) {
         var pcs = new PointerByReference();
-        int result = ppl_new_Constraint_System_from_Constraint(pcs, c.pplObj);
+        int result = ppl_new_Constraint_System_from_Constraint(pcs, c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new ConstraintSystem(pcs.getValue());
@@ -175,10 +177,108 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
         return cs;
     }
 
+    /**
+     * Creates and returns the constraint system whose {@code i}-th constraint is
+     * \(\langle \mathtt{coeffs[i]}, x \rangle + \mathtt{constants[i]} \bowtie 0\),
+     * where \(\bowtie\) is the relation given by {@code kinds[i]}. Rows of
+     * {@code coeffs} shorter than the others are padded with zeros, hence the space
+     * dimension of the system is the length of the longest row.
+     *
+     * <p>
+     * When the platform supports in-memory {@code FILE} streams, the whole system
+     * is written in the ASCII format of the PPL and loaded with a single call to
+     * {@code ppl_Constraint_System_ascii_load}, instead of creating and inserting
+     * each constraint on its own. Otherwise, and when normalizing some row would
+     * overflow a {@code long}, the constraints are inserted one at a time.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ConstraintSystem fromMatrix(long[][] coeffs, long[] constants, ConstraintType[] kinds) {
+        MatrixLoader.checkLengths(coeffs.length, constants.length, kinds.length);
+        if (coeffs.length > 0 && BulkLoad.ENABLED) {
+            var cs = fromAscii(coeffs, constants, kinds);
+            if (cs != null)
+                return cs;
+        }
+        return fromRows(coeffs, constants, kinds);
+    }
+
+    /**
+     * Builds the system with {@code ppl_Constraint_System_ascii_load}. Returns
+     * null if this is not possible.
+     */
+    private static ConstraintSystem fromAscii(long[][] coeffs, long[] constants, ConstraintType[] kinds) {
+        boolean closed = true;
+        for (var kind : kinds)
+            if (kind == ConstraintType.LESS_THAN || kind == ConstraintType.GREATER_THAN)
+                closed = false;
+        int dim = MatrixLoader.dimension(coeffs);
+        var sb = MatrixLoader.header(closed, coeffs.length, dim);
+        var row = new long[closed ? dim + 1 : dim + 2];
+        try {
+            for (int i = 0; i < coeffs.length; i++) {
+                var kind = kinds[i];
+                Arrays.fill(row, 0);
+                row[0] = constants[i];
+                System.arraycopy(coeffs[i], 0, row, 1, coeffs[i].length);
+                if (kind == ConstraintType.LESS_THAN || kind == ConstraintType.LESS_OR_EQUAL)
+                    MatrixLoader.negate(row);
+                boolean strict = kind == ConstraintType.LESS_THAN || kind == ConstraintType.GREATER_THAN;
+                // the coefficient of the epsilon dimension of NNC constraints
+                if (strict)
+                    row[dim + 1] = -1;
+                MatrixLoader.normalize(row, kind == ConstraintType.EQUAL);
+                MatrixLoader.appendRow(sb, row);
+                sb.append(kind == ConstraintType.EQUAL ? " = " : strict ? " > " : " >= ");
+                sb.append(closed ? "(C)" : "(NNC)").append('\n');
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        var cs = ConstraintSystem.empty();
+        if (!MatrixLoader.load(cs.ptr(), sb, (x, stream) -> ppl_Constraint_System_ascii_load(x, stream)))
+            return null;
+        return cs;
+    }
+
+    /**
+     * Builds the system by inserting one constraint at a time.
+     */
+    private static ConstraintSystem fromRows(long[][] coeffs, long[] constants, ConstraintType[] kinds) {
+        var cs = ConstraintSystem.empty();
+        for (int i = 0; i < coeffs.length; i++)
+            cs.add(Constraint.of(LinearExpression.of(constants[i], coeffs[i]), kinds[i]));
+        return cs;
+    }
+
+    /**
+     * Determines, the first time it is used, whether constraint systems may be
+     * loaded from their ASCII format. It checks that the native stream functions
+     * are available and that the PPL builds the same systems with both methods.
+     */
+    private static class BulkLoad {
+        static final boolean ENABLED = check(new long[][] { { 2, -4 }, { 0, 3 }, { 3 } }, new long[] { 2, -1, 0 },
+                new ConstraintType[] { ConstraintType.EQUAL, ConstraintType.LESS_OR_EQUAL,
+                        ConstraintType.GREATER_OR_EQUAL })
+                && check(new long[][] { { 1, 1 }, { -2, 4 }, { 0, 2 } }, new long[] { 0, 6, -3 },
+                        new ConstraintType[] { ConstraintType.GREATER_THAN, ConstraintType.LESS_THAN,
+                                ConstraintType.EQUAL });
+
+        private static boolean check(long[][] coeffs, long[] constants, ConstraintType[] kinds) {
+            try {
+                var cs = fromAscii(coeffs, constants, kinds);
+                return cs != null && cs.isOK() && cs.equals(fromRows(coeffs, constants, kinds));
+            } catch (RuntimeException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
     @Override
     public ConstraintSystem clone() {
         var pcs = new PointerByReference();
-        int result = ppl_new_Constraint_System_from_Constraint_System(pcs, pplObj);
+        int result = ppl_new_Constraint_System_from_Constraint_System(pcs, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new ConstraintSystem(pcs.getValue());
@@ -186,7 +286,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
 
     @Override
     ConstraintSystem assign(ConstraintSystem cs) {
-        int result = ppl_assign_Constraint_System_from_Constraint_System(pplObj, cs.pplObj);
+        int result = ppl_assign_Constraint_System_from_Constraint_System(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -195,7 +295,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Constraint_System_space_dimension(pplObj, m);
+        int result = ppl_Constraint_System_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -203,7 +303,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Constraint_System_empty(pplObj);
+        int result = ppl_Constraint_System_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -214,7 +314,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
      * strict inequality.
      */
     public boolean hasStrictInequalities() {
-        int result = ppl_Constraint_System_has_strict_inequalities(pplObj);
+        int result = ppl_Constraint_System_has_strict_inequalities(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -222,7 +322,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
 
     @Override
     boolean isOK() {
-        int result = ppl_Constraint_System_OK(pplObj);
+        int result = ppl_Constraint_System_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -230,7 +330,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
 
     @Override
     public ConstraintSystem clear() {
-        int result = ppl_Constraint_System_clear(pplObj);
+        int result = ppl_Constraint_System_clear(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -238,7 +338,7 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
 
     @Override
     public ConstraintSystem add(Constraint c) {
-        int result = ppl_Constraint_System_insert_Constraint(pplObj, c.pplObj);
+        int result = ppl_Constraint_System_insert_Constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -249,9 +349,55 @@ public class ConstraintSystem extends AbstractPPLObject<ConstraintSystem>
         return new ConstraintSystemIterator();
     }
 
+    /**
+     * Returns an immutable copy of this system, which is built in a single
+     * traversal. The copy does not refer to any native object, hence its
+     * constraints may be visited, also in parallel, without calling the PPL.
+     */
+    public ConstraintMatrix snapshot() {
+        return ConstraintMatrix.from(this);
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Constraint_System(pstr, pplObj);
+        return ppl_io_asprint_Constraint_System(pstr, ptr());
+    }
+
+    /**
+     * Returns whether {@code obj} is the same as this constraint system. Two
+     * constraint systems are the same if they have the same space dimension and
+     * the same constraints in the same order. The comparison does not allocate
+     * any native coefficient.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj instanceof ConstraintSystem) {
+            var cs = (ConstraintSystem) obj;
+            if (cs.getSpaceDimension() != getSpaceDimension())
+                return false;
+            var it1 = iterator();
+            var it2 = cs.iterator();
+            while (it1.hasNext() && it2.hasNext()) {
+                if (!it1.next().equals(it2.next()))
+                    return false;
+            }
+            return !it1.hasNext() && !it2.hasNext();
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this constraint system, which only depends on its
+     * space dimension and on its constraints, in order.
+     */
+    @Override
+    public int hashCode() {
+        int hash = Long.hashCode(getSpaceDimension());
+        for (var c : this)
+            hash = 31 * hash + c.hashCode();
+        return hash;
     }
 
 }
@@ -0,0 +1,221 @@
+package it.unich.jppl;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A persistent view of a property, which is copied lazily on the first
+ * modification.
+ *
+ * <p>
+ * Copying a view with {@link #copy()} does not copy the native object: the two
+ * views share the same property, and a reference count kept on the Java side
+ * records how many views share it. The property is read with {@link #get()}.
+ * The property is modified with {@link #update(Consumer)} or
+ * {@link #mutable()}, which first give the view a private copy of the property
+ * if it is shared, so that the other views are not affected. When a view is the
+ * only one left, it modifies the property in place. Hence, an analyzer may copy
+ * the abstract states before each transfer function, and it only pays for the
+ * copies of the states which are actually modified. Calling {@link #release()}
+ * on the views which are no longer needed allows the remaining ones to avoid
+ * further copies.
+ * </p>
+ *
+ * <p>
+ * The property returned by {@link #get()} is shared, and it should never be
+ * modified directly. Views are not thread-safe, like properties. Views sharing
+ * the same property may only be used by different threads when the PPL has
+ * been configured with {@code --enable-thread-safe} and the system property
+ * {@value PPLExecutor#THREAD_SAFE_PROPERTY} is {@code true}, as for the
+ * workers of a {@link PPLExecutor}; otherwise, all the views of a property
+ * should be used by the same thread. The properties of the views do not belong
+ * to any {@link PPLScope}, since they may outlive the scope where the view is
+ * created or modified. The numbers of view copies and of native copies since
+ * startup are returned by {@link #getViewCopies()} and
+ * {@link #getNativeCopies()}.
+ * </p>
+ *
+ * @param <T> the type of the property.
+ */
+public final class CopyOnWriteProperty<T extends Property<T>> {
+
+    /**
+     * A property shared by some views, with its reference count.
+     */
+    private static final class Shared<T> {
+        final T value;
+        int refs = 1;
+
+        Shared(T value) {
+            this.value = value;
+        }
+    }
+
+    private static final LongAdder viewCopies = new LongAdder();
+
+    private static final LongAdder nativeCopies = new LongAdder();
+
+    private Shared<T> shared;
+
+    private CopyOnWriteProperty(Shared<T> shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Returns a view of {@code value}. The view takes ownership of the property,
+     * which should not be used directly anymore, and removes it from the open
+     * scopes of the current thread.
+     */
+    public static <T extends Property<T>> CopyOnWriteProperty<T> of(T value) {
+        for (var scope = PPLScope.current(); scope != null; scope = scope.getParent())
+            scope.escape(value);
+        return new CopyOnWriteProperty<>(new Shared<>(value));
+    }
+
+    /**
+     * Returns the number of views created by {@link #copy()} since startup, or
+     * since the last call to {@link #reset()}.
+     */
+    public static long getViewCopies() {
+        return viewCopies.sum();
+    }
+
+    /**
+     * Returns the number of native copies of shared properties since startup,
+     * or since the last call to {@link #reset()}.
+     */
+    public static long getNativeCopies() {
+        return nativeCopies.sum();
+    }
+
+    /**
+     * Resets all the statistics.
+     */
+    public static void reset() {
+        viewCopies.reset();
+        nativeCopies.reset();
+    }
+
+    /**
+     * Returns the shared state of this view.
+     *
+     * @throws IllegalStateException if this view has been released.
+     */
+    private Shared<T> shared() {
+        if (shared == null)
+            throw new IllegalStateException("The view has been released");
+        return shared;
+    }
+
+    /**
+     * Returns a new view of the same property, without copying it.
+     *
+     * @throws IllegalStateException if this view has been released.
+     */
+    public CopyOnWriteProperty<T> copy() {
+        var s = shared();
+        synchronized (s) {
+            s.refs++;
+        }
+        viewCopies.increment();
+        return new CopyOnWriteProperty<>(s);
+    }
+
+    /**
+     * Returns the property of this view, which may be shared with other views
+     * and should not be modified.
+     *
+     * @throws IllegalStateException if this view has been released.
+     */
+    public T get() {
+        return shared().value;
+    }
+
+    /**
+     * Returns the property of this view, after copying it if it is shared with
+     * other views. The result may be modified, until the next call to
+     * {@link #copy()}.
+     *
+     * @throws IllegalStateException if this view has been released.
+     */
+    public T mutable() {
+        var s = shared();
+        T copy;
+        synchronized (s) {
+            if (s.refs == 1)
+                return s.value;
+            // the copy is taken before giving up the reference, which may allow another view to modify the value
+            copy = PPLScope.unscoped(s.value::clone);
+            s.refs--;
+        }
+        nativeCopies.increment();
+        shared = new Shared<>(copy);
+        return copy;
+    }
+
+    /**
+     * Modifies the property of this view with {@code f}, after copying it if it
+     * is shared with other views. For example,
+     *
+     * <pre>
+     * view.update(p -&gt; p.intersection(y))
+     * </pre>
+     *
+     * @return this view.
+     * @throws IllegalStateException if this view has been released.
+     */
+    public CopyOnWriteProperty<T> update(Consumer<T> f) {
+        f.accept(mutable());
+        return this;
+    }
+
+    /**
+     * Returns true if and only if the property of this view is shared with other
+     * views.
+     *
+     * @throws IllegalStateException if this view has been released.
+     */
+    public boolean isShared() {
+        var s = shared();
+        synchronized (s) {
+            return s.refs > 1;
+        }
+    }
+
+    /**
+     * Releases this view, which cannot be used anymore. If the property is shared,
+     * the other views are notified that they have one less sharer. It has no
+     * effect if the view has already been released.
+     */
+    public void release() {
+        if (shared == null)
+            return;
+        synchronized (shared) {
+            shared.refs--;
+        }
+        shared = null;
+    }
+
+    /**
+     * Returns true if and only if {@code obj} is a view of an equal property.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CopyOnWriteProperty<?>) {
+            var v = (CopyOnWriteProperty<?>) obj;
+            return get() == v.get() || get().equals(v.get());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return get().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return shared == null ? "released" : get().toString();
+    }
+
+}
@@ -1,11 +1,11 @@
 package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
 
 import it.unich.jppl.Constraint.ConstraintType;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTArray;
-import it.unich.jppl.nativelib.SizeTByReference;
 
 import java.util.Optional;
 
@@ -31,12 +31,25 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
         }
     }
 
+    /**
+     * The cached hash code of this box, or zero if it has not been computed
+     * since the last modification.
+     */
+    private int hash;
+
+    /**
+     * The generation of the {@link InternTable} where this box has been
+     * interned, or null if it has not been interned. Distinct boxes of the
+     * same generation and owner are never equal.
+     */
+    private Object internGeneration;
+
     /**
      * Creates a closed polyhedron from the native object pointed by {@code p}.
      */
     DoubleBox(Pointer p) {
         pplObj = p;
-        PPL.cleaner.register(this, new DoubleBoxCleaner(pplObj));
+        PPLScope.register(this, new DoubleBoxCleaner(pplObj));
     }
 
     /**
@@ -46,11 +59,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      *                             exceeds the maximum allowed space dimension.
      */
     public static DoubleBox empty(long d) {
-        var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_space_dimension(pbox, new SizeT(d), 1);
+        var pbox = scratch();
+        int result = ppl_new_Double_Box_from_space_dimension(pbox, d, 1);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new DoubleBox(pbox.getValue());
+        return new DoubleBox(pbox.getPointer(0));
     }
 
     /**
@@ -61,11 +74,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      *                             exceeds the maximum allowed space dimension.
      */
     public static DoubleBox universe(long d) {
-        var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_space_dimension(pbox, new SizeT(d), 0);
+        var pbox = scratch();
+        int result = ppl_new_Double_Box_from_space_dimension(pbox, d, 0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new DoubleBox(pbox.getValue());
+        return new DoubleBox(pbox.getPointer(0));
     }
 
     /**
@@ -77,11 +90,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      *                             supported.
      */
     public static DoubleBox from(ConstraintSystem cs) {
-        var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_Constraint_System(pbox, cs.pplObj);
+        var pbox = scratch();
+        int result = ppl_new_Double_Box_from_Constraint_System(pbox, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new DoubleBox(pbox.getValue());
+        return new DoubleBox(pbox.getPointer(0));
     }
 
     /**
@@ -91,7 +104,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox recycledFrom(ConstraintSystem cs) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_recycle_Constraint_System(pbox, cs.pplObj);
+        int result = ppl_new_Double_Box_recycle_Constraint_System(pbox, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -107,7 +120,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(CongruenceSystem cs) {
         PointerByReference pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_Congruence_System(pbox, cs.pplObj);
+        int result = ppl_new_Double_Box_from_Congruence_System(pbox, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -120,7 +133,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox recycledFrom(CongruenceSystem cs) {
         PointerByReference pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_recycle_Congruence_System(pbox, cs.pplObj);
+        int result = ppl_new_Double_Box_recycle_Congruence_System(pbox, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -136,7 +149,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(GeneratorSystem gs) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_Generator_System(pbox, gs.pplObj);
+        int result = ppl_new_Double_Box_from_Generator_System(pbox, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -149,7 +162,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox recycledFrom(GeneratorSystem gs) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_recycle_Generator_System(pbox, gs.pplObj);
+        int result = ppl_new_Double_Box_recycle_Generator_System(pbox, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -159,11 +172,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * Creates and returns a copy of {@code box}.
      */
     public static DoubleBox from(DoubleBox box) {
-        var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_Double_Box(pbox, box.pplObj);
+        var pbox = scratch();
+        int result = ppl_new_Double_Box_from_Double_Box(pbox, box.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new DoubleBox(pbox.getValue());
+        return new DoubleBox(pbox.getPointer(0));
     }
 
     /**
@@ -172,7 +185,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(DoubleBox box, ComplexityClass complexity) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_Double_Box_with_complexity(pbox, box.pplObj, complexity.ordinal());
+        int result = ppl_new_Double_Box_from_Double_Box_with_complexity(pbox, box.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -183,7 +196,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(CPolyhedron ph) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_C_Polyhedron(pbox, ph.pplObj);
+        int result = ppl_new_Double_Box_from_C_Polyhedron(pbox, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -196,7 +209,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(CPolyhedron ph, ComplexityClass complexity) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(pbox, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(pbox, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -207,7 +220,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(NNCPolyhedron ph) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_NNC_Polyhedron(pbox, ph.pplObj);
+        int result = ppl_new_Double_Box_from_NNC_Polyhedron(pbox, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -220,7 +233,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     public static DoubleBox from(NNCPolyhedron ph, ComplexityClass complexity) {
         var pbox = new PointerByReference();
-        int result = ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(pbox, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(pbox, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new DoubleBox(pbox.getValue());
@@ -233,33 +246,34 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     DoubleBox assign(DoubleBox box) {
-        int result = ppl_assign_Double_Box_from_Double_Box(pplObj, box.pplObj);
+        checkMutable();
+        int result = ppl_assign_Double_Box_from_Double_Box(ptr(), box.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public long getSpaceDimension() {
-        var pd = new SizeTByReference();
-        int result = ppl_Double_Box_space_dimension(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Double_Box_space_dimension(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public long getAffineDimension() {
-        var pd = new SizeTByReference();
-        int result = ppl_Double_Box_affine_dimension(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Double_Box_affine_dimension(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public int getRelationWith(Constraint c) {
-        int result = ppl_Double_Box_relation_with_Constraint(pplObj, c.pplObj);
+        int result = ppl_Double_Box_relation_with_Constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -267,7 +281,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public int getRelationWith(Generator g) {
-        int result = ppl_Double_Box_relation_with_Generator(pplObj, g.pplObj);
+        int result = ppl_Double_Box_relation_with_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -275,43 +289,43 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public ConstraintSystem getConstraints() {
-        var pcs = new PointerByReference();
-        int result = ppl_Double_Box_get_constraints(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Double_Box_get_constraints(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new ConstraintSystem(pcs.getValue(), false);
+        return new ConstraintSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public CongruenceSystem getCongruences() {
-        var pcs = new PointerByReference();
-        int result = ppl_Double_Box_get_congruences(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Double_Box_get_congruences(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CongruenceSystem(pcs.getValue(), false);
+        return new CongruenceSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public ConstraintSystem getMinimizedConstraints() {
-        var pcs = new PointerByReference();
-        int result = ppl_Double_Box_get_minimized_constraints(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Double_Box_get_minimized_constraints(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new ConstraintSystem(pcs.getValue(), false);
+        return new ConstraintSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public CongruenceSystem getMinimizedCongruences() {
-        var pcs = new PointerByReference();
-        int result = ppl_Double_Box_get_minimized_congruences(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Double_Box_get_minimized_congruences(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CongruenceSystem(pcs.getValue(), false);
+        return new CongruenceSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Double_Box_is_empty(pplObj);
+        int result = ppl_Double_Box_is_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -319,7 +333,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean isUniverse() {
-        int result = ppl_Double_Box_is_universe(pplObj);
+        int result = ppl_Double_Box_is_universe(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -327,7 +341,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean isBounded() {
-        int result = ppl_Double_Box_is_bounded(pplObj);
+        int result = ppl_Double_Box_is_bounded(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -335,7 +349,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean containsIntegerPoint() {
-        int result = ppl_Double_Box_contains_integer_point(pplObj);
+        int result = ppl_Double_Box_contains_integer_point(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -343,7 +357,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean isTopologicallyClosed() {
-        int result = ppl_Double_Box_is_topologically_closed(pplObj);
+        int result = ppl_Double_Box_is_topologically_closed(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -351,7 +365,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean isDiscrete() {
-        int result = ppl_Double_Box_is_discrete(pplObj);
+        int result = ppl_Double_Box_is_discrete(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -359,7 +373,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean constraints(long i) {
-        int result = ppl_Double_Box_constrains(pplObj, new SizeT(i));
+        int result = ppl_Double_Box_constrains(ptr(), i);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -367,7 +381,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean boundsFromAbove(LinearExpression le) {
-        int result = ppl_Double_Box_bounds_from_above(pplObj, le.pplObj);
+        int result = ppl_Double_Box_bounds_from_above(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -375,7 +389,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean boundsFromBelow(LinearExpression le) {
-        int result = ppl_Double_Box_bounds_from_below(pplObj, le.pplObj);
+        int result = ppl_Double_Box_bounds_from_below(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -385,14 +399,14 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
     public Optional<ExtremalOutput> maximize(LinearExpression le) {
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
-        var pmaximum = new IntByReference();
-        int result = ppl_Double_Box_maximize(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum);
+        var pmaximum = scratch();
+        int result = ppl_Double_Box_maximize(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, null));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, null));
     }
 
     @Override
@@ -400,29 +414,29 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
         var point = Generator.zeroDimPoint();
-        var pmaximum = new IntByReference();
-        int result = ppl_Double_Box_maximize_with_point(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum,
-                point.pplObj);
+        var pmaximum = scratch();
+        int result = ppl_Double_Box_maximize_with_point(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum,
+                point.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, point.clone()));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, point.clone()));
     }
 
     @Override
     public Optional<ExtremalOutput> minimize(LinearExpression le) {
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
-        var pmaximum = new IntByReference();
-        int result = ppl_Double_Box_minimize(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum);
+        var pmaximum = scratch();
+        int result = ppl_Double_Box_minimize(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, null));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, null));
     }
 
     @Override
@@ -430,20 +444,20 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
         var point = Generator.zeroDimPoint();
-        var pmaximum = new IntByReference();
-        int result = ppl_Double_Box_minimize_with_point(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum,
-                point.pplObj);
+        var pmaximum = scratch();
+        int result = ppl_Double_Box_minimize_with_point(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum,
+                point.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, point.clone()));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, point.clone()));
     }
 
     @Override
     public boolean contains(DoubleBox y) {
-        int result = ppl_Double_Box_contains_Double_Box(pplObj, y.pplObj);
+        int result = ppl_Double_Box_contains_Double_Box(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -451,7 +465,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean strictlyContains(DoubleBox y) {
-        int result = ppl_Double_Box_strictly_contains_Double_Box(pplObj, y.pplObj);
+        int result = ppl_Double_Box_strictly_contains_Double_Box(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -459,7 +473,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public boolean isDisjointFrom(DoubleBox y) {
-        int result = ppl_Double_Box_is_disjoint_from_Double_Box(pplObj, y.pplObj);
+        int result = ppl_Double_Box_is_disjoint_from_Double_Box(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -467,7 +481,7 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     boolean isOK() {
-        int result = ppl_Double_Box_OK(pplObj);
+        int result = ppl_Double_Box_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -475,295 +489,329 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
 
     @Override
     public long getExternalMemoryInBytes() {
-        var pd = new SizeTByReference();
-        int result = ppl_Double_Box_external_memory_in_bytes(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Double_Box_external_memory_in_bytes(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public long getTotalMemoryInBytes() {
-        var pd = new SizeTByReference();
-        int result = ppl_Double_Box_total_memory_in_bytes(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Double_Box_total_memory_in_bytes(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public DoubleBox add(Constraint c) {
-        int result = ppl_Double_Box_add_constraint(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox add(Congruence c) {
-        int result = ppl_Double_Box_add_congruence(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox add(ConstraintSystem cs) {
-        int result = ppl_Double_Box_add_constraints(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_constraints(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox add(CongruenceSystem cs) {
-        int result = ppl_Double_Box_add_congruences(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_congruences(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox addReycled(ConstraintSystem cs) {
-        int result = ppl_Double_Box_add_recycled_constraints(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_recycled_constraints(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox addRecycled(CongruenceSystem cs) {
-        int result = ppl_Double_Box_add_recycled_congruences(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_add_recycled_congruences(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox refineWith(Constraint c) {
-        int result = ppl_Double_Box_refine_with_constraint(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_refine_with_constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox refineWith(Congruence c) {
-        int result = ppl_Double_Box_refine_with_congruence(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_refine_with_congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox refineWith(ConstraintSystem c) {
-        int result = ppl_Double_Box_refine_with_constraints(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_refine_with_constraints(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox refineWith(CongruenceSystem c) {
-        int result = ppl_Double_Box_refine_with_congruences(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_refine_with_congruences(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox intersection(DoubleBox y) {
-        int result = ppl_Double_Box_intersection_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_intersection_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox upperBound(DoubleBox y) {
-        int result = ppl_Double_Box_upper_bound_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_upper_bound_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox difference(DoubleBox y) {
-        int result = ppl_Double_Box_difference_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_difference_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox simplifyUsingContext(DoubleBox y) {
-        int result = ppl_Double_Box_difference_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_difference_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox timeElapse(DoubleBox y) {
-        int result = ppl_Double_Box_time_elapse_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_time_elapse_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox topologicalClosure() {
-        int result = ppl_Double_Box_topological_closure_assign(pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_topological_closure_assign(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox unconstrain(long i) {
-        int result = ppl_Double_Box_unconstrain_space_dimension(pplObj, new SizeT(i));
+        checkMutable();
+        int result = ppl_Double_Box_unconstrain_space_dimension(ptr(), i);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox unconstrain(long[] ds) {
+        checkMutable();
         var buffer = new SizeTArray(ds);
-        int result = ppl_Double_Box_unconstrain_space_dimensions(pplObj, buffer, new SizeT(ds.length));
+        int result = ppl_Double_Box_unconstrain_space_dimensions(ptr(), buffer, new SizeT(ds.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox affineImage(long i, LinearExpression le, Coefficient d) {
-        int result = ppl_Double_Box_affine_image(pplObj, new SizeT(i), le.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_affine_image(ptr(), i, le.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox affinePreImage(long i, LinearExpression le, Coefficient d) {
-        int result = ppl_Double_Box_affine_preimage(pplObj, new SizeT(i), le.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_affine_preimage(ptr(), i, le.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox boundedAffineImage(long i, LinearExpression lb, LinearExpression ub, Coefficient d) {
-        int result = ppl_Double_Box_bounded_affine_image(pplObj, new SizeT(i), lb.pplObj, ub.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_bounded_affine_image(ptr(), new SizeT(i), lb.ptr(), ub.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox boundedAffinePreImage(long i, LinearExpression lb, LinearExpression ub, Coefficient d) {
-        int result = ppl_Double_Box_bounded_affine_preimage(pplObj, new SizeT(i), lb.pplObj, ub.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_bounded_affine_preimage(ptr(), new SizeT(i), lb.ptr(), ub.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox generalizedAffineImage(long i, ConstraintType rel, LinearExpression le, Coefficient d) {
-        int result = ppl_Double_Box_generalized_affine_image(pplObj, new SizeT(i), rel.ordinal(), le.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_generalized_affine_image(ptr(), new SizeT(i), rel.ordinal(), le.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox generalizedAffinePreImage(long i, ConstraintType rel, LinearExpression le, Coefficient d) {
-        int result = ppl_Double_Box_generalized_affine_preimage(pplObj, new SizeT(i), rel.ordinal(), le.pplObj,
-                d.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_generalized_affine_preimage(ptr(), new SizeT(i), rel.ordinal(), le.ptr(),
+                d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox generalizedAffineImageLhsRhs(LinearExpression lhs, ConstraintType rel, LinearExpression rhs) {
-        int result = ppl_Double_Box_generalized_affine_image_lhs_rhs(pplObj, lhs.pplObj, rel.ordinal(), rhs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_generalized_affine_image_lhs_rhs(ptr(), lhs.ptr(), rel.ordinal(), rhs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox generalizedAffinePreImageLhsRhs(LinearExpression lhs, ConstraintType rel, LinearExpression rhs) {
-        int result = ppl_Double_Box_generalized_affine_preimage_lhs_rhs(pplObj, lhs.pplObj, rel.ordinal(), rhs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_generalized_affine_preimage_lhs_rhs(ptr(), lhs.ptr(), rel.ordinal(), rhs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox concatenate(DoubleBox y) {
-        int result = ppl_Double_Box_concatenate_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_concatenate_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox addSpaceDimensionsAndEmbed(long m) {
-        int result = ppl_Double_Box_add_space_dimensions_and_embed(pplObj, new SizeT(m));
+        checkMutable();
+        int result = ppl_Double_Box_add_space_dimensions_and_embed(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox addSpaceDimensionsAndProject(long m) {
-        int result = ppl_Double_Box_add_space_dimensions_and_project(pplObj, new SizeT(m));
+        checkMutable();
+        int result = ppl_Double_Box_add_space_dimensions_and_project(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox removeSpaceDimensions(long ds[]) {
-        int result = ppl_Double_Box_remove_space_dimensions(pplObj, new SizeTArray(ds), new SizeT(ds.length));
+        checkMutable();
+        int result = ppl_Double_Box_remove_space_dimensions(ptr(), new SizeTArray(ds), new SizeT(ds.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox removeHigherSpaceDimensions(long d) {
-        int result = ppl_Double_Box_remove_higher_space_dimensions(pplObj, new SizeT(d));
+        checkMutable();
+        int result = ppl_Double_Box_remove_higher_space_dimensions(ptr(), d);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox mapSpaceDimensions(long[] maps) {
-        int result = ppl_Double_Box_map_space_dimensions(pplObj, new SizeTArray(maps), new SizeT(maps.length));
+        checkMutable();
+        int result = ppl_Double_Box_map_space_dimensions(ptr(), new SizeTArray(maps), new SizeT(maps.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox expandSpaceDimension(long i, long m) {
-        int result = ppl_Double_Box_expand_space_dimension(pplObj, new SizeT(i), new SizeT(m));
+        checkMutable();
+        int result = ppl_Double_Box_expand_space_dimension(ptr(), new SizeT(i), new SizeT(m));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox foldSpaceDimensions(long[] ds, long i) {
-        int result = ppl_Double_Box_fold_space_dimensions(pplObj, new SizeTArray(ds), new SizeT(ds.length),
+        checkMutable();
+        int result = ppl_Double_Box_fold_space_dimensions(ptr(), new SizeTArray(ds), new SizeT(ds.length),
                 new SizeT(i));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -773,10 +821,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * @return this box.
      */
     public DoubleBox CC76Widening(DoubleBox y) {
-        int result = ppl_Double_Box_CC76_widening_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_CC76_widening_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -789,12 +838,14 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * @return this box.
      */
     public DoubleBox CC76Widening(DoubleBox y, WideningTokens w) {
-        IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Double_Box_CC76_widening_assign_with_tokens(pplObj, y.pplObj, tp);
-        w.tokens = tp.getValue();
+        checkMutable();
+        var tp = scratch();
+        tp.setInt(0, w.tokens);
+        int result = ppl_Double_Box_CC76_widening_assign_with_tokens(ptr(), y.ptr(), tp);
+        w.tokens = tp.getInt(0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -806,20 +857,23 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      */
     @Override
     public DoubleBox widening(DoubleBox y) {
-        int result = ppl_Double_Box_widening_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_widening_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
     public DoubleBox widening(DoubleBox y, WideningTokens w) {
-        IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Double_Box_widening_assign_with_tokens(pplObj, y.pplObj, tp);
-        w.tokens = tp.getValue();
+        checkMutable();
+        var tp = scratch();
+        tp.setInt(0, w.tokens);
+        int result = ppl_Double_Box_widening_assign_with_tokens(ptr(), y.ptr(), tp);
+        w.tokens = tp.getInt(0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -829,10 +883,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * @return this box.
      */
     public DoubleBox CC76Narrowing(DoubleBox y) {
-        int result = ppl_Double_Box_CC76_narrowing_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_CC76_narrowing_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -844,10 +899,11 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * @return this box.
      */
     public DoubleBox limitedCC76Extrapolation(DoubleBox y, ConstraintSystem cs) {
-        int result = ppl_Double_Box_limited_CC76_extrapolation_assign(pplObj, y.pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Double_Box_limited_CC76_extrapolation_assign(ptr(), y.ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     /**
@@ -860,21 +916,29 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
      * @return this box.
      */
     public DoubleBox limitedCC76Extrapolation(DoubleBox y, ConstraintSystem cs, WideningTokens w) {
+        checkMutable();
         IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens(pplObj, y.pplObj, cs.pplObj, tp);
+        int result = ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens(ptr(), y.ptr(), cs.ptr(), tp);
         w.tokens = tp.getValue();
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
+    /**
+     * Returns whether {@code other} is a box equal to this one. Distinct boxes
+     * interned in the same {@link InternTable} with the same owner thread are
+     * never equal, hence they are compared without calling the PPL.
+     */
     @Override
     public boolean equals(Object other) {
         if (this == other)
             return true;
         if (other instanceof DoubleBox) {
             var box = (DoubleBox) other;
-            int result = ppl_Double_Box_equals_Double_Box(pplObj, box.pplObj);
+            if (internGeneration != null && internGeneration == box.internGeneration && owner == box.owner)
+                return false;
+            int result = ppl_Double_Box_equals_Double_Box(ptr(), box.ptr());
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             return result > 0;
@@ -882,9 +946,62 @@ public class DoubleBox extends AbstractPPLObject<DoubleBox> implements Property<
         return false;
     }
 
+    /**
+     * Discards the information cached for this box and returns it. It should be
+     * called by all the methods which modify this box.
+     */
+    private DoubleBox modified() {
+        hash = 0;
+        return this;
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException} if this box has been
+     * interned. It should be called by all the methods which modify this box,
+     * before calling the PPL.
+     */
+    private void checkMutable() {
+        if (internGeneration != null)
+            throw new UnsupportedOperationException("An interned box cannot be modified");
+    }
+
+    /**
+     * Marks this box as interned in the given generation of an
+     * {@link InternTable}, after which it cannot be modified anymore.
+     */
+    void markInterned(Object generation) {
+        internGeneration = generation;
+    }
+
+    /**
+     * Returns true if and only if this box has been interned in an
+     * {@link InternTable}. Interned boxes cannot be modified: all the methods
+     * which would modify them throw an {@link UnsupportedOperationException}.
+     */
+    public boolean isInterned() {
+        return internGeneration != null;
+    }
+
+    /**
+     * Returns a hash code for this box. It is computed from the minimized
+     * constraints, independently of their order, hence equal boxes have the same
+     * hash code. The hash code is cached until the box is modified.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Long.hashCode(getSpaceDimension());
+            for (var c : getMinimizedConstraints())
+                h += c.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Double_Box(pstr, pplObj);
+        return ppl_io_asprint_Double_Box(pstr, ptr());
     }
 
 }
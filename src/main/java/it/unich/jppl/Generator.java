@@ -2,9 +2,12 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.nativelib.LibPPL;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.math.BigInteger;
+
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -81,7 +84,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
     Generator(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new GeneratorCleaner(pplObj));
+            PPLScope.register(this, new GeneratorCleaner(pplObj));
     }
 
     /**
@@ -101,7 +104,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
      */
     public static Generator of(LinearExpression le, GeneratorType t, Coefficient d) {
         var pg = new PointerByReference();
-        int result = ppl_new_Generator(pg, le.pplObj, t.ordinal(), d.pplObj);
+        int result = ppl_new_Generator(pg, le.ptr(), t.ordinal(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Generator(pg.getValue());
@@ -142,7 +145,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
     @Override
     public Generator clone() {
         var pg = new PointerByReference();
-        int result = ppl_new_Generator_from_Generator(pg, pplObj);
+        int result = ppl_new_Generator_from_Generator(pg, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new Generator(pg.getValue());
@@ -150,7 +153,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
 
     @Override
     public Generator assign(Generator g) {
-        int result = ppl_assign_Generator_from_Generator(pplObj, g.pplObj);
+        int result = ppl_assign_Generator_from_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -159,7 +162,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Generator_space_dimension(pplObj, m);
+        int result = ppl_Generator_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -168,7 +171,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
     @Override
     public Coefficient getCoefficient(long var) {
         var n = Coefficient.zero();
-        int result = ppl_Generator_coefficient(pplObj, new SizeT(var), n.pplObj);
+        int result = ppl_Generator_coefficient(ptr(), new SizeT(var), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
@@ -178,7 +181,7 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
      * Returns the type of this generator.
      */
     public GeneratorType getType() {
-        int result = ppl_Generator_type(pplObj);
+        int result = ppl_Generator_type(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return GeneratorType.valueOf(result);
@@ -189,15 +192,60 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
      */
     public Coefficient getDivisor() {
         var d = Coefficient.zero();
-        int result = ppl_Generator_divisor(pplObj, d.pplObj);
+        int result = ppl_Generator_divisor(ptr(), d.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return d;
     }
 
+    /**
+     * Returns the coefficients of this generator, followed by its divisor, or
+     * zero if it is a line or a ray. It is faster than calling
+     * {@link #getCoefficient(long)} for each variable, since no native
+     * coefficient is allocated.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients() {
+        return getCoefficients(null);
+    }
+
+    /**
+     * Returns the coefficients of this generator, followed by its divisor, or
+     * zero if it is a line or a ray. The values are written in {@code buffer}
+     * if it has room for them, otherwise in a new array. Therefore, the same
+     * buffer may be reused for many objects.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients(long[] buffer) {
+        var divisor = divisorReader();
+        return Coefficient.longValues(ptr(), getSpaceDimension(), LibPPL::ppl_Generator_coefficient, divisor, buffer);
+    }
+
+    /**
+     * Returns the coefficients of this generator as BigIntegers, followed by
+     * its divisor, or zero if it is a line or a ray.
+     */
+    public BigInteger[] getBigIntegerCoefficients() {
+        var divisor = divisorReader();
+        return Coefficient.bigIntegerValues(ptr(), getSpaceDimension(), LibPPL::ppl_Generator_coefficient, divisor);
+    }
+
+    /**
+     * Returns the native function which reads the divisor of this generator, or
+     * null if this generator has no divisor.
+     */
+    private Coefficient.TermReader divisorReader() {
+        var t = getType();
+        return t == GeneratorType.POINT || t == GeneratorType.CLOSURE_POINT ? LibPPL::ppl_Generator_divisor : null;
+    }
+
     @Override
     public boolean isOK() {
-        int result = ppl_Generator_OK(pplObj);
+        int result = ppl_Generator_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -205,13 +253,14 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Generator(pstr, pplObj);
+        return ppl_io_asprint_Generator(pstr, ptr());
     }
 
     /**
      * Returns whether {@code obj} is the same as this generator. Two generators are
      * the same if they have the same space type, dimension, coefficients. For
-     * points and closure point, the divisor should also be equal.
+     * points and closure point, the divisor should also be equal. The comparison
+     * does not allocate any native coefficient.
      */
     @Override
     public boolean equals(Object obj) {
@@ -219,20 +268,25 @@ public class Generator extends AbstractPPLObject<Generator> implements Geometric
             return true;
         if (obj instanceof Generator) {
             var g = (Generator) obj;
-            var t = getType();
-            if (g.getType() != t)
-                return false;
-            if (g.getSpaceDimension() != getSpaceDimension())
+            if (g.getType() != getType())
                 return false;
-            if ((t == GeneratorType.POINT || t == GeneratorType.CLOSURE_POINT) && !g.getDivisor().equals(getDivisor()))
+            long d = getSpaceDimension();
+            if (g.getSpaceDimension() != d)
                 return false;
-            for (long d = 0; d < getSpaceDimension(); d++) {
-                if (!g.getCoefficient(d).equals(getCoefficient(d)))
-                    return false;
-            }
-            return true;
+            return Coefficient.sameValues(ptr(), d, g.ptr(), d, LibPPL::ppl_Generator_coefficient, divisorReader());
         }
         return false;
     }
 
+    /**
+     * Returns a hash code for this generator, which only depends on its type,
+     * space dimension, coefficients and divisor.
+     */
+    @Override
+    public int hashCode() {
+        long d = getSpaceDimension();
+        int hash = Coefficient.hashValues(ptr(), d, LibPPL::ppl_Generator_coefficient, divisorReader());
+        return 31 * (31 * getType().ordinal() + Long.hashCode(d)) + hash;
+    }
+
 }
@@ -0,0 +1,199 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Generator.GeneratorType;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable Java representation of a generator system.
+ *
+ * <p>
+ * A generator matrix contains the space dimension of the system and, for each
+ * generator, the coefficients \(a_0, \ldots, a_{n-1}\), the divisor and the
+ * type. The divisor of lines and rays is zero. Since it does not refer to any
+ * native object, a generator matrix may be freely shared between threads and it
+ * is not affected by {@link PPLScope}. Its generators may be visited as
+ * {@link Row} objects, also with parallel streams.
+ * </p>
+ *
+ * @see GeneratorSystem#snapshot()
+ */
+public final class GeneratorMatrix extends AbstractMatrix<GeneratorMatrix.Row> {
+
+    private final long spaceDimension;
+
+    private final BigInteger[][] coefficients;
+
+    private final BigInteger[] divisors;
+
+    private final GeneratorType[] types;
+
+    private GeneratorMatrix(long spaceDimension, BigInteger[][] coefficients, BigInteger[] divisors,
+            GeneratorType[] types) {
+        this.spaceDimension = spaceDimension;
+        this.coefficients = coefficients;
+        this.divisors = divisors;
+        this.types = types;
+    }
+
+    /**
+     * Creates and returns the generator matrix corresponding to the generator
+     * system {@code gs}.
+     */
+    public static GeneratorMatrix from(GeneratorSystem gs) {
+        long d = gs.getSpaceDimension();
+        var coefficients = new ArrayList<BigInteger[]>();
+        var divisors = new ArrayList<BigInteger>();
+        var types = new ArrayList<GeneratorType>();
+        for (var g : gs) {
+            var values = g.getBigIntegerCoefficients();
+            coefficients.add(linearPart(values, Math.toIntExact(d)));
+            divisors.add(values[values.length - 1]);
+            types.add(g.getType());
+        }
+        return new GeneratorMatrix(d, coefficients.toArray(new BigInteger[0][]),
+                divisors.toArray(new BigInteger[0]), types.toArray(new GeneratorType[0]));
+    }
+
+    /**
+     * Returns the space dimension of this matrix.
+     */
+    public long getSpaceDimension() {
+        return spaceDimension;
+    }
+
+    /**
+     * Returns the number of generators in this matrix.
+     */
+    @Override
+    public int size() {
+        return coefficients.length;
+    }
+
+    /**
+     * Returns the generator at position {@code row}.
+     *
+     * @throws IndexOutOfBoundsException if {@code row} is not a valid position.
+     */
+    @Override
+    public Row getRow(int row) {
+        Objects.checkIndex(row, coefficients.length);
+        return new Row(row);
+    }
+
+    /**
+     * Returns the coefficient of the variable \(x_i\) in the generator at
+     * position {@code row}.
+     */
+    public BigInteger getCoefficient(int row, int i) {
+        return coefficients[row][i];
+    }
+
+    /**
+     * Returns the divisor of the generator at position {@code row}, or zero if
+     * it is a line or a ray.
+     */
+    public BigInteger getDivisor(int row) {
+        return divisors[row];
+    }
+
+    /**
+     * Returns the type of the generator at position {@code row}.
+     */
+    public GeneratorType getType(int row) {
+        return types[row];
+    }
+
+    /**
+     * Returns whether {@code obj} is a generator matrix with the same space
+     * dimension and the same generators, in the same order, of this matrix.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj instanceof GeneratorMatrix) {
+            var m = (GeneratorMatrix) obj;
+            return spaceDimension == m.spaceDimension && Arrays.equals(divisors, m.divisors)
+                    && Arrays.equals(types, m.types)
+                    && Arrays.deepEquals(coefficients, m.coefficients);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * Long.hashCode(spaceDimension) + Arrays.hashCode(divisors);
+        hash = 31 * hash + Arrays.hashCode(types);
+        return 31 * hash + Arrays.deepHashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        sb.append("GeneratorMatrix[").append(spaceDimension).append("]{");
+        for (int row = 0; row < coefficients.length; row++) {
+            if (row > 0)
+                sb.append(", ");
+            sb.append(getRow(row));
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A generator of a generator matrix. It is a view of a row of the matrix,
+     * hence it is immutable and it may be freely shared between threads.
+     */
+    public final class Row {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        /**
+         * Returns the position of this generator in the matrix.
+         */
+        public int getIndex() {
+            return row;
+        }
+
+        /**
+         * Returns the coefficient of the variable \(x_i\).
+         */
+        public BigInteger getCoefficient(int i) {
+            return coefficients[row][i];
+        }
+
+        /**
+         * Returns a copy of the coefficients of the variables.
+         */
+        public BigInteger[] getCoefficients() {
+            return coefficients[row].clone();
+        }
+
+        /**
+         * Returns the divisor of this generator, or zero if it is a line or a
+         * ray.
+         */
+        public BigInteger getDivisor() {
+            return divisors[row];
+        }
+
+        /**
+         * Returns the type of this generator.
+         */
+        public GeneratorType getType() {
+            return types[row];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(coefficients[row]) + " " + divisors[row] + " " + types[row];
+        }
+    }
+
+}
@@ -2,8 +2,10 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.Generator.GeneratorType;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -68,16 +70,16 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cit = pgsit.getValue();
-            PPL.cleaner.register(this, new GeneratorSystemIteratorCleaner(cit));
-            result = ppl_Generator_System_begin(pplObj, cit);
+            PPLScope.register(this, new GeneratorSystemIteratorCleaner(cit));
+            result = ppl_Generator_System_begin(ptr(), cit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             result = ppl_new_Generator_System_const_iterator(pgsit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cend = pgsit.getValue();
-            PPL.cleaner.register(this, new GeneratorSystemIteratorCleaner(cend));
-            result = ppl_Generator_System_end(pplObj, cend);
+            PPLScope.register(this, new GeneratorSystemIteratorCleaner(cend));
+            result = ppl_Generator_System_end(ptr(), cend);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
         }
@@ -122,7 +124,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
     GeneratorSystem(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new GeneratorSystemCleaner(pplObj));
+            PPLScope.register(this, new GeneratorSystemCleaner(pplObj));
     }
 
     /**
@@ -150,7 +152,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
      */
     public static GeneratorSystem singleton(Generator g) {
         var pgs = new PointerByReference();
-        int result = ppl_new_Generator_System_from_Generator(pgs, g.pplObj);
+        int result = ppl_new_Generator_System_from_Generator(pgs, g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GeneratorSystem(pgs.getValue());
@@ -169,10 +171,131 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
         return gs;
     }
 
+    /**
+     * Creates and returns the generator system whose {@code i}-th generator has
+     * type {@code kinds[i]} and direction {@code coeffs[i]}. For points and
+     * closure points, the direction is divided by {@code divisors[i]}, while for
+     * lines and rays {@code divisors[i]} is simply disregarded. Rows of
+     * {@code coeffs} shorter than the others are padded with zeros, hence the space
+     * dimension of the system is the length of the longest row.
+     *
+     * <p>
+     * When the platform supports in-memory {@code FILE} streams, the whole system
+     * is written in the ASCII format of the PPL and loaded with a single call to
+     * {@code ppl_Generator_System_ascii_load}, instead of creating and inserting
+     * each generator on its own. Otherwise, and when normalizing some row would
+     * overflow a {@code long}, the generators are inserted one at a time.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the arrays do not have the same length,
+     *                                  or if the divisor of a point or closure
+     *                                  point is zero.
+     */
+    public static GeneratorSystem fromMatrix(long[][] coeffs, long[] divisors, GeneratorType[] kinds) {
+        MatrixLoader.checkLengths(coeffs.length, divisors.length, kinds.length);
+        for (int i = 0; i < kinds.length; i++)
+            if (divisors[i] == 0 && (kinds[i] == GeneratorType.POINT || kinds[i] == GeneratorType.CLOSURE_POINT))
+                throw new IllegalArgumentException("The divisor of a point should not be zero");
+        if (coeffs.length > 0 && BulkLoad.ENABLED) {
+            var gs = fromAscii(coeffs, divisors, kinds);
+            if (gs != null)
+                return gs;
+        }
+        return fromRows(coeffs, divisors, kinds);
+    }
+
+    /**
+     * Builds the system with {@code ppl_Generator_System_ascii_load}. Returns
+     * null if this is not possible.
+     */
+    private static GeneratorSystem fromAscii(long[][] coeffs, long[] divisors, GeneratorType[] kinds) {
+        boolean closed = !Arrays.asList(kinds).contains(GeneratorType.CLOSURE_POINT);
+        int dim = MatrixLoader.dimension(coeffs);
+        var sb = MatrixLoader.header(closed, coeffs.length, dim);
+        var row = new long[closed ? dim + 1 : dim + 2];
+        try {
+            for (int i = 0; i < coeffs.length; i++) {
+                var kind = kinds[i];
+                boolean point = kind == GeneratorType.POINT || kind == GeneratorType.CLOSURE_POINT;
+                Arrays.fill(row, 0);
+                System.arraycopy(coeffs[i], 0, row, 1, coeffs[i].length);
+                if (point) {
+                    row[0] = divisors[i];
+                    if (divisors[i] < 0)
+                        MatrixLoader.negate(row);
+                    // the coefficient of the epsilon dimension of NNC points
+                    if (!closed && kind == GeneratorType.POINT)
+                        row[dim + 1] = row[0];
+                }
+                MatrixLoader.normalize(row, kind == GeneratorType.LINE);
+                MatrixLoader.appendRow(sb, row);
+                switch (kind) {
+                case LINE:
+                    sb.append(" L ");
+                    break;
+                case RAY:
+                    sb.append(" R ");
+                    break;
+                case POINT:
+                    sb.append(" P ");
+                    break;
+                case CLOSURE_POINT:
+                    sb.append(" C ");
+                    break;
+                }
+                sb.append(closed ? "(C)" : "(NNC)").append('\n');
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        var gs = GeneratorSystem.empty();
+        if (!MatrixLoader.load(gs.ptr(), sb, (x, stream) -> ppl_Generator_System_ascii_load(x, stream)))
+            return null;
+        return gs;
+    }
+
+    /**
+     * Builds the system by inserting one generator at a time.
+     */
+    private static GeneratorSystem fromRows(long[][] coeffs, long[] divisors, GeneratorType[] kinds) {
+        var gs = GeneratorSystem.empty();
+        for (int i = 0; i < coeffs.length; i++) {
+            var le = LinearExpression.of(0, coeffs[i]);
+            var kind = kinds[i];
+            if (kind == GeneratorType.POINT || kind == GeneratorType.CLOSURE_POINT)
+                gs.add(Generator.of(le, kind, Coefficient.valueOf(divisors[i])));
+            else
+                gs.add(Generator.of(le, kind));
+        }
+        return gs;
+    }
+
+    /**
+     * Determines, the first time it is used, whether generator systems may be
+     * loaded from their ASCII format. It checks that the native stream functions
+     * are available and that the PPL builds the same systems with both methods.
+     */
+    private static class BulkLoad {
+        static final boolean ENABLED = check(new long[][] { { 2, -4 }, { 0, 3 }, { 1, 1 } }, new long[] { 2, 0, 0 },
+                new GeneratorType[] { GeneratorType.POINT, GeneratorType.RAY, GeneratorType.LINE })
+                && check(new long[][] { { 1, 1 }, { -2, 4 }, { 0, -2 } }, new long[] { 3, -2, 0 },
+                        new GeneratorType[] { GeneratorType.POINT, GeneratorType.CLOSURE_POINT,
+                                GeneratorType.LINE });
+
+        private static boolean check(long[][] coeffs, long[] divisors, GeneratorType[] kinds) {
+            try {
+                var gs = fromAscii(coeffs, divisors, kinds);
+                return gs != null && gs.isOK() && gs.snapshot().equals(fromRows(coeffs, divisors, kinds).snapshot());
+            } catch (RuntimeException | LinkageError e) {
+                return false;
+            }
+        }
+    }
+
     @Override
     public GeneratorSystem clone() {
         var pgs = new PointerByReference();
-        int result = ppl_new_Generator_System_from_Generator_System(pgs, pplObj);
+        int result = ppl_new_Generator_System_from_Generator_System(pgs, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GeneratorSystem(pgs.getValue());
@@ -180,7 +303,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
 
     @Override
     public GeneratorSystem assign(GeneratorSystem gs) {
-        int result = ppl_assign_Generator_System_from_Generator_System(pplObj, gs.pplObj);
+        int result = ppl_assign_Generator_System_from_Generator_System(ptr(), gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -189,7 +312,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Generator_System_space_dimension(pplObj, m);
+        int result = ppl_Generator_System_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -197,7 +320,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Generator_System_empty(pplObj);
+        int result = ppl_Generator_System_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -205,7 +328,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
 
     @Override
     public boolean isOK() {
-        int result = ppl_Generator_System_OK(pplObj);
+        int result = ppl_Generator_System_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -213,7 +336,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
 
     @Override
     public GeneratorSystem clear() {
-        int result = ppl_Generator_System_clear(pplObj);
+        int result = ppl_Generator_System_clear(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -221,7 +344,7 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
 
     @Override
     public GeneratorSystem add(Generator g) {
-        int result = ppl_Generator_System_insert_Generator(pplObj, g.pplObj);
+        int result = ppl_Generator_System_insert_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -232,9 +355,18 @@ public class GeneratorSystem extends AbstractPPLObject<GeneratorSystem>
         return new GeneratorSystemIterator();
     }
 
+    /**
+     * Returns an immutable copy of this system, which is built in a single
+     * traversal. The copy does not refer to any native object, hence its
+     * generators may be visited, also in parallel, without calling the PPL.
+     */
+    public GeneratorMatrix snapshot() {
+        return GeneratorMatrix.from(this);
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Generator_System(pstr, pplObj);
+        return ppl_io_asprint_Generator_System(pstr, ptr());
     }
 
 }
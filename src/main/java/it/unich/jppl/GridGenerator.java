@@ -2,9 +2,12 @@ package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
 
+import it.unich.jppl.nativelib.LibPPL;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.math.BigInteger;
+
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 
@@ -72,7 +75,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
     GridGenerator(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new GridGeneratorCleaner(pplObj));
+            PPLScope.register(this, new GridGeneratorCleaner(pplObj));
     }
 
     /**
@@ -91,7 +94,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
      */
     public static GridGenerator of(LinearExpression le, GridGeneratorType t, Coefficient d) {
         var pg = new PointerByReference();
-        int result = ppl_new_Grid_Generator(pg, le.pplObj, t.ordinal(), d.pplObj);
+        int result = ppl_new_Grid_Generator(pg, le.ptr(), t.ordinal(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GridGenerator(pg.getValue());
@@ -120,7 +123,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
     @Override
     public GridGenerator clone() {
         var pg = new PointerByReference();
-        int result = ppl_new_Grid_Generator_from_Grid_Generator(pg, pplObj);
+        int result = ppl_new_Grid_Generator_from_Grid_Generator(pg, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GridGenerator(pg.getValue());
@@ -128,7 +131,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
 
     @Override
     GridGenerator assign(GridGenerator g) {
-        int result = ppl_assign_Grid_Generator_from_Grid_Generator(pplObj, g.pplObj);
+        int result = ppl_assign_Grid_Generator_from_Grid_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -137,7 +140,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Grid_Generator_space_dimension(pplObj, m);
+        int result = ppl_Grid_Generator_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -146,7 +149,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
     @Override
     public Coefficient getCoefficient(long var) {
         var n = Coefficient.zero();
-        int result = ppl_Grid_Generator_coefficient(pplObj, new SizeT(var), n.pplObj);
+        int result = ppl_Grid_Generator_coefficient(ptr(), new SizeT(var), n.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return n;
@@ -156,7 +159,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
      * Returns the type of this grid generator.
      */
     public GridGeneratorType getType() {
-        int result = ppl_Grid_Generator_type(pplObj);
+        int result = ppl_Grid_Generator_type(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return GridGeneratorType.valueOf(result);
@@ -167,15 +170,28 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
      */
     public Coefficient getDivisor() {
         var d = Coefficient.zero();
-        int result = ppl_Grid_Generator_divisor(pplObj, d.pplObj);
+        int result = ppl_Grid_Generator_divisor(ptr(), d.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return d;
     }
 
+    /**
+     * Returns the coefficients of this grid generator as BigIntegers, followed by
+     * its divisor, or zero if it is a line. It is faster than calling
+     * {@link #getCoefficient(long)} for each variable, since no native
+     * coefficient is allocated.
+     */
+    public BigInteger[] getBigIntegerCoefficients() {
+        var t = getType();
+        Coefficient.TermReader divisor = t == GridGeneratorType.LINE ? null : LibPPL::ppl_Grid_Generator_divisor;
+        return Coefficient.bigIntegerValues(ptr(), getSpaceDimension(), LibPPL::ppl_Grid_Generator_coefficient,
+                divisor);
+    }
+
     @Override
     boolean isOK() {
-        int result = ppl_Grid_Generator_OK(pplObj);
+        int result = ppl_Grid_Generator_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -183,7 +199,7 @@ public class GridGenerator extends AbstractPPLObject<GridGenerator> implements G
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Grid_Generator(pstr, pplObj);
+        return ppl_io_asprint_Grid_Generator(pstr, ptr());
     }
 
     /**
@@ -67,16 +67,16 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cit = pgsit.getValue();
-            PPL.cleaner.register(this, new GridGeneratorSystemIteratorCleaner(cit));
-            result = ppl_Grid_Generator_System_begin(pplObj, cit);
+            PPLScope.register(this, new GridGeneratorSystemIteratorCleaner(cit));
+            result = ppl_Grid_Generator_System_begin(ptr(), cit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             result = ppl_new_Grid_Generator_System_const_iterator(pgsit);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             cend = pgsit.getValue();
-            PPL.cleaner.register(this, new GridGeneratorSystemIteratorCleaner(cend));
-            result = ppl_Grid_Generator_System_end(pplObj, cend);
+            PPLScope.register(this, new GridGeneratorSystemIteratorCleaner(cend));
+            result = ppl_Grid_Generator_System_end(ptr(), cend);
             if (result < 0)
                 PPLRuntimeException.checkError(result);
         }
@@ -121,7 +121,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
     GridGeneratorSystem(Pointer p, boolean registerCleaner) {
         pplObj = p;
         if (registerCleaner)
-            PPL.cleaner.register(this, new GridGeneratorSystemCleaner(pplObj));
+            PPLScope.register(this, new GridGeneratorSystemCleaner(pplObj));
     }
 
     /**
@@ -149,7 +149,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
      */
     public static GridGeneratorSystem singleton(GridGenerator g) {
         var pgs = new PointerByReference();
-        int result = ppl_new_Grid_Generator_System_from_Grid_Generator(pgs, g.pplObj);
+        int result = ppl_new_Grid_Generator_System_from_Grid_Generator(pgs, g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GridGeneratorSystem(pgs.getValue());
@@ -172,7 +172,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
     @Override
     public GridGeneratorSystem clone() {
         var pgs = new PointerByReference();
-        int result = ppl_new_Grid_Generator_System_from_Grid_Generator_System(pgs, pplObj);
+        int result = ppl_new_Grid_Generator_System_from_Grid_Generator_System(pgs, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new GridGeneratorSystem(pgs.getValue());
@@ -180,7 +180,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
 
     @Override
     GridGeneratorSystem assign(GridGeneratorSystem gs) {
-        int result = ppl_assign_Grid_Generator_System_from_Grid_Generator_System(pplObj, gs.pplObj);
+        int result = ppl_assign_Grid_Generator_System_from_Grid_Generator_System(ptr(), gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -189,7 +189,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
     @Override
     public long getSpaceDimension() {
         var m = new SizeTByReference();
-        int result = ppl_Grid_Generator_System_space_dimension(pplObj, m);
+        int result = ppl_Grid_Generator_System_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return m.getValue().longValue();
@@ -197,7 +197,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Grid_Generator_System_empty(pplObj);
+        int result = ppl_Grid_Generator_System_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -205,7 +205,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
 
     @Override
     boolean isOK() {
-        int result = ppl_Grid_Generator_System_OK(pplObj);
+        int result = ppl_Grid_Generator_System_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -213,7 +213,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
 
     @Override
     public GridGeneratorSystem clear() {
-        int result = ppl_Grid_Generator_System_clear(pplObj);
+        int result = ppl_Grid_Generator_System_clear(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -221,7 +221,7 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
 
     @Override
     public GridGeneratorSystem add(GridGenerator g) {
-        int result = ppl_Grid_Generator_System_insert_Grid_Generator(pplObj, g.pplObj);
+        int result = ppl_Grid_Generator_System_insert_Grid_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -232,9 +232,18 @@ public class GridGeneratorSystem extends AbstractPPLObject<GridGeneratorSystem>
         return new GridGeneratorSystemIterator();
     }
 
+    /**
+     * Returns an immutable copy of this system, which is built in a single
+     * traversal. The copy does not refer to any native object, hence its
+     * grid generators may be visited, also in parallel, without calling the PPL.
+     */
+    public GridGeneratorMatrix snapshot() {
+        return GridGeneratorMatrix.from(this);
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Grid_Generator_System(pstr, pplObj);
+        return ppl_io_asprint_Grid_Generator_System(pstr, ptr());
     }
 
 }
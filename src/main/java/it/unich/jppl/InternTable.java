@@ -0,0 +1,152 @@
+package it.unich.jppl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A table of canonical, immutable properties.
+ *
+ * <p>
+ * The method {@link #intern(Property) intern} returns, for each property, a
+ * shared instance equal to it, which is the same for all the equal properties
+ * interned in this table. Therefore, duplicate properties collapse in memory,
+ * and interned properties of the same table may be compared by reference.
+ * Interned properties cannot be modified: all the methods which would modify
+ * them throw an {@link UnsupportedOperationException}, hence a modifiable
+ * property should be obtained with {@link Property#clone() clone}.
+ * </p>
+ *
+ * <p>
+ * Properties are looked up by their hash code, which only depends on their
+ * minimized constraints, and the equality test is only performed by the PPL on
+ * properties with the same hash code. The table only keeps weak references to
+ * the interned properties, which are removed when they are garbage collected.
+ * Interned properties do not belong to any {@link PPLScope}. Only the
+ * properties of the classes {@link CPolyhedron}, {@link NNCPolyhedron} and
+ * {@link DoubleBox} may be interned.
+ * </p>
+ *
+ * <p>
+ * The canonical instances are created by the thread which interns them, hence
+ * the ones created by a worker of a {@link PPLExecutor} are confined to it. For
+ * this reason, each worker has its own canonical instances, which are only
+ * returned to the same worker, while the canonical instances created by the
+ * other threads are shared among them. Interning a property minimizes it. All
+ * the methods of this class are synchronized.
+ * </p>
+ *
+ * @param <T> the type of the interned properties.
+ */
+public final class InternTable<T extends Property<T>> {
+
+    /**
+     * A weak reference to an interned property, which remembers the hash code and
+     * the owner thread of its referent.
+     */
+    private static final class Ref<T> extends WeakReference<T> {
+        final int hash;
+        final Thread owner;
+
+        Ref(T referent, int hash, Thread owner, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            this.hash = hash;
+            this.owner = owner;
+        }
+    }
+
+    private final HashMap<Integer, List<Ref<T>>> buckets = new HashMap<>();
+
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    private int size;
+
+    /**
+     * The current generation of this table, which changes when the table is
+     * cleared. Distinct properties interned in the same generation with the same
+     * owner are never equal, while each worker of a {@link PPLExecutor} may have
+     * its own canonical instance equal to a shared one.
+     */
+    private Object generation = new Object();
+
+    /**
+     * Returns the canonical instance of {@code p} in this table. If no property
+     * equal to {@code p} has been interned yet, an immutable copy of {@code p}
+     * becomes the canonical instance, unless {@code p} has already been interned
+     * in another table by the same owner thread, in which case {@code p} itself is
+     * used.
+     *
+     * @throws IllegalArgumentException if {@code p} is not a polyhedron or a box.
+     */
+    public synchronized T intern(T p) {
+        if (!(p instanceof Polyhedron<?> || p instanceof DoubleBox))
+            throw new IllegalArgumentException("Only polyhedra and boxes may be interned");
+        expunge();
+        int h = p.hashCode();
+        var owner = PPLExecutor.currentOwner();
+        var bucket = buckets.computeIfAbsent(h, k -> new ArrayList<>(1));
+        for (var ref : bucket) {
+            if (ref.owner != owner)
+                continue;
+            var q = ref.get();
+            if (q != null && q.equals(p))
+                return q;
+        }
+        var q = isInterned(p) && ((AbstractPPLObject<?>) p).owner == owner ? p : PPLScope.unscoped(p::clone);
+        if (q != p) {
+            if (q instanceof Polyhedron<?>)
+                ((Polyhedron<?>) q).markInterned(generation);
+            else
+                ((DoubleBox) q).markInterned(generation);
+        }
+        bucket.add(new Ref<>(q, h, owner, queue));
+        size++;
+        return q;
+    }
+
+    private static boolean isInterned(Property<?> p) {
+        if (p instanceof Polyhedron<?>)
+            return ((Polyhedron<?>) p).isInterned();
+        return ((DoubleBox) p).isInterned();
+    }
+
+    /**
+     * Removes from the table the references to the properties which have been
+     * garbage collected.
+     */
+    @SuppressWarnings("unchecked")
+    private void expunge() {
+        Ref<T> ref;
+        while ((ref = (Ref<T>) queue.poll()) != null) {
+            var bucket = buckets.get(ref.hash);
+            if (bucket != null && bucket.remove(ref)) {
+                size--;
+                if (bucket.isEmpty())
+                    buckets.remove(ref.hash);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of properties in this table. Properties which are not
+     * reachable anymore are counted until they are garbage collected.
+     */
+    public synchronized int size() {
+        expunge();
+        return size;
+    }
+
+    /**
+     * Removes all the properties from this table. The properties which have
+     * already been interned remain immutable.
+     */
+    public synchronized void clear() {
+        expunge();
+        buckets.clear();
+        size = 0;
+        generation = new Object();
+    }
+
+}
@@ -1,11 +1,12 @@
 package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
 
-import it.unich.jppl.nativelib.SizeT;
-import it.unich.jppl.nativelib.SizeTByReference;
+import it.unich.jppl.nativelib.LibPPL;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
@@ -58,7 +59,7 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
 
     private LinearExpression(Pointer p) {
         pplObj = p;
-        PPL.cleaner.register(this, new LinearExpressionCleaner(pplObj));
+        PPLScope.register(this, new LinearExpressionCleaner(pplObj));
     }
 
     /**
@@ -66,11 +67,11 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * zero-dimensional space.
      */
     public static LinearExpression zero() {
-        var ple = new PointerByReference();
+        var ple = scratch();
         int result = ppl_new_Linear_Expression(ple);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     /**
@@ -78,11 +79,11 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * {@code d}-dimensional space.
      */
     public static LinearExpression zero(long d) {
-        var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_with_dimension(ple, new SizeT(d));
+        var ple = scratch();
+        int result = ppl_new_Linear_Expression_with_dimension(ple, d);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     /**
@@ -90,11 +91,11 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * {@code c}.
      */
     public static LinearExpression from(Constraint c) {
-        var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_from_Constraint(ple, c.pplObj);
+        var ple = scratch();
+        int result = ppl_new_Linear_Expression_from_Constraint(ple, c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     /**
@@ -102,11 +103,11 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * {@code g}.
      */
     public static LinearExpression from(Generator g) {
-        var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_from_Generator(ple, g.pplObj);
+        var ple = scratch();
+        int result = ppl_new_Linear_Expression_from_Generator(ple, g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     /**
@@ -114,17 +115,17 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * {@code c}.
      */
     public static LinearExpression from(Congruence c) {
-        var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_from_Congruence(ple, c.pplObj);
+        var ple = scratch();
+        int result = ppl_new_Linear_Expression_from_Congruence(ple, c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     /*
     public static LinearExpression from(GridGenerator g) {
         var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_from_GridGenerator(ple, g.pplObj);
+        int result = ppl_new_Linear_Expression_from_GridGenerator(ple, g.ptr());
         if (result < 0) PPLRuntimeException.checkError(result);
         return new LinearExpression(ple.getValue());
     }
@@ -132,16 +133,16 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
 
     @Override
     public LinearExpression clone() {
-        var ple = new PointerByReference();
-        int result = ppl_new_Linear_Expression_from_Linear_Expression(ple, pplObj);
+        var ple = scratch();
+        int result = ppl_new_Linear_Expression_from_Linear_Expression(ple, ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new LinearExpression(ple.getValue());
+        return new LinearExpression(ple.getPointer(0));
     }
 
     @Override
     public LinearExpression assign(LinearExpression le) {
-        int result = ppl_assign_Linear_Expression_from_Linear_Expression(pplObj, le.pplObj);
+        int result = ppl_assign_Linear_Expression_from_Linear_Expression(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -149,17 +150,17 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
 
     @Override
     public long getSpaceDimension() {
-        var m = new SizeTByReference();
-        int result = ppl_Linear_Expression_space_dimension(pplObj, m);
+        var m = scratch();
+        int result = ppl_Linear_Expression_space_dimension(ptr(), m);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return m.getValue().longValue();
+        return m.getLong(0);
     }
 
     @Override
     public Coefficient getCoefficient(long i) {
         var c = Coefficient.zero();
-        int result = ppl_Linear_Expression_coefficient(pplObj, new SizeT(i), c.pplObj);
+        int result = ppl_Linear_Expression_coefficient(ptr(), i, c.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return c;
@@ -170,15 +171,51 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      */
     public Coefficient getInhomogeneousTerm() {
         var c = Coefficient.zero();
-        int result = ppl_Linear_Expression_inhomogeneous_term(pplObj, c.pplObj);
+        int result = ppl_Linear_Expression_inhomogeneous_term(ptr(), c.outputPtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return c;
     }
 
+    /**
+     * Returns the coefficients of this linear expression, followed by its
+     * inhomogeneous term. It is faster than calling
+     * {@link #getCoefficient(long)} for each variable, since no native
+     * coefficient is allocated.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients() {
+        return getCoefficients(null);
+    }
+
+    /**
+     * Returns the coefficients of this linear expression, followed by its
+     * inhomogeneous term. The values are written in {@code buffer} if it has
+     * room for them, otherwise in a new array. Therefore, the same buffer may
+     * be reused for many objects.
+     *
+     * @throws ArithmeticException if some coefficient does not fit in a
+     *                             {@code long}.
+     */
+    public long[] getCoefficients(long[] buffer) {
+        return Coefficient.longValues(ptr(), getSpaceDimension(), LibPPL::ppl_Linear_Expression_coefficient,
+                LibPPL::ppl_Linear_Expression_inhomogeneous_term, buffer);
+    }
+
+    /**
+     * Returns the coefficients of this linear expression as BigIntegers,
+     * followed by its inhomogeneous term.
+     */
+    public BigInteger[] getBigIntegerCoefficients() {
+        return Coefficient.bigIntegerValues(ptr(), getSpaceDimension(), LibPPL::ppl_Linear_Expression_coefficient,
+                LibPPL::ppl_Linear_Expression_inhomogeneous_term);
+    }
+
     @Override
     boolean isOK() {
-        int result = ppl_Linear_Expression_OK(pplObj);
+        int result = ppl_Linear_Expression_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -188,7 +225,7 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * Returns true if and only if this linear expression is the constant zero.
      */
     public boolean isZero() {
-        int result = ppl_Linear_Expression_is_zero(pplObj);
+        int result = ppl_Linear_Expression_is_zero(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -198,7 +235,7 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * Returns true if and only if this linear expression is a constant.
      */
     public boolean isConstant() {
-        int result = ppl_Linear_Expression_all_homogeneous_terms_are_zero(pplObj);
+        int result = ppl_Linear_Expression_all_homogeneous_terms_are_zero(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -210,7 +247,7 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * @return this linear expression.
      */
     public LinearExpression add(Coefficient c, long i) {
-        int result = ppl_Linear_Expression_add_to_coefficient(pplObj, new SizeT(i), c.pplObj);
+        int result = ppl_Linear_Expression_add_to_coefficient(ptr(), i, c.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -222,19 +259,37 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * @return this linear expression.
      */
     public LinearExpression add(Coefficient c) {
-        int result = ppl_Linear_Expression_add_to_inhomogeneous(pplObj, c.pplObj);
+        int result = ppl_Linear_Expression_add_to_inhomogeneous(ptr(), c.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
     }
 
+    /**
+     * Adds the native coefficient {@code n} to the coefficient of \(x_i\).
+     */
+    private void addToCoefficient(long i, Pointer n) {
+        int result = ppl_Linear_Expression_add_to_coefficient(ptr(), i, n);
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
+    /**
+     * Adds the native coefficient {@code n} to the inhomogeneous term.
+     */
+    private void addToInhomogeneous(Pointer n) {
+        int result = ppl_Linear_Expression_add_to_inhomogeneous(ptr(), n);
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
     /**
      * Adds the linear expression {@code le} to this linear expression.
      *
      * @return this linear expression.
      */
     public LinearExpression add(LinearExpression le) {
-        int result = ppl_add_Linear_Expression_to_Linear_Expression(pplObj, le.pplObj);
+        int result = ppl_add_Linear_Expression_to_Linear_Expression(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -246,7 +301,7 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      * @return this linear expression.
      */
     public LinearExpression multiply(Coefficient c) {
-        int result = ppl_multiply_Linear_Expression_by_Coefficient(pplObj, c.pplObj);
+        int result = ppl_multiply_Linear_Expression_by_Coefficient(ptr(), c.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return this;
@@ -254,28 +309,38 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
 
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Linear_Expression(pstr, pplObj);
+        return ppl_io_asprint_Linear_Expression(pstr, ptr());
     }
 
     /**
      * Returns whether obj is the same as this linear expressions. Two linear
      * expressions are the same if they have the same coefficients, even if their
-     * space dimension differs.
+     * space dimension differs. The comparison does not allocate any native
+     * object.
      */
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
         if (obj instanceof LinearExpression) {
-            var le1 = (LinearExpression) obj;
-            var le2 = this.clone();
-            le2.multiply(Coefficient.MINUS_ONE);
-            le2.add(le1);
-            return le2.isZero();
+            var le = (LinearExpression) obj;
+            return Coefficient.sameValues(ptr(), getSpaceDimension(), le.ptr(), le.getSpaceDimension(),
+                    LibPPL::ppl_Linear_Expression_coefficient, LibPPL::ppl_Linear_Expression_inhomogeneous_term);
         }
         return false;
     }
 
+    /**
+     * Returns a hash code for this linear expression, which only depends on its
+     * coefficients and inhomogeneous term. Linear expressions which only differ
+     * in their space dimension have the same hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Coefficient.hashValues(ptr(), getSpaceDimension(), LibPPL::ppl_Linear_Expression_coefficient,
+                LibPPL::ppl_Linear_Expression_inhomogeneous_term);
+    }
+
     /**
      * Creates and returns a linear expression given a list of coefficients. The
      * list starts with the inhomogeneous term and continues with the coefficients
@@ -296,9 +361,11 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      */
     public static LinearExpression of(BigInteger c, BigInteger... args) {
         var le = LinearExpression.zero(args.length);
-        le.add(Coefficient.valueOf(c));
+        if (c.signum() != 0)
+            le.addToInhomogeneous(Coefficient.valuePtr(c));
         for (int i = 0; i < args.length; i++) {
-            le.add(Coefficient.valueOf(args[i]), i);
+            if (args[i].signum() != 0)
+                le.addToCoefficient(i, Coefficient.valuePtr(args[i]));
         }
         return le;
     }
@@ -335,11 +402,215 @@ public class LinearExpression extends AbstractPPLObject<LinearExpression>
      */
     public static LinearExpression of(long c, long... args) {
         var le = LinearExpression.zero(args.length);
-        le.add(Coefficient.valueOf(c));
+        if (c != 0)
+            le.addToInhomogeneous(Coefficient.valuePtr(c));
         for (int i = 0; i < args.length; i++) {
-            le.add(Coefficient.valueOf(args[i]), i);
+            if (args[i] != 0)
+                le.addToCoefficient(i, Coefficient.valuePtr(args[i]));
         }
         return le;
     }
 
+    /**
+     * Creates and returns a new builder for linear expressions.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A mutable builder for linear expressions.
+     *
+     * <p>
+     * A builder accumulates the terms of a linear expression on the Java side,
+     * without calling the PPL. Terms for the same variable are merged, and
+     * coefficients which overflow a {@code long} are kept as BigIntegers. The
+     * native linear expression is only created by {@link #build()}, with a
+     * single native call for each non-zero coefficient, and without allocating
+     * any {@link Coefficient}. After a call to {@link #build()}, the builder
+     * may be reused for other expressions, possibly after calling
+     * {@link #clear()}.
+     * </p>
+     *
+     * <pre>
+     * var le = LinearExpression.builder().add(2, 0).add(-1, 3).add(5).build();
+     * </pre>
+     */
+    public static final class Builder {
+        /**
+         * The variables of the terms, in increasing order.
+         */
+        private long[] vars = new long[8];
+
+        /**
+         * The coefficients of the terms, when they fit in a {@code long}.
+         */
+        private long[] coeffs = new long[8];
+
+        /**
+         * The coefficients of the terms which do not fit in a {@code long}.
+         * It is null until some coefficient overflows.
+         */
+        private BigInteger[] bigCoeffs;
+
+        private int size;
+
+        private long constant;
+
+        private BigInteger bigConstant;
+
+        private long spaceDimension;
+
+        private Builder() {
+        }
+
+        /**
+         * Returns the position of the term for the variable \(x_i\), adding a
+         * new term with coefficient zero if it does not exist.
+         */
+        private int termFor(long i) {
+            if (i < 0)
+                throw new IndexOutOfBoundsException("Negative variable index: " + i);
+            if (i >= spaceDimension)
+                spaceDimension = i + 1;
+            // terms are generally added in increasing order of variables
+            int pos = size > 0 && vars[size - 1] < i ? -size - 1 : Arrays.binarySearch(vars, 0, size, i);
+            if (pos >= 0)
+                return pos;
+            pos = -pos - 1;
+            if (size == vars.length) {
+                vars = Arrays.copyOf(vars, 2 * size);
+                coeffs = Arrays.copyOf(coeffs, 2 * size);
+                if (bigCoeffs != null)
+                    bigCoeffs = Arrays.copyOf(bigCoeffs, 2 * size);
+            }
+            System.arraycopy(vars, pos, vars, pos + 1, size - pos);
+            System.arraycopy(coeffs, pos, coeffs, pos + 1, size - pos);
+            if (bigCoeffs != null)
+                System.arraycopy(bigCoeffs, pos, bigCoeffs, pos + 1, size - pos);
+            vars[pos] = i;
+            coeffs[pos] = 0;
+            if (bigCoeffs != null)
+                bigCoeffs[pos] = null;
+            size++;
+            return pos;
+        }
+
+        /**
+         * Adds the term \(c \cdot x_i\) to this builder.
+         *
+         * @return this builder.
+         * @throws IndexOutOfBoundsException if {@code i} is negative.
+         */
+        public Builder add(long c, long i) {
+            int pos = termFor(i);
+            if (bigCoeffs != null && bigCoeffs[pos] != null) {
+                bigCoeffs[pos] = bigCoeffs[pos].add(BigInteger.valueOf(c));
+            } else {
+                long r = coeffs[pos] + c;
+                if (((coeffs[pos] ^ r) & (c ^ r)) < 0) {
+                    if (bigCoeffs == null)
+                        bigCoeffs = new BigInteger[vars.length];
+                    bigCoeffs[pos] = BigInteger.valueOf(coeffs[pos]).add(BigInteger.valueOf(c));
+                } else {
+                    coeffs[pos] = r;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Adds the term \(c \cdot x_i\) to this builder.
+         *
+         * @return this builder.
+         * @throws IndexOutOfBoundsException if {@code i} is negative.
+         */
+        public Builder add(BigInteger c, long i) {
+            if (c.bitLength() < 64)
+                return add(c.longValue(), i);
+            int pos = termFor(i);
+            if (bigCoeffs == null)
+                bigCoeffs = new BigInteger[vars.length];
+            var old = bigCoeffs[pos] != null ? bigCoeffs[pos] : BigInteger.valueOf(coeffs[pos]);
+            bigCoeffs[pos] = old.add(c);
+            return this;
+        }
+
+        /**
+         * Adds the inhomogeneous term {@code c} to this builder.
+         *
+         * @return this builder.
+         */
+        public Builder add(long c) {
+            if (bigConstant != null) {
+                bigConstant = bigConstant.add(BigInteger.valueOf(c));
+            } else {
+                long r = constant + c;
+                if (((constant ^ r) & (c ^ r)) < 0)
+                    bigConstant = BigInteger.valueOf(constant).add(BigInteger.valueOf(c));
+                else
+                    constant = r;
+            }
+            return this;
+        }
+
+        /**
+         * Adds the inhomogeneous term {@code c} to this builder.
+         *
+         * @return this builder.
+         */
+        public Builder add(BigInteger c) {
+            if (c.bitLength() < 64)
+                return add(c.longValue());
+            var old = bigConstant != null ? bigConstant : BigInteger.valueOf(constant);
+            bigConstant = old.add(c);
+            return this;
+        }
+
+        /**
+         * Returns the space dimension of the linear expression built by this
+         * builder, which is one more than the greatest variable of its terms.
+         */
+        public long getSpaceDimension() {
+            return spaceDimension;
+        }
+
+        /**
+         * Removes all the terms from this builder.
+         *
+         * @return this builder.
+         */
+        public Builder clear() {
+            size = 0;
+            constant = 0;
+            bigConstant = null;
+            spaceDimension = 0;
+            if (bigCoeffs != null)
+                Arrays.fill(bigCoeffs, null);
+            return this;
+        }
+
+        /**
+         * Creates and returns the linear expression with the terms of this
+         * builder. Its space dimension is given by {@link #getSpaceDimension()},
+         * even if some coefficients are zero.
+         */
+        public LinearExpression build() {
+            var le = LinearExpression.zero(spaceDimension);
+            if (bigConstant != null)
+                le.addToInhomogeneous(Coefficient.valuePtr(bigConstant));
+            else if (constant != 0)
+                le.addToInhomogeneous(Coefficient.valuePtr(constant));
+            for (int pos = 0; pos < size; pos++) {
+                if (bigCoeffs != null && bigCoeffs[pos] != null) {
+                    if (bigCoeffs[pos].signum() != 0)
+                        le.addToCoefficient(vars[pos], Coefficient.valuePtr(bigCoeffs[pos]));
+                } else if (coeffs[pos] != 0) {
+                    le.addToCoefficient(vars[pos], Coefficient.valuePtr(coeffs[pos]));
+                }
+            }
+            return le;
+        }
+    }
+
 }
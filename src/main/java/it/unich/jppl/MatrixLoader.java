@@ -0,0 +1,158 @@
+package it.unich.jppl;
+
+import it.unich.jppl.nativelib.LibC;
+import it.unich.jppl.nativelib.SizeT;
+
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * Helper methods for loading systems of geometric descriptors from primitive
+ * matrices.
+ *
+ * <p>
+ * A system is loaded by writing it in the ASCII format of the PPL in a native
+ * buffer, which is then read by the {@code ascii_load} function of the system
+ * through an in-memory {@code FILE} stream. In this way, the whole system is
+ * built with a constant number of native calls. The PPL expects the rows to be
+ * strongly normalized, hence rows are normalized on the Java side before being
+ * written.
+ * </p>
+ */
+final class MatrixLoader {
+
+    /**
+     * We declare the default constructor to be private, since this class should
+     * never be instantiated.
+     */
+    private MatrixLoader() {
+    }
+
+    /**
+     * A function which loads the native object {@code obj} from the {@code FILE}
+     * stream {@code stream}, such as {@code ppl_Constraint_System_ascii_load}.
+     */
+    @FunctionalInterface
+    interface AsciiLoader {
+        int load(Pointer obj, Pointer stream);
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if {@code lengths} are not all
+     * equal to {@code rows}.
+     */
+    static void checkLengths(int rows, int... lengths) {
+        for (int length : lengths)
+            if (length != rows)
+                throw new IllegalArgumentException("All the arrays should have the same number of rows");
+    }
+
+    /**
+     * Returns the length of the longest row of {@code coeffs}.
+     */
+    static int dimension(long[][] coeffs) {
+        int dim = 0;
+        for (var row : coeffs)
+            dim = Math.max(dim, row.length);
+        return dim;
+    }
+
+    /**
+     * Returns a string builder containing the header of a linear system with
+     * {@code rows} rows and space dimension {@code dim}.
+     */
+    static StringBuilder header(boolean closed, int rows, long dim) {
+        var sb = new StringBuilder();
+        sb.append("topology ").append(closed ? "NECESSARILY_CLOSED" : "NOT_NECESSARILY_CLOSED").append('\n');
+        sb.append(rows).append(" x ").append(dim).append(" DENSE (not_sorted)\n");
+        sb.append("index_first_pending ").append(rows).append('\n');
+        return sb;
+    }
+
+    /**
+     * Appends the linear expression whose coefficients are in {@code row} to
+     * {@code sb}. The first element of {@code row} is the inhomogeneous term.
+     */
+    static void appendRow(StringBuilder sb, long[] row) {
+        sb.append("size ").append(row.length);
+        for (long n : row)
+            sb.append(' ').append(n);
+    }
+
+    /**
+     * Negates all the elements of {@code row}.
+     *
+     * @throws ArithmeticException if an element is {@code Long.MIN_VALUE}.
+     */
+    static void negate(long[] row) {
+        for (int i = 0; i < row.length; i++)
+            row[i] = Math.negateExact(row[i]);
+    }
+
+    /**
+     * Strongly normalizes {@code row}, by dividing all its elements by their
+     * greatest common divisor. If {@code signNormalize} is true, the row is also
+     * negated when its first non-zero homogeneous coefficient is negative, as
+     * required for equalities and lines.
+     *
+     * @throws ArithmeticException if an element is {@code Long.MIN_VALUE}.
+     */
+    static void normalize(long[] row, boolean signNormalize) {
+        long gcd = 0;
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] == Long.MIN_VALUE)
+                throw new ArithmeticException("long overflow");
+            gcd = gcd(gcd, Math.abs(row[i]));
+        }
+        if (gcd > 1)
+            for (int i = 0; i < row.length; i++)
+                row[i] /= gcd;
+        if (signNormalize) {
+            for (int i = 1; i < row.length; i++) {
+                if (row[i] != 0) {
+                    if (row[i] < 0)
+                        negate(row);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Loads the native object {@code obj} from {@code text} using
+     * {@code loader}. Returns false if the in-memory stream cannot be opened.
+     *
+     * @throws PPLRuntimeException if the PPL cannot parse {@code text}.
+     */
+    static boolean load(Pointer obj, CharSequence text, AsciiLoader loader) {
+        var bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        var buffer = new Memory(bytes.length);
+        buffer.write(0, bytes, 0, bytes.length);
+        var stream = LibC.fmemopen(buffer, new SizeT(bytes.length), "r");
+        if (stream == null)
+            return false;
+        try {
+            int result = loader.load(obj, stream);
+            if (result < 0)
+                PPLRuntimeException.checkError(result);
+        } finally {
+            LibC.fclose(stream);
+            // the stream reads the buffer, which should not be freed before it is closed
+            Reference.reachabilityFence(buffer);
+        }
+        return true;
+    }
+
+}
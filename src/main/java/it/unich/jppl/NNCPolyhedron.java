@@ -1,8 +1,7 @@
 package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
-
-import it.unich.jppl.nativelib.SizeT;
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
 
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
@@ -15,7 +14,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public NNCPolyhedron(Pointer p) {
         pplObj = p;
-        PPL.cleaner.register(this, new PolyhedronCleaner(pplObj));
+        PPLScope.register(this, new PolyhedronCleaner(pplObj));
     }
 
     /**
@@ -35,11 +34,11 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      *                             exceeds the maximum allowed space dimension.
      */
     public static NNCPolyhedron empty(long d) {
-        var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_space_dimension(pph, new SizeT(d), 1);
+        var pph = scratch();
+        int result = ppl_new_NNC_Polyhedron_from_space_dimension(pph, d, 1);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new NNCPolyhedron(pph.getValue());
+        return new NNCPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -50,11 +49,11 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      *                             exceeds the maximum allowed space dimension.
      */
     public static NNCPolyhedron universe(long d) {
-        var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_space_dimension(pph, new SizeT(d), 0);
+        var pph = scratch();
+        int result = ppl_new_NNC_Polyhedron_from_space_dimension(pph, d, 0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new NNCPolyhedron(pph.getValue());
+        return new NNCPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -62,11 +61,11 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      * NNC polyhedron inherits the space dimension of {@code cs}.
      */
     public static NNCPolyhedron from(ConstraintSystem cs) {
-        var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_Constraint_System(pph, cs.pplObj);
+        var pph = scratch();
+        int result = ppl_new_NNC_Polyhedron_from_Constraint_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new NNCPolyhedron(pph.getValue());
+        return new NNCPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -74,11 +73,11 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      * methods, there is no guarantee on the content of {@code cs}. supported.
      */
     public static NNCPolyhedron recycledFrom(ConstraintSystem cs) {
-        var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_recycle_Constraint_System(pph, cs.pplObj);
+        var pph = scratch();
+        int result = ppl_new_NNC_Polyhedron_recycle_Constraint_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new NNCPolyhedron(pph.getValue());
+        return new NNCPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -91,7 +90,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(CongruenceSystem cs) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_Congruence_System(pph, cs.pplObj);
+        int result = ppl_new_NNC_Polyhedron_from_Congruence_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -103,7 +102,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron recycledFrom(CongruenceSystem cs) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_recycle_Congruence_System(pph, cs.pplObj);
+        int result = ppl_new_NNC_Polyhedron_recycle_Congruence_System(pph, cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -118,7 +117,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(GeneratorSystem gs) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_Generator_System(pph, gs.pplObj);
+        int result = ppl_new_NNC_Polyhedron_from_Generator_System(pph, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -130,7 +129,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron recycledFrom(GeneratorSystem gs) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_recycle_Generator_System(pph, gs.pplObj);
+        int result = ppl_new_NNC_Polyhedron_recycle_Generator_System(pph, gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -140,11 +139,11 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      * Creates and returns a copy of {@code ph}.
      */
     public static NNCPolyhedron from(NNCPolyhedron ph) {
-        var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(pph, ph.pplObj);
+        var pph = scratch();
+        int result = ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(pph, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new NNCPolyhedron(pph.getValue());
+        return new NNCPolyhedron(pph.getPointer(0));
     }
 
     /**
@@ -153,7 +152,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(NNCPolyhedron ph, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -164,7 +163,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(CPolyhedron ph) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_C_Polyhedron(pph, ph.pplObj);
+        int result = ppl_new_NNC_Polyhedron_from_C_Polyhedron(pph, ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -176,7 +175,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(CPolyhedron ph, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph.pplObj, complexity.ordinal());
+        int result = ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -189,7 +188,7 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(DoubleBox box) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_Double_Box(pph, box.pplObj);
+        int result = ppl_new_NNC_Polyhedron_from_Double_Box(pph, box.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
@@ -201,18 +200,29 @@ public class NNCPolyhedron extends Polyhedron<NNCPolyhedron> {
      */
     public static NNCPolyhedron from(DoubleBox box, ComplexityClass complexity) {
         var pph = new PointerByReference();
-        int result = ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity(pph, box.pplObj, complexity.ordinal());
+        int result = ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity(pph, box.ptr(), complexity.ordinal());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return new NNCPolyhedron(pph.getValue());
     }
 
+    @Override
+    DoubleBox toBox(ComplexityClass complexity) {
+        return DoubleBox.from(this, complexity);
+    }
+
+    @Override
+    NNCPolyhedron fromBox(DoubleBox box) {
+        return from(box);
+    }
+
     @Override
     NNCPolyhedron assign(NNCPolyhedron ph) {
-        int result = ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron(pplObj, ph.pplObj);
+        checkMutable();
+        int result = ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron(ptr(), ph.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return this;
+        return modified();
     }
 
     @Override
@@ -0,0 +1,439 @@
+package it.unich.jppl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Keeps track of the native memory used by live JPPL objects.
+ *
+ * <p>
+ * The native memory used by the PPL is not visible to the JVM, hence the
+ * garbage collector may not run even if large native objects are unreachable.
+ * When tracking is enabled at startup by setting the system property
+ * {@value #PROPERTY} to {@code true}, the tracker adds up the native memory
+ * used by each live {@link Property} (such as polyhedra and boxes), as given by
+ * {@link Property#getTotalMemoryInBytes()}, and counts all the other live JPPL
+ * objects. The statistics are available through the static methods of this
+ * class and through the JMX MBean {@value #OBJECT_NAME}.
+ * </p>
+ *
+ * <p>
+ * The size of a property is measured when it is created. Since properties may
+ * grow afterwards, the measure is refreshed when the tracked memory exceeds
+ * the threshold set with {@link #setThreshold(long)} or with the system property
+ * {@value #THRESHOLD_PROPERTY}. If the memory still exceeds the threshold, the
+ * tracker hints a garbage collection and directly deallocates the unreachable
+ * objects, until the memory goes below the threshold or
+ * {@link #RECLAIM_TIMEOUT_MILLIS} milliseconds elapse. Then, if the policy is
+ * {@link Policy#REJECT}, the creation of the new object fails with a
+ * {@link PPLRuntimeException} with code {@code OUT_OF_MEMORY}.
+ * </p>
+ *
+ * <p>
+ * Only the properties owned by the thread which triggers the reclamation are
+ * measured again, since the PPL does not support concurrent access to the same
+ * object. When tracking is disabled, JPPL objects are deallocated by the
+ * standard {@link java.lang.ref.Cleaner} and this class has no cost.
+ * </p>
+ */
+public final class NativeMemoryTracker {
+
+    /**
+     * Name of the system property which enables tracking.
+     */
+    public static final String PROPERTY = "jppl.memory.tracking";
+
+    /**
+     * Name of the system property which sets the initial threshold, in bytes.
+     */
+    public static final String THRESHOLD_PROPERTY = "jppl.memory.threshold";
+
+    /**
+     * Name of the system property which sets the initial policy. Its value may
+     * be {@code collect} or {@code reject}.
+     */
+    public static final String POLICY_PROPERTY = "jppl.memory.policy";
+
+    /**
+     * Name of the MBean exposing the native memory statistics.
+     */
+    public static final String OBJECT_NAME = "it.unich.jppl:type=NativeMemoryTracker";
+
+    /**
+     * Maximum time spent waiting for the deallocation of unreachable objects
+     * when the threshold is exceeded.
+     */
+    public static final long RECLAIM_TIMEOUT_MILLIS = 100;
+
+    /**
+     * Behavior of the tracker when the threshold cannot be respected.
+     */
+    public static enum Policy {
+        /**
+         * New objects are created anyway.
+         */
+        COLLECT,
+        /**
+         * The creation of new objects fails.
+         */
+        REJECT
+    }
+
+    /**
+     * Whether tracking is enabled. Since the field is final, the JIT compiler
+     * removes the tracking code when it is disabled.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static volatile long threshold = Long.getLong(THRESHOLD_PROPERTY, 0);
+
+    private static volatile Policy policy = Policy
+            .valueOf(System.getProperty(POLICY_PROPERTY, "collect").toUpperCase());
+
+    private static final LongAdder bytes = new LongAdder();
+
+    private static final LongAdder objects = new LongAdder();
+
+    private static final AtomicLong peakBytes = new AtomicLong();
+
+    private static final LongAdder reclaims = new LongAdder();
+
+    private static final ReentrantLock reclaimLock = new ReentrantLock();
+
+    /**
+     * The deleters of the live tracked objects.
+     */
+    private static final Set<TrackingDeleter> live = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The queue and the live references for the objects which are not owned by a
+     * scope. They replace the standard cleaner, so that unreachable objects may be
+     * deallocated synchronously when the threshold is exceeded.
+     */
+    private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    private static final Set<DeleterReference> references = ConcurrentHashMap.newKeySet();
+
+    static {
+        if (ENABLED) {
+            var t = new Thread(NativeMemoryTracker::deleteLoop, "jppl-native-memory-tracker");
+            t.setDaemon(true);
+            t.start();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register the native memory tracker MBean", e);
+            }
+        }
+    }
+
+    /**
+     * Default constructor. It is private, since there is never the need to
+     * instantiate the class.
+     */
+    private NativeMemoryTracker() {
+    }
+
+    /**
+     * A deleter which updates the statistics of the tracker.
+     */
+    private static class TrackingDeleter implements Runnable {
+        private final Runnable deleter;
+        private final Thread owner;
+        private final WeakReference<Property<?>> property;
+        private volatile long size;
+
+        TrackingDeleter(Runnable deleter, Property<?> property, long size) {
+            this.deleter = deleter;
+            this.owner = Thread.currentThread();
+            this.property = property == null ? null : new WeakReference<>(property);
+            this.size = size;
+        }
+
+        /**
+         * Measures again the size of the tracked property and updates the
+         * statistics.
+         */
+        void refresh() {
+            if (property == null)
+                return;
+            var p = property.get();
+            if (p != null && p.getNative() != null) {
+                long newSize = p.getTotalMemoryInBytes();
+                bytes.add(newSize - size);
+                size = newSize;
+            }
+        }
+
+        @Override
+        public void run() {
+            if (live.remove(this)) {
+                deleter.run();
+                bytes.add(-size);
+                objects.decrement();
+            }
+        }
+    }
+
+    private static class DeleterReference extends PhantomReference<Object> {
+        private final Runnable deleter;
+
+        DeleterReference(Object obj, Runnable deleter) {
+            super(obj, queue);
+            this.deleter = deleter;
+        }
+
+        void delete() {
+            if (references.remove(this))
+                deleter.run();
+        }
+    }
+
+    private static void deleteLoop() {
+        while (true) {
+            try {
+                ((DeleterReference) queue.remove()).delete();
+            } catch (InterruptedException e) {
+                // the thread is a daemon, hence it never terminates
+            }
+        }
+    }
+
+    /**
+     * Starts tracking the object {@code obj} whose native counterpart is
+     * deallocated by {@code deleter}. Returns a new deleter which should be used
+     * instead of {@code deleter}. This should only be called when tracking is
+     * enabled.
+     *
+     * @throws PPLRuntimeException with code {@code OUT_OF_MEMORY} if the
+     *                             threshold is exceeded, it is not possible to
+     *                             reclaim enough memory and the policy is
+     *                             {@code REJECT}.
+     */
+    static Runnable track(Object obj, Runnable deleter) {
+        long size = 0;
+        Property<?> property = null;
+        if (obj instanceof Property) {
+            property = (Property<?>) obj;
+            size = property.getTotalMemoryInBytes();
+        }
+        var tracked = new TrackingDeleter(deleter, property, size);
+        live.add(tracked);
+        objects.increment();
+        bytes.add(size);
+        long current = bytes.sum();
+        peakBytes.accumulateAndGet(current, Math::max);
+        long t = threshold;
+        if (t > 0 && current > t && !reclaim() && policy == Policy.REJECT) {
+            tracked.run();
+            PPLRuntimeException.outOfMemory("The native memory used by JPPL exceeds the threshold of " + t + " bytes");
+        }
+        return tracked;
+    }
+
+    /**
+     * Registers {@code deleter} to be run when {@code obj} becomes phantom
+     * reachable. This replaces the standard cleaner when tracking is enabled.
+     */
+    static void registerCleaner(Object obj, Runnable deleter) {
+        references.add(new DeleterReference(obj, deleter));
+    }
+
+    /**
+     * Tries to reduce the native memory used by JPPL below the threshold. It
+     * measures again the properties owned by the current thread, then hints a
+     * garbage collection and deallocates unreachable objects. Returns true if the
+     * tracked memory is below the threshold at the end of the process. If
+     * tracking is disabled or another thread is already reclaiming memory, it
+     * does nothing.
+     */
+    public static boolean reclaim() {
+        if (!ENABLED)
+            return true;
+        if (!reclaimLock.tryLock())
+            return belowThreshold();
+        try {
+            reclaims.increment();
+            var current = Thread.currentThread();
+            for (var tracked : live)
+                if (tracked.owner == current)
+                    tracked.refresh();
+            if (belowThreshold())
+                return true;
+            System.gc();
+            long deadline = System.nanoTime() + RECLAIM_TIMEOUT_MILLIS * 1_000_000;
+            long remaining;
+            while (!belowThreshold() && (remaining = deadline - System.nanoTime()) > 0) {
+                var ref = (DeleterReference) queue.remove(Math.max(1, remaining / 1_000_000));
+                if (ref != null)
+                    ref.delete();
+            }
+            return belowThreshold();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return belowThreshold();
+        } finally {
+            reclaimLock.unlock();
+        }
+    }
+
+    private static boolean belowThreshold() {
+        long t = threshold;
+        return t <= 0 || bytes.sum() <= t;
+    }
+
+    /**
+     * Returns true if and only if tracking is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the estimated native memory used by live properties, in bytes.
+     */
+    public static long getTrackedBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Returns the maximum value of the estimated native memory used by live
+     * properties since startup, in bytes.
+     */
+    public static long getPeakBytes() {
+        return peakBytes.get();
+    }
+
+    /**
+     * Returns the number of live JPPL objects.
+     */
+    public static long getTrackedObjects() {
+        return objects.sum();
+    }
+
+    /**
+     * Returns the number of times memory has been reclaimed since startup.
+     */
+    public static long getReclaimCount() {
+        return reclaims.sum();
+    }
+
+    /**
+     * Returns the threshold in bytes. A value which is not positive means that
+     * there is no threshold.
+     */
+    public static long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets the threshold to {@code threshold} bytes. A value which is not
+     * positive means that there is no threshold.
+     */
+    public static void setThreshold(long threshold) {
+        NativeMemoryTracker.threshold = threshold;
+    }
+
+    /**
+     * Returns the policy used when the threshold cannot be respected.
+     */
+    public static Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Sets the policy used when the threshold cannot be respected.
+     */
+    public static void setPolicy(Policy policy) {
+        NativeMemoryTracker.policy = policy;
+    }
+
+    /**
+     * Management interface of the native memory tracker.
+     */
+    public static interface NativeMemoryTrackerMXBean {
+        /**
+         * Returns true if and only if tracking is enabled.
+         */
+        boolean isEnabled();
+
+        /**
+         * Returns the estimated native memory used by live properties, in bytes.
+         */
+        long getTrackedBytes();
+
+        /**
+         * Returns the maximum value of the estimated native memory used by live
+         * properties, in bytes.
+         */
+        long getPeakBytes();
+
+        /**
+         * Returns the number of live JPPL objects.
+         */
+        long getTrackedObjects();
+
+        /**
+         * Returns the number of times memory has been reclaimed.
+         */
+        long getReclaimCount();
+
+        /**
+         * Returns the threshold in bytes.
+         */
+        long getThreshold();
+
+        /**
+         * Sets the threshold in bytes.
+         */
+        void setThreshold(long threshold);
+    }
+
+    private static class MXBean implements NativeMemoryTrackerMXBean {
+        @Override
+        public boolean isEnabled() {
+            return NativeMemoryTracker.isEnabled();
+        }
+
+        @Override
+        public long getTrackedBytes() {
+            return NativeMemoryTracker.getTrackedBytes();
+        }
+
+        @Override
+        public long getPeakBytes() {
+            return NativeMemoryTracker.getPeakBytes();
+        }
+
+        @Override
+        public long getTrackedObjects() {
+            return NativeMemoryTracker.getTrackedObjects();
+        }
+
+        @Override
+        public long getReclaimCount() {
+            return NativeMemoryTracker.getReclaimCount();
+        }
+
+        @Override
+        public long getThreshold() {
+            return NativeMemoryTracker.getThreshold();
+        }
+
+        @Override
+        public void setThreshold(long threshold) {
+            NativeMemoryTracker.setThreshold(threshold);
+        }
+    }
+
+}
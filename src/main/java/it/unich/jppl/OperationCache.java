@@ -0,0 +1,379 @@
+package it.unich.jppl;
+
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+/**
+ * A memoization cache for binary operations on properties.
+ *
+ * <p>
+ * The methods of this class compute the result of an operation on two
+ * properties {@code x} and {@code y} without modifying them, and remember it,
+ * so that the same operation on equal operands is not computed again. Entries
+ * are looked up by the hash codes of the operands, which only depend on their
+ * minimized constraints, and the operands are then compared with the ones in
+ * the cache. Comparing properties which have been interned in the same
+ * {@link InternTable} is a reference comparison, hence the cache is most
+ * effective on interned properties. Interned operands are kept in the cache as
+ * they are, while the other operands and the results are copied.
+ * </p>
+ *
+ * <p>
+ * The cache is bounded both by the number of entries and by the native memory
+ * of the properties it contains, as reported by
+ * {@link Property#getTotalMemoryInBytes() getTotalMemoryInBytes}. When one of
+ * the bounds is exceeded, the least recently used entries are evicted. The
+ * native objects in the cache do not belong to any {@link PPLScope}. All the
+ * methods of this class are synchronized, but the operations are computed
+ * outside of the lock.
+ * </p>
+ *
+ * <p>
+ * The properties in the cache are copied by the thread which stores them,
+ * hence the ones stored by a worker of a {@link PPLExecutor} are confined to
+ * it. For this reason, entries are only looked up by the thread which stored
+ * them, or by any thread which is not a worker when they have been stored by
+ * such a thread. The entries of a terminated worker remain in the cache until
+ * they are evicted.
+ * </p>
+ *
+ * @param <T> the type of the properties.
+ */
+public final class OperationCache<T extends Property<T>> {
+
+    /**
+     * Identifiers of the operations which have a dedicated method in this class.
+     */
+    private enum Operation {
+        INTERSECTION, UPPER_BOUND, WIDENING, CONTAINS, STRICTLY_CONTAINS
+    }
+
+    /**
+     * The key of an entry: the operation, the hash codes of the operands and the
+     * owner thread of the properties in the entry.
+     */
+    private static final class Key {
+        final Object operation;
+        final int hx;
+        final int hy;
+        final Thread owner;
+
+        Key(Object operation, int hx, int hy) {
+            this.operation = operation;
+            this.hx = hx;
+            this.hy = hy;
+            this.owner = PPLExecutor.currentOwner();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Key) {
+                var k = (Key) obj;
+                return hx == k.hx && hy == k.hy && owner == k.owner && operation.equals(k.operation);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, hx, hy, owner);
+        }
+    }
+
+    /**
+     * An entry of the cache. The result is either a property or a boolean.
+     */
+    private static final class Entry<T> {
+        final T x;
+        final T y;
+        final Object result;
+        final long bytes;
+
+        Entry(T x, T y, Object result, long bytes) {
+            this.x = x;
+            this.y = y;
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+
+    private final LinkedHashMap<Key, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private long bytes;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * Creates a cache with at most {@code maxEntries} entries, whose properties
+     * use at most {@code maxBytes} bytes of native memory.
+     *
+     * @throws IllegalArgumentException if {@code maxEntries} or {@code maxBytes}
+     *                                  is negative.
+     */
+    public OperationCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 0 || maxBytes < 0)
+            throw new IllegalArgumentException("The bounds of the cache should not be negative");
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Creates a cache with at most {@code maxEntries} entries, without any bound
+     * on the native memory.
+     *
+     * @throws IllegalArgumentException if {@code maxEntries} is negative.
+     */
+    public OperationCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the intersection of {@code x} and {@code y}.
+     *
+     * @see Property#intersection(Property)
+     */
+    public T intersection(T x, T y) {
+        return apply(Operation.INTERSECTION, x, y, T::intersection);
+    }
+
+    /**
+     * Returns the upper bound of {@code x} and {@code y}. For polyhedra, it is
+     * their poly-hull.
+     *
+     * @see Property#upperBound(Property)
+     */
+    public T upperBound(T x, T y) {
+        return apply(Operation.UPPER_BOUND, x, y, T::upperBound);
+    }
+
+    /**
+     * Returns the standard widening of {@code x} with {@code y}. For polyhedra,
+     * it is the H79 widening.
+     *
+     * @see Property#widening(Property)
+     */
+    public T widening(T x, T y) {
+        return apply(Operation.WIDENING, x, y, T::widening);
+    }
+
+    /**
+     * Returns whether {@code x} contains {@code y}.
+     *
+     * @see Property#contains(Property)
+     */
+    public boolean contains(T x, T y) {
+        return test(Operation.CONTAINS, x, y, T::contains);
+    }
+
+    /**
+     * Returns whether {@code x} strictly contains {@code y}.
+     *
+     * @see Property#strictlyContains(Property)
+     */
+    public boolean strictlyContains(T x, T y) {
+        return test(Operation.STRICTLY_CONTAINS, x, y, T::strictlyContains);
+    }
+
+    /**
+     * Returns the result of the operation {@code f} on a copy of {@code x} and on
+     * {@code y}. The operation is identified by {@code operation}, which is used
+     * as part of the key of the cache: calls with equal values of
+     * {@code operation} should pass equivalent functions. For example, the
+     * BHRZ03 widening of polyhedra may be cached with
+     *
+     * <pre>
+     * cache.apply("BHRZ03", x, y, CPolyhedron::BHRZ03Widening)
+     * </pre>
+     *
+     * The result is a new property, which may be freely modified.
+     */
+    @SuppressWarnings("unchecked")
+    public T apply(Object operation, T x, T y, BinaryOperator<T> f) {
+        var key = new Key(operation, x.hashCode(), y.hashCode());
+        var result = lookup(key, x, y);
+        if (result != null)
+            return (T) result;
+        var r = f.apply(x.clone(), y);
+        store(key, x, y, r);
+        return r;
+    }
+
+    /**
+     * Returns the result of the predicate {@code p} on {@code x} and {@code y}.
+     * The predicate is identified by {@code operation}, as in
+     * {@link #apply(Object, Property, Property, BinaryOperator) apply}.
+     */
+    public boolean test(Object operation, T x, T y, BiPredicate<T, T> p) {
+        var key = new Key(operation, x.hashCode(), y.hashCode());
+        var result = lookup(key, x, y);
+        if (result != null)
+            return (Boolean) result;
+        boolean r = p.test(x, y);
+        store(key, x, y, r);
+        return r;
+    }
+
+    /**
+     * Returns the result cached for {@code key} if its operands are equal to
+     * {@code x} and {@code y}, otherwise null. Results which are properties are
+     * copied. It updates the statistics.
+     */
+    private synchronized Object lookup(Key key, T x, T y) {
+        var e = entries.get(key);
+        if (e != null && e.x.equals(x) && e.y.equals(y)) {
+            hits++;
+            return e.result instanceof Property<?> ? ((Property<?>) e.result).clone() : e.result;
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Stores {@code result} for the operands {@code x} and {@code y}, evicting the
+     * least recently used entries when the bounds are exceeded.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void store(Key key, T x, T y, Object result) {
+        var e = PPLScope.unscoped(() -> {
+            var cx = keep(x);
+            var cy = keep(y);
+            var cr = result instanceof Property<?> ? ((T) result).clone() : result;
+            long b = cx.getTotalMemoryInBytes() + cy.getTotalMemoryInBytes();
+            if (cr instanceof Property<?>)
+                b += ((Property<?>) cr).getTotalMemoryInBytes();
+            return new Entry<>(cx, cy, cr, b);
+        });
+        if (maxEntries == 0 || e.bytes > maxBytes)
+            return;
+        var old = entries.put(key, e);
+        if (old != null)
+            bytes -= old.bytes;
+        bytes += e.bytes;
+        var it = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= it.next().bytes;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns the object to be kept in the cache for the operand {@code x}.
+     */
+    private T keep(T x) {
+        if (x instanceof Polyhedron<?> && ((Polyhedron<?>) x).isInterned())
+            return x;
+        if (x instanceof DoubleBox && ((DoubleBox) x).isInterned())
+            return x;
+        return x.clone();
+    }
+
+    /**
+     * Removes all the entries from this cache. The statistics are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, evictions, entries.size(), bytes);
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public String toString() {
+        return getStatistics().toString();
+    }
+
+    /**
+     * Statistics for an operation cache. Objects of this class are immutable.
+     */
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int entries;
+        private final long memoryInBytes;
+
+        Statistics(long hits, long misses, long evictions, int entries, long memoryInBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.memoryInBytes = memoryInBytes;
+        }
+
+        /**
+         * Returns the number of operations whose result was found in the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Returns the number of operations whose result was computed.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns the fraction of operations whose result was found in the cache,
+         * or zero if no operation has been performed.
+         */
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        /**
+         * Returns the number of entries evicted from the cache.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns the number of entries in the cache.
+         */
+        public int getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns the native memory used by the properties in the cache, in bytes.
+         */
+        public long getMemoryInBytes() {
+            return memoryInBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits: %d, misses: %d, evictions: %d, entries: %d, memory: %d bytes", hits, misses,
+                    evictions, entries, memoryInBytes);
+        }
+    }
+
+}
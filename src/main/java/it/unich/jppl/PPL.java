@@ -12,6 +12,7 @@ import java.lang.ref.Cleaner;
 import java.util.function.LongFunction;
 
 import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
@@ -30,7 +31,8 @@ public class PPL {
 
     /**
      * The {@link Cleaner} used to deallocate the memory of native PPL object during
-     * garbage collection.
+     * garbage collection. It is not used for objects created inside a
+     * {@link PPLScope}.
      */
     static final Cleaner cleaner = Cleaner.create();
 
@@ -88,31 +90,58 @@ public class PPL {
     /**
      * An error handler which saves the code and description of native PPL errors.
      * Uses the Singleton design pattern.
+     *
+     * <p>
+     * The PPL calls the error handler in the same thread which called the failing
+     * native function, hence the code and description of errors are kept in
+     * thread-local storage. This way, errors occurring concurrently in different
+     * threads do not interfere with each other.
+     * </p>
      */
     static class JPPLErrorHandler implements PPLErrorHandler {
-        private static JPPLErrorHandler instance = null;
-        static int code;
-        static String description;
+        private static final JPPLErrorHandler instance = new JPPLErrorHandler();
+
+        /**
+         * The code and description of the last error in a thread.
+         */
+        private static class ErrorState {
+            int code;
+            String description = "";
+        }
+
+        private static final ThreadLocal<ErrorState> state = ThreadLocal.withInitial(ErrorState::new);
 
         private JPPLErrorHandler() {
         }
 
         static JPPLErrorHandler getInstance() {
-            // Crea l'oggetto solo se NON esiste:
-            if (instance == null) {
-                instance = new JPPLErrorHandler();
-            }
             return instance;
         }
 
+        /**
+         * Returns the code of the last error in the current thread.
+         */
+        static int getCode() {
+            return state.get().code;
+        }
+
+        /**
+         * Returns the description of the last error in the current thread.
+         */
+        static String getDescription() {
+            return state.get().description;
+        }
+
         static void reset() {
-            code = 0;
-            description = "";
+            var s = state.get();
+            s.code = 0;
+            s.description = "";
         }
 
         public void callback(int code, String description) {
-            JPPLErrorHandler.code = code;
-            JPPLErrorHandler.description = description;
+            var s = state.get();
+            s.code = code;
+            s.description = description;
         }
     }
 
@@ -202,6 +231,75 @@ public class PPL {
         return pref.getValue();
     }
 
+    /**
+     * Sets a timeout for the computations of the PPL, which expires after
+     * {@code csecs} hundredths of seconds. When the timeout expires, the
+     * expensive computations in progress are abandoned, and they throw a
+     * {@link PPLRuntimeException} with code
+     * {@link PPLRuntimeException#TIMEOUT_EXCEPTION TIMEOUT_EXCEPTION}. The object
+     * on which a computation has been abandoned is left in an unspecified state.
+     *
+     * <p>
+     * The timeout is global: it applies to the computations of all threads, and
+     * computations keep being abandoned until {@link #resetTimeout()} is called.
+     * Only the PPL built with support for timeouts implements this method.
+     * </p>
+     *
+     * @throws PPLRuntimeException with code {@code INVALID_ARGUMENT} if
+     *                             {@code csecs} is not positive.
+     */
+    public static void setTimeout(int csecs) {
+        int result = ppl_set_timeout(csecs);
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
+    /**
+     * Resets the timeout set by {@link #setTimeout(int)}. It has no effect if no
+     * timeout is set.
+     */
+    public static void resetTimeout() {
+        int result = ppl_reset_timeout();
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
+    /**
+     * Sets a deterministic timeout for the computations of the PPL, which expires
+     * when the computations have performed an amount of work, called weight,
+     * equal to \(\mathit{unscaledWeight} \cdot 2^{\mathit{scale}}\). Contrary
+     * to {@link #setTimeout(int)}, the point where computations are abandoned
+     * does not depend on the load of the machine, hence results are
+     * reproducible. When the timeout expires, the expensive computations in
+     * progress are abandoned, and they throw a {@link PPLRuntimeException} with
+     * code {@link PPLRuntimeException#TIMEOUT_EXCEPTION TIMEOUT_EXCEPTION}.
+     *
+     * <p>
+     * The timeout is global, and computations keep being abandoned until
+     * {@link #resetDeterministicTimeout()} is called. Only the PPL built with
+     * support for timeouts implements this method.
+     * </p>
+     *
+     * @throws PPLRuntimeException with code {@code INVALID_ARGUMENT} if
+     *                             {@code unscaledWeight} is not positive.
+     * @see WeightBudget
+     */
+    public static void setDeterministicTimeout(long unscaledWeight, int scale) {
+        int result = ppl_set_deterministic_timeout(new NativeLong(unscaledWeight), scale);
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
+    /**
+     * Resets the timeout set by {@link #setDeterministicTimeout(long, int)}. It
+     * has no effect if no deterministic timeout is set.
+     */
+    public static void resetDeterministicTimeout() {
+        int result = ppl_reset_deterministic_timeout();
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
     /**
      * Returns the major number of the native PPL version.
      */
@@ -0,0 +1,700 @@
+package it.unich.jppl;
+
+import static it.unich.jppl.nativelib.LibPPL.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+import it.unich.jppl.Generator.GeneratorType;
+import it.unich.jppl.nativelib.LibPPL;
+import it.unich.jppl.nativelib.SizeT;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.sun.jna.Pointer;
+
+/**
+ * A compact binary codec for JPPL objects.
+ *
+ * <p>
+ * The codec supports constraint systems, generator systems, congruence
+ * systems, closed and not necessarily closed polyhedra, and boxes of doubles.
+ * The same format is used for serializing {@link ConstraintMatrix} objects and
+ * for exchanging them with the worker processes of a {@link PPLProcessPool}.
+ * Objects may be encoded to a {@link ByteBuffer} or streamed to a
+ * {@link WritableByteChannel}, and decoded back from a {@code ByteBuffer} or a
+ * {@link ReadableByteChannel}. The format does not depend on the platform and
+ * is versioned, so that data written by a previous version of JPPL can still
+ * be read.
+ * </p>
+ *
+ * <p>
+ * An encoded object starts with the four bytes {@code JPPL}, followed by the
+ * version of the format and a byte which identifies the kind of the object.
+ * The body is split in chunks, each prefixed by its length as a 4-byte big
+ * endian integer, and terminated by an empty chunk, so that an object may be
+ * streamed without knowing its size in advance. Several objects may be written
+ * to the same channel one after the other.
+ * </p>
+ *
+ * <p>
+ * In the body, non-negative integers are encoded as variable length integers
+ * with 7 bits for each byte. Linear expressions are sparse: only the non-zero
+ * coefficients are written, each preceded by its distance from the previous
+ * one. Coefficients whose absolute value is smaller than \(2^{62}\) are encoded
+ * in zig-zag form as variable length integers, hence small coefficients take a
+ * single byte. Larger coefficients are encoded by their sign and the bytes of
+ * their magnitude, in big endian order. Polyhedra and boxes are encoded by
+ * their space dimension and their minimized constraints.
+ * </p>
+ */
+public final class PPLCodec {
+
+    /**
+     * The current version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The first four bytes of every encoded object, i.e., {@code JPPL} in ASCII.
+     */
+    static final int MAGIC = 0x4A50504C;
+
+    /**
+     * The size of the chunks when streaming to a channel.
+     */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * The kinds of objects supported by the codec.
+     */
+    private static final int CONSTRAINT_SYSTEM = 1;
+    private static final int GENERATOR_SYSTEM = 2;
+    private static final int CONGRUENCE_SYSTEM = 3;
+    private static final int C_POLYHEDRON = 4;
+    private static final int NNC_POLYHEDRON = 5;
+    private static final int DOUBLE_BOX = 6;
+    private static final int CONSTRAINT_MATRIX = 7;
+
+    private static final ConstraintType[] CONSTRAINT_TYPES = ConstraintType.values();
+
+    private static final GeneratorType[] GENERATOR_TYPES = GeneratorType.values();
+
+    /**
+     * Default constructor. It is private, since there is never the need to
+     * instantiate the class.
+     */
+    private PPLCodec() {
+    }
+
+    /**
+     * Encodes {@code obj} and returns a buffer which contains its encoding. The
+     * position of the buffer is zero and its limit is the size of the encoding.
+     *
+     * @throws IllegalArgumentException if the codec does not support the class of
+     *                                  {@code obj}.
+     */
+    public static ByteBuffer encode(PPLObject<?> obj) {
+        var encoder = new Encoder(null);
+        try {
+            encoder.encode(obj);
+        } catch (IOException e) {
+            // there is no channel, hence this never happens
+            throw new IllegalStateException(e);
+        }
+        return encoder.buffer.flip();
+    }
+
+    /**
+     * Writes the encoding of {@code obj} to the channel {@code channel}. The
+     * encoding is streamed in chunks, hence it is never fully kept in memory.
+     *
+     * @throws IllegalArgumentException if the codec does not support the class of
+     *                                  {@code obj}.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public static void write(PPLObject<?> obj, WritableByteChannel channel) throws IOException {
+        new Encoder(channel).encode(obj);
+    }
+
+    /**
+     * Writes the encoding of the constraint matrix {@code m} to the channel
+     * {@code channel}. It may be read back by
+     * {@link #read(ReadableByteChannel, Class)}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(ConstraintMatrix m, WritableByteChannel channel) throws IOException {
+        new Encoder(channel).encode(m);
+    }
+
+    /**
+     * Decodes an object of class {@code type} from the buffer {@code buffer},
+     * starting at its current position. At the end, the position of the buffer
+     * is just after the encoded object.
+     *
+     * @throws IllegalArgumentException if the buffer does not contain a valid
+     *                                  encoding, its version is not supported,
+     *                                  or it is not the encoding of an object of
+     *                                  class {@code type}.
+     */
+    public static <T> T decode(ByteBuffer buffer, Class<T> type) {
+        try {
+            return type.cast(new Decoder(buffer, null).decode(type));
+        } catch (IOException | BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid encoding of a JPPL object", e);
+        }
+    }
+
+    /**
+     * Reads and decodes an object of class {@code type} from the channel
+     * {@code channel}. Only the bytes of the encoded object are read.
+     *
+     * @throws IllegalArgumentException if the encoding is not of an object of
+     *                                  class {@code type}.
+     * @throws StreamCorruptedException if the channel does not contain a valid
+     *                                  encoding, or its version is not
+     *                                  supported.
+     * @throws EOFException             if the channel ends before the object.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public static <T> T read(ReadableByteChannel channel, Class<T> type) throws IOException {
+        return type.cast(new Decoder(null, channel).decode(type));
+    }
+
+    /**
+     * Writes the encoding of a single object.
+     */
+    private static final class Encoder {
+        final WritableByteChannel channel;
+        ByteBuffer buffer;
+        int chunkStart;
+
+        /**
+         * Temporary coefficient used for reading coefficients.
+         */
+        final Coefficient n = Coefficient.zero();
+
+        /**
+         * Temporary index used for reading coefficients.
+         */
+        final SizeT index = new SizeT();
+
+        Encoder(WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(channel == null ? 256 : CHUNK_SIZE);
+        }
+
+        void encode(Object obj) throws IOException {
+            int kind;
+            if (obj instanceof ConstraintMatrix)
+                kind = CONSTRAINT_MATRIX;
+            else if (obj instanceof ConstraintSystem)
+                kind = CONSTRAINT_SYSTEM;
+            else if (obj instanceof GeneratorSystem)
+                kind = GENERATOR_SYSTEM;
+            else if (obj instanceof CongruenceSystem)
+                kind = CONGRUENCE_SYSTEM;
+            else if (obj instanceof CPolyhedron)
+                kind = C_POLYHEDRON;
+            else if (obj instanceof NNCPolyhedron)
+                kind = NNC_POLYHEDRON;
+            else if (obj instanceof DoubleBox)
+                kind = DOUBLE_BOX;
+            else
+                throw new IllegalArgumentException("Cannot encode objects of " + obj.getClass());
+            buffer.putInt(MAGIC);
+            buffer.put((byte) VERSION);
+            buffer.put((byte) kind);
+            startChunk();
+            switch (kind) {
+            case CONSTRAINT_SYSTEM:
+                putConstraints((ConstraintSystem) obj);
+                break;
+            case GENERATOR_SYSTEM:
+                putGenerators((GeneratorSystem) obj);
+                break;
+            case CONGRUENCE_SYSTEM:
+                putCongruences((CongruenceSystem) obj);
+                break;
+            case CONSTRAINT_MATRIX:
+                putConstraintMatrix((ConstraintMatrix) obj);
+                break;
+            default:
+                var p = (Property<?>) obj;
+                putVarLong(p.getSpaceDimension());
+                putConstraints(p.getMinimizedConstraints());
+            }
+            endChunk();
+            if (buffer.remaining() < 4) {
+                if (channel != null)
+                    flush();
+                else
+                    grow(4);
+            }
+            buffer.putInt(0);
+            if (channel != null)
+                flush();
+        }
+
+        void putConstraints(ConstraintSystem cs) throws IOException {
+            for (var c : cs) {
+                put(c.getType().ordinal() + 1);
+                long d = c.getSpaceDimension();
+                putVarLong(d);
+                putLinearPart(c.ptr(), d, LibPPL::ppl_Constraint_coefficient);
+                check(ppl_Constraint_inhomogeneous_term(c.ptr(), n.outputPtr()));
+                putCoefficient();
+            }
+            put(0);
+        }
+
+        /**
+         * Writes the space dimension of {@code m} and its constraints, in the same
+         * format of the constraint systems.
+         */
+        void putConstraintMatrix(ConstraintMatrix m) throws IOException {
+            long d = m.getSpaceDimension();
+            putVarLong(d);
+            for (var row : m) {
+                put(row.getType().ordinal() + 1);
+                putVarLong(d);
+                long last = -1;
+                for (int i = 0; i < d; i++) {
+                    var a = row.getCoefficient(i);
+                    if (a.signum() == 0)
+                        continue;
+                    putVarLong(i - last);
+                    putInteger(a);
+                    last = i;
+                }
+                putVarLong(0);
+                putInteger(row.getInhomogeneousTerm());
+            }
+            put(0);
+        }
+
+        void putGenerators(GeneratorSystem gs) throws IOException {
+            for (var g : gs) {
+                var type = g.getType();
+                put(type.ordinal() + 1);
+                long d = g.getSpaceDimension();
+                putVarLong(d);
+                putLinearPart(g.ptr(), d, LibPPL::ppl_Generator_coefficient);
+                if (type == GeneratorType.POINT || type == GeneratorType.CLOSURE_POINT) {
+                    check(ppl_Generator_divisor(g.ptr(), n.outputPtr()));
+                    putCoefficient();
+                }
+            }
+            put(0);
+        }
+
+        void putCongruences(CongruenceSystem cs) throws IOException {
+            for (var c : cs) {
+                put(1);
+                long d = c.getSpaceDimension();
+                putVarLong(d);
+                putLinearPart(c.ptr(), d, LibPPL::ppl_Congruence_coefficient);
+                check(ppl_Congruence_inhomogeneous_term(c.ptr(), n.outputPtr()));
+                putCoefficient();
+                check(ppl_Congruence_modulus(c.ptr(), n.outputPtr()));
+                putCoefficient();
+            }
+            put(0);
+        }
+
+        /**
+         * Writes the non-zero coefficients of the variables of a linear object,
+         * followed by a zero.
+         */
+        void putLinearPart(Pointer obj, long d, Coefficient.Reader reader) throws IOException {
+            long last = -1;
+            for (long i = 0; i < d; i++) {
+                index.setValue(i);
+                check(reader.read(obj, index, n.outputPtr()));
+                if (n.signum() == 0)
+                    continue;
+                putVarLong(i - last);
+                putCoefficient();
+                last = i;
+            }
+            putVarLong(0);
+        }
+
+        /**
+         * Writes the value of the temporary coefficient.
+         */
+        void putCoefficient() throws IOException {
+            if (n.isSmall())
+                putInteger(n.longValue());
+            else
+                putLargeInteger(n.bigIntegerValue());
+        }
+
+        void putInteger(BigInteger bi) throws IOException {
+            if (bi.bitLength() < 64)
+                putInteger(bi.longValue());
+            else
+                putLargeInteger(bi);
+        }
+
+        void putInteger(long v) throws IOException {
+            if (v > -(1L << 62) && v < (1L << 62))
+                putVarLong(((v << 1) ^ (v >> 63)) << 1);
+            else
+                putLargeInteger(BigInteger.valueOf(v));
+        }
+
+        /**
+         * Writes {@code bi} by its sign and the bytes of its magnitude.
+         */
+        void putLargeInteger(BigInteger bi) throws IOException {
+            var bytes = bi.abs().toByteArray();
+            int start = bytes[0] == 0 ? 1 : 0;
+            putVarLong(((long) (bytes.length - start) << 2) | (bi.signum() < 0 ? 2 : 0) | 1);
+            put(bytes, start, bytes.length - start);
+        }
+
+        void putVarLong(long v) throws IOException {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buffer.put((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            buffer.put((byte) v);
+        }
+
+        void put(int b) throws IOException {
+            ensure(1);
+            buffer.put((byte) b);
+        }
+
+        void put(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensure(1);
+                int k = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, k);
+                offset += k;
+                length -= k;
+            }
+        }
+
+        /**
+         * Ensures that there is space for at least {@code k} bytes in the buffer,
+         * by flushing it to the channel or by growing it.
+         */
+        void ensure(int k) throws IOException {
+            if (buffer.remaining() >= k)
+                return;
+            if (channel != null) {
+                endChunk();
+                flush();
+                startChunk();
+            } else {
+                grow(k);
+            }
+        }
+
+        void grow(int k) {
+            var newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + k));
+            newBuffer.put(buffer.flip());
+            buffer = newBuffer;
+        }
+
+        void startChunk() {
+            chunkStart = buffer.position();
+            buffer.putInt(0);
+        }
+
+        void endChunk() {
+            int length = buffer.position() - chunkStart - 4;
+            if (length == 0)
+                buffer.position(chunkStart);
+            else
+                buffer.putInt(chunkStart, length);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads the encoding of a single object.
+     */
+    private static final class Decoder {
+        final ByteBuffer source;
+        final ReadableByteChannel channel;
+
+        /**
+         * The current chunk. It is {@code null} after the final empty chunk.
+         */
+        ByteBuffer chunk;
+
+        Decoder(ByteBuffer source, ReadableByteChannel channel) {
+            this.source = source;
+            this.channel = channel;
+        }
+
+        Object decode(Class<?> type) throws IOException {
+            var header = readFully(6);
+            if (header.getInt() != MAGIC)
+                throw new StreamCorruptedException("Not the encoding of a JPPL object");
+            int version = header.get() & 0xFF;
+            if (version == 0 || version > VERSION)
+                throw new StreamCorruptedException("Unsupported version " + version + " of the JPPL encoding");
+            int kind = header.get() & 0xFF;
+            Class<?> kindClass;
+            switch (kind) {
+            case CONSTRAINT_SYSTEM:
+                kindClass = ConstraintSystem.class;
+                break;
+            case GENERATOR_SYSTEM:
+                kindClass = GeneratorSystem.class;
+                break;
+            case CONGRUENCE_SYSTEM:
+                kindClass = CongruenceSystem.class;
+                break;
+            case C_POLYHEDRON:
+                kindClass = CPolyhedron.class;
+                break;
+            case NNC_POLYHEDRON:
+                kindClass = NNCPolyhedron.class;
+                break;
+            case DOUBLE_BOX:
+                kindClass = DoubleBox.class;
+                break;
+            case CONSTRAINT_MATRIX:
+                kindClass = ConstraintMatrix.class;
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown kind " + kind + " of JPPL object");
+            }
+            if (!type.isAssignableFrom(kindClass))
+                throw new IllegalArgumentException("Cannot decode an object of " + kindClass + " as " + type);
+            nextChunk();
+            Object result;
+            switch (kind) {
+            case CONSTRAINT_SYSTEM:
+                result = getConstraints();
+                break;
+            case GENERATOR_SYSTEM:
+                result = getGenerators();
+                break;
+            case CONGRUENCE_SYSTEM:
+                result = getCongruences();
+                break;
+            case C_POLYHEDRON:
+                result = CPolyhedron.universe(getVarLong()).add(getConstraints());
+                break;
+            case NNC_POLYHEDRON:
+                result = NNCPolyhedron.universe(getVarLong()).add(getConstraints());
+                break;
+            case CONSTRAINT_MATRIX:
+                result = getConstraintMatrix();
+                break;
+            default:
+                result = DoubleBox.universe(getVarLong()).add(getConstraints());
+            }
+            if (chunk == null || chunk.hasRemaining())
+                throw new StreamCorruptedException("Malformed encoding of a JPPL object");
+            nextChunk();
+            if (chunk != null)
+                throw new StreamCorruptedException("Malformed encoding of a JPPL object");
+            return result;
+        }
+
+        ConstraintSystem getConstraints() throws IOException {
+            var cs = ConstraintSystem.empty();
+            int type;
+            while ((type = get()) != 0) {
+                if (type > CONSTRAINT_TYPES.length)
+                    throw new StreamCorruptedException("Unknown constraint type " + (type - 1));
+                var le = getLinearPart();
+                le.add(getCoefficient());
+                cs.add(Constraint.of(le, CONSTRAINT_TYPES[type - 1]));
+            }
+            return cs;
+        }
+
+        ConstraintMatrix getConstraintMatrix() throws IOException {
+            long d = getVarLong();
+            if (d > Integer.MAX_VALUE)
+                throw new StreamCorruptedException("Constraint matrix too large");
+            var coefficients = new ArrayList<BigInteger[]>();
+            var inhomogeneousTerms = new ArrayList<BigInteger>();
+            var types = new ArrayList<ConstraintType>();
+            int type;
+            while ((type = get()) != 0) {
+                if (type > CONSTRAINT_TYPES.length)
+                    throw new StreamCorruptedException("Unknown constraint type " + (type - 1));
+                if (getVarLong() != d)
+                    throw new StreamCorruptedException("Malformed constraint matrix");
+                var row = new BigInteger[(int) d];
+                Arrays.fill(row, BigInteger.ZERO);
+                long i = -1;
+                long delta;
+                while ((delta = getVarLong()) != 0) {
+                    i += delta;
+                    if (i >= d)
+                        throw new StreamCorruptedException("Variable index out of bounds");
+                    row[(int) i] = getBigInteger();
+                }
+                coefficients.add(row);
+                inhomogeneousTerms.add(getBigInteger());
+                types.add(CONSTRAINT_TYPES[type - 1]);
+            }
+            return new ConstraintMatrix(d, coefficients.toArray(new BigInteger[0][]),
+                    inhomogeneousTerms.toArray(new BigInteger[0]), types.toArray(new ConstraintType[0]));
+        }
+
+        GeneratorSystem getGenerators() throws IOException {
+            var gs = GeneratorSystem.empty();
+            int type;
+            while ((type = get()) != 0) {
+                if (type > GENERATOR_TYPES.length)
+                    throw new StreamCorruptedException("Unknown generator type " + (type - 1));
+                var t = GENERATOR_TYPES[type - 1];
+                var le = getLinearPart();
+                var d = t == GeneratorType.POINT || t == GeneratorType.CLOSURE_POINT ? getCoefficient()
+                        : Coefficient.ONE;
+                gs.add(Generator.of(le, t, d));
+            }
+            return gs;
+        }
+
+        CongruenceSystem getCongruences() throws IOException {
+            var cs = CongruenceSystem.empty();
+            int type;
+            while ((type = get()) != 0) {
+                if (type != 1)
+                    throw new StreamCorruptedException("Unknown congruence type " + (type - 1));
+                var le = getLinearPart();
+                le.add(getCoefficient());
+                cs.add(Congruence.of(le, getCoefficient()));
+            }
+            return cs;
+        }
+
+        /**
+         * Reads the space dimension and the non-zero coefficients of a linear
+         * object, and returns the corresponding linear expression.
+         */
+        LinearExpression getLinearPart() throws IOException {
+            long d = getVarLong();
+            var le = LinearExpression.zero(d);
+            long i = -1;
+            long delta;
+            while ((delta = getVarLong()) != 0) {
+                i += delta;
+                if (i >= d)
+                    throw new StreamCorruptedException("Variable index out of bounds");
+                le.add(getCoefficient(), i);
+            }
+            return le;
+        }
+
+        /**
+         * Reads an integer and returns the corresponding coefficient.
+         */
+        Coefficient getCoefficient() throws IOException {
+            long h = getVarLong();
+            if ((h & 1) == 0)
+                return Coefficient.valueOf(smallInteger(h));
+            return Coefficient.valueOf(getLargeInteger(h));
+        }
+
+        /**
+         * Reads an integer and returns it as a BigInteger.
+         */
+        BigInteger getBigInteger() throws IOException {
+            long h = getVarLong();
+            if ((h & 1) == 0)
+                return BigInteger.valueOf(smallInteger(h));
+            return getLargeInteger(h);
+        }
+
+        /**
+         * Returns the integer encoded in zig-zag form in the header {@code h}.
+         */
+        static long smallInteger(long h) {
+            long zz = h >>> 1;
+            return (zz >>> 1) ^ -(zz & 1);
+        }
+
+        /**
+         * Reads the magnitude of the integer whose sign and length are in the
+         * header {@code h}.
+         */
+        BigInteger getLargeInteger(long h) throws IOException {
+            long length = h >>> 2;
+            if (length > Integer.MAX_VALUE)
+                throw new StreamCorruptedException("Integer too large");
+            var bytes = new byte[(int) length];
+            for (int i = 0; i < bytes.length; i++)
+                bytes[i] = (byte) get();
+            return new BigInteger((h & 2) == 0 ? 1 : -1, bytes);
+        }
+
+        long getVarLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = get();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return v;
+            }
+            throw new StreamCorruptedException("Malformed variable length integer");
+        }
+
+        int get() throws IOException {
+            while (chunk != null && !chunk.hasRemaining())
+                nextChunk();
+            if (chunk == null)
+                throw new StreamCorruptedException("Unexpected end of a JPPL object");
+            return chunk.get() & 0xFF;
+        }
+
+        void nextChunk() throws IOException {
+            int length = readFully(4).getInt();
+            if (length < 0)
+                throw new StreamCorruptedException("Malformed encoding of a JPPL object");
+            chunk = length == 0 ? null : readFully(length);
+        }
+
+        /**
+         * Returns a buffer with the next {@code length} bytes of the input.
+         */
+        ByteBuffer readFully(int length) throws IOException {
+            if (source != null) {
+                if (length > source.remaining())
+                    throw new BufferUnderflowException();
+                var slice = source.slice();
+                slice.limit(length);
+                source.position(source.position() + length);
+                return slice;
+            }
+            var buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining())
+                if (channel.read(buffer) < 0)
+                    throw new EOFException("Unexpected end of a JPPL object");
+            return buffer.flip();
+        }
+    }
+
+    private static void check(int result) {
+        if (result < 0)
+            PPLRuntimeException.checkError(result);
+    }
+
+}
@@ -0,0 +1,198 @@
+package it.unich.jppl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * An executor which runs PPL computations on a fixed number of dedicated
+ * threads.
+ *
+ * <p>
+ * The PPL is not thread-safe, but independent objects may be used concurrently
+ * by different threads. This executor owns a fixed number of worker threads,
+ * and each JPPL object created by a worker is confined to it: using the object
+ * from another thread throws an {@link IllegalStateException}. A task is a
+ * function which receives an abstract domain and computes a result. Each task
+ * runs inside its own {@link PPLScope}, hence the native objects it creates are
+ * deallocated as soon as it terminates. For this reason, a task cannot return
+ * a JPPL object: properties should be exported with
+ * {@link ConstraintMatrix#from(Property)}, or the task should be submitted with
+ * {@link #submitAndExport(Domain, PPLTask) submitAndExport}.
+ * </p>
+ *
+ * <p>
+ * Independent objects may only be used concurrently when the PPL has been
+ * configured with {@code --enable-thread-safe}, since otherwise some internal
+ * data of the library is shared by all threads. The configuration of the PPL
+ * cannot be queried at run time, hence executors with more than one worker
+ * are only created when the system property {@value #THREAD_SAFE_PROPERTY} is
+ * {@code true}. Even with a single worker, the other threads should not use
+ * the PPL while tasks are running, unless the library is thread-safe.
+ * </p>
+ *
+ * <p>
+ * JPPL objects created outside of the workers are not confined, and it is
+ * responsibility of the user not to access them concurrently. When the PPL
+ * should be isolated in separate processes, for example because tasks change
+ * the rounding mode or the deterministic timeout, a {@link PPLProcessPool}
+ * should be used instead.
+ * </p>
+ */
+public final class PPLExecutor implements PPLTaskExecutor {
+
+    /**
+     * Name of the system property which declares that the PPL has been
+     * configured with {@code --enable-thread-safe}.
+     */
+    public static final String THREAD_SAFE_PROPERTY = "jppl.threadsafe";
+
+    /**
+     * Whether the PPL has been declared thread-safe.
+     */
+    static final boolean THREAD_SAFE = Boolean.getBoolean(THREAD_SAFE_PROPERTY);
+
+    private static final AtomicInteger executorCount = new AtomicInteger();
+
+    /**
+     * A thread of a PPL executor.
+     */
+    private static class Worker extends Thread {
+        /**
+         * Whether the objects created by this thread are confined to it.
+         */
+        boolean confining = true;
+
+        Worker(Runnable r, String name) {
+            super(r, name);
+            setDaemon(true);
+        }
+    }
+
+    private final ExecutorService executor;
+
+    private final int parallelism;
+
+    /**
+     * Creates an executor with {@code nThreads} worker threads.
+     *
+     * @throws IllegalArgumentException if {@code nThreads} is not positive, or it
+     *                                  is bigger than one and the PPL has not
+     *                                  been declared thread-safe.
+     */
+    public PPLExecutor(int nThreads) {
+        if (nThreads <= 0)
+            throw new IllegalArgumentException("The number of threads should be positive");
+        if (nThreads > 1 && !THREAD_SAFE)
+            throw new IllegalArgumentException("More than one worker requires a PPL configured with "
+                    + "--enable-thread-safe and the system property " + THREAD_SAFE_PROPERTY + " set to true");
+        var prefix = "jppl-executor-" + executorCount.incrementAndGet() + "-worker-";
+        var threadCount = new AtomicInteger();
+        this.parallelism = nThreads;
+        this.executor = Executors.newFixedThreadPool(nThreads,
+                r -> new Worker(r, prefix + threadCount.incrementAndGet()));
+    }
+
+    /**
+     * Creates an executor with one worker thread for each available processor,
+     * or with a single worker thread if the PPL has not been declared
+     * thread-safe.
+     */
+    public PPLExecutor() {
+        this(THREAD_SAFE ? Runtime.getRuntime().availableProcessors() : 1);
+    }
+
+    /**
+     * Returns true if and only if the objects created by the thread {@code t} are
+     * confined to it.
+     */
+    static boolean isWorker(Thread t) {
+        return t instanceof Worker && ((Worker) t).confining;
+    }
+
+    /**
+     * Returns the current thread if the objects it creates are confined to it,
+     * otherwise null.
+     */
+    static Thread currentOwner() {
+        var t = Thread.currentThread();
+        return isWorker(t) ? t : null;
+    }
+
+    /**
+     * Returns the result of {@code action} executed outside of any scope and
+     * without confining the created objects to the current thread. It is used
+     * for the immutable constants which are shared among all threads.
+     */
+    static <T> T shared(Supplier<T> action) {
+        var t = Thread.currentThread();
+        if (!(t instanceof Worker))
+            return PPLScope.unscoped(action);
+        var w = (Worker) t;
+        boolean confining = w.confining;
+        w.confining = false;
+        try {
+            return PPLScope.unscoped(action);
+        } finally {
+            w.confining = confining;
+        }
+    }
+
+    /**
+     * Returns the number of worker threads.
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public <T extends Property<T>, R> CompletableFuture<R> submit(Domain<T> domain, PPLTask<T, R> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            var scope = PPLScope.open();
+            try {
+                var result = task.apply(domain);
+                if (result instanceof PPLObject)
+                    throw new IllegalStateException("A task cannot return a JPPL object, it should export it");
+                return result;
+            } finally {
+                scope.close();
+            }
+        }, executor);
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.DAYS))
+                    break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+}
@@ -0,0 +1,414 @@
+package it.unich.jppl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor which runs PPL computations on a pool of worker processes.
+ *
+ * <p>
+ * Each worker is a separate JVM, with the same class path of the current one,
+ * which loads its own copy of the PPL. Therefore, tasks may be executed in
+ * parallel even if they change the global state of the library, such as the
+ * rounding mode or the timeouts. Tasks and their results are exchanged with the
+ * workers through pipes: tasks are serialized, hence they should only capture
+ * serializable values, while properties are transferred as
+ * {@link ConstraintMatrix} objects using their compact binary encoding. The
+ * abstract domain is recreated in the worker process, hence its class should
+ * have a public constructor without parameters. The only exception is
+ * {@link PackedPolyhedronDomain}, which is recreated from its base domain.
+ * </p>
+ *
+ * <p>
+ * Each worker runs one task at a time, inside its own {@link PPLScope}. If a
+ * worker process terminates abnormally, the task it was running completes
+ * exceptionally and a new process is started for the next task.
+ * </p>
+ */
+public final class PPLProcessPool implements PPLTaskExecutor {
+
+    private static final AtomicInteger poolCount = new AtomicInteger();
+
+    /**
+     * Status codes of the responses sent by the worker processes.
+     */
+    private static final int RESULT_MATRIX = 0;
+    private static final int RESULT_OBJECT = 1;
+    private static final int RESULT_ERROR = 2;
+
+    /**
+     * A task waiting to be sent to a worker process.
+     */
+    private static class Job {
+        final String domain;
+        final byte[] task;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        Job(String domain, byte[] task) {
+            this.domain = domain;
+            this.task = task;
+        }
+    }
+
+    /**
+     * The job used for stopping the threads which communicate with the worker
+     * processes.
+     */
+    private static final Job STOP = new Job(null, null);
+
+    private final BlockingQueue<Job> jobs = new LinkedBlockingQueue<>();
+
+    private final List<String> command;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a pool with {@code nProcesses} worker processes. The processes are
+     * started with the options {@code jvmOptions}, in addition to the class path
+     * and the {@code jna.*} and {@code jppl.*} system properties of the current
+     * JVM.
+     *
+     * @throws IllegalArgumentException if {@code nProcesses} is not positive.
+     */
+    public PPLProcessPool(int nProcesses, List<String> jvmOptions) {
+        if (nProcesses <= 0)
+            throw new IllegalArgumentException("The number of processes should be positive");
+        command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        for (var name : System.getProperties().stringPropertyNames())
+            if (name.startsWith("jna.") || name.startsWith("jppl."))
+                command.add("-D" + name + "=" + System.getProperty(name));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Worker.class.getName());
+        var prefix = "jppl-process-pool-" + poolCount.incrementAndGet() + "-worker-";
+        for (int i = 1; i <= nProcesses; i++) {
+            var t = new Thread(this::dispatchLoop, prefix + i);
+            t.setDaemon(true);
+            threads.add(t);
+            t.start();
+        }
+    }
+
+    /**
+     * Creates a pool with {@code nProcesses} worker processes.
+     *
+     * @throws IllegalArgumentException if {@code nProcesses} is not positive.
+     */
+    public PPLProcessPool(int nProcesses) {
+        this(nProcesses, List.of());
+    }
+
+    /**
+     * Creates a pool with one worker process for each available processor.
+     */
+    public PPLProcessPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns the number of worker processes.
+     */
+    @Override
+    public int getParallelism() {
+        return threads.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the task or its result cannot be serialized, the future completes
+     * exceptionally with a {@link NotSerializableException}. If the task throws an
+     * exception, the future completes exceptionally with a copy of the exception
+     * thrown in the worker process.
+     * </p>
+     *
+     * @throws RejectedExecutionException if the pool has been shut down.
+     * @throws IllegalArgumentException   if {@code domain} cannot be recreated
+     *                                    in the worker processes.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Property<T>, R> CompletableFuture<R> submit(Domain<T> domain, PPLTask<T, R> task) {
+        if (shutdown)
+            throw new RejectedExecutionException("The process pool has been shut down");
+        var description = describe(domain);
+        byte[] bytes;
+        try {
+            bytes = serialize(task);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        var job = new Job(description, bytes);
+        // the check and the insertion are atomic with respect to shutdown, so no job follows the STOP markers
+        synchronized (this) {
+            if (shutdown)
+                throw new RejectedExecutionException("The process pool has been shut down");
+            jobs.add(job);
+        }
+        return (CompletableFuture<R>) job.future;
+    }
+
+    /**
+     * The main loop of the threads which communicate with the worker processes.
+     * Each thread owns a single process, which is started lazily and restarted
+     * after a failure.
+     */
+    private void dispatchLoop() {
+        Process process = null;
+        DataOutputStream out = null;
+        DataInputStream in = null;
+        long id = 0;
+        try {
+            while (true) {
+                Job job;
+                try {
+                    job = jobs.take();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (job == STOP)
+                    break;
+                try {
+                    if (process == null) {
+                        process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+                        out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+                        in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+                    }
+                    id++;
+                    out.writeLong(id);
+                    out.writeUTF(job.domain);
+                    out.writeInt(job.task.length);
+                    out.write(job.task);
+                    out.flush();
+                    if (in.readLong() != id)
+                        throw new StreamCorruptedException("Unexpected response from the worker process");
+                    switch (in.readUnsignedByte()) {
+                    case RESULT_MATRIX:
+                        job.future.complete(ConstraintMatrix.read(in));
+                        break;
+                    case RESULT_OBJECT:
+                        job.future.complete(deserialize(readBytes(in)));
+                        break;
+                    case RESULT_ERROR:
+                        job.future.completeExceptionally((Throwable) deserialize(readBytes(in)));
+                        break;
+                    default:
+                        throw new StreamCorruptedException("Unexpected response from the worker process");
+                    }
+                } catch (IOException | ClassNotFoundException | RuntimeException e) {
+                    job.future.completeExceptionally(e);
+                    if (process != null)
+                        process.destroy();
+                    process = null;
+                }
+            }
+        } finally {
+            if (process != null) {
+                try {
+                    out.close();
+                    process.waitFor();
+                } catch (IOException e) {
+                    process.destroy();
+                } catch (InterruptedException e) {
+                    process.destroy();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the description of {@code domain} sent to the worker processes. It
+     * is the name of the class of the domain, followed by the description of the
+     * base domain between parentheses for packed polyhedra.
+     *
+     * @throws IllegalArgumentException if {@code domain} cannot be recreated in
+     *                                  the worker processes.
+     */
+    static String describe(Domain<?> domain) {
+        var c = domain.getClass();
+        if (c == PackedPolyhedronDomain.class)
+            return c.getName() + "(" + describe(((PackedPolyhedronDomain<?>) domain).getBase()) + ")";
+        try {
+            c.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The domain " + c.getName()
+                    + " cannot be recreated in the worker processes, since it has no public constructor without "
+                    + "parameters");
+        }
+        return c.getName();
+    }
+
+    /**
+     * Returns the domain described by {@code description}, as produced by
+     * {@link #describe(Domain)}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Domain<?> recreate(String description) throws ReflectiveOperationException {
+        int i = description.indexOf('(');
+        if (i < 0)
+            return (Domain<?>) Class.forName(description).getConstructor().newInstance();
+        // only packed polyhedra have a base domain
+        return new PackedPolyhedronDomain(recreate(description.substring(i + 1, description.length() - 1)));
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static byte[] serialize(Object obj) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(obj);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The worker processes terminate after executing the pending tasks.
+     * </p>
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (shutdown)
+            return;
+        shutdown = true;
+        for (int i = 0; i < threads.size(); i++)
+            jobs.add(STOP);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (var t : threads) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return !t.isAlive();
+            TimeUnit.NANOSECONDS.timedJoin(t, remaining);
+            if (t.isAlive())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        boolean interrupted = false;
+        for (var t : threads) {
+            while (t.isAlive()) {
+                try {
+                    t.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * The main class of the worker processes. It reads tasks from the standard
+     * input and writes their results to the standard output, until the standard
+     * input is closed.
+     */
+    static final class Worker {
+
+        private Worker() {
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public static void main(String[] args) throws IOException {
+            var in = new DataInputStream(new BufferedInputStream(System.in));
+            var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+            // the standard output is reserved for the results
+            System.setOut(new PrintStream(new FileOutputStream(FileDescriptor.err), true));
+            while (true) {
+                long id;
+                try {
+                    id = in.readLong();
+                } catch (EOFException e) {
+                    return;
+                }
+                var domain = in.readUTF();
+                var task = readBytes(in);
+                Object result;
+                boolean failed = false;
+                var scope = PPLScope.open();
+                try {
+                    var d = recreate(domain);
+                    result = ((PPLTask) deserialize(task)).apply(d);
+                    if (result instanceof PPLObject)
+                        throw new IllegalStateException("A task cannot return a JPPL object, it should export it");
+                } catch (Throwable e) {
+                    result = e;
+                    failed = true;
+                } finally {
+                    scope.close();
+                }
+                out.writeLong(id);
+                if (result instanceof ConstraintMatrix && !failed) {
+                    out.writeByte(RESULT_MATRIX);
+                    ((ConstraintMatrix) result).write(out);
+                } else {
+                    byte[] bytes;
+                    try {
+                        bytes = serialize(result);
+                    } catch (IOException e) {
+                        failed = true;
+                        bytes = serialize(e);
+                    }
+                    out.writeByte(failed ? RESULT_ERROR : RESULT_OBJECT);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                out.flush();
+            }
+        }
+    }
+
+}
@@ -33,20 +33,37 @@ public class PPLRuntimeException extends RuntimeException {
     static void checkError(int code) {
         if (code >= 0)
             return;
-        if (code != JPPLErrorHandler.code) {
+        int handlerCode = JPPLErrorHandler.getCode();
+        if (code != handlerCode) {
             var msg = "The error code passed to the checkError method (" + code + ") does not corresponds to the one "
-                    + "captured by the error handler (" + JPPLErrorHandler.code + ")";
+                    + "captured by the error handler (" + handlerCode + ")";
             JPPLErrorHandler.reset();
             throw new IllegalStateException(msg);
         }
         var msg = (code > -2 || code < -12) ?
             "UNKNOWN PPL ERROR (" + code + "): " : ERROR_STRINGS[-code];
         msg += ": ";
-        msg += JPPLErrorHandler.description;
+        msg += JPPLErrorHandler.getDescription();
         JPPLErrorHandler.reset();
         throw new PPLRuntimeException(code, msg);
     }
 
+    /**
+     * Throws a PPLRuntimeException with code {@code OUT_OF_MEMORY} which has been
+     * detected by JPPL instead of the native library.
+     */
+    static void outOfMemory(String description) {
+        throw new PPLRuntimeException(OUT_OF_MEMORY, ERROR_STRINGS[-OUT_OF_MEMORY] + ": " + description);
+    }
+
+    /**
+     * Throws a PPLRuntimeException with code {@code TIMEOUT_EXCEPTION} which has
+     * been detected by JPPL instead of the native library.
+     */
+    static void timeout(String description) {
+        throw new PPLRuntimeException(TIMEOUT_EXCEPTION, ERROR_STRINGS[-TIMEOUT_EXCEPTION] + ": " + description);
+    }
+
     /**
      * Returns the PPL error code which generated this exception.
      */
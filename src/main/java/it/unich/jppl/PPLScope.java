@@ -0,0 +1,207 @@
+package it.unich.jppl;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * A scope which determines the lifetime of the native PPL objects created
+ * inside it.
+ *
+ * <p>
+ * By default, the native counterpart of a JPPL object is deallocated by a
+ * {@link java.lang.ref.Cleaner} after the Java object has been garbage
+ * collected. Since the JVM is not aware of the memory used by the PPL, this
+ * may take a long time. When a scope is open, all the JPPL objects created in
+ * the same thread belong to the scope, and their native counterparts are
+ * deallocated as soon as the scope is closed, in reverse order of creation.
+ * Scopes are meant to be used in a try-with-resources statement:
+ * </p>
+ *
+ * <pre>
+ * try (var scope = PPLScope.open()) {
+ *     var ph = CPolyhedron.universe(2);
+ *     ...
+ *     return scope.escape(ph.polyHull(other));
+ * }
+ * </pre>
+ *
+ * <p>
+ * An object which should survive the scope must be passed to
+ * {@link #escape(PPLObject) escape}, which gives it back to the cleaner. An
+ * object which belongs to a closed scope cannot be used anymore: its native
+ * pointer is set to {@code null}, and the methods which use the native object
+ * throw an {@link IllegalStateException}.
+ * </p>
+ *
+ * <p>
+ * Scopes may be nested, in which case the objects are registered in the
+ * innermost one. A scope may only be closed by the thread which opened it, and
+ * nested scopes must be closed before the enclosing ones.
+ * </p>
+ */
+public final class PPLScope implements AutoCloseable {
+
+    private static final ThreadLocal<PPLScope> current = new ThreadLocal<>();
+
+    private final PPLScope parent;
+
+    private final Thread owner;
+
+    /**
+     * The objects in the scope and the corresponding deleters. Escaped objects
+     * are replaced by {@code null} in both lists.
+     */
+    private final ArrayList<Object> objects = new ArrayList<>();
+
+    private final ArrayList<Runnable> deleters = new ArrayList<>();
+
+    private boolean closed;
+
+    private PPLScope(PPLScope parent) {
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * Opens a new scope in the current thread and returns it.
+     */
+    public static PPLScope open() {
+        var scope = new PPLScope(current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    /**
+     * Returns the innermost open scope of the current thread, or {@code null} if
+     * there is no open scope.
+     */
+    public static PPLScope current() {
+        return current.get();
+    }
+
+    /**
+     * Returns the result of {@code action} executed outside of any scope. All the
+     * objects created by {@code action} are deallocated by the cleaner.
+     */
+    public static <T> T unscoped(Supplier<T> action) {
+        var scope = current.get();
+        if (scope == null)
+            return action.get();
+        current.remove();
+        try {
+            return action.get();
+        } finally {
+            current.set(scope);
+        }
+    }
+
+    /**
+     * Registers {@code deleter} for deallocating the native counterpart of
+     * {@code obj}. If there is an open scope, it is run when the scope is closed,
+     * otherwise it is run by the cleaner after {@code obj} becomes phantom
+     * reachable.
+     */
+    static void register(Object obj, Runnable deleter) {
+        if (NativeMemoryTracker.ENABLED)
+            deleter = NativeMemoryTracker.track(obj, deleter);
+        var scope = current.get();
+        if (scope == null) {
+            registerCleaner(obj, deleter);
+        } else {
+            scope.objects.add(obj);
+            scope.deleters.add(deleter);
+        }
+    }
+
+    /**
+     * Registers {@code deleter} to be run by the cleaner after {@code obj}
+     * becomes phantom reachable.
+     */
+    private static void registerCleaner(Object obj, Runnable deleter) {
+        if (NativeMemoryTracker.ENABLED)
+            NativeMemoryTracker.registerCleaner(obj, deleter);
+        else
+            PPL.cleaner.register(obj, deleter);
+    }
+
+    /**
+     * Removes {@code obj} from this scope, so that it is deallocated by the
+     * cleaner instead of when the scope is closed. If {@code obj} does not belong
+     * to this scope, nothing happens.
+     *
+     * @return the object {@code obj}.
+     * @throws IllegalStateException if the scope has already been closed.
+     */
+    public <T extends PPLObject<T>> T escape(T obj) {
+        if (closed)
+            throw new IllegalStateException("The scope has already been closed");
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            if (objects.get(i) == obj) {
+                registerCleaner(obj, deleters.get(i));
+                objects.set(i, null);
+                deleters.set(i, null);
+                break;
+            }
+        }
+        return obj;
+    }
+
+    /**
+     * Returns the enclosing scope, or {@code null} if this is an outermost scope.
+     */
+    public PPLScope getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the number of objects which belong to this scope.
+     */
+    public int size() {
+        int n = 0;
+        for (var obj : objects)
+            if (obj != null)
+                n++;
+        return n;
+    }
+
+    /**
+     * Returns true if and only if this scope has been closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes this scope, deallocating the native counterpart of all the objects
+     * in the scope. Closing a scope which has already been closed has no effect.
+     *
+     * @throws IllegalStateException if the scope is closed by a thread which is
+     *                               not the one which opened it, or if a nested
+     *                               scope is still open.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        if (Thread.currentThread() != owner)
+            throw new IllegalStateException("A scope may only be closed by the thread which opened it");
+        if (current.get() != this)
+            throw new IllegalStateException("Nested scopes must be closed first");
+        closed = true;
+        if (parent == null)
+            current.remove();
+        else
+            current.set(parent);
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            var obj = objects.get(i);
+            if (obj != null) {
+                deleters.get(i).run();
+                if (obj instanceof AbstractPPLObject)
+                    ((AbstractPPLObject<?>) obj).release();
+            }
+        }
+        objects.clear();
+        deleters.clear();
+    }
+
+}
@@ -0,0 +1,24 @@
+package it.unich.jppl;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * A computation on an abstract domain which may be submitted to a
+ * {@link PPLTaskExecutor}.
+ *
+ * <p>
+ * A task receives the abstract domain and returns its result. Since a task may
+ * be executed in a different process, it is serializable: a lambda expression
+ * whose target type is {@code PPLTask} is serializable as long as all the
+ * captured values are serializable. JPPL objects are not serializable, hence
+ * properties should be captured as {@link ConstraintMatrix} objects.
+ * </p>
+ *
+ * @param <T> the type of the properties of the abstract domain.
+ * @param <R> the type of the result.
+ */
+@FunctionalInterface
+public interface PPLTask<T extends Property<T>, R> extends Function<Domain<T>, R>, Serializable {
+
+}
@@ -0,0 +1,71 @@
+package it.unich.jppl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor which runs PPL tasks concurrently.
+ *
+ * <p>
+ * There are two implementations of this interface. A {@link PPLExecutor} runs
+ * tasks on worker threads of the current process, while a
+ * {@link PPLProcessPool} runs tasks on worker processes, each with its own copy
+ * of the PPL. Since a task cannot return a JPPL object, the result of an
+ * analysis should be exported as a {@link ConstraintMatrix}, for example by
+ * submitting the task with {@link #submitAndExport(Domain, PPLTask)
+ * submitAndExport}.
+ * </p>
+ */
+public interface PPLTaskExecutor extends AutoCloseable {
+
+    /**
+     * Submits the task {@code task} for execution on the abstract domain
+     * {@code domain} and returns a future for its result. If the task returns a
+     * JPPL object, the future completes exceptionally with an
+     * {@link IllegalStateException}.
+     */
+    <T extends Property<T>, R> CompletableFuture<R> submit(Domain<T> domain, PPLTask<T, R> task);
+
+    /**
+     * Submits the task {@code task} for execution on the abstract domain
+     * {@code domain} and returns a future for the constraints of the resulting
+     * property.
+     */
+    default <T extends Property<T>> CompletableFuture<ConstraintMatrix> submitAndExport(Domain<T> domain,
+            PPLTask<T, T> task) {
+        return submit(domain, d -> ConstraintMatrix.from(task.apply(d)));
+    }
+
+    /**
+     * Returns the number of tasks which may be executed concurrently.
+     */
+    int getParallelism();
+
+    /**
+     * Initiates an orderly shutdown of the executor: previously submitted tasks
+     * are executed, but no new task will be accepted.
+     */
+    void shutdown();
+
+    /**
+     * Returns true if and only if this executor has been shut down.
+     */
+    boolean isShutdown();
+
+    /**
+     * Blocks until all tasks have completed execution after a shutdown request,
+     * or the timeout occurs, or the current thread is interrupted.
+     *
+     * @return true if this executor terminated and false if the timeout elapsed
+     *         before termination.
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Shuts down the executor and waits for the termination of all the submitted
+     * tasks.
+     */
+    @Override
+    void close();
+
+}
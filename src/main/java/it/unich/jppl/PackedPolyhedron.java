@@ -0,0 +1,1422 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.lang.ref.Reference;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import com.sun.jna.Pointer;
+
+/**
+ * A polyhedron decomposed into independent blocks of space dimensions.
+ *
+ * <p>
+ * A packed polyhedron keeps a partition of its space dimensions into blocks,
+ * such that no constraint relates dimensions in different blocks. Each block is
+ * backed by its own polyhedron, created by a {@link Domain} of closed or NNC
+ * polyhedra, and the packed polyhedron is the cartesian product of the blocks.
+ * Dimensions which belong to no block are unconstrained. Since the cost of
+ * polyhedral operations grows super-linearly with the space dimension, working
+ * on many small blocks is much faster than working on a single big polyhedron,
+ * when most variables fall into small independent groups.
+ * </p>
+ *
+ * <p>
+ * The partition is maintained online. Blocks are merged when a constraint or an
+ * affine transformation relates them, and they are split again when an
+ * operation may have made some of their dimensions independent, such as a
+ * non-invertible affine image or the removal of space dimensions. Binary
+ * operations first bring the operands to a common partition. Upper bounds and
+ * widenings only merge the blocks where the operands differ, which makes them
+ * as precise as on the corresponding polyhedra. The few operations which cannot
+ * be performed block-wise, such as {@link #difference(PackedPolyhedron)
+ * difference}, {@link #timeElapse(PackedPolyhedron) timeElapse} and the
+ * optimization of linear expressions, are performed on the polyhedron returned
+ * by {@link #toPolyhedron()}.
+ * </p>
+ *
+ * <p>
+ * Since the same polyhedron may be partitioned in different ways, the hash code
+ * of a packed polyhedron is computed from the minimized constraints of its
+ * blocks, with the coefficients attached to the global space dimensions, and it
+ * does not depend on the partition. A packed polyhedron has no native
+ * counterpart, hence {@link #getNative()} returns {@code null}.
+ * </p>
+ *
+ * @param <P> the type of the polyhedra backing the blocks.
+ * @see PackedPolyhedronDomain
+ */
+public final class PackedPolyhedron<P extends Polyhedron<P>> implements Property<PackedPolyhedron<P>> {
+
+    /**
+     * A block of the partition: the space dimensions in increasing order, and a
+     * polyhedron whose \(k\)-th space dimension is {@code dims[k]}. A block
+     * without dimensions is only used to record that the packed polyhedron is
+     * empty.
+     */
+    private static final class Block<P extends Polyhedron<P>> {
+        long[] dims;
+        P ph;
+
+        Block(long[] dims, P ph) {
+            this.dims = dims;
+            this.ph = ph;
+        }
+
+        /**
+         * Returns the local index of the space dimension {@code i}, or a negative
+         * number if {@code i} is not in this block.
+         */
+        int local(long i) {
+            return Arrays.binarySearch(dims, i);
+        }
+
+        Block<P> copy() {
+            return new Block<>(dims.clone(), ph.clone());
+        }
+    }
+
+    private final Domain<P> domain;
+
+    private long dimension;
+
+    private List<Block<P>> blocks;
+
+    private PackedPolyhedron(Domain<P> domain, long dimension, List<Block<P>> blocks) {
+        this.domain = domain;
+        this.dimension = dimension;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Creates and returns the universe {@code d}-dimensional packed polyhedron,
+     * whose blocks are created by {@code domain}.
+     */
+    public static <P extends Polyhedron<P>> PackedPolyhedron<P> universe(Domain<P> domain, long d) {
+        return new PackedPolyhedron<>(domain, d, new ArrayList<>());
+    }
+
+    /**
+     * Creates and returns the empty {@code d}-dimensional packed polyhedron,
+     * whose blocks are created by {@code domain}.
+     */
+    public static <P extends Polyhedron<P>> PackedPolyhedron<P> empty(Domain<P> domain, long d) {
+        var p = universe(domain, d);
+        p.setEmpty();
+        return p;
+    }
+
+    /**
+     * Creates and returns the packed polyhedron defined by the constraints in
+     * {@code cs}, whose blocks are created by {@code domain}. The constraints are
+     * partitioned without building the polyhedron of the whole space.
+     */
+    public static <P extends Polyhedron<P>> PackedPolyhedron<P> from(Domain<P> domain, ConstraintSystem cs) {
+        long d = cs.getSpaceDimension();
+        var blocks = decompose(domain, cs, range(0, d));
+        return blocks == null ? empty(domain, d) : new PackedPolyhedron<>(domain, d, blocks);
+    }
+
+    /**
+     * Creates and returns a packed polyhedron equal to {@code ph}, whose blocks
+     * are created by {@code domain}.
+     */
+    public static <P extends Polyhedron<P>> PackedPolyhedron<P> from(Domain<P> domain, P ph) {
+        var p = universe(domain, ph.getSpaceDimension());
+        p.rebuild(ph);
+        return p;
+    }
+
+    /**
+     * Returns the array of the integers from {@code from} (inclusive) to
+     * {@code to} (exclusive).
+     */
+    private static long[] range(long from, long to) {
+        var a = new long[Math.toIntExact(to - from)];
+        for (int k = 0; k < a.length; k++)
+            a[k] = from + k;
+        return a;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int i, int j) {
+        parent[find(parent, i)] = find(parent, j);
+    }
+
+    /**
+     * Returns the indexes of the non-zero coefficients in {@code coeffs}, whose
+     * last element is the inhomogeneous term.
+     */
+    private static long[] support(BigInteger[] coeffs) {
+        int n = 0;
+        for (int j = 0; j < coeffs.length - 1; j++)
+            if (coeffs[j].signum() != 0)
+                n++;
+        var dims = new long[n];
+        n = 0;
+        for (int j = 0; j < coeffs.length - 1; j++)
+            if (coeffs[j].signum() != 0)
+                dims[n++] = j;
+        return dims;
+    }
+
+    /**
+     * Returns true if the constant constraint {@code c rel 0} holds.
+     */
+    private static boolean holds(BigInteger c, ConstraintType rel) {
+        int s = c.signum();
+        switch (rel) {
+        case LESS_THAN:
+            return s < 0;
+        case LESS_OR_EQUAL:
+            return s <= 0;
+        case EQUAL:
+            return s == 0;
+        case GREATER_OR_EQUAL:
+            return s >= 0;
+        default:
+            return s > 0;
+        }
+    }
+
+    /**
+     * Returns the linear expression with coefficients {@code coeffs}, whose last
+     * element is the inhomogeneous term, in the local dimensions of {@code b}.
+     * The non-zero coefficients should correspond to dimensions of the block.
+     */
+    private static LinearExpression localize(BigInteger[] coeffs, Block<?> b) {
+        var builder = LinearExpression.builder();
+        for (int j = 0; j < coeffs.length - 1; j++)
+            if (coeffs[j].signum() != 0)
+                builder.add(coeffs[j], b.local(j));
+        return builder.add(coeffs[coeffs.length - 1]).build();
+    }
+
+    /**
+     * Returns the blocks of the polyhedron defined by the constraints in
+     * {@code cs}, whose \(k\)-th space dimension is {@code dims[k]}, or null if
+     * some constraint is a false constant. The dimensions which do not occur in
+     * the constraints belong to no block.
+     */
+    private static <P extends Polyhedron<P>> List<Block<P>> decompose(Domain<P> domain, ConstraintSystem cs,
+            long[] dims) {
+        int k = dims.length;
+        var parent = new int[k];
+        for (int j = 0; j < k; j++)
+            parent[j] = j;
+        var used = new boolean[k];
+        var rows = new ArrayList<BigInteger[]>();
+        var types = new ArrayList<ConstraintType>();
+        for (var c : cs) {
+            var coeffs = c.getBigIntegerCoefficients();
+            int first = -1;
+            for (int j = 0; j < coeffs.length - 1; j++)
+                if (coeffs[j].signum() != 0) {
+                    used[j] = true;
+                    if (first < 0)
+                        first = j;
+                    else
+                        union(parent, first, j);
+                }
+            if (first >= 0) {
+                rows.add(coeffs);
+                types.add(c.getType());
+            } else if (!holds(coeffs[coeffs.length - 1], c.getType())) {
+                return null;
+            }
+        }
+        // number the components in order of their smallest dimension
+        var component = new int[k];
+        var position = new int[k];
+        var rootComponent = new int[k];
+        Arrays.fill(rootComponent, -1);
+        var sizes = new ArrayList<Integer>();
+        for (int j = 0; j < k; j++) {
+            if (!used[j])
+                continue;
+            int r = find(parent, j);
+            if (rootComponent[r] < 0) {
+                rootComponent[r] = sizes.size();
+                sizes.add(0);
+            }
+            component[j] = rootComponent[r];
+            position[j] = sizes.get(component[j]);
+            sizes.set(component[j], position[j] + 1);
+        }
+        var members = new long[sizes.size()][];
+        var systems = new ConstraintSystem[sizes.size()];
+        for (int b = 0; b < members.length; b++) {
+            members[b] = new long[sizes.get(b)];
+            systems[b] = ConstraintSystem.empty();
+        }
+        for (int j = 0; j < k; j++)
+            if (used[j])
+                members[component[j]][position[j]] = dims[j];
+        for (int r = 0; r < rows.size(); r++) {
+            var coeffs = rows.get(r);
+            var builder = LinearExpression.builder();
+            int b = -1;
+            for (int j = 0; j < coeffs.length - 1; j++)
+                if (coeffs[j].signum() != 0) {
+                    b = component[j];
+                    builder.add(coeffs[j], position[j]);
+                }
+            builder.add(coeffs[coeffs.length - 1]);
+            systems[b].add(Constraint.of(builder.build(), types.get(r)));
+        }
+        var blocks = new ArrayList<Block<P>>(members.length);
+        for (int b = 0; b < members.length; b++) {
+            var ph = domain.createRecycledFrom(systems[b]);
+            long missing = members[b].length - ph.getSpaceDimension();
+            if (missing > 0)
+                ph.addSpaceDimensionsAndEmbed(missing);
+            blocks.add(new Block<>(members[b], ph));
+        }
+        return blocks;
+    }
+
+    /**
+     * Replaces the blocks of this packed polyhedron with the decomposition of
+     * {@code ph}, which has the same space dimension.
+     */
+    private void rebuild(P ph) {
+        if (ph.isEmpty()) {
+            setEmpty();
+            return;
+        }
+        blocks = decompose(domain, ph.getMinimizedConstraints(), range(0, dimension));
+        Reference.reachabilityFence(ph);
+        if (blocks == null)
+            setEmpty();
+    }
+
+    /**
+     * Makes this packed polyhedron empty.
+     */
+    private void setEmpty() {
+        blocks = new ArrayList<>();
+        blocks.add(new Block<>(range(0, dimension), domain.createEmpty(dimension)));
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if {@code i} is not a space
+     * dimension of this packed polyhedron.
+     */
+    private void checkDimension(long i) {
+        if (i < 0 || i >= dimension)
+            throw new IllegalArgumentException("Space dimension " + i + " out of range");
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the coefficients
+     * {@code coeffs} refer to space dimensions which do not exist.
+     */
+    private void checkDimension(BigInteger[] coeffs) {
+        if (coeffs.length - 1 > dimension)
+            throw new IllegalArgumentException("Space dimension " + (coeffs.length - 1) + " exceeds "
+                    + dimension);
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if {@code y} has a different
+     * space dimension.
+     */
+    private void checkCompatible(PackedPolyhedron<?> y) {
+        if (y.dimension != dimension)
+            throw new IllegalArgumentException("The space dimensions should be equal");
+    }
+
+    /**
+     * Returns the index of the block containing the space dimension {@code i}, or
+     * -1 if {@code i} is unconstrained.
+     */
+    private int blockOf(long i) {
+        for (int b = 0; b < blocks.size(); b++)
+            if (blocks.get(b).local(i) >= 0)
+                return b;
+        return -1;
+    }
+
+    /**
+     * Returns the number of space dimensions which belong to no block.
+     */
+    private long freeDimensions() {
+        long n = dimension;
+        for (var b : blocks)
+            n -= b.dims.length;
+        return n;
+    }
+
+    /**
+     * Returns true if some block has no dimensions, i.e., if this packed
+     * polyhedron is known to be empty without calling the PPL.
+     */
+    private boolean hasEmptyMarker() {
+        for (var b : blocks)
+            if (b.dims.length == 0)
+                return true;
+        return false;
+    }
+
+    /**
+     * Returns the sorted array of the distinct elements of {@code dims}.
+     */
+    private static long[] normalize(long[] dims) {
+        return Arrays.stream(dims).sorted().distinct().toArray();
+    }
+
+    /**
+     * Returns the sorted union of the supports of {@code coeffs} and of the
+     * dimension {@code i}.
+     */
+    private static long[] dimsOf(long i, BigInteger[]... coeffs) {
+        var dims = new ArrayList<Long>();
+        if (i >= 0)
+            dims.add(i);
+        for (var cs : coeffs)
+            for (long j : support(cs))
+                dims.add(j);
+        return normalize(dims.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * Returns a block made of the cartesian product of {@code parts} and of the
+     * unconstrained dimensions in {@code free}. When {@code reuse} is true, the
+     * polyhedron of the first part may be modified.
+     */
+    private Block<P> assemble(List<Block<P>> parts, long[] free, boolean reuse) {
+        int size = free.length;
+        for (var p : parts)
+            size += p.dims.length;
+        var order = new long[size];
+        P ph = null;
+        int pos = 0;
+        for (var p : parts) {
+            if (ph == null)
+                ph = reuse ? p.ph : p.ph.clone();
+            else
+                ph.concatenate(p.ph);
+            System.arraycopy(p.dims, 0, order, pos, p.dims.length);
+            pos += p.dims.length;
+        }
+        if (ph == null)
+            ph = domain.createUniverse(free.length);
+        else if (free.length > 0)
+            ph.addSpaceDimensionsAndEmbed(free.length);
+        System.arraycopy(free, 0, order, pos, free.length);
+        var dims = order.clone();
+        Arrays.sort(dims);
+        var maps = new long[size];
+        boolean identity = true;
+        for (int k = 0; k < size; k++) {
+            maps[k] = Arrays.binarySearch(dims, order[k]);
+            identity &= maps[k] == k;
+        }
+        if (!identity)
+            ph.mapSpaceDimensions(maps);
+        return new Block<>(dims, ph);
+    }
+
+    /**
+     * Collects in {@code parts} the blocks containing some of the dimensions in
+     * {@code dims}, and returns the dimensions in {@code dims} which belong to no
+     * block.
+     */
+    private long[] collect(long[] dims, List<Block<P>> parts) {
+        var free = new long[dims.length];
+        int nfree = 0;
+        for (long i : dims) {
+            int b = blockOf(i);
+            if (b < 0)
+                free[nfree++] = i;
+            else if (!parts.contains(blocks.get(b)))
+                parts.add(blocks.get(b));
+        }
+        return Arrays.copyOf(free, nfree);
+    }
+
+    /**
+     * Merges the blocks containing the space dimensions in {@code dims}, which
+     * should be sorted, and the unconstrained dimensions among them, into a
+     * single block, which is returned.
+     */
+    private Block<P> merge(long[] dims) {
+        var parts = new ArrayList<Block<P>>();
+        var free = collect(dims, parts);
+        if (free.length == 0 && parts.size() == 1)
+            return parts.get(0);
+        blocks.removeAll(parts);
+        var b = assemble(parts, free, true);
+        blocks.add(b);
+        return b;
+    }
+
+    /**
+     * Returns a block with the cartesian product of the blocks containing the
+     * space dimensions in {@code dims}, and of the unconstrained dimensions among
+     * them, without modifying this packed polyhedron. The result may share its
+     * polyhedron with this packed polyhedron, hence it should not be modified.
+     */
+    private Block<P> factor(long[] dims) {
+        var parts = new ArrayList<Block<P>>();
+        var free = collect(dims, parts);
+        if (free.length == 0 && parts.size() == 1)
+            return parts.get(0);
+        return assemble(parts, free, false);
+    }
+
+    /**
+     * Splits the block {@code b} into the blocks of its independent dimensions.
+     */
+    private void split(Block<P> b) {
+        if (b.dims.length == 0)
+            return;
+        if (b.ph.isEmpty()) {
+            setEmpty(b);
+            return;
+        }
+        var parts = decompose(domain, b.ph.getMinimizedConstraints(), b.dims);
+        if (parts == null) {
+            setEmpty(b);
+            return;
+        }
+        if (parts.size() == 1 && parts.get(0).dims.length == b.dims.length)
+            return;
+        blocks.remove(b);
+        blocks.addAll(parts);
+    }
+
+    /**
+     * Returns the blocks of the coarsest partition which is coarser than the
+     * partitions of both this packed polyhedron and {@code y}. Unconstrained
+     * dimensions in both packed polyhedra belong to no block.
+     */
+    private List<long[]> commonPartition(PackedPolyhedron<?> y) {
+        int n = Math.toIntExact(dimension);
+        var parent = new int[n];
+        for (int j = 0; j < n; j++)
+            parent[j] = j;
+        var used = new boolean[n];
+        for (var x : List.of(this, y))
+            for (var b : x.blocks)
+                for (long i : b.dims) {
+                    used[(int) i] = true;
+                    union(parent, (int) b.dims[0], (int) i);
+                }
+        var partition = new ArrayList<long[]>();
+        var index = new int[n];
+        Arrays.fill(index, -1);
+        var members = new ArrayList<List<Long>>();
+        for (int j = 0; j < n; j++) {
+            if (!used[j])
+                continue;
+            int r = find(parent, j);
+            if (index[r] < 0) {
+                index[r] = members.size();
+                members.add(new ArrayList<>());
+            }
+            members.get(index[r]).add((long) j);
+        }
+        for (var m : members)
+            partition.add(m.stream().mapToLong(Long::longValue).toArray());
+        return partition;
+    }
+
+    /**
+     * Assigns to this packed polyhedron the result of {@code op} on the blocks
+     * where this and {@code y} differ, all merged in a single block. This is
+     * exact when {@code op} is an upper bound or a widening, since they keep the
+     * blocks which are equal in both operands.
+     */
+    private PackedPolyhedron<P> combine(PackedPolyhedron<P> y, BinaryOperator<P> op, boolean split) {
+        checkCompatible(y);
+        if (y.isEmpty())
+            return this;
+        if (isEmpty()) {
+            blocks = y.copyBlocks();
+            return this;
+        }
+        var differing = new ArrayList<Long>();
+        for (var d : commonPartition(y))
+            if (!factor(d).ph.equals(y.factor(d).ph))
+                for (long i : d)
+                    differing.add(i);
+        if (differing.isEmpty())
+            return this;
+        var dims = normalize(differing.stream().mapToLong(Long::longValue).toArray());
+        var b = merge(dims);
+        op.apply(b.ph, y.factor(dims).ph);
+        if (split)
+            split(b);
+        return this;
+    }
+
+    /**
+     * Assigns to this packed polyhedron the result of {@code op} on the
+     * polyhedra corresponding to this and {@code y}.
+     */
+    private PackedPolyhedron<P> flatOperation(PackedPolyhedron<P> y, BinaryOperator<P> op) {
+        checkCompatible(y);
+        rebuild(op.apply(toPolyhedron(), y.toPolyhedron()));
+        return this;
+    }
+
+    /**
+     * Returns the result of {@code f} on the polyhedron corresponding to this
+     * packed polyhedron.
+     */
+    private <R> R flatQuery(Function<P, R> f) {
+        var ph = toPolyhedron();
+        var result = f.apply(ph);
+        Reference.reachabilityFence(ph);
+        return result;
+    }
+
+    private List<Block<P>> copyBlocks() {
+        var copy = new ArrayList<Block<P>>(blocks.size());
+        for (var b : blocks)
+            copy.add(b.copy());
+        return copy;
+    }
+
+    /**
+     * Returns a new polyhedron equal to this packed polyhedron.
+     */
+    public P toPolyhedron() {
+        var used = new boolean[Math.toIntExact(dimension)];
+        for (var b : blocks)
+            for (long i : b.dims)
+                used[(int) i] = true;
+        var free = new long[Math.toIntExact(freeDimensions())];
+        int n = 0;
+        for (int i = 0; i < used.length; i++)
+            if (!used[i])
+                free[n++] = i;
+        return assemble(blocks, free, false).ph;
+    }
+
+    /**
+     * Returns the blocks of the partition of the space dimensions, in order of
+     * their smallest dimension. The dimensions which belong to no block are
+     * unconstrained.
+     */
+    public long[][] getPartition() {
+        return blocks.stream().filter(b -> b.dims.length > 0).map(b -> b.dims.clone())
+                .sorted(Comparator.comparingLong(d -> d[0])).toArray(long[][]::new);
+    }
+
+    @Override
+    public PackedPolyhedron<P> clone() {
+        return new PackedPolyhedron<>(domain, dimension, copyBlocks());
+    }
+
+    /**
+     * Returns {@code null}, since a packed polyhedron has no native counterpart.
+     * The native objects of the blocks are not exposed.
+     */
+    @Override
+    public Pointer getNative() {
+        return null;
+    }
+
+    @Override
+    public long getSpaceDimension() {
+        return dimension;
+    }
+
+    @Override
+    public long getAffineDimension() {
+        if (isEmpty())
+            return 0;
+        long d = freeDimensions();
+        for (var b : blocks)
+            d += b.ph.getAffineDimension();
+        return d;
+    }
+
+    @Override
+    public int getRelationWith(Constraint c) {
+        var coeffs = c.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        if (isEmpty())
+            return domain.createEmpty(dimension).getRelationWith(c);
+        var b = factor(support(coeffs));
+        return b.ph.getRelationWith(Constraint.of(localize(coeffs, b), c.getType()));
+    }
+
+    @Override
+    public int getRelationWith(Generator g) {
+        return flatQuery(ph -> ph.getRelationWith(g));
+    }
+
+    @Override
+    public ConstraintSystem getConstraints() {
+        return flatQuery(ph -> ph.getConstraints().clone());
+    }
+
+    @Override
+    public CongruenceSystem getCongruences() {
+        return flatQuery(ph -> ph.getCongruences().clone());
+    }
+
+    @Override
+    public ConstraintSystem getMinimizedConstraints() {
+        return flatQuery(ph -> ph.getMinimizedConstraints().clone());
+    }
+
+    @Override
+    public CongruenceSystem getMinimizedCongruences() {
+        return flatQuery(ph -> ph.getMinimizedCongruences().clone());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (var b : blocks)
+            if (b.ph.isEmpty())
+                return true;
+        return false;
+    }
+
+    @Override
+    public boolean isUniverse() {
+        for (var b : blocks)
+            if (!b.ph.isUniverse())
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean isBounded() {
+        if (isEmpty())
+            return true;
+        if (freeDimensions() > 0)
+            return false;
+        for (var b : blocks)
+            if (!b.ph.isBounded())
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean containsIntegerPoint() {
+        for (var b : blocks)
+            if (!b.ph.containsIntegerPoint())
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean isTopologicallyClosed() {
+        for (var b : blocks)
+            if (!b.ph.isTopologicallyClosed())
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean isDiscrete() {
+        if (isEmpty())
+            return true;
+        if (freeDimensions() > 0)
+            return false;
+        for (var b : blocks)
+            if (!b.ph.isDiscrete())
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean constraints(long i) {
+        checkDimension(i);
+        if (isEmpty())
+            return true;
+        int b = blockOf(i);
+        return b >= 0 && blocks.get(b).ph.constraints(blocks.get(b).local(i));
+    }
+
+    /**
+     * Returns true if and only if {@code le} is bounded from above, or from below
+     * if {@code above} is false. The linear expression is split among the
+     * blocks, which are tested separately.
+     */
+    private boolean bounds(LinearExpression le, boolean above) {
+        var coeffs = le.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        if (isEmpty())
+            return true;
+        var dims = support(coeffs);
+        var parts = new ArrayList<Block<P>>();
+        if (collect(dims, parts).length > 0)
+            return false;
+        for (var b : parts) {
+            var builder = LinearExpression.builder();
+            for (long i : dims)
+                if (b.local(i) >= 0)
+                    builder.add(coeffs[(int) i], b.local(i));
+            var local = builder.build();
+            if (above ? !b.ph.boundsFromAbove(local) : !b.ph.boundsFromBelow(local))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean boundsFromAbove(LinearExpression le) {
+        return bounds(le, true);
+    }
+
+    @Override
+    public boolean boundsFromBelow(LinearExpression le) {
+        return bounds(le, false);
+    }
+
+    @Override
+    public Optional<ExtremalOutput> maximizeWithPoint(LinearExpression le) {
+        return flatQuery(ph -> ph.maximizeWithPoint(le));
+    }
+
+    @Override
+    public Optional<ExtremalOutput> maximize(LinearExpression le) {
+        return flatQuery(ph -> ph.maximize(le));
+    }
+
+    @Override
+    public Optional<ExtremalOutput> minimizeWithPoint(LinearExpression le) {
+        return flatQuery(ph -> ph.minimizeWithPoint(le));
+    }
+
+    @Override
+    public Optional<ExtremalOutput> minimize(LinearExpression le) {
+        return flatQuery(ph -> ph.minimize(le));
+    }
+
+    @Override
+    public boolean contains(PackedPolyhedron<P> y) {
+        checkCompatible(y);
+        if (y.isEmpty())
+            return true;
+        if (isEmpty())
+            return false;
+        for (var d : commonPartition(y))
+            if (!factor(d).ph.contains(y.factor(d).ph))
+                return false;
+        return true;
+    }
+
+    @Override
+    public boolean strictlyContains(PackedPolyhedron<P> y) {
+        checkCompatible(y);
+        if (isEmpty())
+            return false;
+        if (y.isEmpty())
+            return true;
+        boolean strict = false;
+        for (var d : commonPartition(y)) {
+            var fx = factor(d).ph;
+            var fy = y.factor(d).ph;
+            if (!fx.contains(fy))
+                return false;
+            strict = strict || !fx.equals(fy);
+        }
+        return strict;
+    }
+
+    @Override
+    public boolean isDisjointFrom(PackedPolyhedron<P> y) {
+        checkCompatible(y);
+        if (isEmpty() || y.isEmpty())
+            return true;
+        for (var d : commonPartition(y))
+            if (factor(d).ph.isDisjointFrom(y.factor(d).ph))
+                return true;
+        return false;
+    }
+
+    @Override
+    public long getExternalMemoryInBytes() {
+        long bytes = 0;
+        for (var b : blocks)
+            bytes += b.ph.getTotalMemoryInBytes();
+        return bytes;
+    }
+
+    @Override
+    public long getTotalMemoryInBytes() {
+        return getExternalMemoryInBytes();
+    }
+
+    /**
+     * Adds to the block of its dimensions the constraint {@code c}, by
+     * {@code Polyhedron.add} if {@code refine} is false, otherwise by
+     * {@code Polyhedron.refineWith}.
+     */
+    private PackedPolyhedron<P> addConstraint(Constraint c, boolean refine) {
+        var coeffs = c.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var dims = support(coeffs);
+        if (dims.length == 0) {
+            if (!holds(coeffs[coeffs.length - 1], c.getType()))
+                setEmpty();
+            return this;
+        }
+        var b = merge(dims);
+        var local = Constraint.of(localize(coeffs, b), c.getType());
+        if (refine)
+            b.ph.refineWith(local);
+        else
+            b.ph.add(local);
+        return this;
+    }
+
+    /**
+     * Adds to the block of its dimensions the congruence {@code c}, by
+     * {@code Polyhedron.add} if {@code refine} is false, otherwise by
+     * {@code Polyhedron.refineWith}.
+     */
+    private PackedPolyhedron<P> addCongruence(Congruence c, boolean refine) {
+        var coeffs = c.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var modulus = c.getModulus();
+        var dims = support(coeffs);
+        if (dims.length == 0) {
+            var m = modulus.bigIntegerValue();
+            var k = coeffs[coeffs.length - 1];
+            if (m.signum() == 0 ? k.signum() != 0 : k.mod(m.abs()).signum() != 0)
+                setEmpty();
+            return this;
+        }
+        var b = merge(dims);
+        var local = Congruence.of(localize(coeffs, b), modulus);
+        if (refine)
+            b.ph.refineWith(local);
+        else
+            b.ph.add(local);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> add(Constraint c) {
+        return addConstraint(c, false);
+    }
+
+    @Override
+    public PackedPolyhedron<P> add(Congruence c) {
+        return addCongruence(c, false);
+    }
+
+    @Override
+    public PackedPolyhedron<P> add(ConstraintSystem cs) {
+        for (var c : cs)
+            addConstraint(c, false);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> add(CongruenceSystem cs) {
+        for (var c : cs)
+            addCongruence(c, false);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> addReycled(ConstraintSystem cs) {
+        return add(cs);
+    }
+
+    @Override
+    public PackedPolyhedron<P> addRecycled(CongruenceSystem cs) {
+        return add(cs);
+    }
+
+    @Override
+    public PackedPolyhedron<P> refineWith(Constraint c) {
+        return addConstraint(c, true);
+    }
+
+    @Override
+    public PackedPolyhedron<P> refineWith(Congruence c) {
+        return addCongruence(c, true);
+    }
+
+    @Override
+    public PackedPolyhedron<P> refineWith(ConstraintSystem cs) {
+        for (var c : cs)
+            addConstraint(c, true);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> refineWith(CongruenceSystem cs) {
+        for (var c : cs)
+            addCongruence(c, true);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> intersection(PackedPolyhedron<P> y) {
+        checkCompatible(y);
+        if (y.hasEmptyMarker()) {
+            setEmpty();
+            return this;
+        }
+        for (var d : commonPartition(y))
+            merge(d).ph.intersection(y.factor(d).ph);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the blocks where the operands differ are merged and joined.
+     * </p>
+     */
+    @Override
+    public PackedPolyhedron<P> upperBound(PackedPolyhedron<P> y) {
+        return combine(y, P::upperBound, true);
+    }
+
+    /**
+     * Assigns to this packed polyhedron its poly-hull with {@code y}.
+     *
+     * @return this packed polyhedron.
+     * @see #upperBound(PackedPolyhedron)
+     */
+    public PackedPolyhedron<P> polyHull(PackedPolyhedron<P> y) {
+        return upperBound(y);
+    }
+
+    @Override
+    public PackedPolyhedron<P> difference(PackedPolyhedron<P> y) {
+        return flatOperation(y, P::difference);
+    }
+
+    @Override
+    public PackedPolyhedron<P> simplifyUsingContext(PackedPolyhedron<P> y) {
+        return flatOperation(y, P::simplifyUsingContext);
+    }
+
+    @Override
+    public PackedPolyhedron<P> timeElapse(PackedPolyhedron<P> y) {
+        return flatOperation(y, P::timeElapse);
+    }
+
+    @Override
+    public PackedPolyhedron<P> topologicalClosure() {
+        for (var b : blocks)
+            b.ph.topologicalClosure();
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> unconstrain(long i) {
+        return unconstrain(new long[] { i });
+    }
+
+    @Override
+    public PackedPolyhedron<P> unconstrain(long[] ds) {
+        for (long i : ds)
+            checkDimension(i);
+        var dims = normalize(ds);
+        var parts = new ArrayList<Block<P>>();
+        collect(dims, parts);
+        for (var b : parts) {
+            b.ph.unconstrain(Arrays.stream(dims).filter(i -> b.local(i) >= 0).map(b::local).toArray());
+            split(b);
+        }
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> affineImage(long i, LinearExpression le, Coefficient d) {
+        checkDimension(i);
+        var coeffs = le.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var b = merge(dimsOf(i, coeffs));
+        b.ph.affineImage(b.local(i), localize(coeffs, b), d);
+        if (i >= coeffs.length - 1 || coeffs[(int) i].signum() == 0)
+            split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> affinePreImage(long i, LinearExpression le, Coefficient d) {
+        checkDimension(i);
+        var coeffs = le.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var b = merge(dimsOf(i, coeffs));
+        b.ph.affinePreImage(b.local(i), localize(coeffs, b), d);
+        if (i >= coeffs.length - 1 || coeffs[(int) i].signum() == 0)
+            split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> boundedAffineImage(long i, LinearExpression lb, LinearExpression ub,
+            Coefficient d) {
+        checkDimension(i);
+        var lc = lb.getBigIntegerCoefficients();
+        var uc = ub.getBigIntegerCoefficients();
+        checkDimension(lc);
+        checkDimension(uc);
+        var b = merge(dimsOf(i, lc, uc));
+        b.ph.boundedAffineImage(b.local(i), localize(lc, b), localize(uc, b), d);
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> boundedAffinePreImage(long i, LinearExpression lb, LinearExpression ub,
+            Coefficient d) {
+        checkDimension(i);
+        var lc = lb.getBigIntegerCoefficients();
+        var uc = ub.getBigIntegerCoefficients();
+        checkDimension(lc);
+        checkDimension(uc);
+        var b = merge(dimsOf(i, lc, uc));
+        b.ph.boundedAffinePreImage(b.local(i), localize(lc, b), localize(uc, b), d);
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> generalizedAffineImage(long i, ConstraintType rel, LinearExpression le,
+            Coefficient d) {
+        checkDimension(i);
+        var coeffs = le.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var b = merge(dimsOf(i, coeffs));
+        b.ph.generalizedAffineImage(b.local(i), rel, localize(coeffs, b), d);
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> generalizedAffinePreImage(long i, ConstraintType rel, LinearExpression le,
+            Coefficient d) {
+        checkDimension(i);
+        var coeffs = le.getBigIntegerCoefficients();
+        checkDimension(coeffs);
+        var b = merge(dimsOf(i, coeffs));
+        b.ph.generalizedAffinePreImage(b.local(i), rel, localize(coeffs, b), d);
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> generalizedAffineImageLhsRhs(LinearExpression lhs, ConstraintType rel,
+            LinearExpression rhs) {
+        var lc = lhs.getBigIntegerCoefficients();
+        var rc = rhs.getBigIntegerCoefficients();
+        checkDimension(lc);
+        checkDimension(rc);
+        var dims = dimsOf(-1, lc, rc);
+        if (dims.length == 0)
+            return addConstraint(Constraint.of(lhs.clone().add(rhs.clone().multiply(Coefficient.MINUS_ONE)), rel),
+                    false);
+        var b = merge(dims);
+        b.ph.generalizedAffineImageLhsRhs(localize(lc, b), rel, localize(rc, b));
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> generalizedAffinePreImageLhsRhs(LinearExpression lhs, ConstraintType rel,
+            LinearExpression rhs) {
+        var lc = lhs.getBigIntegerCoefficients();
+        var rc = rhs.getBigIntegerCoefficients();
+        checkDimension(lc);
+        checkDimension(rc);
+        var dims = dimsOf(-1, lc, rc);
+        if (dims.length == 0)
+            return addConstraint(Constraint.of(lhs.clone().add(rhs.clone().multiply(Coefficient.MINUS_ONE)), rel),
+                    false);
+        var b = merge(dims);
+        b.ph.generalizedAffinePreImageLhsRhs(localize(lc, b), rel, localize(rc, b));
+        split(b);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> concatenate(PackedPolyhedron<P> y) {
+        for (var b : y.blocks) {
+            var dims = b.dims.clone();
+            for (int k = 0; k < dims.length; k++)
+                dims[k] += dimension;
+            blocks.add(new Block<>(dims, b.ph.clone()));
+        }
+        dimension += y.dimension;
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> addSpaceDimensionsAndEmbed(long m) {
+        if (m < 0)
+            throw new IllegalArgumentException("The number of space dimensions should not be negative");
+        dimension += m;
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> addSpaceDimensionsAndProject(long m) {
+        if (m < 0)
+            throw new IllegalArgumentException("The number of space dimensions should not be negative");
+        for (long k = 0; k < m; k++)
+            blocks.add(new Block<>(new long[] { dimension + k },
+                    domain.createUniverse(0).addSpaceDimensionsAndProject(1)));
+        dimension += m;
+        return this;
+    }
+
+    /**
+     * Renumbers the dimensions of all the blocks after the removal of the sorted
+     * dimensions in {@code removed}, which belong to no block anymore.
+     */
+    private void renumber(long[] removed) {
+        for (var b : blocks)
+            for (int k = 0; k < b.dims.length; k++)
+                b.dims[k] -= -Arrays.binarySearch(removed, b.dims[k]) - 1;
+        dimension -= removed.length;
+    }
+
+    /**
+     * Removes from the block {@code b} the dimensions in {@code removed}, which
+     * should be sorted, and splits what remains.
+     */
+    private void removeFrom(Block<P> b, long[] removed) {
+        var local = Arrays.stream(removed).filter(i -> b.local(i) >= 0).map(b::local).toArray();
+        if (local.length == 0)
+            return;
+        if (local.length == b.dims.length) {
+            if (b.ph.isEmpty())
+                setEmpty(b);
+            else
+                blocks.remove(b);
+            return;
+        }
+        b.ph.removeSpaceDimensions(local);
+        b.dims = Arrays.stream(b.dims).filter(i -> Arrays.binarySearch(removed, i) < 0).toArray();
+        split(b);
+    }
+
+    /**
+     * Turns the block {@code b}, whose polyhedron is empty, into a block without
+     * dimensions, which records that this packed polyhedron is empty.
+     */
+    private void setEmpty(Block<P> b) {
+        b.dims = new long[0];
+        b.ph = domain.createEmpty(0);
+    }
+
+    @Override
+    public PackedPolyhedron<P> removeSpaceDimensions(long[] ds) {
+        for (long i : ds)
+            checkDimension(i);
+        var removed = normalize(ds);
+        for (var b : new ArrayList<>(blocks))
+            removeFrom(b, removed);
+        renumber(removed);
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> removeHigherSpaceDimensions(long d) {
+        if (d < 0 || d > dimension)
+            throw new IllegalArgumentException("Space dimension " + d + " out of range");
+        return removeSpaceDimensions(range(d, dimension));
+    }
+
+    @Override
+    public PackedPolyhedron<P> mapSpaceDimensions(long[] maps) {
+        long nad = PPL.getNotADimension();
+        var removed = new ArrayList<Long>();
+        long newDimension = 0;
+        for (long i = 0; i < dimension; i++) {
+            if (i < maps.length && maps[(int) i] != nad)
+                newDimension = Math.max(newDimension, maps[(int) i] + 1);
+            else
+                removed.add(i);
+        }
+        var rs = removed.stream().mapToLong(Long::longValue).toArray();
+        for (var b : new ArrayList<>(blocks))
+            removeFrom(b, rs);
+        for (var b : blocks) {
+            // old dimensions are those left after the removals, not yet renumbered
+            var target = new long[b.dims.length];
+            for (int k = 0; k < target.length; k++)
+                target[k] = maps[(int) b.dims[k]];
+            var dims = target.clone();
+            Arrays.sort(dims);
+            var local = new long[target.length];
+            boolean identity = true;
+            for (int k = 0; k < target.length; k++) {
+                local[k] = Arrays.binarySearch(dims, target[k]);
+                identity &= local[k] == k;
+            }
+            if (!identity)
+                b.ph.mapSpaceDimensions(local);
+            b.dims = dims;
+        }
+        dimension = newDimension;
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> expandSpaceDimension(long i, long m) {
+        checkDimension(i);
+        int b = blockOf(i);
+        if (b >= 0) {
+            var block = blocks.get(b);
+            block.ph.expandSpaceDimension(block.local(i), m);
+            var dims = Arrays.copyOf(block.dims, Math.toIntExact(block.dims.length + m));
+            for (int k = 0; k < m; k++)
+                dims[block.dims.length + k] = dimension + k;
+            block.dims = dims;
+        }
+        dimension += m;
+        return this;
+    }
+
+    @Override
+    public PackedPolyhedron<P> foldSpaceDimensions(long[] ds, long i) {
+        checkDimension(i);
+        for (long j : ds)
+            checkDimension(j);
+        if (ds.length == 0)
+            return this;
+        var removed = normalize(ds);
+        var all = Arrays.copyOf(removed, removed.length + 1);
+        all[removed.length] = i;
+        var b = merge(normalize(all));
+        b.ph.foldSpaceDimensions(Arrays.stream(removed).map(b::local).toArray(), b.local(i));
+        b.dims = Arrays.stream(b.dims).filter(j -> Arrays.binarySearch(removed, j) < 0).toArray();
+        renumber(removed);
+        split(b);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the blocks where the operands differ are merged and widened.
+     * </p>
+     */
+    @Override
+    public PackedPolyhedron<P> widening(PackedPolyhedron<P> y) {
+        return combine(y, P::widening, false);
+    }
+
+    @Override
+    public PackedPolyhedron<P> widening(PackedPolyhedron<P> y, WideningTokens w) {
+        return combine(y, (a, b) -> a.widening(b, w), false);
+    }
+
+    /**
+     * Assigns to this packed polyhedron its H79 widening with {@code y}. Only the
+     * blocks where the operands differ are merged and widened.
+     *
+     * @return this packed polyhedron.
+     * @see Polyhedron#H79Widening(Polyhedron)
+     */
+    public PackedPolyhedron<P> H79Widening(PackedPolyhedron<P> y) {
+        return combine(y, P::H79Widening, false);
+    }
+
+    /**
+     * Variant of {@link #H79Widening(PackedPolyhedron) H79Widening} with tokens.
+     *
+     * @return this packed polyhedron.
+     * @see Polyhedron#H79Widening(Polyhedron, WideningTokens)
+     */
+    public PackedPolyhedron<P> H79Widening(PackedPolyhedron<P> y, WideningTokens w) {
+        return combine(y, (a, b) -> a.H79Widening(b, w), false);
+    }
+
+    /**
+     * Assigns to this packed polyhedron its BHRZ03 widening with {@code y}. Only
+     * the blocks where the operands differ are merged and widened.
+     *
+     * @return this packed polyhedron.
+     * @see Polyhedron#BHRZ03Widening(Polyhedron)
+     */
+    public PackedPolyhedron<P> BHRZ03Widening(PackedPolyhedron<P> y) {
+        return combine(y, P::BHRZ03Widening, false);
+    }
+
+    /**
+     * Variant of {@link #BHRZ03Widening(PackedPolyhedron) BHRZ03Widening} with
+     * tokens.
+     *
+     * @return this packed polyhedron.
+     * @see Polyhedron#BHRZ03Widening(Polyhedron, WideningTokens)
+     */
+    public PackedPolyhedron<P> BHRZ03Widening(PackedPolyhedron<P> y, WideningTokens w) {
+        return combine(y, (a, b) -> a.BHRZ03Widening(b, w), false);
+    }
+
+    /**
+     * Returns true if and only if {@code obj} is a packed polyhedron with the
+     * same points as this one, possibly partitioned in a different way.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof PackedPolyhedron<?>))
+            return false;
+        var y = (PackedPolyhedron<?>) obj;
+        if (y.dimension != dimension)
+            return false;
+        boolean empty = isEmpty();
+        if (empty || y.isEmpty())
+            return empty && y.isEmpty();
+        for (var d : commonPartition(y))
+            if (!factor(d).ph.equals(y.factor(d).ph))
+                return false;
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this packed polyhedron. It is the sum of the hash
+     * codes of the minimized constraints of the blocks, where each coefficient is
+     * attached to its global space dimension. Since no constraint relates
+     * different blocks, the minimized constraints do not depend on the
+     * partition, hence equal packed polyhedra have the same hash code. All the
+     * empty packed polyhedra of the same space dimension have the same hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = Long.hashCode(dimension);
+        if (isEmpty())
+            return 31 * h + 1;
+        for (var b : blocks)
+            for (var c : b.ph.getMinimizedConstraints()) {
+                var coeffs = c.getBigIntegerCoefficients();
+                int hc = c.getType().ordinal();
+                for (int j = 0; j < coeffs.length - 1; j++)
+                    if (coeffs[j].signum() != 0)
+                        hc = 31 * (31 * hc + Long.hashCode(b.dims[j])) + coeffs[j].hashCode();
+                h += 31 * hc + coeffs[coeffs.length - 1].hashCode();
+            }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return flatQuery(P::toString);
+    }
+
+}
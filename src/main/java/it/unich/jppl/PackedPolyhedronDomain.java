@@ -0,0 +1,138 @@
+package it.unich.jppl;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The abstract domain of packed polyhedra, whose blocks are created by another
+ * domain of polyhedra. For example, packed closed polyhedra are created by
+ *
+ * <pre>
+ * new PackedPolyhedronDomain&lt;&gt;(new CPolyhedronDomain())
+ * </pre>
+ *
+ * @param <P> the type of the polyhedra backing the blocks.
+ * @see PackedPolyhedron
+ */
+public class PackedPolyhedronDomain<P extends Polyhedron<P>> implements Domain<PackedPolyhedron<P>> {
+
+    private final Domain<P> base;
+
+    private final List<WideningSpecification<PackedPolyhedron<P>>> widenings = Arrays.asList(
+            new WideningSpecification<>("H79", PackedPolyhedron::H79Widening, PackedPolyhedron::H79Widening),
+            new WideningSpecification<>("BHRZ03", PackedPolyhedron::BHRZ03Widening,
+                    PackedPolyhedron::BHRZ03Widening));
+
+    private final List<NarrowingSpecification<PackedPolyhedron<P>>> narrowings = List.of();
+
+    /**
+     * Creates the domain of packed polyhedra whose blocks are created by
+     * {@code base}.
+     */
+    public PackedPolyhedronDomain(Domain<P> base) {
+        this.base = base;
+    }
+
+    /**
+     * Returns the domain which creates the blocks.
+     */
+    public Domain<P> getBase() {
+        return base;
+    }
+
+    @Override
+    public PackedPolyhedron<P> createEmpty(long d) {
+        return PackedPolyhedron.empty(base, d);
+    }
+
+    @Override
+    public PackedPolyhedron<P> createUniverse(long d) {
+        return PackedPolyhedron.universe(base, d);
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(ConstraintSystem cs) {
+        return PackedPolyhedron.from(base, cs);
+    }
+
+    @Override
+    public PackedPolyhedron<P> createRecycledFrom(ConstraintSystem cs) {
+        return PackedPolyhedron.from(base, cs);
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(CongruenceSystem cs) {
+        return PackedPolyhedron.from(base, base.createFrom(cs));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createRecycledFrom(CongruenceSystem cs) {
+        return PackedPolyhedron.from(base, base.createRecycledFrom(cs));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(GeneratorSystem gs) {
+        return PackedPolyhedron.from(base, base.createFrom(gs));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createRecycledFrom(GeneratorSystem gs) {
+        return PackedPolyhedron.from(base, base.createRecycledFrom(gs));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(PackedPolyhedron<P> p) {
+        return p.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The complexity argument is ignored.
+     * </p>
+     */
+    @Override
+    public PackedPolyhedron<P> createFrom(PackedPolyhedron<P> p, ComplexityClass complexity) {
+        return p.clone();
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(CPolyhedron ph) {
+        return PackedPolyhedron.from(base, base.createFrom(ph));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(CPolyhedron ph, ComplexityClass complexity) {
+        return PackedPolyhedron.from(base, base.createFrom(ph, complexity));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(NNCPolyhedron ph) {
+        return PackedPolyhedron.from(base, base.createFrom(ph));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(NNCPolyhedron ph, ComplexityClass complexity) {
+        return PackedPolyhedron.from(base, base.createFrom(ph, complexity));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(DoubleBox box) {
+        return PackedPolyhedron.from(base, base.createFrom(box));
+    }
+
+    @Override
+    public PackedPolyhedron<P> createFrom(DoubleBox box, ComplexityClass complexity) {
+        return PackedPolyhedron.from(base, base.createFrom(box, complexity));
+    }
+
+    @Override
+    public List<WideningSpecification<PackedPolyhedron<P>>> getWidenings() {
+        return widenings;
+    }
+
+    @Override
+    public List<NarrowingSpecification<PackedPolyhedron<P>>> getNarrowings() {
+        return narrowings;
+    }
+}
@@ -0,0 +1,191 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Implementation of the parallel affine images and preimages of properties.
+ *
+ * <p>
+ * A parallel assignment is performed as a sequence of single affine images,
+ * ordered so that each variable is assigned only after all the expressions
+ * which read it. When the assignments are cyclic, as in
+ * \((x_0, x_1) := (x_1, x_0)\), the old values of some variables are saved in
+ * temporary space dimensions, and the expressions read them from there. The
+ * temporary dimensions are added all at once, and they are chosen greedily,
+ * so that acyclic assignments need no temporary dimension at all. Preimages
+ * are performed in the opposite order.
+ * </p>
+ */
+final class ParallelAffine {
+
+    /**
+     * The order of the single assignments and the variables to save.
+     */
+    private final int[] order;
+
+    private final boolean[] saved;
+
+    private final int temporaries;
+
+    /**
+     * The coefficients of each expression, followed by its inhomogeneous term.
+     */
+    private final BigInteger[][] coefficients;
+
+    /**
+     * Default constructor. It is private, since plans are created by
+     * {@link #image} and {@link #preImage}.
+     */
+    private ParallelAffine(int[] order, boolean[] saved, int temporaries, BigInteger[][] coefficients) {
+        this.order = order;
+        this.saved = saved;
+        this.temporaries = temporaries;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Assigns to {@code p} its image through the parallel assignment of
+     * {@code exprs[j] / dens[j]} to the variables {@code vars[j]}.
+     */
+    static <T extends Property<T>> T image(T p, long[] vars, LinearExpression[] exprs, Coefficient[] dens) {
+        var plan = plan(vars, exprs, dens);
+        long n = p.getSpaceDimension();
+        var es = plan.rewrite(vars, exprs, n);
+        if (plan.temporaries > 0)
+            p.addSpaceDimensionsAndEmbed(plan.temporaries).refineWith(plan.copies(vars, n));
+        for (int j : plan.order)
+            p.affineImage(vars[j], es[j], dens[j]);
+        if (plan.temporaries > 0)
+            p.removeHigherSpaceDimensions(n);
+        return p;
+    }
+
+    /**
+     * Assigns to {@code p} its preimage through the parallel assignment of
+     * {@code exprs[j] / dens[j]} to the variables {@code vars[j]}.
+     */
+    static <T extends Property<T>> T preImage(T p, long[] vars, LinearExpression[] exprs, Coefficient[] dens) {
+        var plan = plan(vars, exprs, dens);
+        long n = p.getSpaceDimension();
+        var es = plan.rewrite(vars, exprs, n);
+        if (plan.temporaries > 0)
+            p.addSpaceDimensionsAndEmbed(plan.temporaries);
+        for (int k = plan.order.length - 1; k >= 0; k--) {
+            int j = plan.order[k];
+            p.affinePreImage(vars[j], es[j], dens[j]);
+        }
+        if (plan.temporaries > 0)
+            p.refineWith(plan.copies(vars, n)).removeHigherSpaceDimensions(n);
+        return p;
+    }
+
+    /**
+     * Returns the plan for the parallel assignment of {@code exprs} to
+     * {@code vars}.
+     *
+     * @throws IllegalArgumentException if the arrays have different lengths, or
+     *                                  some variable is repeated.
+     */
+    private static ParallelAffine plan(long[] vars, LinearExpression[] exprs, Coefficient[] dens) {
+        int k = vars.length;
+        if (exprs.length != k || dens.length != k)
+            throw new IllegalArgumentException("The arrays should have the same length");
+        var sorted = vars.clone();
+        Arrays.sort(sorted);
+        for (int j = 1; j < k; j++)
+            if (sorted[j] == sorted[j - 1])
+                throw new IllegalArgumentException("Variable " + sorted[j] + " is assigned twice");
+        // each coefficient is read once, without allocating native coefficients
+        var coefficients = new BigInteger[k][];
+        for (int i = 0; i < k; i++)
+            coefficients[i] = exprs[i].getBigIntegerCoefficients();
+        // reads[i][j] is true if exprs[i] reads vars[j], for i != j
+        var reads = new boolean[k][k];
+        var readers = new int[k];
+        for (int i = 0; i < k; i++) {
+            var cs = coefficients[i];
+            long d = cs.length - 1;
+            for (int j = 0; j < k; j++)
+                if (i != j && vars[j] < d && cs[(int) vars[j]].signum() != 0) {
+                    reads[i][j] = true;
+                    readers[j]++;
+                }
+        }
+        var order = new int[k];
+        var done = new boolean[k];
+        var saved = new boolean[k];
+        int temporaries = 0;
+        for (int step = 0; step < k;) {
+            int next = -1;
+            for (int j = 0; j < k && next < 0; j++)
+                if (!done[j] && readers[j] == 0)
+                    next = j;
+            if (next < 0) {
+                // all the pending variables are in a cycle: save the first one
+                for (int j = 0; j < k && next < 0; j++)
+                    if (!done[j])
+                        next = j;
+                saved[next] = true;
+                readers[next] = 0;
+                temporaries++;
+                continue;
+            }
+            done[next] = true;
+            order[step++] = next;
+            for (int j = 0; j < k; j++)
+                if (reads[next][j] && !saved[j])
+                    readers[j]--;
+        }
+        return new ParallelAffine(order, saved, temporaries, coefficients);
+    }
+
+    /**
+     * Returns the expressions where the saved variables are replaced by their
+     * temporary dimensions, which start at {@code n}.
+     */
+    private LinearExpression[] rewrite(long[] vars, LinearExpression[] exprs, long n) {
+        if (temporaries == 0)
+            return exprs;
+        var es = new LinearExpression[exprs.length];
+        for (int i = 0; i < exprs.length; i++) {
+            var cs = coefficients[i];
+            long d = cs.length - 1;
+            long t = n;
+            for (int j = 0; j < exprs.length; j++) {
+                if (!saved[j])
+                    continue;
+                if (i != j && vars[j] < d) {
+                    var c = cs[(int) vars[j]];
+                    if (c.signum() != 0) {
+                        if (es[i] == null)
+                            es[i] = exprs[i].clone();
+                        es[i].add(Coefficient.valueOf(c.negate()), vars[j]).add(Coefficient.valueOf(c), t);
+                    }
+                }
+                t++;
+            }
+            if (es[i] == null)
+                es[i] = exprs[i];
+        }
+        return es;
+    }
+
+    /**
+     * Returns the constraints which equate each saved variable to its temporary
+     * dimension.
+     */
+    private ConstraintSystem copies(long[] vars, long n) {
+        var cs = ConstraintSystem.empty();
+        long t = n;
+        for (int j = 0; j < vars.length; j++)
+            if (saved[j]) {
+                var le = LinearExpression.builder().add(1, t++).add(-1, vars[j]).build();
+                cs.add(Constraint.of(le, ConstraintType.EQUAL));
+            }
+        return cs;
+    }
+
+}
@@ -1,12 +1,13 @@
 package it.unich.jppl;
 
 import static it.unich.jppl.nativelib.LibPPL.*;
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
 
 import it.unich.jppl.Constraint.ConstraintType;
 import it.unich.jppl.nativelib.SizeT;
 import it.unich.jppl.nativelib.SizeTArray;
-import it.unich.jppl.nativelib.SizeTByReference;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import com.sun.jna.Pointer;
@@ -38,27 +39,132 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      */
     abstract protected T self();
 
+    /**
+     * Returns a box containing this polyhedron, computed by an algorithm in the
+     * class {@code complexity}.
+     */
+    abstract DoubleBox toBox(ComplexityClass complexity);
+
+    /**
+     * Returns a new polyhedron with the same topology of this one, which is the
+     * most precise one containing {@code box}.
+     */
+    abstract T fromBox(DoubleBox box);
+
+    /**
+     * The cached hash code of this polyhedron, or zero if it has not been
+     * computed since the last modification.
+     */
+    private int hash;
+
+    /**
+     * The generation of the {@link InternTable} where this polyhedron has been
+     * interned, or null if it has not been interned. Distinct polyhedra of the
+     * same generation and owner are never equal.
+     */
+    private Object internGeneration;
+
+    /**
+     * The cached fingerprint used by the {@link PolyhedronPrefilter}, or null if
+     * it has not been computed since the last modification.
+     */
+    private PolyhedronPrefilter.Fingerprint fingerprint;
+
+    /**
+     * Discards the information cached for this polyhedron and returns
+     * {@code self()}. It should be called by all the methods which modify this
+     * polyhedron.
+     */
+    T modified() {
+        hash = 0;
+        fingerprint = null;
+        return self();
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException} if this polyhedron has
+     * been interned. It should be called by all the methods which modify this
+     * polyhedron, before calling the PPL.
+     */
+    void checkMutable() {
+        if (internGeneration != null)
+            throw new UnsupportedOperationException("An interned polyhedron cannot be modified");
+    }
+
+    /**
+     * Marks this polyhedron as interned in the given generation of an
+     * {@link InternTable}, after which it cannot be modified anymore.
+     */
+    void markInterned(Object generation) {
+        internGeneration = generation;
+    }
+
+    /**
+     * Returns true if and only if this polyhedron has been interned in an
+     * {@link InternTable}. Interned polyhedra cannot be modified: all the
+     * methods which would modify them throw an
+     * {@link UnsupportedOperationException}.
+     */
+    public boolean isInterned() {
+        return internGeneration != null;
+    }
+
+    /**
+     * Returns a view of this polyhedron whose operations are abandoned when they
+     * take longer than {@code budget}, in which case they fall back to a cheaper
+     * result, as described in {@link BudgetedPolyhedron}.
+     *
+     * @see BudgetedPolyhedron
+     */
+    public BudgetedPolyhedron<T> withBudget(Duration budget) {
+        return new BudgetedPolyhedron<>(self(), budget);
+    }
+
+    /**
+     * Returns a view of this polyhedron whose operations are charged to the
+     * deterministic weight budget {@code budget}. The operations exceeding the
+     * budget are handled according to its degradation policy.
+     *
+     * @see BudgetedPolyhedron
+     */
+    public BudgetedPolyhedron<T> withBudget(WeightBudget budget) {
+        return new BudgetedPolyhedron<>(self(), budget);
+    }
+
+    /**
+     * Returns the fingerprint of this polyhedron used by the
+     * {@link PolyhedronPrefilter}, computing it if needed.
+     */
+    PolyhedronPrefilter.Fingerprint fingerprint() {
+        var f = fingerprint;
+        if (f == null) {
+            f = PolyhedronPrefilter.Fingerprint.of(this);
+            fingerprint = f;
+        }
+        return f;
+    }
+
     @Override
     public long getSpaceDimension() {
-        var pd = new SizeTByReference();
-        int result = ppl_Polyhedron_space_dimension(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Polyhedron_space_dimension(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public long getAffineDimension() {
-        var pd = new SizeTByReference();
-        int result = ppl_Polyhedron_affine_dimension(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Polyhedron_affine_dimension(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public int getRelationWith(Constraint c) {
-        int result = ppl_Polyhedron_relation_with_Constraint(pplObj, c.pplObj);
+        int result = ppl_Polyhedron_relation_with_Constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -66,7 +172,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public int getRelationWith(Generator g) {
-        int result = ppl_Polyhedron_relation_with_Generator(pplObj, g.pplObj);
+        int result = ppl_Polyhedron_relation_with_Generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result;
@@ -74,43 +180,43 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public ConstraintSystem getConstraints() {
-        var pcs = new PointerByReference();
-        int result = ppl_Polyhedron_get_constraints(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Polyhedron_get_constraints(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new ConstraintSystem(pcs.getValue(), false);
+        return new ConstraintSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public CongruenceSystem getCongruences() {
-        var pcs = new PointerByReference();
-        int result = ppl_Polyhedron_get_congruences(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Polyhedron_get_congruences(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CongruenceSystem(pcs.getValue(), false);
+        return new CongruenceSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public ConstraintSystem getMinimizedConstraints() {
-        var pcs = new PointerByReference();
-        int result = ppl_Polyhedron_get_minimized_constraints(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Polyhedron_get_minimized_constraints(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new ConstraintSystem(pcs.getValue(), false);
+        return new ConstraintSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public CongruenceSystem getMinimizedCongruences() {
-        var pcs = new PointerByReference();
-        int result = ppl_Polyhedron_get_minimized_congruences(pplObj, pcs);
+        var pcs = scratch();
+        int result = ppl_Polyhedron_get_minimized_congruences(ptr(), pcs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new CongruenceSystem(pcs.getValue(), false);
+        return new CongruenceSystem(pcs.getPointer(0), false);
     }
 
     @Override
     public boolean isEmpty() {
-        int result = ppl_Polyhedron_is_empty(pplObj);
+        int result = ppl_Polyhedron_is_empty(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -118,7 +224,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean isUniverse() {
-        int result = ppl_Polyhedron_is_universe(pplObj);
+        int result = ppl_Polyhedron_is_universe(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -126,7 +232,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean isBounded() {
-        int result = ppl_Polyhedron_is_bounded(pplObj);
+        int result = ppl_Polyhedron_is_bounded(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -134,7 +240,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean containsIntegerPoint() {
-        int result = ppl_Polyhedron_contains_integer_point(pplObj);
+        int result = ppl_Polyhedron_contains_integer_point(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -142,7 +248,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean isTopologicallyClosed() {
-        int result = ppl_Polyhedron_is_topologically_closed(pplObj);
+        int result = ppl_Polyhedron_is_topologically_closed(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -150,7 +256,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean isDiscrete() {
-        int result = ppl_Polyhedron_is_discrete(pplObj);
+        int result = ppl_Polyhedron_is_discrete(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -158,7 +264,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean constraints(long var) {
-        int result = ppl_Polyhedron_constrains(pplObj, new SizeT(var));
+        int result = ppl_Polyhedron_constrains(ptr(), var);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -166,7 +272,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean boundsFromAbove(LinearExpression le) {
-        int result = ppl_Polyhedron_bounds_from_above(pplObj, le.pplObj);
+        int result = ppl_Polyhedron_bounds_from_above(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -174,7 +280,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public boolean boundsFromBelow(LinearExpression le) {
-        int result = ppl_Polyhedron_bounds_from_below(pplObj, le.pplObj);
+        int result = ppl_Polyhedron_bounds_from_below(ptr(), le.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -184,14 +290,14 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
     public Optional<ExtremalOutput> maximize(LinearExpression le) {
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
-        var pmaximum = new IntByReference();
-        int result = ppl_Polyhedron_maximize(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum);
+        var pmaximum = scratch();
+        int result = ppl_Polyhedron_maximize(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, null));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, null));
     }
 
     @Override
@@ -199,29 +305,29 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
         var point = Generator.zeroDimPoint();
-        var pmaximum = new IntByReference();
-        int result = ppl_Polyhedron_maximize_with_point(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum,
-                point.pplObj);
+        var pmaximum = scratch();
+        int result = ppl_Polyhedron_maximize_with_point(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum,
+                point.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, point.clone()));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, point.clone()));
     }
 
     @Override
     public Optional<ExtremalOutput> minimize(LinearExpression le) {
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
-        var pmaximum = new IntByReference();
-        int result = ppl_Polyhedron_minimize(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum);
+        var pmaximum = scratch();
+        int result = ppl_Polyhedron_minimize(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum);
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, null));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, null));
     }
 
     @Override
@@ -229,36 +335,57 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
         var cn = Coefficient.zero();
         var cd = Coefficient.zero();
         var point = Generator.zeroDimPoint();
-        var pmaximum = new IntByReference();
-        int result = ppl_Polyhedron_minimize_with_point(pplObj, le.pplObj, cn.pplObj, cd.pplObj, pmaximum,
-                point.pplObj);
+        var pmaximum = scratch();
+        int result = ppl_Polyhedron_minimize_with_point(ptr(), le.ptr(), cn.outputPtr(), cd.outputPtr(), pmaximum,
+                point.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         if (result == 0)
             return Optional.empty();
         else
-            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getValue() != 0, point.clone()));
+            return Optional.of(new ExtremalOutput(cn, cd, pmaximum.getInt(0) != 0, point.clone()));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see PolyhedronPrefilter
+     */
     @Override
     public boolean contains(T y) {
-        int result = ppl_Polyhedron_contains_Polyhedron(pplObj, y.pplObj);
+        if (PolyhedronPrefilter.isEnabled() && PolyhedronPrefilter.excludesInclusion(this, y))
+            return false;
+        int result = ppl_Polyhedron_contains_Polyhedron(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see PolyhedronPrefilter
+     */
     @Override
     public boolean strictlyContains(T y) {
-        int result = ppl_Polyhedron_strictly_contains_Polyhedron(pplObj, y.pplObj);
+        if (PolyhedronPrefilter.isEnabled() && PolyhedronPrefilter.excludesInclusion(this, y))
+            return false;
+        int result = ppl_Polyhedron_strictly_contains_Polyhedron(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see PolyhedronPrefilter
+     */
     @Override
     public boolean isDisjointFrom(T y) {
-        int result = ppl_Polyhedron_is_disjoint_from_Polyhedron(pplObj, y.pplObj);
+        if (PolyhedronPrefilter.isEnabled() && PolyhedronPrefilter.provesDisjointness(this, y))
+            return true;
+        int result = ppl_Polyhedron_is_disjoint_from_Polyhedron(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -266,7 +393,7 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     boolean isOK() {
-        int result = ppl_Polyhedron_OK(pplObj);
+        int result = ppl_Polyhedron_OK(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
         return result > 0;
@@ -274,297 +401,331 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
 
     @Override
     public long getExternalMemoryInBytes() {
-        var pd = new SizeTByReference();
-        int result = ppl_Polyhedron_external_memory_in_bytes(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Polyhedron_external_memory_in_bytes(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public long getTotalMemoryInBytes() {
-        var pd = new SizeTByReference();
-        int result = ppl_Polyhedron_total_memory_in_bytes(pplObj, pd);
+        var pd = scratch();
+        int result = ppl_Polyhedron_total_memory_in_bytes(ptr(), pd);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return pd.getValue().longValue();
+        return pd.getLong(0);
     }
 
     @Override
     public T add(Constraint c) {
-        int result = ppl_Polyhedron_add_constraint(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T add(Congruence c) {
-        int result = ppl_Polyhedron_add_congruence(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T add(ConstraintSystem cs) {
-        int result = ppl_Polyhedron_add_constraints(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_constraints(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T add(CongruenceSystem cs) {
-        int result = ppl_Polyhedron_add_congruences(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_congruences(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T addReycled(ConstraintSystem cs) {
-        int result = ppl_Polyhedron_add_recycled_constraints(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_recycled_constraints(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T addRecycled(CongruenceSystem cs) {
-        int result = ppl_Polyhedron_add_recycled_congruences(pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_recycled_congruences(ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T refineWith(Constraint c) {
-        int result = ppl_Polyhedron_refine_with_constraint(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_refine_with_constraint(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T refineWith(Congruence c) {
-        int result = ppl_Polyhedron_refine_with_congruence(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_refine_with_congruence(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T refineWith(ConstraintSystem c) {
-        int result = ppl_Polyhedron_refine_with_constraints(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_refine_with_constraints(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T refineWith(CongruenceSystem c) {
-        int result = ppl_Polyhedron_refine_with_congruences(pplObj, c.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_refine_with_congruences(ptr(), c.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T intersection(T y) {
-        int result = ppl_Polyhedron_intersection_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_intersection_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T upperBound(T y) {
-        int result = ppl_Polyhedron_upper_bound_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_upper_bound_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T difference(T y) {
-        int result = ppl_Polyhedron_difference_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_difference_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T simplifyUsingContext(T y) {
-        int result = ppl_Polyhedron_difference_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_difference_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T timeElapse(T y) {
-        int result = ppl_Polyhedron_time_elapse_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_time_elapse_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T topologicalClosure() {
-        int result = ppl_Polyhedron_topological_closure_assign(pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_topological_closure_assign(ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T unconstrain(long i) {
-        int result = ppl_Polyhedron_unconstrain_space_dimension(pplObj, new SizeT(i));
+        checkMutable();
+        int result = ppl_Polyhedron_unconstrain_space_dimension(ptr(), i);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T unconstrain(long[] ds) {
+        checkMutable();
         var buffer = new SizeTArray(ds);
-        int result = ppl_Polyhedron_unconstrain_space_dimensions(pplObj, buffer, new SizeT(ds.length));
+        int result = ppl_Polyhedron_unconstrain_space_dimensions(ptr(), buffer, new SizeT(ds.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T affineImage(long i, LinearExpression le, Coefficient d) {
-        int result = ppl_Polyhedron_affine_image(pplObj, new SizeT(i), le.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_affine_image(ptr(), i, le.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T affinePreImage(long i, LinearExpression le, Coefficient d) {
-        int result = ppl_Polyhedron_affine_preimage(pplObj, new SizeT(i), le.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_affine_preimage(ptr(), i, le.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T boundedAffineImage(long i, LinearExpression lb, LinearExpression ub, Coefficient d) {
-        int result = ppl_Polyhedron_bounded_affine_image(pplObj, new SizeT(i), lb.pplObj, ub.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_bounded_affine_image(ptr(), i, lb.ptr(), ub.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T boundedAffinePreImage(long i, LinearExpression lb, LinearExpression ub, Coefficient d) {
-        int result = ppl_Polyhedron_bounded_affine_preimage(pplObj, new SizeT(i), lb.pplObj, ub.pplObj, d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_bounded_affine_preimage(ptr(), i, lb.ptr(), ub.ptr(), d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T generalizedAffineImage(long i, ConstraintType relsym, LinearExpression le, Coefficient d) {
-        int result = ppl_Polyhedron_generalized_affine_image(pplObj, new SizeT(i), relsym.ordinal(), le.pplObj,
-                d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_generalized_affine_image(ptr(), i, relsym.ordinal(), le.ptr(),
+                d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T generalizedAffinePreImage(long i, ConstraintType relsym, LinearExpression le, Coefficient d) {
-        int result = ppl_Polyhedron_generalized_affine_preimage(pplObj, new SizeT(i), relsym.ordinal(), le.pplObj,
-                d.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_generalized_affine_preimage(ptr(), i, relsym.ordinal(), le.ptr(),
+                d.valuePtr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T generalizedAffineImageLhsRhs(LinearExpression lhs, ConstraintType relsym, LinearExpression rhs) {
-        int result = ppl_Polyhedron_generalized_affine_image_lhs_rhs(pplObj, lhs.pplObj, relsym.ordinal(), rhs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_generalized_affine_image_lhs_rhs(ptr(), lhs.ptr(), relsym.ordinal(), rhs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T generalizedAffinePreImageLhsRhs(LinearExpression lhs, ConstraintType relsym, LinearExpression rhs) {
-        int result = ppl_Polyhedron_generalized_affine_preimage_lhs_rhs(pplObj, lhs.pplObj, relsym.ordinal(),
-                rhs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_generalized_affine_preimage_lhs_rhs(ptr(), lhs.ptr(), relsym.ordinal(),
+                rhs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T concatenate(T y) {
-        int result = ppl_Polyhedron_concatenate_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_concatenate_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T addSpaceDimensionsAndEmbed(long d) {
-        int result = ppl_Polyhedron_add_space_dimensions_and_embed(pplObj, new SizeT(d));
+        checkMutable();
+        int result = ppl_Polyhedron_add_space_dimensions_and_embed(ptr(), d);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T addSpaceDimensionsAndProject(long d) {
-        int result = ppl_Polyhedron_add_space_dimensions_and_project(pplObj, new SizeT(d));
+        checkMutable();
+        int result = ppl_Polyhedron_add_space_dimensions_and_project(ptr(), d);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T removeSpaceDimensions(long ds[]) {
-        int result = ppl_Polyhedron_remove_space_dimensions(pplObj, new SizeTArray(ds), new SizeT(ds.length));
+        checkMutable();
+        int result = ppl_Polyhedron_remove_space_dimensions(ptr(), new SizeTArray(ds), new SizeT(ds.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T removeHigherSpaceDimensions(long d) {
-        int result = ppl_Polyhedron_remove_higher_space_dimensions(pplObj, new SizeT(d));
+        checkMutable();
+        int result = ppl_Polyhedron_remove_higher_space_dimensions(ptr(), d);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T mapSpaceDimensions(long[] maps) {
-        int result = ppl_Polyhedron_map_space_dimensions(pplObj, new SizeTArray(maps), new SizeT(maps.length));
+        checkMutable();
+        int result = ppl_Polyhedron_map_space_dimensions(ptr(), new SizeTArray(maps), new SizeT(maps.length));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T expandSpaceDimension(long d, long m) {
-        int result = ppl_Polyhedron_expand_space_dimension(pplObj, new SizeT(d), new SizeT(m));
+        checkMutable();
+        int result = ppl_Polyhedron_expand_space_dimension(ptr(), new SizeT(d), new SizeT(m));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     @Override
     public T foldSpaceDimensions(long[] ds, long i) {
-        int result = ppl_Polyhedron_fold_space_dimensions(pplObj, new SizeTArray(ds), new SizeT(ds.length),
+        checkMutable();
+        int result = ppl_Polyhedron_fold_space_dimensions(ptr(), new SizeTArray(ds), new SizeT(ds.length),
                 new SizeT(i));
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -573,11 +734,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * to the polyhedron.
      */
     public GeneratorSystem getGenerators() {
-        var pgs = new PointerByReference();
-        int result = ppl_Polyhedron_get_generators(pplObj, pgs);
+        var pgs = scratch();
+        int result = ppl_Polyhedron_get_generators(ptr(), pgs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new GeneratorSystem(pgs.getValue(), false);
+        return new GeneratorSystem(pgs.getPointer(0), false);
     }
 
     /**
@@ -586,11 +747,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * survive any change to the polyhedron.
      */
     public GeneratorSystem getMinimizedGenerators() {
-        var pgs = new PointerByReference();
-        int result = ppl_Polyhedron_get_minimized_generators(pplObj, pgs);
+        var pgs = scratch();
+        int result = ppl_Polyhedron_get_minimized_generators(ptr(), pgs);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return new GeneratorSystem(pgs.getValue(), false);
+        return new GeneratorSystem(pgs.getPointer(0), false);
     }
 
     /**
@@ -603,10 +764,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron
      */
     public T add(Generator g) {
-        int result = ppl_Polyhedron_add_generator(pplObj, g.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_generator(ptr(), g.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -619,10 +781,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T add(GeneratorSystem gs) {
-        int result = ppl_Polyhedron_add_generators(pplObj, gs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_generators(ptr(), gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -633,10 +796,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T addReycled(GeneratorSystem gs) {
-        int result = ppl_Polyhedron_add_recycled_generators(pplObj, gs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_add_recycled_generators(ptr(), gs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -645,10 +809,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T polyHull(T y) {
-        int result = ppl_Polyhedron_poly_hull_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_poly_hull_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -659,10 +824,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T polyDifferenceAssign(T y) {
-        int result = ppl_Polyhedron_poly_difference_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_poly_difference_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -675,12 +841,14 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T BHRZ03Widening(T y, WideningTokens w) {
-        IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(pplObj, y.pplObj, tp);
-        w.tokens = tp.getValue();
+        checkMutable();
+        var tp = scratch();
+        tp.setInt(0, w.tokens);
+        int result = ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(ptr(), y.ptr(), tp);
+        w.tokens = tp.getInt(0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -692,10 +860,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T BHRZ03Widening(T y) {
-        int result = ppl_Polyhedron_BHRZ03_widening_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_BHRZ03_widening_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -708,12 +877,14 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T H79Widening(T y, WideningTokens w) {
-        IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_H79_widening_assign_with_tokens(pplObj, y.pplObj, tp);
-        w.tokens = tp.getValue();
+        checkMutable();
+        var tp = scratch();
+        tp.setInt(0, w.tokens);
+        int result = ppl_Polyhedron_H79_widening_assign_with_tokens(ptr(), y.ptr(), tp);
+        w.tokens = tp.getInt(0);
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -725,10 +896,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T H79Widening(T y) {
-        int result = ppl_Polyhedron_H79_widening_assign(pplObj, y.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_H79_widening_assign(ptr(), y.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -741,12 +913,13 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T limitedBHRZ03Extrapolation(T y, ConstraintSystem cs, WideningTokens w) {
+        checkMutable();
         IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens(pplObj, y.pplObj, cs.pplObj, tp);
+        int result = ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens(ptr(), y.ptr(), cs.ptr(), tp);
         w.tokens = tp.getValue();
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -760,10 +933,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T limitedBHRZ03Extrapolation(T y, ConstraintSystem cs) {
-        int result = ppl_Polyhedron_limited_BHRZ03_extrapolation_assign(pplObj, y.pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_limited_BHRZ03_extrapolation_assign(ptr(), y.ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -776,12 +950,13 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T limitedH79Extrapolation(T y, ConstraintSystem cs, WideningTokens w) {
+        checkMutable();
         IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens(pplObj, y.pplObj, cs.pplObj, tp);
+        int result = ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens(ptr(), y.ptr(), cs.ptr(), tp);
         w.tokens = tp.getValue();
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -795,10 +970,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T limitedH79Extrapolation(T y, ConstraintSystem cs) {
-        int result = ppl_Polyhedron_limited_H79_extrapolation_assign(pplObj, y.pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_limited_H79_extrapolation_assign(ptr(), y.ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -812,12 +988,13 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T boundedBHRZ03ExtrapolationAssign(T y, ConstraintSystem cs, WideningTokens w) {
+        checkMutable();
         IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens(pplObj, y.pplObj, cs.pplObj, tp);
+        int result = ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens(ptr(), y.ptr(), cs.ptr(), tp);
         w.tokens = tp.getValue();
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -833,10 +1010,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T boundedBHRZ03ExtrapolationAssign(T y, ConstraintSystem cs) {
-        int result = ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign(pplObj, y.pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign(ptr(), y.ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -850,12 +1028,13 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T boundedH79ExtrapolationAssign(T y, ConstraintSystem cs, WideningTokens w) {
+        checkMutable();
         IntByReference tp = new IntByReference(w.tokens);
-        int result = ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens(pplObj, y.pplObj, cs.pplObj, tp);
+        int result = ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens(ptr(), y.ptr(), cs.ptr(), tp);
         w.tokens = tp.getValue();
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -871,10 +1050,11 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
      * @return this polyhedron.
      */
     public T boundedH79ExtrapolationAssign(T y, ConstraintSystem cs) {
-        int result = ppl_Polyhedron_bounded_H79_extrapolation_assign(pplObj, y.pplObj, cs.pplObj);
+        checkMutable();
+        int result = ppl_Polyhedron_bounded_H79_extrapolation_assign(ptr(), y.ptr(), cs.ptr());
         if (result < 0)
             PPLRuntimeException.checkError(result);
-        return self();
+        return modified();
     }
 
     /**
@@ -894,13 +1074,20 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
         return H79Widening(y, w);
     }
 
+    /**
+     * Returns whether {@code other} is a polyhedron equal to this one. Distinct
+     * polyhedra interned in the same {@link InternTable} with the same owner
+     * thread are never equal, hence they are compared without calling the PPL.
+     */
     @Override
     public boolean equals(Object other) {
         if (this == other)
             return true;
         if (other instanceof Polyhedron<?>) {
             var ph = (Polyhedron<?>) other;
-            int result = ppl_Polyhedron_equals_Polyhedron(pplObj, ph.pplObj);
+            if (internGeneration != null && internGeneration == ph.internGeneration && owner == ph.owner)
+                return false;
+            int result = ppl_Polyhedron_equals_Polyhedron(ptr(), ph.ptr());
             if (result < 0)
                 PPLRuntimeException.checkError(result);
             return result > 0;
@@ -908,8 +1095,25 @@ public abstract class Polyhedron<T extends Polyhedron<T>> extends AbstractPPLObj
         return false;
     }
 
+    /**
+     * Returns a hash code for this polyhedron. It is computed from the minimized
+     * constraints, independently of their order, hence equal polyhedra have the
+     * same hash code. The hash code is cached until the polyhedron is modified.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Long.hashCode(getSpaceDimension());
+            for (var c : getMinimizedConstraints())
+                h += c.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
     @Override
     protected int toStringByReference(PointerByReference pstr) {
-        return ppl_io_asprint_Polyhedron(pstr, pplObj);
+        return ppl_io_asprint_Polyhedron(pstr, ptr());
     }
 }
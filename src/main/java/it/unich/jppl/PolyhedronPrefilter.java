@@ -0,0 +1,230 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Generator.GeneratorType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fast rejection layer for the inclusion and disjointness tests of
+ * polyhedra.
+ *
+ * <p>
+ * When the prefilter is enabled, each polyhedron caches, until it is modified,
+ * a fingerprint made of its affine dimension and of its interval hull, the
+ * smallest box containing it, with bounds rounded outwards to {@code double}.
+ * All the lower bounds are rounded by the same non-decreasing function, which
+ * does not depend on how a bound is represented, and the same holds for the
+ * upper bounds, hence comparing the fingerprints is sound. It may prove that
+ * a polyhedron does not contain another one, as in
+ * {@link Polyhedron#contains(Polyhedron) contains} and
+ * {@link Polyhedron#strictlyContains(Polyhedron) strictlyContains}, or that two
+ * polyhedra are disjoint, as in
+ * {@link Polyhedron#isDisjointFrom(Polyhedron) isDisjointFrom}, without
+ * calling the PPL. When the fingerprints are not conclusive, the exact native
+ * test is performed.
+ * </p>
+ *
+ * <p>
+ * Computing the fingerprint requires the minimized generators of the
+ * polyhedron, hence the prefilter pays off when the same polyhedra are tested
+ * many times, and most tests fail. The prefilter is disabled by default: it
+ * may be enabled at startup by setting the system property {@value #PROPERTY}
+ * to {@code true}, or at any time with {@link #setEnabled(boolean)}.
+ * </p>
+ */
+public final class PolyhedronPrefilter {
+
+    /**
+     * Name of the system property which enables the prefilter.
+     */
+    public static final String PROPERTY = "jppl.prefilter";
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private static final LongAdder checks = new LongAdder();
+
+    private static final LongAdder hits = new LongAdder();
+
+    /**
+     * Default constructor. It is private, since there is never the need to
+     * instantiate the class.
+     */
+    private PolyhedronPrefilter() {
+    }
+
+    /**
+     * Returns true if and only if the prefilter is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the prefilter.
+     */
+    public static void setEnabled(boolean enabled) {
+        PolyhedronPrefilter.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of tests examined by the prefilter since startup, or
+     * since the last call to {@link #reset()}.
+     */
+    public static long getChecks() {
+        return checks.sum();
+    }
+
+    /**
+     * Returns the number of tests answered by the prefilter without calling the
+     * PPL since startup, or since the last call to {@link #reset()}.
+     */
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Resets all the statistics.
+     */
+    public static void reset() {
+        checks.reset();
+        hits.reset();
+    }
+
+    /**
+     * Returns true if the prefilter proves that {@code x} does not contain
+     * {@code y}.
+     */
+    static boolean excludesInclusion(Polyhedron<?> x, Polyhedron<?> y) {
+        var bx = x.fingerprint();
+        var by = y.fingerprint();
+        if (bx.lower.length != by.lower.length)
+            return false;
+        checks.increment();
+        if (bx.mayContain(by))
+            return false;
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * Returns true if the prefilter proves that {@code x} and {@code y} are
+     * disjoint.
+     */
+    static boolean provesDisjointness(Polyhedron<?> x, Polyhedron<?> y) {
+        var bx = x.fingerprint();
+        var by = y.fingerprint();
+        if (bx.lower.length != by.lower.length)
+            return false;
+        checks.increment();
+        if (!bx.isDisjointFrom(by))
+            return false;
+        hits.increment();
+        return true;
+    }
+
+    /**
+     * The fingerprint of a polyhedron.
+     */
+    static final class Fingerprint {
+        private static final MathContext FLOOR = new MathContext(17, RoundingMode.FLOOR);
+
+        private static final MathContext CEILING = new MathContext(17, RoundingMode.CEILING);
+
+        final boolean empty;
+        final long affineDimension;
+        final double[] lower;
+        final double[] upper;
+
+        private Fingerprint(boolean empty, long affineDimension, double[] lower, double[] upper) {
+            this.empty = empty;
+            this.affineDimension = affineDimension;
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        /**
+         * Computes the fingerprint of {@code ph}.
+         */
+        static Fingerprint of(Polyhedron<?> ph) {
+            int d = Math.toIntExact(ph.getSpaceDimension());
+            var lower = new double[d];
+            var upper = new double[d];
+            if (ph.isEmpty())
+                return new Fingerprint(true, 0, lower, upper);
+            Arrays.fill(lower, Double.POSITIVE_INFINITY);
+            Arrays.fill(upper, Double.NEGATIVE_INFINITY);
+            for (var g : ph.getMinimizedGenerators().snapshot()) {
+                var type = g.getType();
+                for (int i = 0; i < d; i++) {
+                    var c = g.getCoefficient(i);
+                    if (type == GeneratorType.POINT || type == GeneratorType.CLOSURE_POINT) {
+                        var divisor = g.getDivisor();
+                        lower[i] = Math.min(lower[i], quotient(c, divisor, FLOOR));
+                        upper[i] = Math.max(upper[i], quotient(c, divisor, CEILING));
+                    } else {
+                        int sign = c.signum();
+                        if (sign < 0 || sign != 0 && type == GeneratorType.LINE)
+                            lower[i] = Double.NEGATIVE_INFINITY;
+                        if (sign > 0 || sign != 0 && type == GeneratorType.LINE)
+                            upper[i] = Double.POSITIVE_INFINITY;
+                    }
+                }
+            }
+            return new Fingerprint(false, ph.getAffineDimension(), lower, upper);
+        }
+
+        /**
+         * Returns {@code n / d}, for a positive {@code d}, rounded downwards when
+         * {@code mc} is {@link #FLOOR} and upwards when it is {@link #CEILING}. The
+         * quotient is first rounded to a decimal in the direction of {@code mc},
+         * and then moved by one ulp after the conversion to double, which rounds to
+         * the nearest value. The result is a non-decreasing function of the exact
+         * value of the quotient.
+         */
+        private static double quotient(BigInteger n, BigInteger d, MathContext mc) {
+            double v;
+            if (d.equals(BigInteger.ONE) && n.bitLength() < 53)
+                // an integer with at most 16 digits is not changed by the decimal rounding
+                v = (double) n.longValue();
+            else if (d.equals(BigInteger.ONE))
+                v = new BigDecimal(n, mc).doubleValue();
+            else
+                v = new BigDecimal(n).divide(new BigDecimal(d), mc).doubleValue();
+            return mc == FLOOR ? Math.nextDown(v) : Math.nextUp(v);
+        }
+
+        /**
+         * Returns false if the polyhedron of this fingerprint cannot contain the
+         * one of {@code f}.
+         */
+        boolean mayContain(Fingerprint f) {
+            if (f.empty)
+                return true;
+            if (empty || f.affineDimension > affineDimension)
+                return false;
+            for (int i = 0; i < lower.length; i++)
+                if (f.lower[i] < lower[i] || f.upper[i] > upper[i])
+                    return false;
+            return true;
+        }
+
+        /**
+         * Returns true if the polyhedron of this fingerprint is certainly disjoint
+         * from the one of {@code f}.
+         */
+        boolean isDisjointFrom(Fingerprint f) {
+            if (empty || f.empty)
+                return true;
+            for (int i = 0; i < lower.length; i++)
+                if (upper[i] < f.lower[i] || f.upper[i] < lower[i])
+                    return true;
+            return false;
+        }
+    }
+
+}
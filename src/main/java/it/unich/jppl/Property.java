@@ -2,6 +2,7 @@ package it.unich.jppl;
 
 import it.unich.jppl.Constraint.ConstraintType;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -454,6 +455,68 @@ public interface Property<T extends Property<T>> extends PPLObject<T> {
         return affinePreImage(i, le, Coefficient.ONE);
     }
 
+    /**
+     * Assigns to {@code this} an over-approximation of its image through the
+     * parallel assignment of {@code exprs[j] / dens[j]} to the variables
+     * \(x_{\mathit{vars}[j]}\). All the expressions are evaluated on the values
+     * of the variables before the assignment, hence \((x_0, x_1) := (x_1, x_0 +
+     * x_1)\) may be computed with
+     *
+     * <pre>
+     * p.parallelAffineImage(new long[] { 0, 1 },
+     *         new LinearExpression[] { LinearExpression.of(0, 0, 1), LinearExpression.of(0, 1, 1) },
+     *         new Coefficient[] { Coefficient.ONE, Coefficient.ONE })
+     * </pre>
+     *
+     * The assignments are performed with single affine images, in an order which
+     * avoids temporary space dimensions whenever possible.
+     *
+     * @return this abstract object.
+     * @throws IllegalArgumentException if the arrays have different lengths, or
+     *                                  some variable occurs twice in
+     *                                  {@code vars}.
+     */
+    @SuppressWarnings("unchecked")
+    default T parallelAffineImage(long[] vars, LinearExpression[] exprs, Coefficient[] dens) {
+        return ParallelAffine.image((T) this, vars, exprs, dens);
+    }
+
+    /**
+     * This is equivalent to {@code parallelAffineImage(vars, exprs, dens)} where
+     * all the elements of {@code dens} are {@code Coefficient.ONE}.
+     */
+    default T parallelAffineImage(long[] vars, LinearExpression[] exprs) {
+        var dens = new Coefficient[exprs.length];
+        Arrays.fill(dens, Coefficient.ONE);
+        return parallelAffineImage(vars, exprs, dens);
+    }
+
+    /**
+     * Assigns to {@code this} an over-approximation of its preimage through the
+     * parallel assignment of {@code exprs[j] / dens[j]} to the variables
+     * \(x_{\mathit{vars}[j]}\).
+     *
+     * @return this abstract object.
+     * @throws IllegalArgumentException if the arrays have different lengths, or
+     *                                  some variable occurs twice in
+     *                                  {@code vars}.
+     * @see #parallelAffineImage(long[], LinearExpression[], Coefficient[])
+     */
+    @SuppressWarnings("unchecked")
+    default T parallelAffinePreImage(long[] vars, LinearExpression[] exprs, Coefficient[] dens) {
+        return ParallelAffine.preImage((T) this, vars, exprs, dens);
+    }
+
+    /**
+     * This is equivalent to {@code parallelAffinePreImage(vars, exprs, dens)}
+     * where all the elements of {@code dens} are {@code Coefficient.ONE}.
+     */
+    default T parallelAffinePreImage(long[] vars, LinearExpression[] exprs) {
+        var dens = new Coefficient[exprs.length];
+        Arrays.fill(dens, Coefficient.ONE);
+        return parallelAffinePreImage(vars, exprs, dens);
+    }
+
     /**
      * Assigns to {@code this} an over-approximation of its image with respect to
      * the <a href=
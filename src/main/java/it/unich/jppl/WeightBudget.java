@@ -0,0 +1,250 @@
+package it.unich.jppl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A deterministic work budget for an analysis, built on
+ * {@link PPL#setDeterministicTimeout(long, int)}.
+ *
+ * <p>
+ * The budget is measured in units of weight, the amount of work performed by
+ * the PPL, which does not depend on the load of the machine. A budget has a
+ * total weight, shared by all the operations of the analysis, and a maximum
+ * weight for each operation. Budgets are used through the views returned by
+ * {@link Polyhedron#withBudget(WeightBudget)}: views of different polyhedra may
+ * share the same budget.
+ * </p>
+ *
+ * <p>
+ * The PPL does not report the weight consumed by a computation, hence each
+ * operation is first attempted with a weight of {@value #MIN_WEIGHT}, and then
+ * with doubling weights, until it completes or the available weight is over.
+ * Each attempt is charged with its whole weight, which makes the charge an
+ * upper bound of the work actually performed, within a factor of about four.
+ * The charge only depends on the operands, hence the whole accounting is
+ * reproducible. When an operation exhausts its weight, the {@link Degradation}
+ * policy of the budget decides what to do. Once the total weight is over,
+ * operations are not attempted at all.
+ * </p>
+ *
+ * <p>
+ * Since PPL timeouts are global, the operations which use budgets are
+ * serialized, and they should not run concurrently with other computations of
+ * the PPL. They require the PPL to be built with support for timeouts.
+ * </p>
+ */
+public final class WeightBudget {
+
+    /**
+     * The weight of the first attempt of each operation.
+     */
+    public static final long MIN_WEIGHT = 1024;
+
+    /**
+     * The policy applied when an operation exhausts its weight.
+     */
+    public enum Degradation {
+        /**
+         * The result of the operation is replaced by a fallback computed by
+         * algorithms of polynomial complexity, which is a sound
+         * over-approximation, or an upper bound of the operands for the
+         * widenings, as described in {@link BudgetedPolyhedron}.
+         */
+        OVER_APPROXIMATE,
+        /**
+         * A {@link PPLRuntimeException} with code
+         * {@link PPLRuntimeException#TIMEOUT_EXCEPTION TIMEOUT_EXCEPTION} is
+         * thrown, and the operands are left unchanged.
+         */
+        THROW
+    }
+
+    private final long totalWeight;
+
+    private final long operationWeight;
+
+    private final Degradation degradation;
+
+    private final Map<String, Long> weights = new LinkedHashMap<>();
+
+    private long consumedWeight;
+
+    private long lastWeight;
+
+    private long operations;
+
+    private long exhaustions;
+
+    /**
+     * Creates a budget with total weight {@code totalWeight}, where each
+     * operation may consume at most {@code operationWeight}, and which applies
+     * the policy {@code degradation}.
+     *
+     * @throws IllegalArgumentException if {@code totalWeight} or
+     *                                  {@code operationWeight} is not positive.
+     */
+    public WeightBudget(long totalWeight, long operationWeight, Degradation degradation) {
+        if (totalWeight <= 0 || operationWeight <= 0)
+            throw new IllegalArgumentException("The weights should be positive");
+        this.totalWeight = totalWeight;
+        this.operationWeight = operationWeight;
+        this.degradation = degradation;
+    }
+
+    /**
+     * Creates a budget with total weight {@code totalWeight}, without any
+     * maximum weight for the single operations, which over-approximates the
+     * operations exhausting the budget.
+     *
+     * @throws IllegalArgumentException if {@code totalWeight} is not positive.
+     */
+    public WeightBudget(long totalWeight) {
+        this(totalWeight, totalWeight, Degradation.OVER_APPROXIMATE);
+    }
+
+    /**
+     * Returns the policy applied when an operation exhausts its weight.
+     */
+    public Degradation getDegradation() {
+        return degradation;
+    }
+
+    /**
+     * Returns the total weight of this budget.
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the maximum weight of each operation.
+     */
+    public long getOperationWeight() {
+        return operationWeight;
+    }
+
+    /**
+     * Returns the weight consumed by all the operations.
+     */
+    public long getConsumedWeight() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return consumedWeight;
+        }
+    }
+
+    /**
+     * Returns the weight which is still available.
+     */
+    public long getRemainingWeight() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return totalWeight - consumedWeight;
+        }
+    }
+
+    /**
+     * Returns the weight consumed by the last operation.
+     */
+    public long getLastWeight() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return lastWeight;
+        }
+    }
+
+    /**
+     * Returns the number of operations performed with this budget, including
+     * the ones which exhausted their weight.
+     */
+    public long getOperations() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return operations;
+        }
+    }
+
+    /**
+     * Returns the number of operations which exhausted their weight.
+     */
+    public long getExhaustions() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return exhaustions;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the map from the names of the operations,
+     * such as {@code "polyHull"}, to the weight they consumed, in order of first
+     * use.
+     */
+    public Map<String, Long> getWeights() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        }
+    }
+
+    /**
+     * Returns the result of {@code op} on a copy of {@code ph}, charging the
+     * consumed weight to the operation called {@code name}. If the operation
+     * exhausts its weight, it returns null or throws an exception, according to
+     * the degradation policy.
+     */
+    <T extends Polyhedron<T>> T run(String name, T ph, UnaryOperator<T> op) {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            long available = Math.min(operationWeight, totalWeight - consumedWeight);
+            long charged = 0;
+            long weight = Math.min(MIN_WEIGHT, available);
+            T result = null;
+            try {
+                while (result == null && weight > 0) {
+                    var copy = ph.clone();
+                    setDeterministicTimeout(weight);
+                    try {
+                        result = op.apply(copy);
+                    } catch (PPLRuntimeException e) {
+                        if (e.getCode() != PPLRuntimeException.TIMEOUT_EXCEPTION)
+                            throw e;
+                    } finally {
+                        PPL.resetDeterministicTimeout();
+                        charged += weight;
+                    }
+                    // an attempt with a weight not bigger than a failed one fails as well
+                    long next = Math.min(2 * weight, available - charged);
+                    weight = next > weight ? next : 0;
+                }
+            } finally {
+                consumedWeight += charged;
+                lastWeight = charged;
+                operations++;
+                weights.merge(name, charged, Long::sum);
+                if (result == null)
+                    exhaustions++;
+            }
+            if (result == null && degradation == Degradation.THROW)
+                PPLRuntimeException.timeout("the weight budget of " + name + " is exhausted");
+            return result;
+        }
+    }
+
+    /**
+     * Sets a deterministic timeout of {@code weight}, rounding it up when it does
+     * not fit in the unscaled weight of the PPL.
+     */
+    private static void setDeterministicTimeout(long weight) {
+        int scale = 0;
+        while (weight > Integer.MAX_VALUE) {
+            weight = (weight + 1) >>> 1;
+            scale++;
+        }
+        PPL.setDeterministicTimeout(weight, scale);
+    }
+
+    @Override
+    public String toString() {
+        synchronized (BudgetedPolyhedron.LOCK) {
+            return String.format("consumed: %d/%d, operations: %d, exhaustions: %d", consumedWeight, totalWeight,
+                    operations, exhaustions);
+        }
+    }
+
+}
@@ -0,0 +1,671 @@
+package it.unich.jppl.nativelib;
+
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+
+/**
+ * The backend for {@link LibPPLPrimitive} based on JNA direct mapping.
+ */
+final class JNABackend implements PrimitiveBackend {
+
+    /**
+     * True if {@code size_t} is a 64-bit integer, in which case it may be directly
+     * mapped to a Java {@code long}. Otherwise, calls with {@code size_t}
+     * arguments go through {@link LibPPLNatives} and convert their arguments.
+     */
+    private static final boolean SIZE_T_64 = Native.SIZE_T_SIZE == 8;
+
+    /**
+     * Direct mappings of the native methods.
+     */
+    private static class Natives {
+
+        static {
+            Native.register(Natives.class, LibPPL.LIBNAME);
+        }
+
+        // Linear expressions
+
+        static native int ppl_new_Linear_Expression(Pointer ple);
+
+        static native int ppl_new_Linear_Expression_with_dimension(Pointer ple, long d);
+
+        static native int ppl_new_Linear_Expression_from_Linear_Expression(Pointer ple, Pointer le);
+
+        static native int ppl_new_Linear_Expression_from_Constraint(Pointer ple, Pointer c);
+
+        static native int ppl_new_Linear_Expression_from_Generator(Pointer ple, Pointer g);
+
+        static native int ppl_new_Linear_Expression_from_Congruence(Pointer ple, Pointer c);
+
+        static native int ppl_Linear_Expression_space_dimension(Pointer le, Pointer m);
+
+        static native int ppl_Linear_Expression_coefficient(Pointer le, long var, Pointer n);
+
+        static native int ppl_Linear_Expression_add_to_coefficient(Pointer le, long var, Pointer n);
+
+        // CPolyhedron
+
+        static native int ppl_new_C_Polyhedron_from_space_dimension(Pointer pph, long d, int empty);
+
+        static native int ppl_new_C_Polyhedron_from_C_Polyhedron(Pointer pph, Pointer ph);
+
+        static native int ppl_new_C_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs);
+
+        static native int ppl_new_C_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs);
+
+        // NNCPolyhedron
+
+        static native int ppl_new_NNC_Polyhedron_from_space_dimension(Pointer pph, long d, int empty);
+
+        static native int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(Pointer pph, Pointer ph);
+
+        static native int ppl_new_NNC_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs);
+
+        static native int ppl_new_NNC_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs);
+
+        // Polyhedron
+
+        static native int ppl_Polyhedron_space_dimension(Pointer ph, Pointer m);
+
+        static native int ppl_Polyhedron_affine_dimension(Pointer ph, Pointer m);
+
+        static native int ppl_Polyhedron_get_constraints(Pointer ph, Pointer pcs);
+
+        static native int ppl_Polyhedron_get_congruences(Pointer ph, Pointer pcs);
+
+        static native int ppl_Polyhedron_get_minimized_constraints(Pointer ph, Pointer pcs);
+
+        static native int ppl_Polyhedron_get_minimized_congruences(Pointer ph, Pointer pcs);
+
+        static native int ppl_Polyhedron_constrains(Pointer ph, long var);
+
+        static native int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+                Pointer pmaximum);
+
+        static native int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+                Pointer pminimum);
+
+        static native int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+                Pointer pmaximum, Pointer point);
+
+        static native int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+                Pointer pminimum, Pointer point);
+
+        static native int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, Pointer sz);
+
+        static native int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, Pointer sz);
+
+        static native int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, long var);
+
+        static native int ppl_Polyhedron_affine_image(Pointer ph, long var, Pointer le, Pointer d);
+
+        static native int ppl_Polyhedron_affine_preimage(Pointer ph, long var, Pointer le, Pointer d);
+
+        static native int ppl_Polyhedron_bounded_affine_image(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d);
+
+        static native int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, long var, Pointer lb, Pointer ub,
+                Pointer d);
+
+        static native int ppl_Polyhedron_generalized_affine_image(Pointer ph, long var, int relsym, Pointer le,
+                Pointer d);
+
+        static native int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, long var, int relsym, Pointer le,
+                Pointer d);
+
+        static native int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, long d);
+
+        static native int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, long d);
+
+        static native int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, long d);
+
+        static native int ppl_Polyhedron_get_generators(Pointer ph, Pointer pgs);
+
+        static native int ppl_Polyhedron_get_minimized_generators(Pointer ph, Pointer pgs);
+
+        static native int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+        static native int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+        // DoubleBox
+
+        static native int ppl_new_Double_Box_from_space_dimension(Pointer pph, long d, int empty);
+
+        static native int ppl_new_Double_Box_from_Double_Box(Pointer pph, Pointer ph);
+
+        static native int ppl_new_Double_Box_from_Constraint_System(Pointer pph, Pointer cs);
+
+        static native int ppl_Double_Box_space_dimension(Pointer ph, Pointer m);
+
+        static native int ppl_Double_Box_affine_dimension(Pointer ph, Pointer m);
+
+        static native int ppl_Double_Box_get_constraints(Pointer ph, Pointer pcs);
+
+        static native int ppl_Double_Box_get_congruences(Pointer ph, Pointer pcs);
+
+        static native int ppl_Double_Box_get_minimized_constraints(Pointer ph, Pointer pcs);
+
+        static native int ppl_Double_Box_get_minimized_congruences(Pointer ph, Pointer pcs);
+
+        static native int ppl_Double_Box_constrains(Pointer ph, long var);
+
+        static native int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+                Pointer pmaximum);
+
+        static native int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+                Pointer pminimum);
+
+        static native int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+                Pointer pmaximum, Pointer point);
+
+        static native int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+                Pointer pminimum, Pointer point);
+
+        static native int ppl_Double_Box_external_memory_in_bytes(Pointer ph, Pointer sz);
+
+        static native int ppl_Double_Box_total_memory_in_bytes(Pointer ph, Pointer sz);
+
+        static native int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, long var);
+
+        static native int ppl_Double_Box_affine_image(Pointer ph, long var, Pointer le, Pointer d);
+
+        static native int ppl_Double_Box_affine_preimage(Pointer ph, long var, Pointer le, Pointer d);
+
+        static native int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, long d);
+
+        static native int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, long d);
+
+        static native int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, long d);
+
+        static native int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+        static native int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+    }
+
+    @Override
+    public String getName() {
+        return "jna";
+    }
+
+    // Linear expressions
+
+    @Override
+    public int ppl_new_Linear_Expression(Pointer ple) {
+        return Natives.ppl_new_Linear_Expression(ple);
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_with_dimension(Pointer ple, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_new_Linear_Expression_with_dimension(ple, d);
+        var pleRef = new PointerByReference();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_with_dimension(pleRef, new SizeT(d));
+        ple.setPointer(0, pleRef.getValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Linear_Expression(Pointer ple, Pointer le) {
+        return Natives.ppl_new_Linear_Expression_from_Linear_Expression(ple, le);
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Constraint(Pointer ple, Pointer c) {
+        return Natives.ppl_new_Linear_Expression_from_Constraint(ple, c);
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Generator(Pointer ple, Pointer g) {
+        return Natives.ppl_new_Linear_Expression_from_Generator(ple, g);
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Congruence(Pointer ple, Pointer c) {
+        return Natives.ppl_new_Linear_Expression_from_Congruence(ple, c);
+    }
+
+    @Override
+    public int ppl_Linear_Expression_space_dimension(Pointer le, Pointer m) {
+        if (SIZE_T_64)
+            return Natives.ppl_Linear_Expression_space_dimension(le, m);
+        var mRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Linear_Expression_space_dimension(le, mRef);
+        m.setLong(0, mRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Linear_Expression_coefficient(Pointer le, long var, Pointer n) {
+        if (SIZE_T_64)
+            return Natives.ppl_Linear_Expression_coefficient(le, var, n);
+        int result = LibPPLNatives.ppl_Linear_Expression_coefficient(le, new SizeT(var), n);
+        return result;
+    }
+
+    @Override
+    public int ppl_Linear_Expression_add_to_coefficient(Pointer le, long var, Pointer n) {
+        if (SIZE_T_64)
+            return Natives.ppl_Linear_Expression_add_to_coefficient(le, var, n);
+        int result = LibPPLNatives.ppl_Linear_Expression_add_to_coefficient(le, new SizeT(var), n);
+        return result;
+    }
+
+    // CPolyhedron
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        if (SIZE_T_64)
+            return Natives.ppl_new_C_Polyhedron_from_space_dimension(pph, d, empty);
+        var pphRef = new PointerByReference();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_space_dimension(pphRef, new SizeT(d), empty);
+        pph.setPointer(0, pphRef.getValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_C_Polyhedron(Pointer pph, Pointer ph) {
+        return Natives.ppl_new_C_Polyhedron_from_C_Polyhedron(pph, ph);
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        return Natives.ppl_new_C_Polyhedron_from_Constraint_System(pph, cs);
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        return Natives.ppl_new_C_Polyhedron_recycle_Constraint_System(pph, cs);
+    }
+
+    // NNCPolyhedron
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        if (SIZE_T_64)
+            return Natives.ppl_new_NNC_Polyhedron_from_space_dimension(pph, d, empty);
+        var pphRef = new PointerByReference();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_space_dimension(pphRef, new SizeT(d), empty);
+        pph.setPointer(0, pphRef.getValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(Pointer pph, Pointer ph) {
+        return Natives.ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(pph, ph);
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        return Natives.ppl_new_NNC_Polyhedron_from_Constraint_System(pph, cs);
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        return Natives.ppl_new_NNC_Polyhedron_recycle_Constraint_System(pph, cs);
+    }
+
+    // Polyhedron
+
+    @Override
+    public int ppl_Polyhedron_space_dimension(Pointer ph, Pointer m) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_space_dimension(ph, m);
+        var mRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Polyhedron_space_dimension(ph, mRef);
+        m.setLong(0, mRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_dimension(Pointer ph, Pointer m) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_affine_dimension(ph, m);
+        var mRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Polyhedron_affine_dimension(ph, mRef);
+        m.setLong(0, mRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_constraints(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Polyhedron_get_constraints(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_congruences(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Polyhedron_get_congruences(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Polyhedron_get_minimized_constraints(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Polyhedron_get_minimized_congruences(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_constrains(Pointer ph, long var) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_constrains(ph, var);
+        int result = LibPPLNatives.ppl_Polyhedron_constrains(ph, new SizeT(var));
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        return Natives.ppl_Polyhedron_maximize(ph, le, sup_n, sup_d, pmaximum);
+    }
+
+    @Override
+    public int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        return Natives.ppl_Polyhedron_minimize(ph, le, inf_n, inf_d, pminimum);
+    }
+
+    @Override
+    public int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        return Natives.ppl_Polyhedron_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+    }
+
+    @Override
+    public int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        return Natives.ppl_Polyhedron_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+    }
+
+    @Override
+    public int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_external_memory_in_bytes(ph, sz);
+        var szRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Polyhedron_external_memory_in_bytes(ph, szRef);
+        sz.setLong(0, szRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_total_memory_in_bytes(ph, sz);
+        var szRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Polyhedron_total_memory_in_bytes(ph, szRef);
+        sz.setLong(0, szRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, long var) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_unconstrain_space_dimension(ph, var);
+        int result = LibPPLNatives.ppl_Polyhedron_unconstrain_space_dimension(ph, new SizeT(var));
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_affine_image(ph, var, le, d);
+        int result = LibPPLNatives.ppl_Polyhedron_affine_image(ph, new SizeT(var), le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_affine_preimage(ph, var, le, d);
+        int result = LibPPLNatives.ppl_Polyhedron_affine_preimage(ph, new SizeT(var), le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_bounded_affine_image(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_bounded_affine_image(ph, var, lb, ub, d);
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_affine_image(ph, new SizeT(var), lb, ub, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_bounded_affine_preimage(ph, var, lb, ub, d);
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_affine_preimage(ph, new SizeT(var), lb, ub, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_generalized_affine_image(Pointer ph, long var, int relsym, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_generalized_affine_image(ph, var, relsym, le, d);
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_image(ph, new SizeT(var), relsym, le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, long var, int relsym, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_generalized_affine_preimage(ph, var, relsym, le, d);
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_preimage(ph, new SizeT(var), relsym, le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_add_space_dimensions_and_embed(ph, d);
+        int result = LibPPLNatives.ppl_Polyhedron_add_space_dimensions_and_embed(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_add_space_dimensions_and_project(ph, d);
+        int result = LibPPLNatives.ppl_Polyhedron_add_space_dimensions_and_project(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Polyhedron_remove_higher_space_dimensions(ph, d);
+        int result = LibPPLNatives.ppl_Polyhedron_remove_higher_space_dimensions(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_generators(Pointer ph, Pointer pgs) {
+        return Natives.ppl_Polyhedron_get_generators(ph, pgs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_generators(Pointer ph, Pointer pgs) {
+        return Natives.ppl_Polyhedron_get_minimized_generators(ph, pgs);
+    }
+
+    @Override
+    public int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        return Natives.ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(x, y, tp);
+    }
+
+    @Override
+    public int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        return Natives.ppl_Polyhedron_H79_widening_assign_with_tokens(x, y, tp);
+    }
+
+    // DoubleBox
+
+    @Override
+    public int ppl_new_Double_Box_from_space_dimension(Pointer pph, long d, int empty) {
+        if (SIZE_T_64)
+            return Natives.ppl_new_Double_Box_from_space_dimension(pph, d, empty);
+        var pphRef = new PointerByReference();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_space_dimension(pphRef, new SizeT(d), empty);
+        pph.setPointer(0, pphRef.getValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_new_Double_Box_from_Double_Box(Pointer pph, Pointer ph) {
+        return Natives.ppl_new_Double_Box_from_Double_Box(pph, ph);
+    }
+
+    @Override
+    public int ppl_new_Double_Box_from_Constraint_System(Pointer pph, Pointer cs) {
+        return Natives.ppl_new_Double_Box_from_Constraint_System(pph, cs);
+    }
+
+    @Override
+    public int ppl_Double_Box_space_dimension(Pointer ph, Pointer m) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_space_dimension(ph, m);
+        var mRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Double_Box_space_dimension(ph, mRef);
+        m.setLong(0, mRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_dimension(Pointer ph, Pointer m) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_affine_dimension(ph, m);
+        var mRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Double_Box_affine_dimension(ph, mRef);
+        m.setLong(0, mRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_get_constraints(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Double_Box_get_constraints(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Double_Box_get_congruences(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Double_Box_get_congruences(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Double_Box_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Double_Box_get_minimized_constraints(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Double_Box_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        return Natives.ppl_Double_Box_get_minimized_congruences(ph, pcs);
+    }
+
+    @Override
+    public int ppl_Double_Box_constrains(Pointer ph, long var) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_constrains(ph, var);
+        int result = LibPPLNatives.ppl_Double_Box_constrains(ph, new SizeT(var));
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        return Natives.ppl_Double_Box_maximize(ph, le, sup_n, sup_d, pmaximum);
+    }
+
+    @Override
+    public int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        return Natives.ppl_Double_Box_minimize(ph, le, inf_n, inf_d, pminimum);
+    }
+
+    @Override
+    public int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        return Natives.ppl_Double_Box_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+    }
+
+    @Override
+    public int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        return Natives.ppl_Double_Box_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+    }
+
+    @Override
+    public int ppl_Double_Box_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_external_memory_in_bytes(ph, sz);
+        var szRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Double_Box_external_memory_in_bytes(ph, szRef);
+        sz.setLong(0, szRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_total_memory_in_bytes(ph, sz);
+        var szRef = new SizeTByReference();
+        int result = LibPPLNatives.ppl_Double_Box_total_memory_in_bytes(ph, szRef);
+        sz.setLong(0, szRef.getValue().longValue());
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, long var) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_unconstrain_space_dimension(ph, var);
+        int result = LibPPLNatives.ppl_Double_Box_unconstrain_space_dimension(ph, new SizeT(var));
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_affine_image(ph, var, le, d);
+        int result = LibPPLNatives.ppl_Double_Box_affine_image(ph, new SizeT(var), le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_affine_preimage(ph, var, le, d);
+        int result = LibPPLNatives.ppl_Double_Box_affine_preimage(ph, new SizeT(var), le, d);
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_add_space_dimensions_and_embed(ph, d);
+        int result = LibPPLNatives.ppl_Double_Box_add_space_dimensions_and_embed(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_add_space_dimensions_and_project(ph, d);
+        int result = LibPPLNatives.ppl_Double_Box_add_space_dimensions_and_project(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, long d) {
+        if (SIZE_T_64)
+            return Natives.ppl_Double_Box_remove_higher_space_dimensions(ph, d);
+        int result = LibPPLNatives.ppl_Double_Box_remove_higher_space_dimensions(ph, new SizeT(d));
+        return result;
+    }
+
+    @Override
+    public int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        return Natives.ppl_Double_Box_CC76_widening_assign_with_tokens(x, y, tp);
+    }
+
+    @Override
+    public int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        return Natives.ppl_Double_Box_widening_assign_with_tokens(x, y, tp);
+    }
+
+}
@@ -0,0 +1,35 @@
+package it.unich.jppl.nativelib;
+
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import com.sun.jna.Pointer;
+
+/**
+ * This class contains the few functions of the standard C library which are
+ * used by JPPL for exchanging data with the PPL through {@code FILE} streams,
+ * such as the arguments of the {@code ascii_load} functions in {@link LibPPL}.
+ *
+ * <p>
+ * The functions are mapped with JNA direct mapping. The {@code fmemopen}
+ * function is only available on POSIX systems: on the other platforms, calling
+ * it throws an {@link UnsatisfiedLinkError}.
+ * </p>
+ */
+public final class LibC {
+
+    /**
+     * We declare the default constructor to be private, since this class should
+     * never be instantiated.
+     */
+    private LibC() {
+    }
+
+    static {
+        Native.register(LibC.class, Platform.C_LIBRARY_NAME);
+    }
+
+    public static native Pointer fmemopen(Pointer buf, SizeT size, String mode);
+
+    public static native int fclose(Pointer stream);
+
+}
@@ -0,0 +1,69 @@
+package it.unich.jppl.nativelib;
+
+import java.util.Map;
+
+import com.sun.jna.FunctionMapper;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+
+/**
+ * This class contains the few native functions of the GMP library which are
+ * used by JPPL for converting integers without going through their string
+ * representation.
+ *
+ * <p>
+ * The functions are mapped with JNA direct mapping. Since C {@code long} and
+ * {@code size_t} values are mapped to Java {@code long} values, these functions
+ * may only be used when {@link #LP64} is true.
+ * </p>
+ */
+public final class LibGMP {
+
+    /**
+     * We declare the default constructor to be private, since this class should
+     * never be instantiated.
+     */
+    private LibGMP() {
+    }
+
+    /**
+     * Name of the native GMP library.
+     */
+    public static final String LIBNAME = "gmp";
+
+    /**
+     * True if C {@code long} and {@code size_t} values are 64-bit integers.
+     */
+    public static final boolean LP64 = Native.LONG_SIZE == 8 && Native.SIZE_T_SIZE == 8;
+
+    static {
+        // The symbols of the GMP functions have the prefix __g, which is hidden
+        // by macros in gmp.h.
+        FunctionMapper mapper = (library, method) -> "__g" + method.getName();
+        var options = Map.of(Library.OPTION_FUNCTION_MAPPER, mapper);
+        Native.register(LibGMP.class, NativeLibrary.getInstance(LIBNAME, options));
+    }
+
+    public static native void mpz_set_si(Pointer rop, long op);
+
+    public static native long mpz_get_si(Pointer op);
+
+    public static native int mpz_fits_slong_p(Pointer op);
+
+    public static native int mpz_cmp(Pointer op1, Pointer op2);
+
+    public static native int mpz_cmp_si(Pointer op1, long op2);
+
+    public static native void mpz_neg(Pointer rop, Pointer op);
+
+    public static native long mpz_sizeinbase(Pointer op, int base);
+
+    public static native void mpz_import(Pointer rop, long count, int order, long size, int endian, long nails,
+            Pointer op);
+
+    public static native Pointer mpz_export(Pointer rop, Pointer countp, int order, long size, int endian, long nails,
+            Pointer op);
+
+}
@@ -2,7 +2,6 @@ package it.unich.jppl.nativelib;
 
 import it.unich.jppl.PPL;
 
-import com.sun.jna.Native;
 import com.sun.jna.NativeLong;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
@@ -15,6 +14,12 @@ import com.sun.jna.ptr.PointerByReference;
  * Unless you want to interface with native code, you may completely ignore this
  * class.
  * </p>
+ *
+ * <p>
+ * Each method is a thin wrapper around the corresponding native function,
+ * which also records profiling information when {@link NativeProfiler} is
+ * enabled.
+ * </p>
  */
 public class LibPPL {
 
@@ -31,960 +36,3111 @@ public class LibPPL {
     public static final String LIBNAME = "ppl_c";
 
     static {
-        Native.register(LIBNAME);
         PPL.pplInitialize();
     }
 
+    /**
+     * Does nothing, but forces the initialization of this class, hence of the
+     * PPL library. It should be called by any other class in this package which
+     * calls native methods without going through {@code LibPPL}.
+     */
+    static void initialize() {
+    }
+
     // Library Initialization and Finalization
 
-    public static native int ppl_initialize();
+    public static int ppl_initialize() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_initialize();
+        NativeProfiler.stop("ppl_initialize", start);
+        return result;
+    }
 
-    public static native int ppl_finalize();
+    public static int ppl_finalize() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_finalize();
+        NativeProfiler.stop("ppl_finalize", start);
+        return result;
+    }
 
-    public static native int ppl_set_rounding_for_PPL();
+    public static int ppl_set_rounding_for_PPL() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_set_rounding_for_PPL();
+        NativeProfiler.stop("ppl_set_rounding_for_PPL", start);
+        return result;
+    }
 
-    public static native int ppl_restore_pre_PPL_rounding();
+    public static int ppl_restore_pre_PPL_rounding() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_restore_pre_PPL_rounding();
+        NativeProfiler.stop("ppl_restore_pre_PPL_rounding", start);
+        return result;
+    }
 
-    public static native int ppl_irrational_precision(IntByReference p);
+    public static int ppl_irrational_precision(IntByReference p) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_irrational_precision(p);
+        NativeProfiler.stop("ppl_irrational_precision", start);
+        return result;
+    }
 
-    public static native int ppl_set_irrational_precision(int p);
+    public static int ppl_set_irrational_precision(int p) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_set_irrational_precision(p);
+        NativeProfiler.stop("ppl_set_irrational_precision", start);
+        return result;
+    }
 
     // Version Checking
 
-    public static native int ppl_version_major();
+    public static int ppl_version_major() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_version_major();
+        NativeProfiler.stop("ppl_version_major", start);
+        return result;
+    }
 
-    public static native int ppl_version_minor();
+    public static int ppl_version_minor() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_version_minor();
+        NativeProfiler.stop("ppl_version_minor", start);
+        return result;
+    }
 
-    public static native int ppl_version_revision();
+    public static int ppl_version_revision() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_version_revision();
+        NativeProfiler.stop("ppl_version_revision", start);
+        return result;
+    }
 
-    public static native int ppl_version_beta();
+    public static int ppl_version_beta() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_version_beta();
+        NativeProfiler.stop("ppl_version_beta", start);
+        return result;
+    }
 
-    public static native int ppl_version(PointerByReference p);
+    public static int ppl_version(PointerByReference p) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_version(p);
+        NativeProfiler.stop("ppl_version", start);
+        return result;
+    }
 
-    public static native int ppl_banner(PointerByReference p);
+    public static int ppl_banner(PointerByReference p) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_banner(p);
+        NativeProfiler.stop("ppl_banner", start);
+        return result;
+    }
 
     // Error handling
 
-    public static native int ppl_set_error_handler(PPLErrorHandler h);
+    public static int ppl_set_error_handler(PPLErrorHandler h) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_set_error_handler(h);
+        NativeProfiler.stop("ppl_set_error_handler", start);
+        return result;
+    }
 
     // Timeout handling
 
-    public static native int ppl_set_timeout(int csecs);
+    public static int ppl_set_timeout(int csecs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_set_timeout(csecs);
+        NativeProfiler.stop("ppl_set_timeout", start);
+        return result;
+    }
 
-    public static native int ppl_reset_timeout();
+    public static int ppl_reset_timeout() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_reset_timeout();
+        NativeProfiler.stop("ppl_reset_timeout", start);
+        return result;
+    }
 
-    public static native int ppl_set_deterministic_timeout(NativeLong unscaled_weight, int scale);
+    public static int ppl_set_deterministic_timeout(NativeLong unscaled_weight, int scale) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_set_deterministic_timeout(unscaled_weight, scale);
+        NativeProfiler.stop("ppl_set_deterministic_timeout", start);
+        return result;
+    }
 
-    public static native int ppl_reset_deterministic_timeout();
+    public static int ppl_reset_deterministic_timeout() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_reset_deterministic_timeout();
+        NativeProfiler.stop("ppl_reset_deterministic_timeout", start);
+        return result;
+    }
 
     // Dimensions
 
-    public static native int ppl_max_space_dimension(SizeTByReference m);
+    public static int ppl_max_space_dimension(SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_max_space_dimension(m);
+        NativeProfiler.stop("ppl_max_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_not_a_dimension(SizeTByReference m);
+    public static int ppl_not_a_dimension(SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_not_a_dimension(m);
+        NativeProfiler.stop("ppl_not_a_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_variable(SizeT var);
+    public static int ppl_io_print_variable(SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_variable(var);
+        NativeProfiler.stop("ppl_io_print_variable", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_variable(Pointer stream, SizeT var);
+    public static int ppl_io_fprint_variable(Pointer stream, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_variable(stream, var);
+        NativeProfiler.stop("ppl_io_fprint_variable", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_variable(PointerByReference strp, SizeT var);
+    public static int ppl_io_asprint_variable(PointerByReference strp, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_variable(strp, var);
+        NativeProfiler.stop("ppl_io_asprint_variable", start);
+        return result;
+    }
 
-    public static native int ppl_io_set_variable_output_function(VariableOutputFunction p);
+    public static int ppl_io_set_variable_output_function(VariableOutputFunction p) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_set_variable_output_function(p);
+        NativeProfiler.stop("ppl_io_set_variable_output_function", start);
+        return result;
+    }
 
-    public static native int ppl_io_get_variable_output_function(VariableOutputFunctionByReference pp);
+    public static int ppl_io_get_variable_output_function(VariableOutputFunctionByReference pp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_get_variable_output_function(pp);
+        NativeProfiler.stop("ppl_io_get_variable_output_function", start);
+        return result;
+    }
 
-    public static native Pointer ppl_io_wrap_string(String src, int indent_depth, int preferred_first_line_length,
-            int preferred_line_length);
+    public static Pointer ppl_io_wrap_string(String src, int indent_depth, int preferred_first_line_length,
+            int preferred_line_length) {
+        long start = NativeProfiler.start();
+        Pointer result = LibPPLNatives.ppl_io_wrap_string(src, indent_depth, preferred_first_line_length,
+                preferred_line_length);
+        NativeProfiler.stop("ppl_io_wrap_string", start);
+        return result;
+    }
 
     // Coefficients
 
-    public static native int ppl_new_Coefficient(PointerByReference pc);
+    public static int ppl_new_Coefficient(PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Coefficient(pc);
+        NativeProfiler.stop("ppl_new_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_new_Coefficient_from_mpz_t(PointerByReference pc, Pointer z);
+    public static int ppl_new_Coefficient_from_mpz_t(PointerByReference pc, Pointer z) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Coefficient_from_mpz_t(pc, z);
+        NativeProfiler.stop("ppl_new_Coefficient_from_mpz_t", start);
+        return result;
+    }
 
-    public static native int ppl_new_Coefficient_from_Coefficient(PointerByReference pc, Pointer c);
+    public static int ppl_new_Coefficient_from_Coefficient(PointerByReference pc, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Coefficient_from_Coefficient(pc, c);
+        NativeProfiler.stop("ppl_new_Coefficient_from_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Coefficient_from_mpz_t(Pointer dst, Pointer z);
+    public static int ppl_assign_Coefficient_from_mpz_t(Pointer dst, Pointer z) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Coefficient_from_mpz_t(dst, z);
+        NativeProfiler.stop("ppl_assign_Coefficient_from_mpz_t", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Coefficient_from_Coefficient(Pointer dst, Pointer src);
+    public static int ppl_assign_Coefficient_from_Coefficient(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Coefficient_from_Coefficient(dst, src);
+        NativeProfiler.stop("ppl_assign_Coefficient_from_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Coefficient(Pointer c);
+    public static int ppl_delete_Coefficient(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Coefficient(c);
+        NativeProfiler.stop("ppl_delete_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Coefficient_to_mpz_t(Pointer c, Pointer z);
+    public static int ppl_Coefficient_to_mpz_t(Pointer c, Pointer z) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Coefficient_to_mpz_t(c, z);
+        NativeProfiler.stop("ppl_Coefficient_to_mpz_t", start);
+        return result;
+    }
 
-    public static native int ppl_Coefficient_OK(Pointer c);
+    public static int ppl_Coefficient_OK(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Coefficient_OK(c);
+        NativeProfiler.stop("ppl_Coefficient_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Coefficient_is_bounded();
+    public static int ppl_Coefficient_is_bounded() {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Coefficient_is_bounded();
+        NativeProfiler.stop("ppl_Coefficient_is_bounded", start);
+        return result;
+    }
 
-    public static native int ppl_Coefficient_min(Pointer min);
+    public static int ppl_Coefficient_min(Pointer min) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Coefficient_min(min);
+        NativeProfiler.stop("ppl_Coefficient_min", start);
+        return result;
+    }
 
-    public static native int ppl_Coefficient_max(Pointer max);
+    public static int ppl_Coefficient_max(Pointer max) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Coefficient_max(max);
+        NativeProfiler.stop("ppl_Coefficient_max", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Coefficient(Pointer x);
+    public static int ppl_io_print_Coefficient(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Coefficient(x);
+        NativeProfiler.stop("ppl_io_print_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Coefficient(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Coefficient(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Coefficient(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Coefficient(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Coefficient(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Coefficient(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Coefficient", start);
+        return result;
+    }
 
     // Linear Expressions
 
-    public static native int ppl_new_Linear_Expression(PointerByReference ple);
+    public static int ppl_new_Linear_Expression(PointerByReference ple) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression(ple);
+        NativeProfiler.stop("ppl_new_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_new_Linear_Expression_with_dimension(PointerByReference ple, SizeT d);
+    public static int ppl_new_Linear_Expression_with_dimension(PointerByReference ple, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_with_dimension(ple, d);
+        NativeProfiler.stop("ppl_new_Linear_Expression_with_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_new_Linear_Expression_from_Linear_Expression(PointerByReference ple, Pointer le);
+    public static int ppl_new_Linear_Expression_from_Linear_Expression(PointerByReference ple, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_from_Linear_Expression(ple, le);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_new_Linear_Expression_from_Constraint(PointerByReference ple, Pointer c);
+    public static int ppl_new_Linear_Expression_from_Constraint(PointerByReference ple, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_from_Constraint(ple, c);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_new_Linear_Expression_from_Generator(PointerByReference ple, Pointer g);
+    public static int ppl_new_Linear_Expression_from_Generator(PointerByReference ple, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_from_Generator(ple, g);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Linear_Expression_from_Congruence(PointerByReference ple, Pointer c);
+    public static int ppl_new_Linear_Expression_from_Congruence(PointerByReference ple, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Linear_Expression_from_Congruence(ple, c);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Congruence", start);
+        return result;
+    }
 
     //public static native int ppl_new_Linear_Expression_from_Grid_Generator (PointerByReference ple, Pointer g);
 
-    public static native int ppl_assign_Linear_Expression_from_Linear_Expression(Pointer dst, Pointer src);
+    public static int ppl_assign_Linear_Expression_from_Linear_Expression(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Linear_Expression_from_Linear_Expression(dst, src);
+        NativeProfiler.stop("ppl_assign_Linear_Expression_from_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Linear_Expression(Pointer le);
+    public static int ppl_delete_Linear_Expression(Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Linear_Expression(le);
+        NativeProfiler.stop("ppl_delete_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_space_dimension(Pointer le, SizeTByReference m);
+    public static int ppl_Linear_Expression_space_dimension(Pointer le, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_space_dimension(le, m);
+        NativeProfiler.stop("ppl_Linear_Expression_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_coefficient(Pointer le, SizeT var, Pointer n);
+    public static int ppl_Linear_Expression_coefficient(Pointer le, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_coefficient(le, var, n);
+        NativeProfiler.stop("ppl_Linear_Expression_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_inhomogeneous_term(Pointer le, Pointer n);
+    public static int ppl_Linear_Expression_inhomogeneous_term(Pointer le, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_inhomogeneous_term(le, n);
+        NativeProfiler.stop("ppl_Linear_Expression_inhomogeneous_term", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_OK(Pointer le);
+    public static int ppl_Linear_Expression_OK(Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_OK(le);
+        NativeProfiler.stop("ppl_Linear_Expression_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_is_zero(Pointer le);
+    public static int ppl_Linear_Expression_is_zero(Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_is_zero(le);
+        NativeProfiler.stop("ppl_Linear_Expression_is_zero", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_all_homogeneous_terms_are_zero(Pointer le);
+    public static int ppl_Linear_Expression_all_homogeneous_terms_are_zero(Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_all_homogeneous_terms_are_zero(le);
+        NativeProfiler.stop("ppl_Linear_Expression_all_homogeneous_terms_are_zero", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_add_to_coefficient(Pointer le, SizeT var, Pointer n);
+    public static int ppl_Linear_Expression_add_to_coefficient(Pointer le, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_add_to_coefficient(le, var, n);
+        NativeProfiler.stop("ppl_Linear_Expression_add_to_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_add_to_inhomogeneous(Pointer le, Pointer n);
+    public static int ppl_Linear_Expression_add_to_inhomogeneous(Pointer le, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_add_to_inhomogeneous(le, n);
+        NativeProfiler.stop("ppl_Linear_Expression_add_to_inhomogeneous", start);
+        return result;
+    }
 
-    public static native int ppl_add_Linear_Expression_to_Linear_Expression(Pointer dst, Pointer src);
+    public static int ppl_add_Linear_Expression_to_Linear_Expression(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_add_Linear_Expression_to_Linear_Expression(dst, src);
+        NativeProfiler.stop("ppl_add_Linear_Expression_to_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_multiply_Linear_Expression_by_Coefficient(Pointer le, Pointer n);
+    public static int ppl_multiply_Linear_Expression_by_Coefficient(Pointer le, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_multiply_Linear_Expression_by_Coefficient(le, n);
+        NativeProfiler.stop("ppl_multiply_Linear_Expression_by_Coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Linear_Expression(Pointer x);
+    public static int ppl_io_print_Linear_Expression(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Linear_Expression(x);
+        NativeProfiler.stop("ppl_io_print_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Linear_Expression(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Linear_Expression(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Linear_Expression(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Linear_Expression(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Linear_Expression(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Linear_Expression(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Linear_Expression", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Linear_Expression_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Linear_Expression_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Linear_Expression_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Linear_Expression_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Linear_Expression_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Linear_Expression_ascii_load", start);
+        return result;
+    }
 
     // Constraint
 
-    public static native int ppl_new_Constraint(PointerByReference pc, Pointer le, int rel);
+    public static int ppl_new_Constraint(PointerByReference pc, Pointer le, int rel) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint(pc, le, rel);
+        NativeProfiler.stop("ppl_new_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_zero_dim_false(PointerByReference pc);
+    public static int ppl_new_Constraint_zero_dim_false(PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_zero_dim_false(pc);
+        NativeProfiler.stop("ppl_new_Constraint_zero_dim_false", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_zero_dim_positivity(PointerByReference pc);
+    public static int ppl_new_Constraint_zero_dim_positivity(PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_zero_dim_positivity(pc);
+        NativeProfiler.stop("ppl_new_Constraint_zero_dim_positivity", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_from_Constraint(PointerByReference pc, Pointer c);
+    public static int ppl_new_Constraint_from_Constraint(PointerByReference pc, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_from_Constraint(pc, c);
+        NativeProfiler.stop("ppl_new_Constraint_from_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Constraint_from_Constraint(Pointer dst, Pointer src);
+    public static int ppl_assign_Constraint_from_Constraint(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Constraint_from_Constraint(dst, src);
+        NativeProfiler.stop("ppl_assign_Constraint_from_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Constraint(Pointer c);
+    public static int ppl_delete_Constraint(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Constraint(c);
+        NativeProfiler.stop("ppl_delete_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_space_dimension(Pointer c, SizeTByReference m);
+    public static int ppl_Constraint_space_dimension(Pointer c, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_space_dimension(c, m);
+        NativeProfiler.stop("ppl_Constraint_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_type(Pointer c);
+    public static int ppl_Constraint_type(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_type(c);
+        NativeProfiler.stop("ppl_Constraint_type", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_coefficient(Pointer c, SizeT var, Pointer n);
+    public static int ppl_Constraint_coefficient(Pointer c, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_coefficient(c, var, n);
+        NativeProfiler.stop("ppl_Constraint_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_inhomogeneous_term(Pointer c, Pointer n);
+    public static int ppl_Constraint_inhomogeneous_term(Pointer c, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_inhomogeneous_term(c, n);
+        NativeProfiler.stop("ppl_Constraint_inhomogeneous_term", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_OK(Pointer c);
+    public static int ppl_Constraint_OK(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_OK(c);
+        NativeProfiler.stop("ppl_Constraint_OK", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Constraint(Pointer x);
+    public static int ppl_io_print_Constraint(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Constraint(x);
+        NativeProfiler.stop("ppl_io_print_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Constraint(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Constraint(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Constraint(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Constraint(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Constraint(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Constraint(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Constraint_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Constraint_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Constraint_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Constraint_ascii_load", start);
+        return result;
+    }
 
     // Constraint System
 
-    public static native int ppl_new_Constraint_System(PointerByReference pcs);
+    public static int ppl_new_Constraint_System(PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System(pcs);
+        NativeProfiler.stop("ppl_new_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_System_zero_dim_empty(PointerByReference pcs);
+    public static int ppl_new_Constraint_System_zero_dim_empty(PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System_zero_dim_empty(pcs);
+        NativeProfiler.stop("ppl_new_Constraint_System_zero_dim_empty", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_System_from_Constraint(PointerByReference pcs, Pointer c);
+    public static int ppl_new_Constraint_System_from_Constraint(PointerByReference pcs, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System_from_Constraint(pcs, c);
+        NativeProfiler.stop("ppl_new_Constraint_System_from_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_System_from_Constraint_System(PointerByReference pcs, Pointer cs);
+    public static int ppl_new_Constraint_System_from_Constraint_System(PointerByReference pcs, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System_from_Constraint_System(pcs, cs);
+        NativeProfiler.stop("ppl_new_Constraint_System_from_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Constraint_System_from_Constraint_System(Pointer dst, Pointer src);
+    public static int ppl_assign_Constraint_System_from_Constraint_System(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Constraint_System_from_Constraint_System(dst, src);
+        NativeProfiler.stop("ppl_assign_Constraint_System_from_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Constraint_System(Pointer cs);
+    public static int ppl_delete_Constraint_System(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Constraint_System(cs);
+        NativeProfiler.stop("ppl_delete_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_space_dimension(Pointer cs, SizeTByReference m);
+    public static int ppl_Constraint_System_space_dimension(Pointer cs, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_space_dimension(cs, m);
+        NativeProfiler.stop("ppl_Constraint_System_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_empty(Pointer cs);
+    public static int ppl_Constraint_System_empty(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_empty(cs);
+        NativeProfiler.stop("ppl_Constraint_System_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_has_strict_inequalities(Pointer cs);
+    public static int ppl_Constraint_System_has_strict_inequalities(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_has_strict_inequalities(cs);
+        NativeProfiler.stop("ppl_Constraint_System_has_strict_inequalities", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_begin(Pointer cs, Pointer cit);
+    public static int ppl_Constraint_System_begin(Pointer cs, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_begin(cs, cit);
+        NativeProfiler.stop("ppl_Constraint_System_begin", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_end(Pointer cs, Pointer cit);
+    public static int ppl_Constraint_System_end(Pointer cs, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_end(cs, cit);
+        NativeProfiler.stop("ppl_Constraint_System_end", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_OK(Pointer cs);
+    public static int ppl_Constraint_System_OK(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_OK(cs);
+        NativeProfiler.stop("ppl_Constraint_System_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_clear(Pointer cs);
+    public static int ppl_Constraint_System_clear(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_clear(cs);
+        NativeProfiler.stop("ppl_Constraint_System_clear", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_insert_Constraint(Pointer cs, Pointer c);
+    public static int ppl_Constraint_System_insert_Constraint(Pointer cs, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_insert_Constraint(cs, c);
+        NativeProfiler.stop("ppl_Constraint_System_insert_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Constraint_System(Pointer x);
+    public static int ppl_io_print_Constraint_System(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Constraint_System(x);
+        NativeProfiler.stop("ppl_io_print_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Constraint_System(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Constraint_System(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Constraint_System(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Constraint_System(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Constraint_System(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Constraint_System(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Constraint_System_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Constraint_System_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Constraint_System_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Constraint_System_ascii_load", start);
+        return result;
+    }
 
     // Constraint System Iterator
 
-    public static native int ppl_new_Constraint_System_const_iterator(PointerByReference pcit);
+    public static int ppl_new_Constraint_System_const_iterator(PointerByReference pcit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System_const_iterator(pcit);
+        NativeProfiler.stop("ppl_new_Constraint_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Constraint_System_const_iterator_from_Constraint_System_const_iterator(
-            PointerByReference pcit, Pointer cit);
+    public static int ppl_new_Constraint_System_const_iterator_from_Constraint_System_const_iterator(
+            PointerByReference pcit, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Constraint_System_const_iterator_from_Constraint_System_const_iterator(pcit,
+                cit);
+        NativeProfiler.stop("ppl_new_Constraint_System_const_iterator_from_Constraint_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Constraint_System_const_iterator_from_Constraint_System_const_iterator(
-            Pointer dst, Pointer src);
+    public static int ppl_assign_Constraint_System_const_iterator_from_Constraint_System_const_iterator(
+            Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Constraint_System_const_iterator_from_Constraint_System_const_iterator(
+                dst, src);
+        NativeProfiler.stop("ppl_assign_Constraint_System_const_iterator_from_Constraint_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Constraint_System_const_iterator(Pointer cit);
+    public static int ppl_delete_Constraint_System_const_iterator(Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Constraint_System_const_iterator(cit);
+        NativeProfiler.stop("ppl_delete_Constraint_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_const_iterator_dereference(Pointer cit, PointerByReference pc);
+    public static int ppl_Constraint_System_const_iterator_dereference(Pointer cit, PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_const_iterator_dereference(cit, pc);
+        NativeProfiler.stop("ppl_Constraint_System_const_iterator_dereference", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_const_iterator_increment(Pointer cit);
+    public static int ppl_Constraint_System_const_iterator_increment(Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_const_iterator_increment(cit);
+        NativeProfiler.stop("ppl_Constraint_System_const_iterator_increment", start);
+        return result;
+    }
 
-    public static native int ppl_Constraint_System_const_iterator_equal_test(Pointer x, Pointer y);
+    public static int ppl_Constraint_System_const_iterator_equal_test(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Constraint_System_const_iterator_equal_test(x, y);
+        NativeProfiler.stop("ppl_Constraint_System_const_iterator_equal_test", start);
+        return result;
+    }
 
     // Generator
 
-    public static native int ppl_new_Generator(PointerByReference pg, Pointer le, int t, Pointer d);
+    public static int ppl_new_Generator(PointerByReference pg, Pointer le, int t, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator(pg, le, t, d);
+        NativeProfiler.stop("ppl_new_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_zero_dim_point(PointerByReference pg);
+    public static int ppl_new_Generator_zero_dim_point(PointerByReference pg) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_zero_dim_point(pg);
+        NativeProfiler.stop("ppl_new_Generator_zero_dim_point", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_zero_dim_closure_point(PointerByReference pg);
+    public static int ppl_new_Generator_zero_dim_closure_point(PointerByReference pg) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_zero_dim_closure_point(pg);
+        NativeProfiler.stop("ppl_new_Generator_zero_dim_closure_point", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_from_Generator(PointerByReference pg, Pointer g);
+    public static int ppl_new_Generator_from_Generator(PointerByReference pg, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_from_Generator(pg, g);
+        NativeProfiler.stop("ppl_new_Generator_from_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Generator_from_Generator(Pointer dst, Pointer src);
+    public static int ppl_assign_Generator_from_Generator(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Generator_from_Generator(dst, src);
+        NativeProfiler.stop("ppl_assign_Generator_from_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Generator(Pointer g);
+    public static int ppl_delete_Generator(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Generator(g);
+        NativeProfiler.stop("ppl_delete_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_space_dimension(Pointer g, SizeTByReference m);
+    public static int ppl_Generator_space_dimension(Pointer g, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_space_dimension(g, m);
+        NativeProfiler.stop("ppl_Generator_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_type(Pointer g);
+    public static int ppl_Generator_type(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_type(g);
+        NativeProfiler.stop("ppl_Generator_type", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_coefficient(Pointer g, SizeT var, Pointer n);
+    public static int ppl_Generator_coefficient(Pointer g, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_coefficient(g, var, n);
+        NativeProfiler.stop("ppl_Generator_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_divisor(Pointer g, Pointer d);
+    public static int ppl_Generator_divisor(Pointer g, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_divisor(g, d);
+        NativeProfiler.stop("ppl_Generator_divisor", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_OK(Pointer g);
+    public static int ppl_Generator_OK(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_OK(g);
+        NativeProfiler.stop("ppl_Generator_OK", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Generator(Pointer x);
+    public static int ppl_io_print_Generator(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Generator(x);
+        NativeProfiler.stop("ppl_io_print_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Generator(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Generator(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Generator(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Generator(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Generator(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Generator(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Generator_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Generator_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Generator_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Generator_ascii_load", start);
+        return result;
+    }
 
     // Generator System
 
-    public static native int ppl_new_Generator_System(PointerByReference pgs);
+    public static int ppl_new_Generator_System(PointerByReference pgs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_System(pgs);
+        NativeProfiler.stop("ppl_new_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_System_from_Generator(PointerByReference pgs, Pointer g);
+    public static int ppl_new_Generator_System_from_Generator(PointerByReference pgs, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_System_from_Generator(pgs, g);
+        NativeProfiler.stop("ppl_new_Generator_System_from_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_System_from_Generator_System(PointerByReference pgs, Pointer gs);
+    public static int ppl_new_Generator_System_from_Generator_System(PointerByReference pgs, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_System_from_Generator_System(pgs, gs);
+        NativeProfiler.stop("ppl_new_Generator_System_from_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Generator_System_from_Generator_System(Pointer dst, Pointer src);
+    public static int ppl_assign_Generator_System_from_Generator_System(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Generator_System_from_Generator_System(dst, src);
+        NativeProfiler.stop("ppl_assign_Generator_System_from_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Generator_System(Pointer gs);
+    public static int ppl_delete_Generator_System(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Generator_System(gs);
+        NativeProfiler.stop("ppl_delete_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_space_dimension(Pointer gs, SizeTByReference m);
+    public static int ppl_Generator_System_space_dimension(Pointer gs, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_space_dimension(gs, m);
+        NativeProfiler.stop("ppl_Generator_System_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_empty(Pointer gs);
+    public static int ppl_Generator_System_empty(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_empty(gs);
+        NativeProfiler.stop("ppl_Generator_System_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_begin(Pointer gs, Pointer cit);
+    public static int ppl_Generator_System_begin(Pointer gs, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_begin(gs, cit);
+        NativeProfiler.stop("ppl_Generator_System_begin", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_end(Pointer gs, Pointer cit);
+    public static int ppl_Generator_System_end(Pointer gs, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_end(gs, cit);
+        NativeProfiler.stop("ppl_Generator_System_end", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_OK(Pointer gs);
+    public static int ppl_Generator_System_OK(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_OK(gs);
+        NativeProfiler.stop("ppl_Generator_System_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_clear(Pointer gs);
+    public static int ppl_Generator_System_clear(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_clear(gs);
+        NativeProfiler.stop("ppl_Generator_System_clear", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_insert_Generator(Pointer gs, Pointer g);
+    public static int ppl_Generator_System_insert_Generator(Pointer gs, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_insert_Generator(gs, g);
+        NativeProfiler.stop("ppl_Generator_System_insert_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Generator_System(Pointer x);
+    public static int ppl_io_print_Generator_System(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Generator_System(x);
+        NativeProfiler.stop("ppl_io_print_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Generator_System(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Generator_System(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Generator_System(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Generator_System(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Generator_System(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Generator_System(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Generator_System_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Generator_System_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Generator_System_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Generator_System_ascii_load", start);
+        return result;
+    }
 
     // Generator System Iterator
 
-    public static native int ppl_new_Generator_System_const_iterator(PointerByReference pcit);
+    public static int ppl_new_Generator_System_const_iterator(PointerByReference pcit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_System_const_iterator(pcit);
+        NativeProfiler.stop("ppl_new_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Generator_System_const_iterator_from_Generator_System_const_iterator(
-            PointerByReference pcit, Pointer cit);
+    public static int ppl_new_Generator_System_const_iterator_from_Generator_System_const_iterator(
+            PointerByReference pcit, Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Generator_System_const_iterator_from_Generator_System_const_iterator(pcit,
+                cit);
+        NativeProfiler.stop("ppl_new_Generator_System_const_iterator_from_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Generator_System_const_iterator_from_Generator_System_const_iterator(
-            Pointer dst, Pointer src);
+    public static int ppl_assign_Generator_System_const_iterator_from_Generator_System_const_iterator(
+            Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Generator_System_const_iterator_from_Generator_System_const_iterator(dst,
+                src);
+        NativeProfiler.stop("ppl_assign_Generator_System_const_iterator_from_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Generator_System_const_iterator(Pointer cit);
+    public static int ppl_delete_Generator_System_const_iterator(Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Generator_System_const_iterator(cit);
+        NativeProfiler.stop("ppl_delete_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_const_iterator_dereference(Pointer cit, PointerByReference pc);
+    public static int ppl_Generator_System_const_iterator_dereference(Pointer cit, PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_const_iterator_dereference(cit, pc);
+        NativeProfiler.stop("ppl_Generator_System_const_iterator_dereference", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_const_iterator_increment(Pointer cit);
+    public static int ppl_Generator_System_const_iterator_increment(Pointer cit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_const_iterator_increment(cit);
+        NativeProfiler.stop("ppl_Generator_System_const_iterator_increment", start);
+        return result;
+    }
 
-    public static native int ppl_Generator_System_const_iterator_equal_test(Pointer x, Pointer y);
+    public static int ppl_Generator_System_const_iterator_equal_test(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Generator_System_const_iterator_equal_test(x, y);
+        NativeProfiler.stop("ppl_Generator_System_const_iterator_equal_test", start);
+        return result;
+    }
 
     // Congruence
 
-    public static native int ppl_new_Congruence(PointerByReference pc, Pointer le, Pointer m);
+    public static int ppl_new_Congruence(PointerByReference pc, Pointer le, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence(pc, le, m);
+        NativeProfiler.stop("ppl_new_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_zero_dim_false(PointerByReference pc);
+    public static int ppl_new_Congruence_zero_dim_false(PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_zero_dim_false(pc);
+        NativeProfiler.stop("ppl_new_Congruence_zero_dim_false", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_zero_dim_integrality(PointerByReference pc);
+    public static int ppl_new_Congruence_zero_dim_integrality(PointerByReference pc) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_zero_dim_integrality(pc);
+        NativeProfiler.stop("ppl_new_Congruence_zero_dim_integrality", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_from_Congruence(PointerByReference pc, Pointer c);
+    public static int ppl_new_Congruence_from_Congruence(PointerByReference pc, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_from_Congruence(pc, c);
+        NativeProfiler.stop("ppl_new_Congruence_from_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Congruence_from_Congruence(Pointer dst, Pointer src);
+    public static int ppl_assign_Congruence_from_Congruence(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Congruence_from_Congruence(dst, src);
+        NativeProfiler.stop("ppl_assign_Congruence_from_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Congruence(Pointer c);
+    public static int ppl_delete_Congruence(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Congruence(c);
+        NativeProfiler.stop("ppl_delete_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_space_dimension(Pointer c, SizeTByReference m);
+    public static int ppl_Congruence_space_dimension(Pointer c, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_space_dimension(c, m);
+        NativeProfiler.stop("ppl_Congruence_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_coefficient(Pointer c, SizeT var, Pointer n);
+    public static int ppl_Congruence_coefficient(Pointer c, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_coefficient(c, var, n);
+        NativeProfiler.stop("ppl_Congruence_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_inhomogeneous_term(Pointer c, Pointer n);
+    public static int ppl_Congruence_inhomogeneous_term(Pointer c, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_inhomogeneous_term(c, n);
+        NativeProfiler.stop("ppl_Congruence_inhomogeneous_term", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_modulus(Pointer c, Pointer n);
+    public static int ppl_Congruence_modulus(Pointer c, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_modulus(c, n);
+        NativeProfiler.stop("ppl_Congruence_modulus", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_OK(Pointer c);
+    public static int ppl_Congruence_OK(Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_OK(c);
+        NativeProfiler.stop("ppl_Congruence_OK", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Congruence(Pointer x);
+    public static int ppl_io_print_Congruence(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Congruence(x);
+        NativeProfiler.stop("ppl_io_print_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Congruence(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Congruence(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Congruence(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Congruence(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Congruence(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Congruence(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Congruence_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Congruence_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Congruence_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Congruence_ascii_load", start);
+        return result;
+    }
 
     // Congruence System
 
-    public static native int ppl_new_Congruence_System(PointerByReference pcs);
+    public static int ppl_new_Congruence_System(PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System(pcs);
+        NativeProfiler.stop("ppl_new_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_System_zero_dim_empty(PointerByReference pcs);
+    public static int ppl_new_Congruence_System_zero_dim_empty(PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System_zero_dim_empty(pcs);
+        NativeProfiler.stop("ppl_new_Congruence_System_zero_dim_empty", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_System_from_Congruence(PointerByReference pcs, Pointer c);
+    public static int ppl_new_Congruence_System_from_Congruence(PointerByReference pcs, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System_from_Congruence(pcs, c);
+        NativeProfiler.stop("ppl_new_Congruence_System_from_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_System_from_Congruence_System(PointerByReference pcs, Pointer cs);
+    public static int ppl_new_Congruence_System_from_Congruence_System(PointerByReference pcs, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System_from_Congruence_System(pcs, cs);
+        NativeProfiler.stop("ppl_new_Congruence_System_from_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Congruence_System_from_Congruence_System(Pointer dst, Pointer src);
+    public static int ppl_assign_Congruence_System_from_Congruence_System(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Congruence_System_from_Congruence_System(dst, src);
+        NativeProfiler.stop("ppl_assign_Congruence_System_from_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Congruence_System(Pointer cs);
+    public static int ppl_delete_Congruence_System(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Congruence_System(cs);
+        NativeProfiler.stop("ppl_delete_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_space_dimension(Pointer cs, SizeTByReference m);
+    public static int ppl_Congruence_System_space_dimension(Pointer cs, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_space_dimension(cs, m);
+        NativeProfiler.stop("ppl_Congruence_System_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_empty(Pointer cs);
+    public static int ppl_Congruence_System_empty(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_empty(cs);
+        NativeProfiler.stop("ppl_Congruence_System_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_begin(Pointer cs, Pointer git);
+    public static int ppl_Congruence_System_begin(Pointer cs, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_begin(cs, git);
+        NativeProfiler.stop("ppl_Congruence_System_begin", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_end(Pointer cs, Pointer git);
+    public static int ppl_Congruence_System_end(Pointer cs, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_end(cs, git);
+        NativeProfiler.stop("ppl_Congruence_System_end", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_OK(Pointer cs);
+    public static int ppl_Congruence_System_OK(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_OK(cs);
+        NativeProfiler.stop("ppl_Congruence_System_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_clear(Pointer cs);
+    public static int ppl_Congruence_System_clear(Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_clear(cs);
+        NativeProfiler.stop("ppl_Congruence_System_clear", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_insert_Congruence(Pointer cs, Pointer c);
+    public static int ppl_Congruence_System_insert_Congruence(Pointer cs, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_insert_Congruence(cs, c);
+        NativeProfiler.stop("ppl_Congruence_System_insert_Congruence", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Congruence_System(Pointer x);
+    public static int ppl_io_print_Congruence_System(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Congruence_System(x);
+        NativeProfiler.stop("ppl_io_print_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Congruence_System(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Congruence_System(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Congruence_System(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Congruence_System(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Congruence_System(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Congruence_System(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Congruence_System_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Congruence_System_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Congruence_System_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Congruence_System_ascii_load", start);
+        return result;
+    }
 
     // Congruence System Iterator
 
-    public static native int ppl_new_Congruence_System_const_iterator(PointerByReference pgit);
+    public static int ppl_new_Congruence_System_const_iterator(PointerByReference pgit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System_const_iterator(pgit);
+        NativeProfiler.stop("ppl_new_Congruence_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Congruence_System_const_iterator_from_Congruence_System_const_iterator(
-            PointerByReference pgit, Pointer git);
+    public static int ppl_new_Congruence_System_const_iterator_from_Congruence_System_const_iterator(
+            PointerByReference pgit, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Congruence_System_const_iterator_from_Congruence_System_const_iterator(pgit,
+                git);
+        NativeProfiler.stop("ppl_new_Congruence_System_const_iterator_from_Congruence_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Congruence_System_const_iterator_from_Congruence_System_const_iterator(
-            Pointer dst, Pointer src);
+    public static int ppl_assign_Congruence_System_const_iterator_from_Congruence_System_const_iterator(
+            Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Congruence_System_const_iterator_from_Congruence_System_const_iterator(
+                dst, src);
+        NativeProfiler.stop("ppl_assign_Congruence_System_const_iterator_from_Congruence_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Congruence_System_const_iterator(Pointer git);
+    public static int ppl_delete_Congruence_System_const_iterator(Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Congruence_System_const_iterator(git);
+        NativeProfiler.stop("ppl_delete_Congruence_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_const_iterator_dereference(Pointer git, PointerByReference pg);
+    public static int ppl_Congruence_System_const_iterator_dereference(Pointer git, PointerByReference pg) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_const_iterator_dereference(git, pg);
+        NativeProfiler.stop("ppl_Congruence_System_const_iterator_dereference", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_const_iterator_increment(Pointer git);
+    public static int ppl_Congruence_System_const_iterator_increment(Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_const_iterator_increment(git);
+        NativeProfiler.stop("ppl_Congruence_System_const_iterator_increment", start);
+        return result;
+    }
 
-    public static native int ppl_Congruence_System_const_iterator_equal_test(Pointer x, Pointer y);
+    public static int ppl_Congruence_System_const_iterator_equal_test(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Congruence_System_const_iterator_equal_test(x, y);
+        NativeProfiler.stop("ppl_Congruence_System_const_iterator_equal_test", start);
+        return result;
+    }
 
     // Grid Generator
 
-    public static native int ppl_new_Grid_Generator(PointerByReference pg, Pointer le, int t, Pointer d);
+    public static int ppl_new_Grid_Generator(PointerByReference pg, Pointer le, int t, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator(pg, le, t, d);
+        NativeProfiler.stop("ppl_new_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Grid_Generator_zero_dim_point(PointerByReference pg);
+    public static int ppl_new_Grid_Generator_zero_dim_point(PointerByReference pg) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_zero_dim_point(pg);
+        NativeProfiler.stop("ppl_new_Grid_Generator_zero_dim_point", start);
+        return result;
+    }
 
-    public static native int ppl_new_Grid_Generator_from_Grid_Generator(PointerByReference pg, Pointer g);
+    public static int ppl_new_Grid_Generator_from_Grid_Generator(PointerByReference pg, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_from_Grid_Generator(pg, g);
+        NativeProfiler.stop("ppl_new_Grid_Generator_from_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Grid_Generator_from_Grid_Generator(Pointer dst, Pointer src);
+    public static int ppl_assign_Grid_Generator_from_Grid_Generator(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Grid_Generator_from_Grid_Generator(dst, src);
+        NativeProfiler.stop("ppl_assign_Grid_Generator_from_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Grid_Generator(Pointer g);
+    public static int ppl_delete_Grid_Generator(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Grid_Generator(g);
+        NativeProfiler.stop("ppl_delete_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_space_dimension(Pointer g, SizeTByReference m);
+    public static int ppl_Grid_Generator_space_dimension(Pointer g, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_space_dimension(g, m);
+        NativeProfiler.stop("ppl_Grid_Generator_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_type(Pointer g);
+    public static int ppl_Grid_Generator_type(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_type(g);
+        NativeProfiler.stop("ppl_Grid_Generator_type", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_coefficient(Pointer g, SizeT var, Pointer n);
+    public static int ppl_Grid_Generator_coefficient(Pointer g, SizeT var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_coefficient(g, var, n);
+        NativeProfiler.stop("ppl_Grid_Generator_coefficient", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_divisor(Pointer g, Pointer d);
+    public static int ppl_Grid_Generator_divisor(Pointer g, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_divisor(g, d);
+        NativeProfiler.stop("ppl_Grid_Generator_divisor", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_OK(Pointer g);
+    public static int ppl_Grid_Generator_OK(Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_OK(g);
+        NativeProfiler.stop("ppl_Grid_Generator_OK", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Grid_Generator(Pointer x);
+    public static int ppl_io_print_Grid_Generator(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Grid_Generator(x);
+        NativeProfiler.stop("ppl_io_print_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Grid_Generator(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Grid_Generator(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Grid_Generator(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Grid_Generator(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Grid_Generator(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Grid_Generator(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Grid_Generator_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Grid_Generator_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Grid_Generator_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Grid_Generator_ascii_load", start);
+        return result;
+    }
 
     // Grid Generator System
 
-    public static native int ppl_new_Grid_Generator_System(PointerByReference pgs);
+    public static int ppl_new_Grid_Generator_System(PointerByReference pgs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_System(pgs);
+        NativeProfiler.stop("ppl_new_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Grid_Generator_System_from_Grid_Generator(PointerByReference pgs, Pointer g);
+    public static int ppl_new_Grid_Generator_System_from_Grid_Generator(PointerByReference pgs, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_System_from_Grid_Generator(pgs, g);
+        NativeProfiler.stop("ppl_new_Grid_Generator_System_from_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Grid_Generator_System_from_Grid_Generator_System(PointerByReference pgs,
-            Pointer gs);
+    public static int ppl_new_Grid_Generator_System_from_Grid_Generator_System(PointerByReference pgs, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_System_from_Grid_Generator_System(pgs, gs);
+        NativeProfiler.stop("ppl_new_Grid_Generator_System_from_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Grid_Generator_System_from_Grid_Generator_System(Pointer dst, Pointer src);
+    public static int ppl_assign_Grid_Generator_System_from_Grid_Generator_System(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Grid_Generator_System_from_Grid_Generator_System(dst, src);
+        NativeProfiler.stop("ppl_assign_Grid_Generator_System_from_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Grid_Generator_System(Pointer gs);
+    public static int ppl_delete_Grid_Generator_System(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Grid_Generator_System(gs);
+        NativeProfiler.stop("ppl_delete_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_space_dimension(Pointer gs, SizeTByReference m);
+    public static int ppl_Grid_Generator_System_space_dimension(Pointer gs, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_space_dimension(gs, m);
+        NativeProfiler.stop("ppl_Grid_Generator_System_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_empty(Pointer gs);
+    public static int ppl_Grid_Generator_System_empty(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_empty(gs);
+        NativeProfiler.stop("ppl_Grid_Generator_System_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_begin(Pointer gs, Pointer git);
+    public static int ppl_Grid_Generator_System_begin(Pointer gs, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_begin(gs, git);
+        NativeProfiler.stop("ppl_Grid_Generator_System_begin", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_end(Pointer gs, Pointer git);
+    public static int ppl_Grid_Generator_System_end(Pointer gs, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_end(gs, git);
+        NativeProfiler.stop("ppl_Grid_Generator_System_end", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_OK(Pointer gs);
+    public static int ppl_Grid_Generator_System_OK(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_OK(gs);
+        NativeProfiler.stop("ppl_Grid_Generator_System_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_clear(Pointer gs);
+    public static int ppl_Grid_Generator_System_clear(Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_clear(gs);
+        NativeProfiler.stop("ppl_Grid_Generator_System_clear", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_insert_Grid_Generator(Pointer gs, Pointer g);
+    public static int ppl_Grid_Generator_System_insert_Grid_Generator(Pointer gs, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_insert_Grid_Generator(gs, g);
+        NativeProfiler.stop("ppl_Grid_Generator_System_insert_Grid_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Grid_Generator_System(Pointer x);
+    public static int ppl_io_print_Grid_Generator_System(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Grid_Generator_System(x);
+        NativeProfiler.stop("ppl_io_print_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Grid_Generator_System(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Grid_Generator_System(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Grid_Generator_System(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Grid_Generator_System(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Grid_Generator_System(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Grid_Generator_System(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Grid_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Grid_Generator_System_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Grid_Generator_System_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_ascii_load(Pointer x, Pointer steam);
+    public static int ppl_Grid_Generator_System_ascii_load(Pointer x, Pointer steam) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_ascii_load(x, steam);
+        NativeProfiler.stop("ppl_Grid_Generator_System_ascii_load", start);
+        return result;
+    }
 
     // Grid Generator System Iterator
 
-    public static native int ppl_new_Grid_Generator_System_const_iterator(PointerByReference pgit);
+    public static int ppl_new_Grid_Generator_System_const_iterator(PointerByReference pgit) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_System_const_iterator(pgit);
+        NativeProfiler.stop("ppl_new_Grid_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_new_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
-            PointerByReference pgit, Pointer git);
+    public static int ppl_new_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
+            PointerByReference pgit, Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
+                pgit, git);
+        NativeProfiler.stop("ppl_new_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
-            Pointer dst, Pointer src);
+    public static int ppl_assign_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
+            Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator(
+                dst, src);
+        NativeProfiler.stop("ppl_assign_Grid_Generator_System_const_iterator_from_Grid_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Grid_Generator_System_const_iterator(Pointer git);
+    public static int ppl_delete_Grid_Generator_System_const_iterator(Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Grid_Generator_System_const_iterator(git);
+        NativeProfiler.stop("ppl_delete_Grid_Generator_System_const_iterator", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_const_iterator_dereference(Pointer git, PointerByReference pg);
+    public static int ppl_Grid_Generator_System_const_iterator_dereference(Pointer git, PointerByReference pg) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_const_iterator_dereference(git, pg);
+        NativeProfiler.stop("ppl_Grid_Generator_System_const_iterator_dereference", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_const_iterator_increment(Pointer git);
+    public static int ppl_Grid_Generator_System_const_iterator_increment(Pointer git) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_const_iterator_increment(git);
+        NativeProfiler.stop("ppl_Grid_Generator_System_const_iterator_increment", start);
+        return result;
+    }
 
-    public static native int ppl_Grid_Generator_System_const_iterator_equal_test(Pointer x, Pointer y);
+    public static int ppl_Grid_Generator_System_const_iterator_equal_test(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Grid_Generator_System_const_iterator_equal_test(x, y);
+        NativeProfiler.stop("ppl_Grid_Generator_System_const_iterator_equal_test", start);
+        return result;
+    }
 
     // CPolyhedron
 
-    public static native int ppl_new_C_Polyhedron_from_space_dimension(PointerByReference pph, SizeT d, int empty);
+    public static int ppl_new_C_Polyhedron_from_space_dimension(PointerByReference pph, SizeT d, int empty) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_C_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_C_Polyhedron_from_C_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_C_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_C_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_C_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_C_Polyhedron_from_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_recycle_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_C_Polyhedron_recycle_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_recycle_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_recycle_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_C_Polyhedron_from_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_recycle_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_C_Polyhedron_recycle_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_recycle_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_recycle_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_C_Polyhedron_from_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_recycle_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_C_Polyhedron_recycle_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_recycle_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_recycle_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_C_Polyhedron_from_C_Polyhedron(Pointer dst, Pointer src);
+    public static int ppl_assign_C_Polyhedron_from_C_Polyhedron(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_C_Polyhedron_from_C_Polyhedron(dst, src);
+        NativeProfiler.stop("ppl_assign_C_Polyhedron_from_C_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_NNC_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_C_Polyhedron_from_NNC_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_NNC_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_NNC_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity(PointerByReference pph,
-            Pointer ph, int complexity);
+    public static int ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity(PointerByReference pph,
+            Pointer ph, int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_NNC_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_Double_Box(PointerByReference pph, Pointer ph);
+    public static int ppl_new_C_Polyhedron_from_Double_Box(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_Double_Box(pph, ph);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_new_C_Polyhedron_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_C_Polyhedron_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_C_Polyhedron_from_Double_Box_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Double_Box_with_complexity", start);
+        return result;
+    }
 
     // NNCPolyhedron
 
-    public static native int ppl_new_NNC_Polyhedron_from_space_dimension(PointerByReference pph, SizeT d, int empty);
+    public static int ppl_new_NNC_Polyhedron_from_space_dimension(PointerByReference pph, SizeT d, int empty) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_NNC_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity(PointerByReference pph,
-            Pointer ph, int complexity);
+    public static int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity(PointerByReference pph,
+            Pointer ph, int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_NNC_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_NNC_Polyhedron_from_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_recycle_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_NNC_Polyhedron_recycle_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_recycle_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_recycle_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_NNC_Polyhedron_from_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_recycle_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_NNC_Polyhedron_recycle_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_recycle_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_recycle_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_NNC_Polyhedron_from_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_recycle_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_NNC_Polyhedron_recycle_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_recycle_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_recycle_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron(Pointer dst, Pointer src);
+    public static int ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron(dst, src);
+        NativeProfiler.stop("ppl_assign_NNC_Polyhedron_from_NNC_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_C_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_NNC_Polyhedron_from_C_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_C_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_C_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity(PointerByReference pph,
-            Pointer ph, int complexity);
+    public static int ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity(PointerByReference pph,
+            Pointer ph, int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_C_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_Double_Box(PointerByReference pph, Pointer ph);
+    public static int ppl_new_NNC_Polyhedron_from_Double_Box(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_Double_Box(pph, ph);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Double_Box_with_complexity", start);
+        return result;
+    }
 
     // Polyhedron
 
-    public static native int ppl_delete_Polyhedron(Pointer ph);
+    public static int ppl_delete_Polyhedron(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Polyhedron(ph);
+        NativeProfiler.stop("ppl_delete_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_space_dimension(Pointer ph, SizeTByReference m);
+    public static int ppl_Polyhedron_space_dimension(Pointer ph, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_space_dimension(ph, m);
+        NativeProfiler.stop("ppl_Polyhedron_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_affine_dimension(Pointer ph, SizeTByReference m);
+    public static int ppl_Polyhedron_affine_dimension(Pointer ph, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_affine_dimension(ph, m);
+        NativeProfiler.stop("ppl_Polyhedron_affine_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_relation_with_Constraint(Pointer ph, Pointer c);
+    public static int ppl_Polyhedron_relation_with_Constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_relation_with_Constraint(ph, c);
+        NativeProfiler.stop("ppl_Polyhedron_relation_with_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_relation_with_Generator(Pointer ph, Pointer g);
+    public static int ppl_Polyhedron_relation_with_Generator(Pointer ph, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_relation_with_Generator(ph, g);
+        NativeProfiler.stop("ppl_Polyhedron_relation_with_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_get_constraints(Pointer ph, PointerByReference pcs);
+    public static int ppl_Polyhedron_get_constraints(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_get_congruences(Pointer ph, PointerByReference pcs);
+    public static int ppl_Polyhedron_get_congruences(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_get_minimized_constraints(Pointer ph, PointerByReference pcs);
+    public static int ppl_Polyhedron_get_minimized_constraints(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_minimized_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_get_minimized_congruences(Pointer ph, PointerByReference pcs);
+    public static int ppl_Polyhedron_get_minimized_congruences(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_minimized_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_empty(Pointer ph);
+    public static int ppl_Polyhedron_is_empty(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_empty(ph);
+        NativeProfiler.stop("ppl_Polyhedron_is_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_universe(Pointer ph);
+    public static int ppl_Polyhedron_is_universe(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_universe(ph);
+        NativeProfiler.stop("ppl_Polyhedron_is_universe", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_bounded(Pointer ph);
+    public static int ppl_Polyhedron_is_bounded(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_bounded(ph);
+        NativeProfiler.stop("ppl_Polyhedron_is_bounded", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_contains_integer_point(Pointer ph);
+    public static int ppl_Polyhedron_contains_integer_point(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_contains_integer_point(ph);
+        NativeProfiler.stop("ppl_Polyhedron_contains_integer_point", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_topologically_closed(Pointer ph);
+    public static int ppl_Polyhedron_is_topologically_closed(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_topologically_closed(ph);
+        NativeProfiler.stop("ppl_Polyhedron_is_topologically_closed", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_discrete(Pointer ph);
+    public static int ppl_Polyhedron_is_discrete(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_discrete(ph);
+        NativeProfiler.stop("ppl_Polyhedron_is_discrete", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_constrains(Pointer ph, SizeT var);
+    public static int ppl_Polyhedron_constrains(Pointer ph, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_constrains(ph, var);
+        NativeProfiler.stop("ppl_Polyhedron_constrains", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounds_from_above(Pointer ph, Pointer le);
+    public static int ppl_Polyhedron_bounds_from_above(Pointer ph, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounds_from_above(ph, le);
+        NativeProfiler.stop("ppl_Polyhedron_bounds_from_above", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounds_from_below(Pointer ph, Pointer le);
+    public static int ppl_Polyhedron_bounds_from_below(Pointer ph, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounds_from_below(ph, le);
+        NativeProfiler.stop("ppl_Polyhedron_bounds_from_below", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
-            IntByReference pmaximum, Pointer point);
+    public static int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            IntByReference pmaximum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+        NativeProfiler.stop("ppl_Polyhedron_maximize_with_point", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
-            IntByReference pmaximum);
+    public static int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            IntByReference pmaximum) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_maximize(ph, le, sup_n, sup_d, pmaximum);
+        NativeProfiler.stop("ppl_Polyhedron_maximize", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
-            IntByReference pminimum, Pointer point);
+    public static int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            IntByReference pminimum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+        NativeProfiler.stop("ppl_Polyhedron_minimize_with_point", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
-            IntByReference pminimum);
+    public static int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            IntByReference pminimum) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_minimize(ph, le, inf_n, inf_d, pminimum);
+        NativeProfiler.stop("ppl_Polyhedron_minimize", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_contains_Polyhedron(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_contains_Polyhedron(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_contains_Polyhedron(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_contains_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_strictly_contains_Polyhedron(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_strictly_contains_Polyhedron(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_strictly_contains_Polyhedron(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_strictly_contains_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_is_disjoint_from_Polyhedron(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_is_disjoint_from_Polyhedron(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_is_disjoint_from_Polyhedron(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_is_disjoint_from_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_equals_Polyhedron(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_equals_Polyhedron(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_equals_Polyhedron(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_equals_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_OK(Pointer ph);
+    public static int ppl_Polyhedron_OK(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_OK(ph);
+        NativeProfiler.stop("ppl_Polyhedron_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, SizeTByReference sz);
+    public static int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, SizeTByReference sz) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_external_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Polyhedron_external_memory_in_bytes", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, SizeTByReference sz);
+    public static int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, SizeTByReference sz) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_total_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Polyhedron_total_memory_in_bytes", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_constraint(Pointer ph, Pointer c);
+    public static int ppl_Polyhedron_add_constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_constraint(ph, c);
+        NativeProfiler.stop("ppl_Polyhedron_add_constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_congruence(Pointer ph, Pointer c);
+    public static int ppl_Polyhedron_add_congruence(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_congruence(ph, c);
+        NativeProfiler.stop("ppl_Polyhedron_add_congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_add_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_add_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_add_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_add_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_recycled_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_add_recycled_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_recycled_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_add_recycled_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_recycled_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_add_recycled_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_recycled_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_add_recycled_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_refine_with_constraint(Pointer ph, Pointer c);
+    public static int ppl_Polyhedron_refine_with_constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_refine_with_constraint(ph, c);
+        NativeProfiler.stop("ppl_Polyhedron_refine_with_constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_refine_with_congruence(Pointer ph, Pointer c);
+    public static int ppl_Polyhedron_refine_with_congruence(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_refine_with_congruence(ph, c);
+        NativeProfiler.stop("ppl_Polyhedron_refine_with_congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_refine_with_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_refine_with_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_refine_with_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_refine_with_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_refine_with_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Polyhedron_refine_with_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_refine_with_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Polyhedron_refine_with_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_intersection_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_intersection_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_intersection_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_intersection_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_upper_bound_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_upper_bound_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_upper_bound_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_upper_bound_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_difference_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_difference_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_difference_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_difference_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_simplify_using_context_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_simplify_using_context_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_simplify_using_context_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_simplify_using_context_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_time_elapse_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_time_elapse_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_time_elapse_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_time_elapse_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_topological_closure_assign(Pointer ph);
+    public static int ppl_Polyhedron_topological_closure_assign(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_topological_closure_assign(ph);
+        NativeProfiler.stop("ppl_Polyhedron_topological_closure_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, SizeT var);
+    public static int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_unconstrain_space_dimension(ph, var);
+        NativeProfiler.stop("ppl_Polyhedron_unconstrain_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_unconstrain_space_dimensions(Pointer ph, Pointer ds, SizeT n);
+    public static int ppl_Polyhedron_unconstrain_space_dimensions(Pointer ph, Pointer ds, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_unconstrain_space_dimensions(ph, ds, n);
+        NativeProfiler.stop("ppl_Polyhedron_unconstrain_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_affine_image(Pointer ph, SizeT var, Pointer le, Pointer d);
+    public static int ppl_Polyhedron_affine_image(Pointer ph, SizeT var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_affine_image(ph, var, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_affine_preimage(Pointer ph, SizeT var, Pointer le, Pointer d);
+    public static int ppl_Polyhedron_affine_preimage(Pointer ph, SizeT var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_affine_preimage(ph, var, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_affine_image(Pointer ph, SizeT var, Pointer lb, Pointer ub,
-            Pointer d);
+    public static int ppl_Polyhedron_bounded_affine_image(Pointer ph, SizeT var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_affine_image(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, SizeT var, Pointer lb, Pointer ub,
-            Pointer d);
+    public static int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, SizeT var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_affine_preimage(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_generalized_affine_image(Pointer ph, SizeT var, int relsym, Pointer le,
-            Pointer d);
+    public static int ppl_Polyhedron_generalized_affine_image(Pointer ph, SizeT var, int relsym, Pointer le,
+            Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_image(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, SizeT var, int relsym, Pointer le,
-            Pointer d);
+    public static int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, SizeT var, int relsym, Pointer le,
+            Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_preimage(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_generalized_affine_image_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
-            Pointer rhs);
+    public static int ppl_Polyhedron_generalized_affine_image_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
+            Pointer rhs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_image_lhs_rhs(ph, lhs, relsym, rhs);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_image_lhs_rhs", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_generalized_affine_preimage_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
-            Pointer rhs);
+    public static int ppl_Polyhedron_generalized_affine_preimage_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
+            Pointer rhs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_generalized_affine_preimage_lhs_rhs(ph, lhs, relsym, rhs);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_preimage_lhs_rhs", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_concatenate_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_concatenate_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_concatenate_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_concatenate_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, SizeT d);
+    public static int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_space_dimensions_and_embed(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_add_space_dimensions_and_embed", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, SizeT d);
+    public static int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_space_dimensions_and_project(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_add_space_dimensions_and_project", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_remove_space_dimensions(Pointer ph, Pointer ds, SizeT n);
+    public static int ppl_Polyhedron_remove_space_dimensions(Pointer ph, Pointer ds, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_remove_space_dimensions(ph, ds, n);
+        NativeProfiler.stop("ppl_Polyhedron_remove_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, SizeT d);
+    public static int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_remove_higher_space_dimensions(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_remove_higher_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_map_space_dimensions(Pointer ph, Pointer maps, SizeT n);
+    public static int ppl_Polyhedron_map_space_dimensions(Pointer ph, Pointer maps, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_map_space_dimensions(ph, maps, n);
+        NativeProfiler.stop("ppl_Polyhedron_map_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_expand_space_dimension(Pointer ph, SizeT d, SizeT m);
+    public static int ppl_Polyhedron_expand_space_dimension(Pointer ph, SizeT d, SizeT m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_expand_space_dimension(ph, d, m);
+        NativeProfiler.stop("ppl_Polyhedron_expand_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_fold_space_dimensions(Pointer ph, Pointer ds, SizeT n, SizeT d);
+    public static int ppl_Polyhedron_fold_space_dimensions(Pointer ph, Pointer ds, SizeT n, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_fold_space_dimensions(ph, ds, n, d);
+        NativeProfiler.stop("ppl_Polyhedron_fold_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Polyhedron(Pointer x);
+    public static int ppl_io_print_Polyhedron(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Polyhedron(x);
+        NativeProfiler.stop("ppl_io_print_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Polyhedron(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Polyhedron(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Polyhedron(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Polyhedron(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Polyhedron(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Polyhedron(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Polyhedron_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Polyhedron_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_ascii_load(Pointer x, Pointer stream);
+    public static int ppl_Polyhedron_ascii_load(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_ascii_load(x, stream);
+        NativeProfiler.stop("ppl_Polyhedron_ascii_load", start);
+        return result;
+    }
 
     // Polyhedron specific operations
 
-    public static native int ppl_Polyhedron_get_generators(Pointer ph, PointerByReference pgs);
+    public static int ppl_Polyhedron_get_generators(Pointer ph, PointerByReference pgs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_generators(ph, pgs);
+        NativeProfiler.stop("ppl_Polyhedron_get_generators", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_get_minimized_generators(Pointer ph, PointerByReference pgs);
+    public static int ppl_Polyhedron_get_minimized_generators(Pointer ph, PointerByReference pgs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_get_minimized_generators(ph, pgs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_generators", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_generator(Pointer ph, Pointer g);
+    public static int ppl_Polyhedron_add_generator(Pointer ph, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_generator(ph, g);
+        NativeProfiler.stop("ppl_Polyhedron_add_generator", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_generators(Pointer ph, Pointer gs);
+    public static int ppl_Polyhedron_add_generators(Pointer ph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_generators(ph, gs);
+        NativeProfiler.stop("ppl_Polyhedron_add_generators", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_add_recycled_generators(Pointer ph, Pointer gs);
+    public static int ppl_Polyhedron_add_recycled_generators(Pointer ph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_add_recycled_generators(ph, gs);
+        NativeProfiler.stop("ppl_Polyhedron_add_recycled_generators", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_poly_hull_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_poly_hull_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_poly_hull_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_poly_hull_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_poly_difference_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_poly_difference_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_poly_difference_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_poly_difference_assign", start);
+        return result;
+    }
 
     //public static native int wrap_assign (Pointer ph, Pointer ds, Dimension n, int w, int r, int o, PointerByReference pcs, int complexity_threshold, int wrap_individually);
 
-    public static native int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp);
+    public static int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Polyhedron_BHRZ03_widening_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp);
+    public static int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_H79_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Polyhedron_H79_widening_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_BHRZ03_widening_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_BHRZ03_widening_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_BHRZ03_widening_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_BHRZ03_widening_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_H79_widening_assign(Pointer x, Pointer y);
+    public static int ppl_Polyhedron_H79_widening_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_H79_widening_assign(x, y);
+        NativeProfiler.stop("ppl_Polyhedron_H79_widening_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens(Pointer x, Pointer y,
-            Pointer cs, IntByReference tp);
+    public static int ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens(Pointer x, Pointer y,
+            Pointer cs, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens(x, y, cs, tp);
+        NativeProfiler.stop("ppl_Polyhedron_limited_BHRZ03_extrapolation_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens(Pointer x, Pointer y,
-            Pointer cs, IntByReference tp);
+    public static int ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens(Pointer x, Pointer y,
+            Pointer cs, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens(x, y, cs, tp);
+        NativeProfiler.stop("ppl_Polyhedron_limited_H79_extrapolation_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_limited_BHRZ03_extrapolation_assign(Pointer x, Pointer y, Pointer cs);
+    public static int ppl_Polyhedron_limited_BHRZ03_extrapolation_assign(Pointer x, Pointer y, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_limited_BHRZ03_extrapolation_assign(x, y, cs);
+        NativeProfiler.stop("ppl_Polyhedron_limited_BHRZ03_extrapolation_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_limited_H79_extrapolation_assign(Pointer x, Pointer y, Pointer cs);
+    public static int ppl_Polyhedron_limited_H79_extrapolation_assign(Pointer x, Pointer y, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_limited_H79_extrapolation_assign(x, y, cs);
+        NativeProfiler.stop("ppl_Polyhedron_limited_H79_extrapolation_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens(Pointer x, Pointer y,
-            Pointer cs, IntByReference tp);
+    public static int ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens(Pointer x, Pointer y,
+            Pointer cs, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens(x, y, cs, tp);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign(Pointer x, Pointer y, Pointer cs);
+    public static int ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign(Pointer x, Pointer y, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign(x, y, cs);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_BHRZ03_extrapolation_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens(Pointer x, Pointer y,
-            Pointer cs, IntByReference tp);
+    public static int ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens(Pointer x, Pointer y,
+            Pointer cs, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens(x, y, cs, tp);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_H79_extrapolation_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Polyhedron_bounded_H79_extrapolation_assign(Pointer x, Pointer y, Pointer cs);
+    public static int ppl_Polyhedron_bounded_H79_extrapolation_assign(Pointer x, Pointer y, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Polyhedron_bounded_H79_extrapolation_assign(x, y, cs);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_H79_extrapolation_assign", start);
+        return result;
+    }
 
     // DoubleBox
 
-    public static native int ppl_new_Double_Box_from_space_dimension(PointerByReference pph, SizeT d, int empty);
+    public static int ppl_new_Double_Box_from_space_dimension(PointerByReference pph, SizeT d, int empty) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_Double_Box_from_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_Double_Box(PointerByReference pph, Pointer ph);
+    public static int ppl_new_Double_Box_from_Double_Box(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_Double_Box(pph, ph);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_Double_Box_from_Double_Box_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_Double_Box_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Double_Box_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_Double_Box_from_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_recycle_Constraint_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_Double_Box_recycle_Constraint_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_recycle_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_Double_Box_recycle_Constraint_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_Double_Box_from_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_recycle_Congruence_System(PointerByReference pph, Pointer cs);
+    public static int ppl_new_Double_Box_recycle_Congruence_System(PointerByReference pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_recycle_Congruence_System(pph, cs);
+        NativeProfiler.stop("ppl_new_Double_Box_recycle_Congruence_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_Double_Box_from_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_recycle_Generator_System(PointerByReference pph, Pointer gs);
+    public static int ppl_new_Double_Box_recycle_Generator_System(PointerByReference pph, Pointer gs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_recycle_Generator_System(pph, gs);
+        NativeProfiler.stop("ppl_new_Double_Box_recycle_Generator_System", start);
+        return result;
+    }
 
-    public static native int ppl_assign_Double_Box_from_Double_Box(Pointer dst, Pointer src);
+    public static int ppl_assign_Double_Box_from_Double_Box(Pointer dst, Pointer src) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_assign_Double_Box_from_Double_Box(dst, src);
+        NativeProfiler.stop("ppl_assign_Double_Box_from_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_C_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_Double_Box_from_C_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_C_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_Double_Box_from_C_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_C_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_Double_Box_from_C_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_C_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_Double_Box_from_C_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_NNC_Polyhedron(PointerByReference pph, Pointer ph);
+    public static int ppl_new_Double_Box_from_NNC_Polyhedron(PointerByReference pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_NNC_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_Double_Box_from_NNC_Polyhedron", start);
+        return result;
+    }
 
-    public static native int ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
-            int complexity);
+    public static int ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(PointerByReference pph, Pointer ph,
+            int complexity) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity(pph, ph, complexity);
+        NativeProfiler.stop("ppl_new_Double_Box_from_NNC_Polyhedron_with_complexity", start);
+        return result;
+    }
 
-    public static native int ppl_delete_Double_Box(Pointer ph);
+    public static int ppl_delete_Double_Box(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_delete_Double_Box(ph);
+        NativeProfiler.stop("ppl_delete_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_space_dimension(Pointer ph, SizeTByReference m);
+    public static int ppl_Double_Box_space_dimension(Pointer ph, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_space_dimension(ph, m);
+        NativeProfiler.stop("ppl_Double_Box_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_affine_dimension(Pointer ph, SizeTByReference m);
+    public static int ppl_Double_Box_affine_dimension(Pointer ph, SizeTByReference m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_affine_dimension(ph, m);
+        NativeProfiler.stop("ppl_Double_Box_affine_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_relation_with_Constraint(Pointer ph, Pointer c);
+    public static int ppl_Double_Box_relation_with_Constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_relation_with_Constraint(ph, c);
+        NativeProfiler.stop("ppl_Double_Box_relation_with_Constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_relation_with_Generator(Pointer ph, Pointer g);
+    public static int ppl_Double_Box_relation_with_Generator(Pointer ph, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_relation_with_Generator(ph, g);
+        NativeProfiler.stop("ppl_Double_Box_relation_with_Generator", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_get_constraints(Pointer ph, PointerByReference pcs);
+    public static int ppl_Double_Box_get_constraints(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_get_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_get_congruences(Pointer ph, PointerByReference pcs);
+    public static int ppl_Double_Box_get_congruences(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_get_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_get_minimized_constraints(Pointer ph, PointerByReference pcs);
+    public static int ppl_Double_Box_get_minimized_constraints(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_get_minimized_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_minimized_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_get_minimized_congruences(Pointer ph, PointerByReference pcs);
+    public static int ppl_Double_Box_get_minimized_congruences(Pointer ph, PointerByReference pcs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_get_minimized_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_minimized_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_empty(Pointer ph);
+    public static int ppl_Double_Box_is_empty(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_empty(ph);
+        NativeProfiler.stop("ppl_Double_Box_is_empty", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_universe(Pointer ph);
+    public static int ppl_Double_Box_is_universe(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_universe(ph);
+        NativeProfiler.stop("ppl_Double_Box_is_universe", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_bounded(Pointer ph);
+    public static int ppl_Double_Box_is_bounded(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_bounded(ph);
+        NativeProfiler.stop("ppl_Double_Box_is_bounded", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_contains_integer_point(Pointer ph);
+    public static int ppl_Double_Box_contains_integer_point(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_contains_integer_point(ph);
+        NativeProfiler.stop("ppl_Double_Box_contains_integer_point", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_topologically_closed(Pointer ph);
+    public static int ppl_Double_Box_is_topologically_closed(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_topologically_closed(ph);
+        NativeProfiler.stop("ppl_Double_Box_is_topologically_closed", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_discrete(Pointer ph);
+    public static int ppl_Double_Box_is_discrete(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_discrete(ph);
+        NativeProfiler.stop("ppl_Double_Box_is_discrete", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_constrains(Pointer ph, SizeT var);
+    public static int ppl_Double_Box_constrains(Pointer ph, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_constrains(ph, var);
+        NativeProfiler.stop("ppl_Double_Box_constrains", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_bounds_from_above(Pointer ph, Pointer le);
+    public static int ppl_Double_Box_bounds_from_above(Pointer ph, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_bounds_from_above(ph, le);
+        NativeProfiler.stop("ppl_Double_Box_bounds_from_above", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_bounds_from_below(Pointer ph, Pointer le);
+    public static int ppl_Double_Box_bounds_from_below(Pointer ph, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_bounds_from_below(ph, le);
+        NativeProfiler.stop("ppl_Double_Box_bounds_from_below", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
-            IntByReference pmaximum, Pointer point);
+    public static int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            IntByReference pmaximum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+        NativeProfiler.stop("ppl_Double_Box_maximize_with_point", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
-            IntByReference pmaximum);
+    public static int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            IntByReference pmaximum) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_maximize(ph, le, sup_n, sup_d, pmaximum);
+        NativeProfiler.stop("ppl_Double_Box_maximize", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
-            IntByReference pminimum, Pointer point);
+    public static int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            IntByReference pminimum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+        NativeProfiler.stop("ppl_Double_Box_minimize_with_point", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
-            IntByReference pminimum);
+    public static int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            IntByReference pminimum) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_minimize(ph, le, inf_n, inf_d, pminimum);
+        NativeProfiler.stop("ppl_Double_Box_minimize", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_contains_Double_Box(Pointer x, Pointer y);
+    public static int ppl_Double_Box_contains_Double_Box(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_contains_Double_Box(x, y);
+        NativeProfiler.stop("ppl_Double_Box_contains_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_strictly_contains_Double_Box(Pointer x, Pointer y);
+    public static int ppl_Double_Box_strictly_contains_Double_Box(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_strictly_contains_Double_Box(x, y);
+        NativeProfiler.stop("ppl_Double_Box_strictly_contains_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_is_disjoint_from_Double_Box(Pointer x, Pointer y);
+    public static int ppl_Double_Box_is_disjoint_from_Double_Box(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_is_disjoint_from_Double_Box(x, y);
+        NativeProfiler.stop("ppl_Double_Box_is_disjoint_from_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_equals_Double_Box(Pointer x, Pointer y);
+    public static int ppl_Double_Box_equals_Double_Box(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_equals_Double_Box(x, y);
+        NativeProfiler.stop("ppl_Double_Box_equals_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_OK(Pointer ph);
+    public static int ppl_Double_Box_OK(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_OK(ph);
+        NativeProfiler.stop("ppl_Double_Box_OK", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_external_memory_in_bytes(Pointer ph, SizeTByReference sz);
+    public static int ppl_Double_Box_external_memory_in_bytes(Pointer ph, SizeTByReference sz) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_external_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Double_Box_external_memory_in_bytes", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_total_memory_in_bytes(Pointer ph, SizeTByReference sz);
+    public static int ppl_Double_Box_total_memory_in_bytes(Pointer ph, SizeTByReference sz) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_total_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Double_Box_total_memory_in_bytes", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_constraint(Pointer ph, Pointer c);
+    public static int ppl_Double_Box_add_constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_constraint(ph, c);
+        NativeProfiler.stop("ppl_Double_Box_add_constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_congruence(Pointer ph, Pointer c);
+    public static int ppl_Double_Box_add_congruence(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_congruence(ph, c);
+        NativeProfiler.stop("ppl_Double_Box_add_congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_add_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_add_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_add_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_add_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_recycled_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_add_recycled_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_recycled_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_add_recycled_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_recycled_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_add_recycled_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_recycled_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_add_recycled_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_refine_with_constraint(Pointer ph, Pointer c);
+    public static int ppl_Double_Box_refine_with_constraint(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_refine_with_constraint(ph, c);
+        NativeProfiler.stop("ppl_Double_Box_refine_with_constraint", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_refine_with_congruence(Pointer ph, Pointer c);
+    public static int ppl_Double_Box_refine_with_congruence(Pointer ph, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_refine_with_congruence(ph, c);
+        NativeProfiler.stop("ppl_Double_Box_refine_with_congruence", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_refine_with_constraints(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_refine_with_constraints(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_refine_with_constraints(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_refine_with_constraints", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_refine_with_congruences(Pointer ph, Pointer cs);
+    public static int ppl_Double_Box_refine_with_congruences(Pointer ph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_refine_with_congruences(ph, cs);
+        NativeProfiler.stop("ppl_Double_Box_refine_with_congruences", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_intersection_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_intersection_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_intersection_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_intersection_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_upper_bound_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_upper_bound_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_upper_bound_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_upper_bound_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_difference_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_difference_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_difference_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_difference_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_simplify_using_context_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_simplify_using_context_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_simplify_using_context_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_simplify_using_context_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_time_elapse_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_time_elapse_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_time_elapse_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_time_elapse_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_topological_closure_assign(Pointer ph);
+    public static int ppl_Double_Box_topological_closure_assign(Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_topological_closure_assign(ph);
+        NativeProfiler.stop("ppl_Double_Box_topological_closure_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, SizeT var);
+    public static int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, SizeT var) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_unconstrain_space_dimension(ph, var);
+        NativeProfiler.stop("ppl_Double_Box_unconstrain_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_unconstrain_space_dimensions(Pointer ph, Pointer ds, SizeT n);
+    public static int ppl_Double_Box_unconstrain_space_dimensions(Pointer ph, Pointer ds, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_unconstrain_space_dimensions(ph, ds, n);
+        NativeProfiler.stop("ppl_Double_Box_unconstrain_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_affine_image(Pointer ph, SizeT var, Pointer le, Pointer d);
+    public static int ppl_Double_Box_affine_image(Pointer ph, SizeT var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_affine_image(ph, var, le, d);
+        NativeProfiler.stop("ppl_Double_Box_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_affine_preimage(Pointer ph, SizeT var, Pointer le, Pointer d);
+    public static int ppl_Double_Box_affine_preimage(Pointer ph, SizeT var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_affine_preimage(ph, var, le, d);
+        NativeProfiler.stop("ppl_Double_Box_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_bounded_affine_image(Pointer ph, SizeT var, Pointer lb, Pointer ub,
-            Pointer d);
+    public static int ppl_Double_Box_bounded_affine_image(Pointer ph, SizeT var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_bounded_affine_image(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Double_Box_bounded_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_bounded_affine_preimage(Pointer ph, SizeT var, Pointer lb, Pointer ub,
-            Pointer d);
+    public static int ppl_Double_Box_bounded_affine_preimage(Pointer ph, SizeT var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_bounded_affine_preimage(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Double_Box_bounded_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_generalized_affine_image(Pointer ph, SizeT var, int relsym, Pointer le,
-            Pointer d);
+    public static int ppl_Double_Box_generalized_affine_image(Pointer ph, SizeT var, int relsym, Pointer le,
+            Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_generalized_affine_image(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Double_Box_generalized_affine_image", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_generalized_affine_preimage(Pointer ph, SizeT var, int relsym, Pointer le,
-            Pointer d);
+    public static int ppl_Double_Box_generalized_affine_preimage(Pointer ph, SizeT var, int relsym, Pointer le,
+            Pointer d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_generalized_affine_preimage(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Double_Box_generalized_affine_preimage", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_generalized_affine_image_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
-            Pointer rhs);
+    public static int ppl_Double_Box_generalized_affine_image_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
+            Pointer rhs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_generalized_affine_image_lhs_rhs(ph, lhs, relsym, rhs);
+        NativeProfiler.stop("ppl_Double_Box_generalized_affine_image_lhs_rhs", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_generalized_affine_preimage_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
-            Pointer rhs);
+    public static int ppl_Double_Box_generalized_affine_preimage_lhs_rhs(Pointer ph, Pointer lhs, int relsym,
+            Pointer rhs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_generalized_affine_preimage_lhs_rhs(ph, lhs, relsym, rhs);
+        NativeProfiler.stop("ppl_Double_Box_generalized_affine_preimage_lhs_rhs", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_concatenate_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_concatenate_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_concatenate_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_concatenate_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, SizeT d);
+    public static int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_space_dimensions_and_embed(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_add_space_dimensions_and_embed", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, SizeT d);
+    public static int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_add_space_dimensions_and_project(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_add_space_dimensions_and_project", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_remove_space_dimensions(Pointer ph, Pointer ds, SizeT n);
+    public static int ppl_Double_Box_remove_space_dimensions(Pointer ph, Pointer ds, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_remove_space_dimensions(ph, ds, n);
+        NativeProfiler.stop("ppl_Double_Box_remove_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, SizeT d);
+    public static int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_remove_higher_space_dimensions(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_remove_higher_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_map_space_dimensions(Pointer ph, Pointer maps, SizeT n);
+    public static int ppl_Double_Box_map_space_dimensions(Pointer ph, Pointer maps, SizeT n) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_map_space_dimensions(ph, maps, n);
+        NativeProfiler.stop("ppl_Double_Box_map_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_expand_space_dimension(Pointer ph, SizeT d, SizeT m);
+    public static int ppl_Double_Box_expand_space_dimension(Pointer ph, SizeT d, SizeT m) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_expand_space_dimension(ph, d, m);
+        NativeProfiler.stop("ppl_Double_Box_expand_space_dimension", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_fold_space_dimensions(Pointer ph, Pointer ds, SizeT n, SizeT d);
+    public static int ppl_Double_Box_fold_space_dimensions(Pointer ph, Pointer ds, SizeT n, SizeT d) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_fold_space_dimensions(ph, ds, n, d);
+        NativeProfiler.stop("ppl_Double_Box_fold_space_dimensions", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp);
+    public static int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_CC76_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Double_Box_CC76_widening_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_CC76_widening_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_CC76_widening_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_CC76_widening_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_CC76_widening_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp);
+    public static int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Double_Box_widening_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_widening_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_widening_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_widening_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_widening_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens(Pointer x, Pointer y,
-            Pointer cs, IntByReference tp);
+    public static int ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens(Pointer x, Pointer y,
+            Pointer cs, IntByReference tp) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens(x, y, cs, tp);
+        NativeProfiler.stop("ppl_Double_Box_limited_CC76_extrapolation_assign_with_tokens", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_limited_CC76_extrapolation_assign(Pointer x, Pointer y, Pointer cs);
+    public static int ppl_Double_Box_limited_CC76_extrapolation_assign(Pointer x, Pointer y, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_limited_CC76_extrapolation_assign(x, y, cs);
+        NativeProfiler.stop("ppl_Double_Box_limited_CC76_extrapolation_assign", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_CC76_narrowing_assign(Pointer x, Pointer y);
+    public static int ppl_Double_Box_CC76_narrowing_assign(Pointer x, Pointer y) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_CC76_narrowing_assign(x, y);
+        NativeProfiler.stop("ppl_Double_Box_CC76_narrowing_assign", start);
+        return result;
+    }
 
-    public static native int ppl_io_print_Double_Box(Pointer x);
+    public static int ppl_io_print_Double_Box(Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_print_Double_Box(x);
+        NativeProfiler.stop("ppl_io_print_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_io_fprint_Double_Box(Pointer stream, Pointer x);
+    public static int ppl_io_fprint_Double_Box(Pointer stream, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_fprint_Double_Box(stream, x);
+        NativeProfiler.stop("ppl_io_fprint_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_io_asprint_Double_Box(PointerByReference strp, Pointer x);
+    public static int ppl_io_asprint_Double_Box(PointerByReference strp, Pointer x) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_io_asprint_Double_Box(strp, x);
+        NativeProfiler.stop("ppl_io_asprint_Double_Box", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_ascii_dump(Pointer x, Pointer stream);
+    public static int ppl_Double_Box_ascii_dump(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_ascii_dump(x, stream);
+        NativeProfiler.stop("ppl_Double_Box_ascii_dump", start);
+        return result;
+    }
 
-    public static native int ppl_Double_Box_ascii_load(Pointer x, Pointer stream);
+    public static int ppl_Double_Box_ascii_load(Pointer x, Pointer stream) {
+        long start = NativeProfiler.start();
+        int result = LibPPLNatives.ppl_Double_Box_ascii_load(x, stream);
+        NativeProfiler.stop("ppl_Double_Box_ascii_load", start);
+        return result;
+    }
 
 }
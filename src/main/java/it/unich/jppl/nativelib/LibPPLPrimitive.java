@@ -0,0 +1,597 @@
+package it.unich.jppl.nativelib;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * This class contains primitive-typed variants of the most frequently called
+ * native methods of the PPL library.
+ *
+ * <p>
+ * The methods in {@link LibPPL} require a new Java object for each
+ * {@code size_t} argument and a new Java object backed by native memory for
+ * each output argument. The methods in this class have the same names and
+ * semantics of the corresponding methods in {@link LibPPL}, but {@code size_t}
+ * arguments are passed as {@code long} values, and output arguments are native
+ * buffers provided by the caller. The buffer returned by {@link #scratch()} may
+ * be reused for this purpose, so that a call does not allocate any object.
+ * Output values of type {@code size_t} are always stored as 64-bit integers,
+ * and should be read with {@link Pointer#getLong(long)}.
+ * </p>
+ *
+ * <p>
+ * Native calls are performed by a backend which is chosen at startup with the
+ * system property {@value #BACKEND_PROPERTY}. The default backend {@code jna}
+ * uses JNA direct mapping. The backend {@code ffm} uses the Foreign Function
+ * and Memory API, and is only available on Java 22 or later.
+ * </p>
+ *
+ * <p>
+ * Unless you want to interface with native code, you may completely ignore this
+ * class.
+ * </p>
+ */
+public class LibPPLPrimitive {
+
+    /**
+     * We declare the default constructor to be private, since this class should
+     * never be instantiated.
+     */
+    private LibPPLPrimitive() {
+    }
+
+    /**
+     * Name of the system property which selects the backend for native calls.
+     */
+    public static final String BACKEND_PROPERTY = "jppl.backend";
+
+    /**
+     * Size in bytes of the buffer returned by {@link #scratch()}.
+     */
+    public static final int SCRATCH_SIZE = 8;
+
+    private static final ThreadLocal<Memory> scratch = ThreadLocal.withInitial(() -> new Memory(SCRATCH_SIZE));
+
+    static {
+        LibPPL.initialize();
+    }
+
+    private static final PrimitiveBackend BACKEND = loadBackend(System.getProperty(BACKEND_PROPERTY, "jna"));
+
+    /**
+     * Returns the backend with the given name.
+     *
+     * @throws IllegalArgumentException if there is no backend called
+     *                                  {@code name}.
+     * @throws IllegalStateException    if the backend is not supported by the
+     *                                  running JVM.
+     */
+    static PrimitiveBackend loadBackend(String name) {
+        switch (name) {
+        case "jna":
+            return new JNABackend();
+        case "ffm":
+            try {
+                var c = Class.forName(LibPPLPrimitive.class.getPackageName() + ".FFMBackend");
+                return (PrimitiveBackend) c.getDeclaredConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new IllegalStateException("The ffm backend requires Java 22 or later", e);
+            }
+        default:
+            throw new IllegalArgumentException("Unknown backend for native calls: " + name);
+        }
+    }
+
+    /**
+     * Returns the name of the backend used for native calls.
+     */
+    public static String getBackendName() {
+        return BACKEND.getName();
+    }
+
+    /**
+     * Returns a native buffer of {@link #SCRATCH_SIZE} bytes, which may be used
+     * as output argument for the methods of this class. There is a different
+     * buffer for each thread. The content of the buffer is only valid until the
+     * next call to a method of this class.
+     */
+    public static Pointer scratch() {
+        return scratch.get();
+    }
+
+    // Linear expressions
+
+    public static int ppl_new_Linear_Expression(Pointer ple) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression(ple);
+        NativeProfiler.stop("ppl_new_Linear_Expression", start);
+        return result;
+    }
+
+    public static int ppl_new_Linear_Expression_with_dimension(Pointer ple, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression_with_dimension(ple, d);
+        NativeProfiler.stop("ppl_new_Linear_Expression_with_dimension", start);
+        return result;
+    }
+
+    public static int ppl_new_Linear_Expression_from_Linear_Expression(Pointer ple, Pointer le) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression_from_Linear_Expression(ple, le);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Linear_Expression", start);
+        return result;
+    }
+
+    public static int ppl_new_Linear_Expression_from_Constraint(Pointer ple, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression_from_Constraint(ple, c);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Constraint", start);
+        return result;
+    }
+
+    public static int ppl_new_Linear_Expression_from_Generator(Pointer ple, Pointer g) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression_from_Generator(ple, g);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Generator", start);
+        return result;
+    }
+
+    public static int ppl_new_Linear_Expression_from_Congruence(Pointer ple, Pointer c) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Linear_Expression_from_Congruence(ple, c);
+        NativeProfiler.stop("ppl_new_Linear_Expression_from_Congruence", start);
+        return result;
+    }
+
+    public static int ppl_Linear_Expression_space_dimension(Pointer le, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Linear_Expression_space_dimension(le, m);
+        NativeProfiler.stop("ppl_Linear_Expression_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Linear_Expression_coefficient(Pointer le, long var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Linear_Expression_coefficient(le, var, n);
+        NativeProfiler.stop("ppl_Linear_Expression_coefficient", start);
+        return result;
+    }
+
+    public static int ppl_Linear_Expression_add_to_coefficient(Pointer le, long var, Pointer n) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Linear_Expression_add_to_coefficient(le, var, n);
+        NativeProfiler.stop("ppl_Linear_Expression_add_to_coefficient", start);
+        return result;
+    }
+
+    // CPolyhedron
+
+    public static int ppl_new_C_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_C_Polyhedron_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_new_C_Polyhedron_from_C_Polyhedron(Pointer pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_C_Polyhedron_from_C_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_C_Polyhedron", start);
+        return result;
+    }
+
+    public static int ppl_new_C_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_C_Polyhedron_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_from_Constraint_System", start);
+        return result;
+    }
+
+    public static int ppl_new_C_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_C_Polyhedron_recycle_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_C_Polyhedron_recycle_Constraint_System", start);
+        return result;
+    }
+
+    // NNCPolyhedron
+
+    public static int ppl_new_NNC_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_NNC_Polyhedron_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(Pointer pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(pph, ph);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_NNC_Polyhedron", start);
+        return result;
+    }
+
+    public static int ppl_new_NNC_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_NNC_Polyhedron_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_from_Constraint_System", start);
+        return result;
+    }
+
+    public static int ppl_new_NNC_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_NNC_Polyhedron_recycle_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_NNC_Polyhedron_recycle_Constraint_System", start);
+        return result;
+    }
+
+    // Polyhedron
+
+    public static int ppl_Polyhedron_space_dimension(Pointer ph, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_space_dimension(ph, m);
+        NativeProfiler.stop("ppl_Polyhedron_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_affine_dimension(Pointer ph, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_affine_dimension(ph, m);
+        NativeProfiler.stop("ppl_Polyhedron_affine_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_constraints(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_constraints", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_congruences(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_congruences", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_minimized_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_constraints", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_minimized_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_congruences", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_constrains(Pointer ph, long var) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_constrains(ph, var);
+        NativeProfiler.stop("ppl_Polyhedron_constrains", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_maximize(ph, le, sup_n, sup_d, pmaximum);
+        NativeProfiler.stop("ppl_Polyhedron_maximize", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_minimize(ph, le, inf_n, inf_d, pminimum);
+        NativeProfiler.stop("ppl_Polyhedron_minimize", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+        NativeProfiler.stop("ppl_Polyhedron_maximize_with_point", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+        NativeProfiler.stop("ppl_Polyhedron_minimize_with_point", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_external_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Polyhedron_external_memory_in_bytes", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_total_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Polyhedron_total_memory_in_bytes", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, long var) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_unconstrain_space_dimension(ph, var);
+        NativeProfiler.stop("ppl_Polyhedron_unconstrain_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_affine_image(ph, var, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_affine_image", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_affine_preimage(ph, var, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_affine_preimage", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_bounded_affine_image(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_bounded_affine_image(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_affine_image", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_bounded_affine_preimage(ph, var, lb, ub, d);
+        NativeProfiler.stop("ppl_Polyhedron_bounded_affine_preimage", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_generalized_affine_image(Pointer ph, long var, int relsym, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_generalized_affine_image(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_image", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, long var, int relsym, Pointer le,
+            Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_generalized_affine_preimage(ph, var, relsym, le, d);
+        NativeProfiler.stop("ppl_Polyhedron_generalized_affine_preimage", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_add_space_dimensions_and_embed(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_add_space_dimensions_and_embed", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_add_space_dimensions_and_project(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_add_space_dimensions_and_project", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_remove_higher_space_dimensions(ph, d);
+        NativeProfiler.stop("ppl_Polyhedron_remove_higher_space_dimensions", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_generators(Pointer ph, Pointer pgs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_generators(ph, pgs);
+        NativeProfiler.stop("ppl_Polyhedron_get_generators", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_get_minimized_generators(Pointer ph, Pointer pgs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_get_minimized_generators(ph, pgs);
+        NativeProfiler.stop("ppl_Polyhedron_get_minimized_generators", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Polyhedron_BHRZ03_widening_assign_with_tokens", start);
+        return result;
+    }
+
+    public static int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Polyhedron_H79_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Polyhedron_H79_widening_assign_with_tokens", start);
+        return result;
+    }
+
+    // DoubleBox
+
+    public static int ppl_new_Double_Box_from_space_dimension(Pointer pph, long d, int empty) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Double_Box_from_space_dimension(pph, d, empty);
+        NativeProfiler.stop("ppl_new_Double_Box_from_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_new_Double_Box_from_Double_Box(Pointer pph, Pointer ph) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Double_Box_from_Double_Box(pph, ph);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Double_Box", start);
+        return result;
+    }
+
+    public static int ppl_new_Double_Box_from_Constraint_System(Pointer pph, Pointer cs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_new_Double_Box_from_Constraint_System(pph, cs);
+        NativeProfiler.stop("ppl_new_Double_Box_from_Constraint_System", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_space_dimension(Pointer ph, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_space_dimension(ph, m);
+        NativeProfiler.stop("ppl_Double_Box_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_affine_dimension(Pointer ph, Pointer m) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_affine_dimension(ph, m);
+        NativeProfiler.stop("ppl_Double_Box_affine_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_get_constraints(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_get_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_constraints", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_get_congruences(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_get_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_congruences", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_get_minimized_constraints(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_minimized_constraints", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_get_minimized_congruences(ph, pcs);
+        NativeProfiler.stop("ppl_Double_Box_get_minimized_congruences", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_constrains(Pointer ph, long var) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_constrains(ph, var);
+        NativeProfiler.stop("ppl_Double_Box_constrains", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_maximize(ph, le, sup_n, sup_d, pmaximum);
+        NativeProfiler.stop("ppl_Double_Box_maximize", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_minimize(ph, le, inf_n, inf_d, pminimum);
+        NativeProfiler.stop("ppl_Double_Box_minimize", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_maximize_with_point(ph, le, sup_n, sup_d, pmaximum, point);
+        NativeProfiler.stop("ppl_Double_Box_maximize_with_point", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_minimize_with_point(ph, le, inf_n, inf_d, pminimum, point);
+        NativeProfiler.stop("ppl_Double_Box_minimize_with_point", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_external_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Double_Box_external_memory_in_bytes", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_total_memory_in_bytes(ph, sz);
+        NativeProfiler.stop("ppl_Double_Box_total_memory_in_bytes", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, long var) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_unconstrain_space_dimension(ph, var);
+        NativeProfiler.stop("ppl_Double_Box_unconstrain_space_dimension", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_affine_image(ph, var, le, d);
+        NativeProfiler.stop("ppl_Double_Box_affine_image", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_affine_preimage(ph, var, le, d);
+        NativeProfiler.stop("ppl_Double_Box_affine_preimage", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_add_space_dimensions_and_embed(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_add_space_dimensions_and_embed", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_add_space_dimensions_and_project(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_add_space_dimensions_and_project", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, long d) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_remove_higher_space_dimensions(ph, d);
+        NativeProfiler.stop("ppl_Double_Box_remove_higher_space_dimensions", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_CC76_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Double_Box_CC76_widening_assign_with_tokens", start);
+        return result;
+    }
+
+    public static int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        long start = NativeProfiler.start();
+        int result = BACKEND.ppl_Double_Box_widening_assign_with_tokens(x, y, tp);
+        NativeProfiler.stop("ppl_Double_Box_widening_assign_with_tokens", start);
+        return result;
+    }
+
+}
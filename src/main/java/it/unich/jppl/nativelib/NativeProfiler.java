@@ -0,0 +1,309 @@
+package it.unich.jppl.nativelib;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Collects statistics on the calls to the native functions of the PPL.
+ *
+ * <p>
+ * Profiling is disabled by default and it is enabled at startup by setting the
+ * system property {@value #PROPERTY} to {@code true}. When profiling is
+ * enabled, every call to a function in {@link LibPPL} records the number of
+ * invocations, the cumulative wall-clock time and a latency histogram for that
+ * function. Statistics are available through {@link #snapshot()} and through
+ * the JMX MBean {@value #OBJECT_NAME}. When profiling is disabled, the
+ * instrumentation is removed by the JIT compiler and has no cost.
+ * </p>
+ *
+ * <p>
+ * The latency histogram has {@value #BUCKETS} buckets: the bucket \(i\) counts
+ * the calls whose duration \(t\), in nanoseconds, is such that \(2^i \leq t &lt;
+ * 2^{i+1}\). The first bucket also counts calls shorter than one nanosecond, and
+ * the last one all the calls longer than \(2^{\mathit{BUCKETS}}\) nanoseconds.
+ * </p>
+ */
+public final class NativeProfiler {
+
+    /**
+     * Name of the system property which enables profiling.
+     */
+    public static final String PROPERTY = "jppl.profile";
+
+    /**
+     * Name of the MBean exposing the profiling statistics.
+     */
+    public static final String OBJECT_NAME = "it.unich.jppl:type=NativeProfiler";
+
+    /**
+     * Number of buckets in the latency histogram.
+     */
+    public static final int BUCKETS = 40;
+
+    /**
+     * Whether profiling is enabled. Since the field is final, the JIT compiler
+     * removes the instrumentation code when profiling is disabled.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * Statistics for a single native function.
+     */
+    private static class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long t) {
+            calls.increment();
+            nanos.add(t);
+            histogram.incrementAndGet(bucketOf(t));
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register the native profiler MBean", e);
+            }
+        }
+    }
+
+    /**
+     * Default constructor. It is private, since there is never the need to
+     * instantiate the class.
+     */
+    private NativeProfiler() {
+    }
+
+    /**
+     * Returns the starting time of a native call, or zero if profiling is
+     * disabled.
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the end of a call to the native function {@code function} started at
+     * time {@code start}.
+     */
+    static void stop(String function, long start) {
+        if (ENABLED) {
+            long t = System.nanoTime() - start;
+            var c = counters.get(function);
+            if (c == null)
+                c = counters.computeIfAbsent(function, f -> new Counters());
+            c.record(t);
+        }
+    }
+
+    /**
+     * Returns the histogram bucket for a call lasting {@code t} nanoseconds.
+     */
+    static int bucketOf(long t) {
+        if (t <= 1)
+            return 0;
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(t));
+    }
+
+    /**
+     * Returns true if and only if profiling is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the statistics of all the native functions called since startup, or
+     * since the last call to {@link #reset()}. Functions are sorted in descending
+     * order of cumulative time. If profiling is disabled, the result is empty.
+     */
+    public static List<FunctionProfile> snapshot() {
+        var result = new ArrayList<FunctionProfile>(counters.size());
+        counters.forEach((name, c) -> {
+            var histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++)
+                histogram[i] = c.histogram.get(i);
+            result.add(new FunctionProfile(name, c.calls.sum(), c.nanos.sum(), histogram));
+        });
+        result.sort(Comparator.comparingLong(FunctionProfile::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Resets all the statistics.
+     */
+    public static void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Returns a textual report of the {@code n} native functions with the highest
+     * cumulative time.
+     */
+    public static String report(int n) {
+        var sb = new StringBuilder();
+        sb.append(String.format("%-60s %12s %15s %10s%n", "function", "calls", "total (ns)", "mean (ns)"));
+        var profiles = snapshot();
+        for (var p : profiles.subList(0, Math.min(n, profiles.size())))
+            sb.append(String.format("%-60s %12d %15d %10.1f%n", p.getName(), p.getCalls(), p.getTotalNanos(),
+                    p.getMeanNanos()));
+        return sb.toString();
+    }
+
+    /**
+     * Statistics for a native function. Objects of this class are immutable.
+     */
+    public static class FunctionProfile {
+        private final String name;
+        private final long calls;
+        private final long totalNanos;
+        private final long[] histogram;
+
+        FunctionProfile(String name, long calls, long totalNanos, long[] histogram) {
+            this.name = name;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Returns the name of the native function.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of calls to the native function.
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Returns the cumulative wall-clock time spent in the native function, in
+         * nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the mean duration of a call to the native function, in nanoseconds.
+         */
+        public double getMeanNanos() {
+            return calls == 0 ? 0 : (double) totalNanos / calls;
+        }
+
+        /**
+         * Returns the latency histogram of the native function.
+         *
+         * @see NativeProfiler
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * Returns an upper bound, in nanoseconds, of the duration of a fraction
+         * {@code q} of the calls, where {@code 0 <= q <= 1}. The precision of the
+         * result is limited by the resolution of the latency histogram.
+         */
+        public long getQuantileNanos(double q) {
+            long threshold = (long) Math.ceil(q * calls);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS - 1; i++) {
+                seen += histogram[i];
+                if (seen >= threshold)
+                    return 1L << (i + 1);
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Management interface of the native profiler.
+     */
+    public static interface NativeProfilerMXBean {
+        /**
+         * Returns true if and only if profiling is enabled.
+         */
+        boolean isEnabled();
+
+        /**
+         * Returns the total number of native calls.
+         */
+        long getTotalCalls();
+
+        /**
+         * Returns the cumulative wall-clock time spent in native calls, in
+         * nanoseconds.
+         */
+        long getTotalNanos();
+
+        /**
+         * Returns the statistics of all the native functions.
+         *
+         * @see NativeProfiler#snapshot()
+         */
+        List<FunctionProfile> getProfiles();
+
+        /**
+         * Returns a textual report of the {@code n} native functions with the
+         * highest cumulative time.
+         */
+        String report(int n);
+
+        /**
+         * Resets all the statistics.
+         */
+        void reset();
+    }
+
+    private static class MXBean implements NativeProfilerMXBean {
+        @Override
+        public boolean isEnabled() {
+            return NativeProfiler.isEnabled();
+        }
+
+        @Override
+        public long getTotalCalls() {
+            return counters.values().stream().mapToLong(c -> c.calls.sum()).sum();
+        }
+
+        @Override
+        public long getTotalNanos() {
+            return counters.values().stream().mapToLong(c -> c.nanos.sum()).sum();
+        }
+
+        @Override
+        public List<FunctionProfile> getProfiles() {
+            return NativeProfiler.snapshot();
+        }
+
+        @Override
+        public String report(int n) {
+            return NativeProfiler.report(n);
+        }
+
+        @Override
+        public void reset() {
+            NativeProfiler.reset();
+        }
+    }
+
+}
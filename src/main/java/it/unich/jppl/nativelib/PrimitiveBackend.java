@@ -0,0 +1,168 @@
+package it.unich.jppl.nativelib;
+
+import com.sun.jna.Pointer;
+
+/**
+ * An implementation of the native calls in {@link LibPPLPrimitive}. Each method
+ * has the same name and signature of the corresponding method in
+ * {@code LibPPLPrimitive}.
+ */
+interface PrimitiveBackend {
+
+    /**
+     * Returns the name of this backend, which is the value of the system property
+     * {@value LibPPLPrimitive#BACKEND_PROPERTY} which selects it.
+     */
+    String getName();
+
+    // Linear expressions
+
+    int ppl_new_Linear_Expression(Pointer ple);
+
+    int ppl_new_Linear_Expression_with_dimension(Pointer ple, long d);
+
+    int ppl_new_Linear_Expression_from_Linear_Expression(Pointer ple, Pointer le);
+
+    int ppl_new_Linear_Expression_from_Constraint(Pointer ple, Pointer c);
+
+    int ppl_new_Linear_Expression_from_Generator(Pointer ple, Pointer g);
+
+    int ppl_new_Linear_Expression_from_Congruence(Pointer ple, Pointer c);
+
+    int ppl_Linear_Expression_space_dimension(Pointer le, Pointer m);
+
+    int ppl_Linear_Expression_coefficient(Pointer le, long var, Pointer n);
+
+    int ppl_Linear_Expression_add_to_coefficient(Pointer le, long var, Pointer n);
+
+    // CPolyhedron
+
+    int ppl_new_C_Polyhedron_from_space_dimension(Pointer pph, long d, int empty);
+
+    int ppl_new_C_Polyhedron_from_C_Polyhedron(Pointer pph, Pointer ph);
+
+    int ppl_new_C_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs);
+
+    int ppl_new_C_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs);
+
+    // NNCPolyhedron
+
+    int ppl_new_NNC_Polyhedron_from_space_dimension(Pointer pph, long d, int empty);
+
+    int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(Pointer pph, Pointer ph);
+
+    int ppl_new_NNC_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs);
+
+    int ppl_new_NNC_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs);
+
+    // Polyhedron
+
+    int ppl_Polyhedron_space_dimension(Pointer ph, Pointer m);
+
+    int ppl_Polyhedron_affine_dimension(Pointer ph, Pointer m);
+
+    int ppl_Polyhedron_get_constraints(Pointer ph, Pointer pcs);
+
+    int ppl_Polyhedron_get_congruences(Pointer ph, Pointer pcs);
+
+    int ppl_Polyhedron_get_minimized_constraints(Pointer ph, Pointer pcs);
+
+    int ppl_Polyhedron_get_minimized_congruences(Pointer ph, Pointer pcs);
+
+    int ppl_Polyhedron_constrains(Pointer ph, long var);
+
+    int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum);
+
+    int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum);
+
+    int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum,
+            Pointer point);
+
+    int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum,
+            Pointer point);
+
+    int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, Pointer sz);
+
+    int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, Pointer sz);
+
+    int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, long var);
+
+    int ppl_Polyhedron_affine_image(Pointer ph, long var, Pointer le, Pointer d);
+
+    int ppl_Polyhedron_affine_preimage(Pointer ph, long var, Pointer le, Pointer d);
+
+    int ppl_Polyhedron_bounded_affine_image(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d);
+
+    int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d);
+
+    int ppl_Polyhedron_generalized_affine_image(Pointer ph, long var, int relsym, Pointer le, Pointer d);
+
+    int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, long var, int relsym, Pointer le, Pointer d);
+
+    int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, long d);
+
+    int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, long d);
+
+    int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, long d);
+
+    int ppl_Polyhedron_get_generators(Pointer ph, Pointer pgs);
+
+    int ppl_Polyhedron_get_minimized_generators(Pointer ph, Pointer pgs);
+
+    int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+    int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+    // DoubleBox
+
+    int ppl_new_Double_Box_from_space_dimension(Pointer pph, long d, int empty);
+
+    int ppl_new_Double_Box_from_Double_Box(Pointer pph, Pointer ph);
+
+    int ppl_new_Double_Box_from_Constraint_System(Pointer pph, Pointer cs);
+
+    int ppl_Double_Box_space_dimension(Pointer ph, Pointer m);
+
+    int ppl_Double_Box_affine_dimension(Pointer ph, Pointer m);
+
+    int ppl_Double_Box_get_constraints(Pointer ph, Pointer pcs);
+
+    int ppl_Double_Box_get_congruences(Pointer ph, Pointer pcs);
+
+    int ppl_Double_Box_get_minimized_constraints(Pointer ph, Pointer pcs);
+
+    int ppl_Double_Box_get_minimized_congruences(Pointer ph, Pointer pcs);
+
+    int ppl_Double_Box_constrains(Pointer ph, long var);
+
+    int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum);
+
+    int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum);
+
+    int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum,
+            Pointer point);
+
+    int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum,
+            Pointer point);
+
+    int ppl_Double_Box_external_memory_in_bytes(Pointer ph, Pointer sz);
+
+    int ppl_Double_Box_total_memory_in_bytes(Pointer ph, Pointer sz);
+
+    int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, long var);
+
+    int ppl_Double_Box_affine_image(Pointer ph, long var, Pointer le, Pointer d);
+
+    int ppl_Double_Box_affine_preimage(Pointer ph, long var, Pointer le, Pointer d);
+
+    int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, long d);
+
+    int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, long d);
+
+    int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, long d);
+
+    int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+    int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp);
+
+}
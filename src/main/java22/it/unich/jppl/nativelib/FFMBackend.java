@@ -0,0 +1,929 @@
+package it.unich.jppl.nativelib;
+
+import static java.lang.foreign.ValueLayout.*;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+
+/**
+ * The backend for {@link LibPPLPrimitive} based on the Foreign Function and
+ * Memory API.
+ *
+ * <p>
+ * Native functions are looked up in the PPL library loaded by JNA, so that the
+ * two backends always use the same library. JNA pointers are converted to
+ * memory segments of size zero, which is enough for passing them to native
+ * code.
+ * </p>
+ */
+final class FFMBackend implements PrimitiveBackend {
+
+    /**
+     * Downcall handles of the native methods.
+     */
+    private static class Handles {
+
+        private static final Linker LINKER = Linker.nativeLinker();
+
+        private static final NativeLibrary LIBRARY = NativeLibrary.getInstance(LibPPL.LIBNAME);
+
+        /**
+         * Returns a downcall handle for the native function {@code name}, which
+         * returns an int and has arguments described by {@code args}.
+         */
+        private static MethodHandle downcall(String name, MemoryLayout... args) {
+            var symbol = MemorySegment.ofAddress(Pointer.nativeValue(LIBRARY.getFunction(name)));
+            return LINKER.downcallHandle(symbol, FunctionDescriptor.of(JAVA_INT, args));
+        }
+
+        // Linear expressions
+
+        static final MethodHandle ppl_new_Linear_Expression = downcall("ppl_new_Linear_Expression", ADDRESS);
+
+        static final MethodHandle ppl_new_Linear_Expression_with_dimension = downcall(
+                "ppl_new_Linear_Expression_with_dimension", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_new_Linear_Expression_from_Linear_Expression = downcall(
+                "ppl_new_Linear_Expression_from_Linear_Expression", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_Linear_Expression_from_Constraint = downcall(
+                "ppl_new_Linear_Expression_from_Constraint", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_Linear_Expression_from_Generator = downcall(
+                "ppl_new_Linear_Expression_from_Generator", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_Linear_Expression_from_Congruence = downcall(
+                "ppl_new_Linear_Expression_from_Congruence", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Linear_Expression_space_dimension = downcall(
+                "ppl_Linear_Expression_space_dimension", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Linear_Expression_coefficient = downcall("ppl_Linear_Expression_coefficient",
+                ADDRESS, JAVA_LONG, ADDRESS);
+
+        static final MethodHandle ppl_Linear_Expression_add_to_coefficient = downcall(
+                "ppl_Linear_Expression_add_to_coefficient", ADDRESS, JAVA_LONG, ADDRESS);
+
+        // CPolyhedron
+
+        static final MethodHandle ppl_new_C_Polyhedron_from_space_dimension = downcall(
+                "ppl_new_C_Polyhedron_from_space_dimension", ADDRESS, JAVA_LONG, JAVA_INT);
+
+        static final MethodHandle ppl_new_C_Polyhedron_from_C_Polyhedron = downcall(
+                "ppl_new_C_Polyhedron_from_C_Polyhedron", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_C_Polyhedron_from_Constraint_System = downcall(
+                "ppl_new_C_Polyhedron_from_Constraint_System", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_C_Polyhedron_recycle_Constraint_System = downcall(
+                "ppl_new_C_Polyhedron_recycle_Constraint_System", ADDRESS, ADDRESS);
+
+        // NNCPolyhedron
+
+        static final MethodHandle ppl_new_NNC_Polyhedron_from_space_dimension = downcall(
+                "ppl_new_NNC_Polyhedron_from_space_dimension", ADDRESS, JAVA_LONG, JAVA_INT);
+
+        static final MethodHandle ppl_new_NNC_Polyhedron_from_NNC_Polyhedron = downcall(
+                "ppl_new_NNC_Polyhedron_from_NNC_Polyhedron", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_NNC_Polyhedron_from_Constraint_System = downcall(
+                "ppl_new_NNC_Polyhedron_from_Constraint_System", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_NNC_Polyhedron_recycle_Constraint_System = downcall(
+                "ppl_new_NNC_Polyhedron_recycle_Constraint_System", ADDRESS, ADDRESS);
+
+        // Polyhedron
+
+        static final MethodHandle ppl_Polyhedron_space_dimension = downcall("ppl_Polyhedron_space_dimension", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_affine_dimension = downcall("ppl_Polyhedron_affine_dimension", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_get_constraints = downcall("ppl_Polyhedron_get_constraints", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_get_congruences = downcall("ppl_Polyhedron_get_congruences", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_get_minimized_constraints = downcall(
+                "ppl_Polyhedron_get_minimized_constraints", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_get_minimized_congruences = downcall(
+                "ppl_Polyhedron_get_minimized_congruences", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_constrains = downcall("ppl_Polyhedron_constrains", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Polyhedron_maximize = downcall("ppl_Polyhedron_maximize", ADDRESS, ADDRESS,
+                ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_minimize = downcall("ppl_Polyhedron_minimize", ADDRESS, ADDRESS,
+                ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_maximize_with_point = downcall("ppl_Polyhedron_maximize_with_point",
+                ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_minimize_with_point = downcall("ppl_Polyhedron_minimize_with_point",
+                ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_external_memory_in_bytes = downcall(
+                "ppl_Polyhedron_external_memory_in_bytes", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_total_memory_in_bytes = downcall(
+                "ppl_Polyhedron_total_memory_in_bytes", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_unconstrain_space_dimension = downcall(
+                "ppl_Polyhedron_unconstrain_space_dimension", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Polyhedron_affine_image = downcall("ppl_Polyhedron_affine_image", ADDRESS,
+                JAVA_LONG, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_affine_preimage = downcall("ppl_Polyhedron_affine_preimage", ADDRESS,
+                JAVA_LONG, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_bounded_affine_image = downcall("ppl_Polyhedron_bounded_affine_image",
+                ADDRESS, JAVA_LONG, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_bounded_affine_preimage = downcall(
+                "ppl_Polyhedron_bounded_affine_preimage", ADDRESS, JAVA_LONG, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_generalized_affine_image = downcall(
+                "ppl_Polyhedron_generalized_affine_image", ADDRESS, JAVA_LONG, JAVA_INT, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_generalized_affine_preimage = downcall(
+                "ppl_Polyhedron_generalized_affine_preimage", ADDRESS, JAVA_LONG, JAVA_INT, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_add_space_dimensions_and_embed = downcall(
+                "ppl_Polyhedron_add_space_dimensions_and_embed", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Polyhedron_add_space_dimensions_and_project = downcall(
+                "ppl_Polyhedron_add_space_dimensions_and_project", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Polyhedron_remove_higher_space_dimensions = downcall(
+                "ppl_Polyhedron_remove_higher_space_dimensions", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Polyhedron_get_generators = downcall("ppl_Polyhedron_get_generators", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_get_minimized_generators = downcall(
+                "ppl_Polyhedron_get_minimized_generators", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_BHRZ03_widening_assign_with_tokens = downcall(
+                "ppl_Polyhedron_BHRZ03_widening_assign_with_tokens", ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Polyhedron_H79_widening_assign_with_tokens = downcall(
+                "ppl_Polyhedron_H79_widening_assign_with_tokens", ADDRESS, ADDRESS, ADDRESS);
+
+        // DoubleBox
+
+        static final MethodHandle ppl_new_Double_Box_from_space_dimension = downcall(
+                "ppl_new_Double_Box_from_space_dimension", ADDRESS, JAVA_LONG, JAVA_INT);
+
+        static final MethodHandle ppl_new_Double_Box_from_Double_Box = downcall("ppl_new_Double_Box_from_Double_Box",
+                ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_new_Double_Box_from_Constraint_System = downcall(
+                "ppl_new_Double_Box_from_Constraint_System", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_space_dimension = downcall("ppl_Double_Box_space_dimension", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_affine_dimension = downcall("ppl_Double_Box_affine_dimension", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_get_constraints = downcall("ppl_Double_Box_get_constraints", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_get_congruences = downcall("ppl_Double_Box_get_congruences", ADDRESS,
+                ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_get_minimized_constraints = downcall(
+                "ppl_Double_Box_get_minimized_constraints", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_get_minimized_congruences = downcall(
+                "ppl_Double_Box_get_minimized_congruences", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_constrains = downcall("ppl_Double_Box_constrains", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Double_Box_maximize = downcall("ppl_Double_Box_maximize", ADDRESS, ADDRESS,
+                ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_minimize = downcall("ppl_Double_Box_minimize", ADDRESS, ADDRESS,
+                ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_maximize_with_point = downcall("ppl_Double_Box_maximize_with_point",
+                ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_minimize_with_point = downcall("ppl_Double_Box_minimize_with_point",
+                ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_external_memory_in_bytes = downcall(
+                "ppl_Double_Box_external_memory_in_bytes", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_total_memory_in_bytes = downcall(
+                "ppl_Double_Box_total_memory_in_bytes", ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_unconstrain_space_dimension = downcall(
+                "ppl_Double_Box_unconstrain_space_dimension", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Double_Box_affine_image = downcall("ppl_Double_Box_affine_image", ADDRESS,
+                JAVA_LONG, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_affine_preimage = downcall("ppl_Double_Box_affine_preimage", ADDRESS,
+                JAVA_LONG, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_add_space_dimensions_and_embed = downcall(
+                "ppl_Double_Box_add_space_dimensions_and_embed", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Double_Box_add_space_dimensions_and_project = downcall(
+                "ppl_Double_Box_add_space_dimensions_and_project", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Double_Box_remove_higher_space_dimensions = downcall(
+                "ppl_Double_Box_remove_higher_space_dimensions", ADDRESS, JAVA_LONG);
+
+        static final MethodHandle ppl_Double_Box_CC76_widening_assign_with_tokens = downcall(
+                "ppl_Double_Box_CC76_widening_assign_with_tokens", ADDRESS, ADDRESS, ADDRESS);
+
+        static final MethodHandle ppl_Double_Box_widening_assign_with_tokens = downcall(
+                "ppl_Double_Box_widening_assign_with_tokens", ADDRESS, ADDRESS, ADDRESS);
+    }
+
+    /**
+     * Creates the backend.
+     *
+     * @throws UnsupportedOperationException if {@code size_t} is not a 64-bit
+     *                                       integer.
+     */
+    FFMBackend() {
+        if (Linker.nativeLinker().canonicalLayouts().get("size_t").byteSize() != 8)
+            throw new UnsupportedOperationException("The ffm backend requires a 64-bit size_t");
+    }
+
+    private static MemorySegment segment(Pointer p) {
+        return MemorySegment.ofAddress(Pointer.nativeValue(p));
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException)
+            return (RuntimeException) e;
+        if (e instanceof Error)
+            throw (Error) e;
+        return new IllegalStateException(e);
+    }
+
+    @Override
+    public String getName() {
+        return "ffm";
+    }
+
+    // Linear expressions
+
+    @Override
+    public int ppl_new_Linear_Expression(Pointer ple) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression.invokeExact(segment(ple));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_with_dimension(Pointer ple, long d) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression_with_dimension.invokeExact(segment(ple), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Linear_Expression(Pointer ple, Pointer le) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression_from_Linear_Expression.invokeExact(segment(ple),
+                    segment(le));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Constraint(Pointer ple, Pointer c) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression_from_Constraint.invokeExact(segment(ple), segment(c));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Generator(Pointer ple, Pointer g) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression_from_Generator.invokeExact(segment(ple), segment(g));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Linear_Expression_from_Congruence(Pointer ple, Pointer c) {
+        try {
+            return (int) Handles.ppl_new_Linear_Expression_from_Congruence.invokeExact(segment(ple), segment(c));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Linear_Expression_space_dimension(Pointer le, Pointer m) {
+        try {
+            return (int) Handles.ppl_Linear_Expression_space_dimension.invokeExact(segment(le), segment(m));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Linear_Expression_coefficient(Pointer le, long var, Pointer n) {
+        try {
+            return (int) Handles.ppl_Linear_Expression_coefficient.invokeExact(segment(le), var, segment(n));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Linear_Expression_add_to_coefficient(Pointer le, long var, Pointer n) {
+        try {
+            return (int) Handles.ppl_Linear_Expression_add_to_coefficient.invokeExact(segment(le), var, segment(n));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    // CPolyhedron
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        try {
+            return (int) Handles.ppl_new_C_Polyhedron_from_space_dimension.invokeExact(segment(pph), d, empty);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_C_Polyhedron(Pointer pph, Pointer ph) {
+        try {
+            return (int) Handles.ppl_new_C_Polyhedron_from_C_Polyhedron.invokeExact(segment(pph), segment(ph));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        try {
+            return (int) Handles.ppl_new_C_Polyhedron_from_Constraint_System.invokeExact(segment(pph), segment(cs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_C_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        try {
+            return (int) Handles.ppl_new_C_Polyhedron_recycle_Constraint_System.invokeExact(segment(pph), segment(cs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    // NNCPolyhedron
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_space_dimension(Pointer pph, long d, int empty) {
+        try {
+            return (int) Handles.ppl_new_NNC_Polyhedron_from_space_dimension.invokeExact(segment(pph), d, empty);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_NNC_Polyhedron(Pointer pph, Pointer ph) {
+        try {
+            return (int) Handles.ppl_new_NNC_Polyhedron_from_NNC_Polyhedron.invokeExact(segment(pph), segment(ph));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_from_Constraint_System(Pointer pph, Pointer cs) {
+        try {
+            return (int) Handles.ppl_new_NNC_Polyhedron_from_Constraint_System.invokeExact(segment(pph), segment(cs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_NNC_Polyhedron_recycle_Constraint_System(Pointer pph, Pointer cs) {
+        try {
+            return (int) Handles.ppl_new_NNC_Polyhedron_recycle_Constraint_System.invokeExact(segment(pph),
+                    segment(cs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    // Polyhedron
+
+    @Override
+    public int ppl_Polyhedron_space_dimension(Pointer ph, Pointer m) {
+        try {
+            return (int) Handles.ppl_Polyhedron_space_dimension.invokeExact(segment(ph), segment(m));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_dimension(Pointer ph, Pointer m) {
+        try {
+            return (int) Handles.ppl_Polyhedron_affine_dimension.invokeExact(segment(ph), segment(m));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_constraints(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_constraints.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_congruences(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_congruences.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_minimized_constraints.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_minimized_congruences.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_constrains(Pointer ph, long var) {
+        try {
+            return (int) Handles.ppl_Polyhedron_constrains.invokeExact(segment(ph), var);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        try {
+            return (int) Handles.ppl_Polyhedron_maximize.invokeExact(segment(ph), segment(le), segment(sup_n),
+                    segment(sup_d), segment(pmaximum));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        try {
+            return (int) Handles.ppl_Polyhedron_minimize.invokeExact(segment(ph), segment(le), segment(inf_n),
+                    segment(inf_d), segment(pminimum));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        try {
+            return (int) Handles.ppl_Polyhedron_maximize_with_point.invokeExact(segment(ph), segment(le),
+                    segment(sup_n), segment(sup_d), segment(pmaximum), segment(point));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        try {
+            return (int) Handles.ppl_Polyhedron_minimize_with_point.invokeExact(segment(ph), segment(le),
+                    segment(inf_n), segment(inf_d), segment(pminimum), segment(point));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        try {
+            return (int) Handles.ppl_Polyhedron_external_memory_in_bytes.invokeExact(segment(ph), segment(sz));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        try {
+            return (int) Handles.ppl_Polyhedron_total_memory_in_bytes.invokeExact(segment(ph), segment(sz));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_unconstrain_space_dimension(Pointer ph, long var) {
+        try {
+            return (int) Handles.ppl_Polyhedron_unconstrain_space_dimension.invokeExact(segment(ph), var);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_affine_image.invokeExact(segment(ph), var, segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_affine_preimage.invokeExact(segment(ph), var, segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_bounded_affine_image(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_bounded_affine_image.invokeExact(segment(ph), var, segment(lb),
+                    segment(ub), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_bounded_affine_preimage(Pointer ph, long var, Pointer lb, Pointer ub, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_bounded_affine_preimage.invokeExact(segment(ph), var, segment(lb),
+                    segment(ub), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_generalized_affine_image(Pointer ph, long var, int relsym, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_generalized_affine_image.invokeExact(segment(ph), var, relsym,
+                    segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_generalized_affine_preimage(Pointer ph, long var, int relsym, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_generalized_affine_preimage.invokeExact(segment(ph), var, relsym,
+                    segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_add_space_dimensions_and_embed(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_add_space_dimensions_and_embed.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_add_space_dimensions_and_project(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_add_space_dimensions_and_project.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_remove_higher_space_dimensions(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Polyhedron_remove_higher_space_dimensions.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_generators(Pointer ph, Pointer pgs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_generators.invokeExact(segment(ph), segment(pgs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_get_minimized_generators(Pointer ph, Pointer pgs) {
+        try {
+            return (int) Handles.ppl_Polyhedron_get_minimized_generators.invokeExact(segment(ph), segment(pgs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_BHRZ03_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        try {
+            return (int) Handles.ppl_Polyhedron_BHRZ03_widening_assign_with_tokens.invokeExact(segment(x), segment(y),
+                    segment(tp));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Polyhedron_H79_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        try {
+            return (int) Handles.ppl_Polyhedron_H79_widening_assign_with_tokens.invokeExact(segment(x), segment(y),
+                    segment(tp));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    // DoubleBox
+
+    @Override
+    public int ppl_new_Double_Box_from_space_dimension(Pointer pph, long d, int empty) {
+        try {
+            return (int) Handles.ppl_new_Double_Box_from_space_dimension.invokeExact(segment(pph), d, empty);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Double_Box_from_Double_Box(Pointer pph, Pointer ph) {
+        try {
+            return (int) Handles.ppl_new_Double_Box_from_Double_Box.invokeExact(segment(pph), segment(ph));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_new_Double_Box_from_Constraint_System(Pointer pph, Pointer cs) {
+        try {
+            return (int) Handles.ppl_new_Double_Box_from_Constraint_System.invokeExact(segment(pph), segment(cs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_space_dimension(Pointer ph, Pointer m) {
+        try {
+            return (int) Handles.ppl_Double_Box_space_dimension.invokeExact(segment(ph), segment(m));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_dimension(Pointer ph, Pointer m) {
+        try {
+            return (int) Handles.ppl_Double_Box_affine_dimension.invokeExact(segment(ph), segment(m));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_get_constraints(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Double_Box_get_constraints.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_get_congruences(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Double_Box_get_congruences.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_get_minimized_constraints(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Double_Box_get_minimized_constraints.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_get_minimized_congruences(Pointer ph, Pointer pcs) {
+        try {
+            return (int) Handles.ppl_Double_Box_get_minimized_congruences.invokeExact(segment(ph), segment(pcs));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_constrains(Pointer ph, long var) {
+        try {
+            return (int) Handles.ppl_Double_Box_constrains.invokeExact(segment(ph), var);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_maximize(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d, Pointer pmaximum) {
+        try {
+            return (int) Handles.ppl_Double_Box_maximize.invokeExact(segment(ph), segment(le), segment(sup_n),
+                    segment(sup_d), segment(pmaximum));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_minimize(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d, Pointer pminimum) {
+        try {
+            return (int) Handles.ppl_Double_Box_minimize.invokeExact(segment(ph), segment(le), segment(inf_n),
+                    segment(inf_d), segment(pminimum));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_maximize_with_point(Pointer ph, Pointer le, Pointer sup_n, Pointer sup_d,
+            Pointer pmaximum, Pointer point) {
+        try {
+            return (int) Handles.ppl_Double_Box_maximize_with_point.invokeExact(segment(ph), segment(le),
+                    segment(sup_n), segment(sup_d), segment(pmaximum), segment(point));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_minimize_with_point(Pointer ph, Pointer le, Pointer inf_n, Pointer inf_d,
+            Pointer pminimum, Pointer point) {
+        try {
+            return (int) Handles.ppl_Double_Box_minimize_with_point.invokeExact(segment(ph), segment(le),
+                    segment(inf_n), segment(inf_d), segment(pminimum), segment(point));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_external_memory_in_bytes(Pointer ph, Pointer sz) {
+        try {
+            return (int) Handles.ppl_Double_Box_external_memory_in_bytes.invokeExact(segment(ph), segment(sz));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_total_memory_in_bytes(Pointer ph, Pointer sz) {
+        try {
+            return (int) Handles.ppl_Double_Box_total_memory_in_bytes.invokeExact(segment(ph), segment(sz));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_unconstrain_space_dimension(Pointer ph, long var) {
+        try {
+            return (int) Handles.ppl_Double_Box_unconstrain_space_dimension.invokeExact(segment(ph), var);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_image(Pointer ph, long var, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Double_Box_affine_image.invokeExact(segment(ph), var, segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_affine_preimage(Pointer ph, long var, Pointer le, Pointer d) {
+        try {
+            return (int) Handles.ppl_Double_Box_affine_preimage.invokeExact(segment(ph), var, segment(le), segment(d));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_add_space_dimensions_and_embed(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Double_Box_add_space_dimensions_and_embed.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_add_space_dimensions_and_project(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Double_Box_add_space_dimensions_and_project.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_remove_higher_space_dimensions(Pointer ph, long d) {
+        try {
+            return (int) Handles.ppl_Double_Box_remove_higher_space_dimensions.invokeExact(segment(ph), d);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_CC76_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        try {
+            return (int) Handles.ppl_Double_Box_CC76_widening_assign_with_tokens.invokeExact(segment(x), segment(y),
+                    segment(tp));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int ppl_Double_Box_widening_assign_with_tokens(Pointer x, Pointer y, Pointer tp) {
+        try {
+            return (int) Handles.ppl_Double_Box_widening_assign_with_tokens.invokeExact(segment(x), segment(y),
+                    segment(tp));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+}
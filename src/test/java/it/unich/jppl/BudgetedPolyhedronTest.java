@@ -0,0 +1,50 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class BudgetedPolyhedronTest {
+
+    static CPolyhedron triangle(long k) {
+        var cs = ConstraintSystem.fromMatrix(new long[][] { { 1, 0 }, { 0, 1 }, { -1, -1 } }, new long[] { 0, 0, k },
+                new ConstraintType[] { ConstraintType.GREATER_OR_EQUAL, ConstraintType.GREATER_OR_EQUAL,
+                        ConstraintType.GREATER_OR_EQUAL });
+        return CPolyhedron.from(cs);
+    }
+
+    @Test
+    void testWithinBudget() {
+        var x = triangle(1);
+        var budgeted = x.withBudget(Duration.ofSeconds(10));
+        assertSame(x, budgeted.polyHull(triangle(2)));
+        assertEquals(triangle(2), x);
+        budgeted.intersection(triangle(1));
+        assertEquals(triangle(1), x);
+        assertEquals(0, budgeted.getFallbacks());
+        assertThrows(IllegalArgumentException.class, () -> x.withBudget(Duration.ZERO));
+    }
+
+    @Test
+    void testFallback() {
+        var x = triangle(1);
+        var y = triangle(2);
+        var budgeted = x.withBudget(Duration.ofMillis(10));
+        budgeted.apply(p -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return p.polyHull(y);
+        }, p -> p.upperBound(CPolyhedron.universe(2)));
+        assertEquals(1, budgeted.getFallbacks());
+        assertEquals(CPolyhedron.universe(2), x);
+        assertTrue(triangle(1).polyHull(y).isOK());
+    }
+
+}
@@ -43,4 +43,67 @@ public class CoefficientTest {
         assertNotEquals(c1, c2);
         assertNotEquals(c1, "1");
     }
+
+    @Test
+    void testLargeValues() {
+        var big = BigInteger.TWO.pow(80).negate();
+        var c = Coefficient.valueOf(big);
+        assertEquals(big, c.bigIntegerValue());
+        assertEquals(big.toString(), c.toString());
+        assertEquals(Coefficient.valueOf(big.toString()), c);
+        assertEquals(Coefficient.valueOf(big).hashCode(), c.hashCode());
+        var min = Coefficient.valueOf(Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, min.longValue());
+        assertEquals(min, Coefficient.valueOf(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertNotEquals(min, c);
+    }
+
+    @Test
+    void testArithmetic() {
+        var c1 = Coefficient.valueOf(6);
+        var c2 = Coefficient.valueOf(-4);
+        assertEquals(Coefficient.valueOf(2), c1.add(c2));
+        assertEquals(Coefficient.valueOf(10), c1.subtract(c2));
+        assertEquals(Coefficient.valueOf(-24), c1.multiply(c2));
+        assertEquals(Coefficient.valueOf(4), c2.negate());
+        assertEquals(-1, c2.signum());
+        assertTrue(c2.compareTo(c1) < 0);
+        var max = Coefficient.valueOf(Long.MAX_VALUE);
+        var sum = max.add(Coefficient.ONE);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), sum.bigIntegerValue());
+        assertTrue(sum.compareTo(max) > 0);
+        assertEquals(max, sum.subtract(Coefficient.ONE));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), max.multiply(max).bigIntegerValue());
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), Coefficient.valueOf(Long.MIN_VALUE).negate()
+                .bigIntegerValue());
+    }
+
+    @Test
+    void testNativeValues() {
+        var le = LinearExpression.of(Long.MAX_VALUE, 3, 0);
+        le.add(Coefficient.valueOf(Long.MAX_VALUE));
+        assertEquals(Coefficient.valueOf(3), le.getCoefficient(0));
+        assertEquals(Coefficient.ZERO, le.getCoefficient(1));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1), le.getInhomogeneousTerm().bigIntegerValue());
+        var c = Coefficient.valueOf(7);
+        assertNotNull(c.getNative());
+        assertEquals(7, c.longValue());
+        assertEquals(c, c.clone());
+    }
+
+    @Test
+    void testBigIntegerConversion() {
+        var values = new BigInteger[] { BigInteger.ZERO, BigInteger.valueOf(-7), BigInteger.TWO.pow(63),
+                BigInteger.TWO.pow(63).negate().subtract(BigInteger.ONE),
+                new BigInteger("-123456789012345678901234567890"), BigInteger.TEN.pow(1000).add(BigInteger.ONE) };
+        var cs = Coefficient.valuesOf(values);
+        assertEquals(values.length, cs.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], cs[i].bigIntegerValue());
+            assertEquals(values[i].toString(16), cs[i].stringValue(16));
+        }
+        assertArrayEquals(values, Coefficient.bigIntegerValues(cs));
+        var c = Coefficient.valueOf(values[5]).multiply(Coefficient.valueOf(values[4]));
+        assertEquals(values[5].multiply(values[4]), c.bigIntegerValue());
+    }
 }
@@ -0,0 +1,20 @@
+package it.unich.jppl;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+/**
+ * Constraints shared by the tests.
+ */
+final class ConstraintFixtures {
+
+    private ConstraintFixtures() {
+    }
+
+    /**
+     * Returns the constraint {@code c + coeffs[0] x0 + coeffs[1] x1 + ... >= 0}.
+     */
+    static Constraint ge(long c, long... coeffs) {
+        return Constraint.of(LinearExpression.of(c, coeffs), ConstraintType.GREATER_OR_EQUAL);
+    }
+
+}
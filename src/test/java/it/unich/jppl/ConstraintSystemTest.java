@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import it.unich.jppl.Constraint.ConstraintType;
 
+import java.math.BigInteger;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -78,4 +81,68 @@ public class ConstraintSystemTest {
         assertEquals(c2, csi.next());
         assertThrows(NoSuchElementException.class, () -> csi.next());
     }
+
+    @Test
+    void testEquality() {
+        var c1 = Constraint.of(LinearExpression.of(3, 1, -2), ConstraintType.GREATER_OR_EQUAL);
+        var c2 = Constraint.of(LinearExpression.of(0, 0, 1), ConstraintType.EQUAL);
+        var cs1 = ConstraintSystem.of(c1, c2);
+        var cs2 = ConstraintSystem.of(c1.clone(), c2.clone());
+        assertEquals(cs1, cs2);
+        assertEquals(cs1.hashCode(), cs2.hashCode());
+        assertNotEquals(cs1, ConstraintSystem.of(c1));
+        assertNotEquals(ConstraintSystem.of(c1), cs1);
+        assertEquals(ConstraintSystem.empty(), ConstraintSystem.empty());
+    }
+
+    @Test
+    void testSnapshot() {
+        var cs = ConstraintSystem.of(c1, c2);
+        var m = cs.snapshot();
+        assertEquals(2, m.getSpaceDimension());
+        assertEquals(2, m.size());
+        int row = 0;
+        for (var c : cs) {
+            var r = m.getRow(row);
+            assertEquals(row, r.getIndex());
+            assertEquals(c.getType(), r.getType());
+            assertEquals(c.getInhomogeneousTerm().bigIntegerValue(), r.getInhomogeneousTerm());
+            for (int i = 0; i < 2; i++) {
+                var a = i < c.getSpaceDimension() ? c.getCoefficient(i).bigIntegerValue() : BigInteger.ZERO;
+                assertEquals(a, r.getCoefficient(i));
+            }
+            row++;
+        }
+        assertEquals(1, m.stream().filter(r -> r.getType() == ConstraintType.EQUAL).count());
+        var terms = m.parallelStream().map(ConstraintMatrix.Row::getInhomogeneousTerm).collect(Collectors.toList());
+        assertEquals(List.of(BigInteger.valueOf(3), BigInteger.valueOf(3)), terms);
+        assertEquals(2, m.spliterator().estimateSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getRow(2));
+        assertEquals(0, ConstraintSystem.empty().snapshot().stream().count());
+    }
+
+    @Test
+    void testFromMatrix() {
+        var kinds = new ConstraintType[] { ConstraintType.GREATER_THAN, ConstraintType.EQUAL };
+        var cs = ConstraintSystem.fromMatrix(new long[][] { { 1 }, { 1, -1 } }, new long[] { 3, 3 }, kinds);
+        assertTrue(cs.isOK());
+        assertEquals(2, cs.getSpaceDimension());
+        assertTrue(cs.hasStrictInequalities());
+        assertEquals(ConstraintSystem.of(c1, c2), cs);
+        kinds = new ConstraintType[] { ConstraintType.LESS_OR_EQUAL, ConstraintType.EQUAL,
+                ConstraintType.GREATER_OR_EQUAL };
+        cs = ConstraintSystem.fromMatrix(new long[][] { { 2, 4 }, { -3, 6 }, { Long.MIN_VALUE } },
+                new long[] { -6, 0, 1 }, kinds);
+        assertTrue(cs.isOK());
+        assertFalse(cs.hasStrictInequalities());
+        var expected = ConstraintSystem.of(
+                Constraint.of(LinearExpression.of(-6, 2, 4), ConstraintType.LESS_OR_EQUAL),
+                Constraint.of(LinearExpression.of(0, -3, 6), ConstraintType.EQUAL),
+                Constraint.of(LinearExpression.of(1, Long.MIN_VALUE), ConstraintType.GREATER_OR_EQUAL));
+        assertEquals(expected, cs);
+        assertEquals(ConstraintSystem.empty(),
+                ConstraintSystem.fromMatrix(new long[0][], new long[0], new ConstraintType[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConstraintSystem.fromMatrix(new long[2][], new long[2], new ConstraintType[1]));
+    }
 }
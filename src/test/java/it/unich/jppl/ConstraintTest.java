@@ -2,6 +2,10 @@ package it.unich.jppl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+
 import it.unich.jppl.Constraint.ConstraintType;
 
 import org.junit.jupiter.api.Test;
@@ -55,4 +59,32 @@ public class ConstraintTest {
         assertEquals(PPLRuntimeException.INVALID_ARGUMENT, exception.getCode());
     }
 
+    @Test
+    void testBulkCoefficients() {
+        var c = Constraint.of(LinearExpression.of(-5, 2, 0, 7), ConstraintType.GREATER_OR_EQUAL);
+        assertArrayEquals(new long[] { 2, 0, 7, -5 }, c.getCoefficients());
+        var buffer = new long[10];
+        assertSame(buffer, c.getCoefficients(buffer));
+        assertArrayEquals(new long[] { 2, 0, 7, -5 }, Arrays.copyOf(buffer, 4));
+        assertNotSame(buffer, c.getCoefficients(new long[3]));
+        var big = BigInteger.TWO.pow(70);
+        var le = LinearExpression.of(BigInteger.ONE, big.negate());
+        var c2 = Constraint.of(le, ConstraintType.EQUAL);
+        assertArrayEquals(new BigInteger[] { big.negate(), BigInteger.ONE }, c2.getBigIntegerCoefficients());
+        assertThrows(ArithmeticException.class, () -> c2.getCoefficients());
+    }
+
+    @Test
+    void testHashCode() {
+        var c1 = Constraint.of(LinearExpression.of(3, 1, -2), ConstraintType.GREATER_OR_EQUAL);
+        var c2 = Constraint.of(LinearExpression.of(3, 1, -2), ConstraintType.GREATER_OR_EQUAL);
+        var c3 = Constraint.of(LinearExpression.of(3, 1, -2), ConstraintType.EQUAL);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        assertNotEquals(c1, c3);
+        var set = new HashSet<Constraint>();
+        set.add(c1);
+        assertTrue(set.contains(c2));
+        assertFalse(set.contains(c3));
+    }
 }
@@ -0,0 +1,125 @@
+package it.unich.jppl;
+
+import static it.unich.jppl.ConstraintFixtures.ge;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.jupiter.api.Test;
+
+public class CopyOnWritePropertyTest {
+
+    @Test
+    void testSharing() {
+        CopyOnWriteProperty.reset();
+        var ph = CPolyhedron.universe(2).add(ge(0, 1));
+        var v1 = CopyOnWriteProperty.of(ph);
+        var v2 = v1.copy();
+        var v3 = v1.copy();
+        assertSame(v1.get(), v2.get());
+        assertTrue(v1.isShared());
+        assertEquals(v1, v2);
+        assertEquals(2, CopyOnWriteProperty.getViewCopies());
+        assertEquals(0, CopyOnWriteProperty.getNativeCopies());
+
+        v2.update(p -> p.add(ge(0, 0, 1)));
+        assertNotSame(v1.get(), v2.get());
+        assertEquals(CPolyhedron.universe(2).add(ge(0, 1)), v1.get());
+        assertEquals(CPolyhedron.universe(2).add(ge(0, 1)).add(ge(0, 0, 1)), v2.get());
+        assertNotEquals(v1, v2);
+        assertFalse(v2.isShared());
+        assertEquals(1, CopyOnWriteProperty.getNativeCopies());
+
+        var p2 = v2.get();
+        v2.update(p -> p.add(ge(1, -1)));
+        assertSame(p2, v2.get());
+        assertEquals(1, CopyOnWriteProperty.getNativeCopies());
+
+        v3.release();
+        assertThrows(IllegalStateException.class, v3::get);
+        assertFalse(v1.isShared());
+        assertSame(ph, v1.mutable());
+        assertEquals(1, CopyOnWriteProperty.getNativeCopies());
+    }
+
+    @Test
+    void testBoxes() {
+        var v1 = CopyOnWriteProperty.of(DoubleBox.universe(1));
+        var v2 = v1.copy();
+        v1.update(b -> b.add(ge(0, 1)));
+        assertTrue(v2.get().isUniverse());
+        assertFalse(v1.get().isUniverse());
+        v1.release();
+        v1.release();
+        assertFalse(v2.isShared());
+    }
+
+    @Test
+    void testConcurrentCopies() throws Exception {
+        assumeTrue(PPLExecutor.THREAD_SAFE, "Sharing views among threads requires a thread-safe PPL");
+        CopyOnWriteProperty.reset();
+        int n = 8;
+        var ph = CPolyhedron.universe(2).add(ge(0, 1));
+        var views = new ArrayList<CopyOnWriteProperty<CPolyhedron>>();
+        views.add(CopyOnWriteProperty.of(ph));
+        for (int i = 1; i < n; i++)
+            views.add(views.get(0).copy());
+        // the native copies are serialized by the views, hence only mutable is called concurrently
+        var results = Collections.synchronizedList(new ArrayList<CPolyhedron>());
+        var barrier = new CyclicBarrier(n);
+        var threads = new ArrayList<Thread>();
+        for (var v : views) {
+            var t = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                results.add(v.mutable());
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (var t : threads)
+            t.join();
+        var distinct = Collections.newSetFromMap(new IdentityHashMap<CPolyhedron, Boolean>());
+        distinct.addAll(results);
+        assertEquals(n, distinct.size());
+        assertEquals(n - 1, CopyOnWriteProperty.getNativeCopies());
+        for (var v : views) {
+            assertFalse(v.isShared());
+            assertEquals(CPolyhedron.universe(2).add(ge(0, 1)), v.get());
+        }
+    }
+
+    @Test
+    void testScopedCopy() {
+        var v1 = CopyOnWriteProperty.of(CPolyhedron.universe(2));
+        var v2 = v1.copy();
+        var c = ge(0, 1);
+        try (var scope = PPLScope.open()) {
+            v2.update(p -> p.add(c));
+            assertSame(scope, PPLScope.current());
+        }
+        assertEquals(CPolyhedron.universe(2).add(c), v2.get());
+        assertTrue(v1.get().isUniverse());
+    }
+
+    @Test
+    void testScopedView() {
+        CopyOnWriteProperty<CPolyhedron> v;
+        try (var outer = PPLScope.open()) {
+            try (var inner = PPLScope.open()) {
+                v = CopyOnWriteProperty.of(CPolyhedron.universe(2));
+                assertEquals(0, inner.size());
+            }
+            assertEquals(0, outer.size());
+        }
+        assertTrue(v.get().isUniverse());
+    }
+
+}
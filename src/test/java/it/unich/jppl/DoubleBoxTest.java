@@ -65,4 +65,15 @@ public class DoubleBoxTest {
         assertTrue(p2.isUniverse());
     }
 
+    @Test
+    void testHashCode() {
+        var box1 = DoubleBox.universe(2);
+        var box2 = DoubleBox.universe(2);
+        assertEquals(box1.hashCode(), box2.hashCode());
+        box1.add(Constraint.of(LinearExpression.of(-1, 1, 0), ConstraintType.GREATER_OR_EQUAL));
+        assertNotEquals(box1, box2);
+        box2.add(Constraint.of(LinearExpression.of(-2, 2, 0), ConstraintType.GREATER_OR_EQUAL));
+        assertEquals(box1, box2);
+        assertEquals(box1.hashCode(), box2.hashCode());
+    }
 }
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import it.unich.jppl.Generator.GeneratorType;
 
+import java.math.BigInteger;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -60,4 +62,42 @@ public class GeneratorSystemTest {
         assertEquals(g2, gsi.next());
         assertThrows(NoSuchElementException.class, () -> gsi.next());
     }
+
+    @Test
+    void testSnapshot() {
+        var m = GeneratorSystem.of(g1, g2).snapshot();
+        assertEquals(2, m.getSpaceDimension());
+        assertEquals(2, m.size());
+        var rays = m.stream().filter(r -> r.getType() == GeneratorType.RAY).collect(Collectors.toList());
+        assertEquals(1, rays.size());
+        assertEquals(BigInteger.ZERO, rays.get(0).getDivisor());
+        assertArrayEquals(new BigInteger[] { BigInteger.ONE, BigInteger.ZERO }, rays.get(0).getCoefficients());
+        var points = m.parallelStream().filter(r -> r.getType() == GeneratorType.POINT).collect(Collectors.toList());
+        assertEquals(1, points.size());
+        assertEquals(BigInteger.ONE, points.get(0).getDivisor());
+        assertArrayEquals(new BigInteger[] { BigInteger.ONE, BigInteger.ONE.negate() }, points.get(0).getCoefficients());
+    }
+
+    @Test
+    void testFromMatrix() {
+        var kinds = new GeneratorType[] { GeneratorType.RAY, GeneratorType.POINT };
+        var gs = GeneratorSystem.fromMatrix(new long[][] { { 1 }, { 1, -1 } }, new long[] { 5, 1 }, kinds);
+        assertTrue(gs.isOK());
+        assertEquals(2, gs.getSpaceDimension());
+        assertEquals(GeneratorSystem.of(g1, g2).snapshot(), gs.snapshot());
+        kinds = new GeneratorType[] { GeneratorType.POINT, GeneratorType.CLOSURE_POINT, GeneratorType.LINE };
+        gs = GeneratorSystem.fromMatrix(new long[][] { { 2, 4 }, { 3, -6 }, { 0, -2 } }, new long[] { 4, -3, 0 },
+                kinds);
+        assertTrue(gs.isOK());
+        var expected = GeneratorSystem.of(
+                Generator.of(LinearExpression.of(0, 2, 4), GeneratorType.POINT, Coefficient.valueOf(4)),
+                Generator.of(LinearExpression.of(0, 3, -6), GeneratorType.CLOSURE_POINT, Coefficient.valueOf(-3)),
+                Generator.of(LinearExpression.of(0, 0, -2), GeneratorType.LINE));
+        assertEquals(expected.snapshot(), gs.snapshot());
+        assertEquals(0, GeneratorSystem.fromMatrix(new long[0][], new long[0], new GeneratorType[0]).snapshot().size());
+        assertThrows(IllegalArgumentException.class,
+                () -> GeneratorSystem.fromMatrix(new long[1][], new long[2], new GeneratorType[1]));
+        assertThrows(IllegalArgumentException.class, () -> GeneratorSystem.fromMatrix(new long[][] { { 1 } },
+                new long[] { 0 }, new GeneratorType[] { GeneratorType.POINT }));
+    }
 }
@@ -2,6 +2,8 @@ package it.unich.jppl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+
 import org.junit.jupiter.api.Test;
 
 import it.unich.jppl.Generator.GeneratorType;
@@ -54,4 +56,15 @@ public class GeneratorTest {
         assertEquals(PPLRuntimeException.INVALID_ARGUMENT, exception.getCode());
     }
 
+    @Test
+    void testBulkCoefficients() {
+        var le = LinearExpression.of(0, 3, -1);
+        var p = Generator.of(le, GeneratorType.POINT, Coefficient.valueOf(2));
+        assertArrayEquals(new long[] { 3, -1, 2 }, p.getCoefficients());
+        var r = Generator.of(le, GeneratorType.RAY);
+        assertArrayEquals(new long[] { 3, -1, 0 }, r.getCoefficients());
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(3), BigInteger.ONE.negate(), BigInteger.TWO },
+                p.getBigIntegerCoefficients());
+    }
+
 }
@@ -0,0 +1,90 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import org.junit.jupiter.api.Test;
+
+public class InternTableTest {
+
+    @Test
+    void testPolyhedra() {
+        var table = new InternTable<CPolyhedron>();
+        var c1 = Constraint.of(LinearExpression.of(0, 1, 0), ConstraintType.GREATER_OR_EQUAL);
+        var c2 = Constraint.of(LinearExpression.of(0, 0, 1), ConstraintType.GREATER_OR_EQUAL);
+        var c3 = Constraint.of(LinearExpression.of(0, 1, 1), ConstraintType.GREATER_OR_EQUAL);
+        var ph1 = CPolyhedron.universe(2).add(c1).add(c2);
+        var ph2 = CPolyhedron.universe(2).add(c2).add(c3).add(c1);
+        var ph3 = CPolyhedron.universe(2).add(c1);
+        var i1 = table.intern(ph1);
+        var i2 = table.intern(ph2);
+        var i3 = table.intern(ph3);
+        assertSame(i1, i2);
+        assertNotSame(i1, i3);
+        assertNotSame(ph1, i1);
+        assertEquals(ph1, i1);
+        assertNotEquals(i1, i3);
+        assertTrue(i1.isInterned());
+        assertFalse(ph1.isInterned());
+        assertSame(i1, table.intern(i1));
+        assertEquals(2, table.size());
+        assertThrows(UnsupportedOperationException.class, () -> i1.add(c3));
+        assertThrows(UnsupportedOperationException.class, () -> i1.upperBound(ph3));
+        assertEquals(ph1, i1);
+        var ph4 = i1.clone();
+        assertFalse(ph4.isInterned());
+        assertEquals(ph3, ph4.upperBound(ph3));
+        table.clear();
+        assertEquals(0, table.size());
+        var i4 = table.intern(ph1);
+        assertNotSame(i1, i4);
+        assertEquals(i1, i4);
+    }
+
+    @Test
+    void testWorkers() throws Exception {
+        var table = new InternTable<CPolyhedron>();
+        var c = Constraint.of(LinearExpression.of(0, 1), ConstraintType.GREATER_OR_EQUAL);
+        var i1 = table.intern(CPolyhedron.universe(1).add(c));
+        try (var executor1 = new PPLExecutor(1); var executor2 = new PPLExecutor(1)) {
+            var domain = new CPolyhedronDomain();
+            PPLTask<CPolyhedron, Boolean> task = d -> {
+                var ph = d.createUniverse(1).add(c);
+                var i = table.intern(ph);
+                return i != i1 && i == table.intern(ph.clone()) && i.equals(ph);
+            };
+            assertTrue(executor1.submit(domain, task).get());
+            assertTrue(executor2.submit(domain, task).get());
+        }
+        assertSame(i1, table.intern(CPolyhedron.universe(1).add(c)));
+    }
+
+    @Test
+    void testWorkerEquality() throws Exception {
+        var table = new InternTable<CPolyhedron>();
+        var c = Constraint.of(LinearExpression.of(0, 1), ConstraintType.GREATER_OR_EQUAL);
+        var i1 = table.intern(CPolyhedron.universe(1).add(c));
+        try (var executor = new PPLExecutor(1)) {
+            PPLTask<CPolyhedron, Boolean> task = d -> {
+                var i = table.intern(d.createUniverse(1).add(c));
+                return i != i1 && i.equals(i1) && i1.equals(i);
+            };
+            assertTrue(executor.submit(new CPolyhedronDomain(), task).get());
+        }
+    }
+
+    @Test
+    void testBoxes() {
+        var table = new InternTable<DoubleBox>();
+        var c = Constraint.of(LinearExpression.of(-1, 1), ConstraintType.GREATER_OR_EQUAL);
+        var box1 = DoubleBox.universe(1).add(c);
+        var box2 = DoubleBox.universe(1).add(c).add(c);
+        var i1 = table.intern(box1);
+        assertSame(i1, table.intern(box2));
+        assertNotSame(i1, table.intern(DoubleBox.universe(1)));
+        assertThrows(UnsupportedOperationException.class, () -> i1.unconstrain(0));
+        assertEquals(2, table.size());
+    }
+
+}
@@ -2,6 +2,8 @@ package it.unich.jppl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+
 import org.junit.jupiter.api.Test;
 
 public class LinearExpressionTest {
@@ -95,4 +97,48 @@ public class LinearExpressionTest {
         assertEquals(Coefficient.ONE, le.getCoefficient(0));
 
     }
+
+    @Test
+    void testBulkCoefficients() {
+        var le = LinearExpression.of(4, 1, -2);
+        assertArrayEquals(new long[] { 1, -2, 4 }, le.getCoefficients());
+        assertArrayEquals(new long[] { 0 }, LinearExpression.zero().getCoefficients());
+        var big = BigInteger.TEN.pow(30);
+        var values = LinearExpression.of(big, BigInteger.ZERO).getBigIntegerCoefficients();
+        assertArrayEquals(new BigInteger[] { BigInteger.ZERO, big }, values);
+    }
+
+    @Test
+    void testBuilder() {
+        var b = LinearExpression.builder().add(2, 3).add(-1, 0).add(5).add(4, 3).add(1, 1).add(-1, 1);
+        assertEquals(4, b.getSpaceDimension());
+        var le = b.build();
+        assertEquals(4, le.getSpaceDimension());
+        assertArrayEquals(new long[] { -1, 0, 0, 6, 5 }, le.getCoefficients());
+        assertEquals(LinearExpression.of(5, -1, 0, 0, 6), le);
+        b.clear().add(Long.MAX_VALUE, 0).add(Long.MAX_VALUE, 0).add(Long.MIN_VALUE).add(-1);
+        var big = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO);
+        var min = BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE);
+        assertArrayEquals(new BigInteger[] { big, min }, b.build().getBigIntegerCoefficients());
+        b.add(big.negate(), 0).add(min.negate());
+        assertTrue(b.build().isZero());
+        assertEquals(1, b.getSpaceDimension());
+        assertThrows(IndexOutOfBoundsException.class, () -> b.add(1, -1));
+    }
+
+    @Test
+    void testHashCode() {
+        var le1 = LinearExpression.of(3, 1, -2);
+        var le2 = LinearExpression.of(3, 1, -2, 0, 0);
+        assertEquals(le1, le2);
+        assertEquals(le2, le1);
+        assertEquals(le1.hashCode(), le2.hashCode());
+        assertNotEquals(le1, LinearExpression.of(3, 1, -2, 0, 1));
+        assertNotEquals(LinearExpression.of(3, 1, -2, 0, 1), le1);
+        assertNotEquals(le1, LinearExpression.of(4, 1, -2));
+        var big = BigInteger.TWO.pow(100);
+        var le3 = LinearExpression.of(BigInteger.ONE, big);
+        assertEquals(le3, LinearExpression.builder().add(big, 0).add(1).build());
+        assertEquals(le3.hashCode(), LinearExpression.builder().add(big, 0).add(1).build().hashCode());
+    }
 }
@@ -0,0 +1,39 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class NativeMemoryTrackerTest {
+
+    @Test
+    void testSettings() {
+        long threshold = NativeMemoryTracker.getThreshold();
+        var policy = NativeMemoryTracker.getPolicy();
+        NativeMemoryTracker.setThreshold(1 << 20);
+        NativeMemoryTracker.setPolicy(NativeMemoryTracker.Policy.REJECT);
+        assertEquals(1 << 20, NativeMemoryTracker.getThreshold());
+        assertEquals(NativeMemoryTracker.Policy.REJECT, NativeMemoryTracker.getPolicy());
+        NativeMemoryTracker.setThreshold(threshold);
+        NativeMemoryTracker.setPolicy(policy);
+    }
+
+    @Test
+    void testTracking() {
+        if (!NativeMemoryTracker.isEnabled()) {
+            CPolyhedron.universe(2);
+            assertEquals(0, NativeMemoryTracker.getTrackedObjects());
+            assertTrue(NativeMemoryTracker.reclaim());
+            return;
+        }
+        long objects = NativeMemoryTracker.getTrackedObjects();
+        try (var scope = PPLScope.open()) {
+            var ph = CPolyhedron.universe(2);
+            assertEquals(objects + 1, NativeMemoryTracker.getTrackedObjects());
+            assertTrue(NativeMemoryTracker.getTrackedBytes() >= ph.getTotalMemoryInBytes());
+            assertSame(scope, PPLScope.current());
+        }
+        assertEquals(objects, NativeMemoryTracker.getTrackedObjects());
+    }
+
+}
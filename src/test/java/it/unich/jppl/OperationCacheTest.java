@@ -0,0 +1,98 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import org.junit.jupiter.api.Test;
+
+public class OperationCacheTest {
+
+    static CPolyhedron halfPlane(long a, long b) {
+        return CPolyhedron.universe(2)
+                .add(Constraint.of(LinearExpression.of(0, a, b), ConstraintType.GREATER_OR_EQUAL));
+    }
+
+    @Test
+    void testPolyhedra() {
+        var cache = new OperationCache<CPolyhedron>(10);
+        var x = halfPlane(1, 0);
+        var y = halfPlane(0, 1);
+        var z = cache.intersection(x, y);
+        assertEquals(x.clone().intersection(y), z);
+        assertEquals(halfPlane(1, 0), x);
+        assertEquals(0, cache.getStatistics().getHits());
+        assertEquals(1, cache.getStatistics().getMisses());
+        var z2 = cache.intersection(halfPlane(1, 0), halfPlane(0, 1));
+        assertEquals(z, z2);
+        assertNotSame(z, z2);
+        assertEquals(1, cache.getStatistics().getHits());
+        z2.add(Constraint.of(LinearExpression.of(0, -1, 0), ConstraintType.GREATER_OR_EQUAL));
+        assertEquals(z, cache.intersection(x, y));
+        assertTrue(cache.contains(x, z));
+        assertFalse(cache.contains(z, x));
+        assertTrue(cache.contains(x, z));
+        assertEquals(CPolyhedron.universe(2), cache.upperBound(x, halfPlane(-1, 0)));
+        assertEquals(halfPlane(1, 0), cache.apply("BHRZ03", x, z, CPolyhedron::BHRZ03Widening));
+        var stats = cache.getStatistics();
+        assertEquals(3, stats.getHits());
+        assertEquals(5, stats.getMisses());
+        assertEquals(5, stats.getEntries());
+        assertEquals(0, stats.getEvictions());
+        assertTrue(stats.getMemoryInBytes() > 0);
+        cache.clear();
+        assertEquals(0, cache.getStatistics().getEntries());
+        cache.resetStatistics();
+        assertEquals(0, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    void testEviction() {
+        var cache = new OperationCache<CPolyhedron>(1);
+        var x = halfPlane(1, 0);
+        var y = halfPlane(0, 1);
+        cache.intersection(x, y);
+        cache.upperBound(x, y);
+        assertEquals(1, cache.getStatistics().getEntries());
+        assertEquals(1, cache.getStatistics().getEvictions());
+        cache.intersection(x, y);
+        assertEquals(0, cache.getStatistics().getHits());
+        var empty = new OperationCache<CPolyhedron>(10, 0);
+        empty.intersection(x, y);
+        assertEquals(0, empty.getStatistics().getEntries());
+        assertThrows(IllegalArgumentException.class, () -> new OperationCache<CPolyhedron>(-1));
+    }
+
+    @Test
+    void testWorkers() throws Exception {
+        var cache = new OperationCache<CPolyhedron>(10);
+        var z = cache.intersection(halfPlane(1, 0), halfPlane(0, 1));
+        try (var executor = new PPLExecutor(1)) {
+            PPLTask<CPolyhedron, Boolean> task = d -> cache.intersection(halfPlane(1, 0), halfPlane(0, 1))
+                    .equals(halfPlane(1, 0).intersection(halfPlane(0, 1)));
+            var domain = new CPolyhedronDomain();
+            assertTrue(executor.submit(domain, task).get());
+            assertTrue(executor.submit(domain, task).get());
+        }
+        assertEquals(z, cache.intersection(halfPlane(1, 0), halfPlane(0, 1)));
+        var stats = cache.getStatistics();
+        assertEquals(2, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(2, stats.getEntries());
+    }
+
+    @Test
+    void testInterned() {
+        var table = new InternTable<DoubleBox>();
+        var cache = new OperationCache<DoubleBox>(10);
+        var c = Constraint.of(LinearExpression.of(-1, 1), ConstraintType.GREATER_OR_EQUAL);
+        var x = table.intern(DoubleBox.universe(1).add(c));
+        var y = table.intern(DoubleBox.universe(1));
+        var z = cache.upperBound(x, y);
+        assertFalse(z.isInterned());
+        assertEquals(y, z);
+        assertEquals(y, cache.upperBound(x, y));
+        assertEquals(1, cache.getStatistics().getHits());
+    }
+
+}
@@ -0,0 +1,130 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+import it.unich.jppl.Generator.GeneratorType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class PPLCodecTest {
+
+    static Constraint c1, c2, c3;
+
+    @BeforeAll
+    static void init() {
+        c1 = Constraint.of(LinearExpression.of(1, -1, 0, 0), ConstraintType.GREATER_OR_EQUAL);
+        c2 = Constraint.of(LinearExpression.of(0, 0, 0, 3), ConstraintType.EQUAL);
+        var big = BigInteger.TWO.pow(100).negate();
+        c3 = Constraint.of(LinearExpression.of(big, BigInteger.ONE, big.negate()), ConstraintType.GREATER_THAN);
+    }
+
+    @Test
+    void testConstraintSystem() {
+        var cs = ConstraintSystem.of(c1, c2, c3);
+        var cs2 = PPLCodec.decode(PPLCodec.encode(cs), ConstraintSystem.class);
+        assertEquals(cs.toString(), cs2.toString());
+        assertEquals(cs.getSpaceDimension(), cs2.getSpaceDimension());
+        var it = cs2.iterator();
+        assertEquals(c1, it.next());
+        assertEquals(c2, it.next());
+        assertEquals(c3, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testGeneratorSystem() {
+        var g1 = Generator.of(LinearExpression.of(0, 1, 0), GeneratorType.RAY);
+        var g2 = Generator.of(LinearExpression.of(0, 1, -1), GeneratorType.POINT, Coefficient.valueOf(3));
+        var g3 = Generator.of(LinearExpression.of(0, 0, 1), GeneratorType.LINE);
+        var gs = GeneratorSystem.of(g1, g2, g3);
+        var gs2 = PPLCodec.decode(PPLCodec.encode(gs), GeneratorSystem.class);
+        var it = gs2.iterator();
+        assertEquals(g1, it.next());
+        assertEquals(g2, it.next());
+        assertEquals(g3, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testCongruenceSystem() {
+        var cg = Congruence.of(LinearExpression.of(1, 2, 0, -1), Coefficient.valueOf(5));
+        var cs = CongruenceSystem.of(cg);
+        var cs2 = PPLCodec.decode(PPLCodec.encode(cs), CongruenceSystem.class);
+        var it = cs2.iterator();
+        assertEquals(cg, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testProperties() {
+        var ph = CPolyhedron.universe(5).add(c1).add(c2);
+        assertEquals(ph, PPLCodec.decode(PPLCodec.encode(ph), CPolyhedron.class));
+        var empty = CPolyhedron.empty(2);
+        assertEquals(empty, PPLCodec.decode(PPLCodec.encode(empty), CPolyhedron.class));
+        var nnc = NNCPolyhedron.universe(3).add(c1).add(c3);
+        assertEquals(nnc, PPLCodec.decode(PPLCodec.encode(nnc), NNCPolyhedron.class));
+        var box = DoubleBox.universe(4).add(c1).add(c2);
+        assertEquals(box, PPLCodec.decode(PPLCodec.encode(box), Property.class));
+    }
+
+    @Test
+    void testChannels() throws Exception {
+        var ph = CPolyhedron.universe(3).add(c1);
+        var cs = ConstraintSystem.of(c1, c3);
+        var bytes = new ByteArrayOutputStream();
+        var out = Channels.newChannel(bytes);
+        PPLCodec.write(ph, out);
+        PPLCodec.write(cs, out);
+        var in = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(ph, PPLCodec.read(in, CPolyhedron.class));
+        assertEquals(cs.toString(), PPLCodec.read(in, ConstraintSystem.class).toString());
+        assertThrows(EOFException.class, () -> PPLCodec.read(in, ConstraintSystem.class));
+    }
+
+    @Test
+    void testConstraintMatrix() throws Exception {
+        var m = ConstraintMatrix.from(ConstraintSystem.of(c1, c2, c3));
+        var bytes = new ByteArrayOutputStream();
+        PPLCodec.write(m, Channels.newChannel(bytes));
+        m.write(bytes);
+        var in = new ByteArrayInputStream(bytes.toByteArray());
+        assertEquals(m, PPLCodec.read(Channels.newChannel(in), ConstraintMatrix.class));
+        assertEquals(m, ConstraintMatrix.read(in));
+        assertEquals(0, in.available());
+        var cs = PPLCodec.encode(ConstraintSystem.of(c1));
+        assertThrows(IllegalArgumentException.class, () -> PPLCodec.decode(cs, ConstraintMatrix.class));
+    }
+
+    @Test
+    void testLargeSystem() throws Exception {
+        var cs = ConstraintSystem.empty();
+        for (int i = 0; i < 5000; i++)
+            cs.add(Constraint.of(LinearExpression.of(i, 1, -1, i, 2L * i, 0, i * 1000000000000L),
+                    ConstraintType.GREATER_OR_EQUAL));
+        var bytes = new ByteArrayOutputStream();
+        PPLCodec.write(cs, Channels.newChannel(bytes));
+        assertTrue(bytes.size() > PPLCodec.CHUNK_SIZE);
+        var in = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(cs.toString(), PPLCodec.read(in, ConstraintSystem.class).toString());
+    }
+
+    @Test
+    void testInvalid() {
+        var buffer = PPLCodec.encode(ConstraintSystem.of(c1));
+        assertThrows(IllegalArgumentException.class, () -> PPLCodec.decode(buffer.duplicate(), CPolyhedron.class));
+        buffer.put(4, (byte) (PPLCodec.VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> PPLCodec.decode(buffer.duplicate(), ConstraintSystem.class));
+        buffer.put(4, (byte) PPLCodec.VERSION);
+        buffer.limit(buffer.limit() - 1);
+        assertThrows(IllegalArgumentException.class, () -> PPLCodec.decode(buffer.duplicate(), ConstraintSystem.class));
+    }
+
+}
@@ -0,0 +1,80 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class PPLExecutorTest {
+
+    @Test
+    void testExport() throws Exception {
+        var domain = new CPolyhedronDomain();
+        try (var executor = new PPLExecutor(PPLExecutor.THREAD_SAFE ? 4 : 1)) {
+            var futures = new ArrayList<CompletableFuture<ConstraintMatrix>>();
+            for (int i = 0; i < 16; i++) {
+                long bound = i;
+                futures.add(executor.submitAndExport(domain, d -> {
+                    var c = Constraint.of(LinearExpression.of(bound, -1, 0), ConstraintType.GREATER_OR_EQUAL);
+                    return d.createUniverse(2).add(c);
+                }));
+            }
+            for (int i = 0; i < 16; i++) {
+                var m = futures.get(i).get();
+                assertEquals(2, m.getSpaceDimension());
+                var ph = m.toProperty(domain);
+                var c = Constraint.of(LinearExpression.of(i, -1, 0), ConstraintType.GREATER_OR_EQUAL);
+                assertEquals(CPolyhedron.universe(2).add(c), ph);
+            }
+        }
+    }
+
+    @Test
+    void testThreadSafety() {
+        if (PPLExecutor.THREAD_SAFE) {
+            try (var executor = new PPLExecutor(2)) {
+                assertEquals(2, executor.getParallelism());
+            }
+        } else {
+            assertThrows(IllegalArgumentException.class, () -> new PPLExecutor(2));
+            try (var executor = new PPLExecutor()) {
+                assertEquals(1, executor.getParallelism());
+            }
+        }
+    }
+
+    @Test
+    void testUniverseExport() throws Exception {
+        var domain = new DoubleBoxDomain();
+        try (var executor = new PPLExecutor(1)) {
+            var m = executor.submitAndExport(domain, d -> d.createUniverse(3)).get();
+            assertEquals(3, m.getSpaceDimension());
+            assertTrue(m.toProperty(domain).isUniverse());
+        }
+    }
+
+    @Test
+    void testConfinement() throws Exception {
+        var escaped = new AtomicReference<LinearExpression>();
+        try (var executor = new PPLExecutor(1)) {
+            var n = executor.submit(new CPolyhedronDomain(), d -> {
+                var le = LinearExpression.zero(3);
+                escaped.set(le);
+                return le.getSpaceDimension();
+            }).get();
+            assertEquals(3, n);
+            assertThrows(IllegalStateException.class, () -> escaped.get().getSpaceDimension());
+            var e = assertThrows(ExecutionException.class,
+                    () -> executor.submit(new CPolyhedronDomain(), d -> d.createUniverse(2)).get());
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(1, executor.submit(new CPolyhedronDomain(), d -> Coefficient.ONE.longValue()).get());
+        }
+    }
+
+}
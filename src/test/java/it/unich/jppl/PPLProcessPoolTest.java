@@ -0,0 +1,87 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+public class PPLProcessPoolTest {
+
+    @Test
+    void testEncoding() throws Exception {
+        var c1 = Constraint.of(LinearExpression.of(1, -1, 0), ConstraintType.GREATER_OR_EQUAL);
+        var c2 = Constraint.of(LinearExpression.of(-1000000000000000000L, 1, 1000000000000000000L),
+                ConstraintType.EQUAL);
+        var m = ConstraintMatrix.from(CPolyhedron.universe(3).add(c1).add(c2));
+        var bytes = new ByteArrayOutputStream();
+        m.write(new DataOutputStream(bytes));
+        var m2 = ConstraintMatrix.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(m, m2);
+        assertEquals(3, m2.getSpaceDimension());
+    }
+
+    @Test
+    void testExport() throws Exception {
+        var domain = new CPolyhedronDomain();
+        try (var pool = new PPLProcessPool(2)) {
+            var futures = new ArrayList<CompletableFuture<ConstraintMatrix>>();
+            for (int i = 0; i < 8; i++) {
+                long bound = i;
+                futures.add(pool.submitAndExport(domain, d -> {
+                    var c = Constraint.of(LinearExpression.of(bound, -1, 0), ConstraintType.GREATER_OR_EQUAL);
+                    return d.createUniverse(2).add(c);
+                }));
+            }
+            for (int i = 0; i < 8; i++) {
+                var ph = futures.get(i).get().toProperty(domain);
+                var c = Constraint.of(LinearExpression.of(i, -1, 0), ConstraintType.GREATER_OR_EQUAL);
+                assertEquals(CPolyhedron.universe(2).add(c), ph);
+            }
+        }
+    }
+
+    @Test
+    void testInputAndResults() throws Exception {
+        var c = Constraint.of(LinearExpression.of(3, -1), ConstraintType.GREATER_OR_EQUAL);
+        var input = ConstraintMatrix.from(DoubleBox.universe(1).add(c));
+        try (var pool = new PPLProcessPool(1)) {
+            var isEmpty = pool.submit(new DoubleBoxDomain(), d -> input.toProperty(d).isEmpty()).get();
+            assertFalse(isEmpty);
+            var e = assertThrows(ExecutionException.class,
+                    () -> pool.submit(new DoubleBoxDomain(), d -> d.createUniverse(1)).get());
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            e = assertThrows(ExecutionException.class, () -> pool.submit(new DoubleBoxDomain(), d -> {
+                throw new IllegalArgumentException("failure");
+            }).get());
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertEquals("failure", e.getCause().getMessage());
+            assertEquals(1L, pool.submit(new DoubleBoxDomain(), d -> d.createUniverse(1).getSpaceDimension()).get());
+        }
+    }
+
+    @Test
+    void testDomains() throws Exception {
+        var domain = new PackedPolyhedronDomain<>(new CPolyhedronDomain());
+        assertEquals("it.unich.jppl.PackedPolyhedronDomain(it.unich.jppl.CPolyhedronDomain)",
+                PPLProcessPool.describe(domain));
+        try (var pool = new PPLProcessPool(1)) {
+            var m = pool.submitAndExport(domain, d -> d.createUniverse(3)
+                    .add(Constraint.of(LinearExpression.of(0, 1, 0, 0), ConstraintType.GREATER_OR_EQUAL))).get();
+            var c = Constraint.of(LinearExpression.of(0, 1, 0, 0), ConstraintType.GREATER_OR_EQUAL);
+            assertEquals(PackedPolyhedron.universe(new CPolyhedronDomain(), 3).add(c), m.toProperty(domain));
+            var anonymous = new CPolyhedronDomain() {
+            };
+            assertThrows(IllegalArgumentException.class, () -> pool.submit(anonymous, d -> 0));
+        }
+    }
+
+}
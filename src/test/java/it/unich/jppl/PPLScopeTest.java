@@ -0,0 +1,79 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class PPLScopeTest {
+
+    @Test
+    void testScope() {
+        var c = Constraint.of(LinearExpression.of(1, 1), Constraint.ConstraintType.GREATER_OR_EQUAL);
+        CPolyhedron ph1, ph2;
+        try (var scope = PPLScope.open()) {
+            assertSame(scope, PPLScope.current());
+            ph1 = CPolyhedron.universe(2);
+            ph2 = ph1.clone().add(c);
+            assertEquals(2, scope.size());
+            scope.escape(ph2);
+            assertEquals(1, scope.size());
+        }
+        assertNull(PPLScope.current());
+        assertNull(ph1.getNative());
+        assertThrows(IllegalStateException.class, ph1::getSpaceDimension);
+        assertNotNull(ph2.getNative());
+        assertEquals(2, ph2.getSpaceDimension());
+        assertFalse(ph2.isUniverse());
+    }
+
+    @Test
+    void testNested() {
+        try (var outer = PPLScope.open()) {
+            var le = LinearExpression.zero(5);
+            try (var inner = PPLScope.open()) {
+                assertSame(outer, inner.getParent());
+                var d = LinearExpression.zero(6);
+                assertEquals(1, inner.size());
+                assertThrows(IllegalStateException.class, outer::close);
+                // closing again at the end of the block has no effect
+                inner.close();
+                assertTrue(inner.isClosed());
+                assertNull(d.getNative());
+            }
+            assertSame(outer, PPLScope.current());
+            assertEquals(5, le.getSpaceDimension());
+        }
+    }
+
+    @Test
+    void testUnscoped() {
+        try (var scope = PPLScope.open()) {
+            var le = PPLScope.unscoped(() -> LinearExpression.zero(5));
+            assertSame(scope, PPLScope.current());
+            assertEquals(0, scope.size());
+            scope.close();
+            assertEquals(5, le.getSpaceDimension());
+        }
+    }
+
+    @Test
+    void testReleasedCoefficients() {
+        var small = Coefficient.valueOf(7);
+        Coefficient big, max;
+        try (var scope = PPLScope.open()) {
+            big = Coefficient.valueOf(BigInteger.TWO.pow(70));
+            var ph = CPolyhedron.universe(1)
+                    .add(Constraint.of(LinearExpression.of(5, -1), Constraint.ConstraintType.GREATER_OR_EQUAL));
+            max = ph.maximize(LinearExpression.of(0, 1)).get().num;
+            assertNotNull(small.getNative());
+            assertSame(scope, PPLScope.current());
+        }
+        assertThrows(IllegalStateException.class, big::bigIntegerValue);
+        assertThrows(IllegalStateException.class, max::longValue);
+        assertEquals(7, small.longValue());
+        assertNotNull(small.getNative());
+    }
+
+}
@@ -2,6 +2,14 @@ package it.unich.jppl;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import it.unich.jppl.nativelib.LibPPL;
+import it.unich.jppl.nativelib.SizeT;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import com.sun.jna.ptr.PointerByReference;
+
 import org.junit.jupiter.api.Test;
 
 class PPLTest {
@@ -53,4 +61,30 @@ class PPLTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void threadErrorsTest() throws Exception {
+        // the native calls run one after the other, since the PPL may not be thread-safe
+        var first = Executors.newSingleThreadExecutor();
+        var second = Executors.newSingleThreadExecutor();
+        try {
+            int code = first.submit(() -> LibPPL.ppl_new_Double_Box_from_space_dimension(new PointerByReference(),
+                    new SizeT(-3), 0)).get();
+            assertEquals(PPLRuntimeException.LENGTH_ERROR, code);
+            assertEquals(code, first.submit(PPL.JPPLErrorHandler::getCode).get());
+            Callable<Integer> invalidArgument = () -> {
+                assertEquals(0, PPL.JPPLErrorHandler.getCode());
+                var c = Constraint.zeroDimPositivity();
+                var exception = assertThrows(PPLRuntimeException.class, () -> c.getCoefficient(0));
+                return exception.getCode();
+            };
+            assertEquals(PPLRuntimeException.INVALID_ARGUMENT, second.submit(invalidArgument).get());
+            assertEquals(0, second.submit(PPL.JPPLErrorHandler::getCode).get());
+            assertEquals(code, first.submit(PPL.JPPLErrorHandler::getCode).get());
+            first.submit(PPL.JPPLErrorHandler::reset).get();
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+package it.unich.jppl;
+
+import static it.unich.jppl.ConstraintFixtures.ge;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedPolyhedronTest {
+
+    static final PackedPolyhedronDomain<CPolyhedron> dom = new PackedPolyhedronDomain<>(new CPolyhedronDomain());
+
+    // x0 >= 0, x1 >= x0, 0 <= x3 <= 2 in four dimensions
+    static ConstraintSystem system() {
+        return ConstraintSystem.of(ge(0, 1), ge(0, -1, 1), ge(0, 0, 0, 0, 1), ge(2, 0, 0, 0, -1));
+    }
+
+    @Test
+    void testPartition() {
+        var p = dom.createFrom(system());
+        assertEquals(4, p.getSpaceDimension());
+        assertArrayEquals(new long[][] { { 0, 1 }, { 3 } }, p.getPartition());
+        assertEquals(CPolyhedron.from(system()), p.toPolyhedron());
+        assertEquals(dom.createFrom(CPolyhedron.from(system())), p);
+        assertFalse(p.isBounded());
+        assertFalse(p.constraints(2));
+        assertTrue(p.constraints(3));
+        assertEquals(4, p.getAffineDimension());
+        assertTrue(p.boundsFromBelow(LinearExpression.of(0, 1, 1, 0, 1)));
+        assertFalse(p.boundsFromAbove(LinearExpression.of(0, 0, 0, 0, 1).add(Coefficient.ONE, 2)));
+        assertEquals(Property.RelationWithConstraint.IS_INCLUDED,
+                p.getRelationWith(ge(0, 0, 1)) & Property.RelationWithConstraint.IS_INCLUDED);
+        assertTrue(dom.createEmpty(4).isEmpty());
+        assertTrue(dom.createUniverse(4).isUniverse());
+        assertTrue(dom.createFrom(ConstraintSystem.of(ge(-1, 0, 0), ge(0, 1))).isEmpty());
+    }
+
+    @Test
+    void testMergeAndSplit() {
+        var p = dom.createFrom(system());
+        p.add(ge(0, 0, -1, 0, 1));
+        assertArrayEquals(new long[][] { { 0, 1, 3 } }, p.getPartition());
+        var flat = CPolyhedron.from(system()).add(ge(0, 0, -1, 0, 1));
+        assertEquals(flat, p.toPolyhedron());
+        p.affineImage(1, LinearExpression.of(5));
+        flat.affineImage(1, LinearExpression.of(5));
+        assertEquals(flat, p.toPolyhedron());
+        assertArrayEquals(new long[][] { { 0, 3 }, { 1 } }, p.getPartition());
+        p.affineImage(2, LinearExpression.of(1, 1, 0, 1));
+        flat.affineImage(2, LinearExpression.of(1, 1, 0, 1));
+        assertEquals(flat, p.toPolyhedron());
+        assertArrayEquals(new long[][] { { 0, 2, 3 }, { 1 } }, p.getPartition());
+        p.unconstrain(new long[] { 0, 1 });
+        flat.unconstrain(new long[] { 0, 1 });
+        assertEquals(flat, p.toPolyhedron());
+        assertArrayEquals(new long[][] { { 3 } }, p.getPartition());
+    }
+
+    @Test
+    void testJoinAndWidening() {
+        // the join relates the blocks only where the operands differ
+        var p = dom.createFrom(ConstraintSystem.of(ge(0, 1), ge(0, -1), ge(0, 0, 1), ge(0, 0, -1), ge(0, 0, 0, 1)));
+        var q = dom.createFrom(ConstraintSystem.of(ge(-1, 1), ge(1, -1), ge(-1, 0, 1), ge(1, 0, -1), ge(0, 0, 0, 1)));
+        var flat = p.toPolyhedron().upperBound(q.toPolyhedron());
+        p.upperBound(q);
+        assertEquals(flat, p.toPolyhedron());
+        assertArrayEquals(new long[][] { { 0, 1 }, { 2 } }, p.getPartition());
+        assertTrue(p.contains(q));
+        assertTrue(p.strictlyContains(q));
+        assertFalse(q.contains(p));
+
+        var r = dom.createFrom(ConstraintSystem.of(ge(0, 1), ge(1, -1), ge(0, 0, 0, 1)));
+        var s = dom.createFrom(ConstraintSystem.of(ge(0, 1), ge(2, -1), ge(0, 0, 0, 1)));
+        var ws = dom.getWidenings().get(0);
+        assertEquals("H79", ws.getName());
+        ws.getWidening().apply(s, r);
+        assertEquals(dom.createFrom(ConstraintSystem.of(ge(0, 1), ge(0, 0, 0, 1))), s);
+    }
+
+    @Test
+    void testDimensions() {
+        var p = dom.createFrom(system());
+        var flat = CPolyhedron.from(system());
+        p.removeSpaceDimensions(new long[] { 0 });
+        flat.removeSpaceDimensions(new long[] { 0 });
+        assertEquals(flat, p.toPolyhedron());
+        assertArrayEquals(new long[][] { { 0 }, { 2 } }, p.getPartition());
+        p.mapSpaceDimensions(new long[] { 2, 1, 0 });
+        flat.mapSpaceDimensions(new long[] { 2, 1, 0 });
+        assertEquals(flat, p.toPolyhedron());
+        p.expandSpaceDimension(0, 1);
+        flat.expandSpaceDimension(0, 1);
+        assertEquals(flat, p.toPolyhedron());
+        p.addSpaceDimensionsAndProject(1).concatenate(dom.createEmpty(1));
+        flat.addSpaceDimensionsAndProject(1).concatenate(CPolyhedron.empty(1));
+        assertTrue(p.isEmpty());
+        assertEquals(flat, p.toPolyhedron());
+        p.removeHigherSpaceDimensions(2);
+        assertTrue(p.isEmpty());
+        assertEquals(2, p.getSpaceDimension());
+    }
+
+    @Test
+    void testHashCode() {
+        var p1 = dom.createFrom(system());
+        // a redundant constraint merges the blocks without changing the polyhedron
+        var p2 = dom.createFrom(system()).add(ge(5, 1, 0, 0, 1));
+        assertArrayEquals(new long[][] { { 0, 1, 3 } }, p2.getPartition());
+        assertEquals(p1, p2);
+        assertEquals(p1.hashCode(), p2.hashCode());
+        var empty = dom.createEmpty(4);
+        assertEquals(empty.hashCode(), p1.add(ge(-1, 0, 0, 0, -1)).hashCode());
+    }
+
+    @Test
+    void testParallelAffineImage() {
+        var p = dom.createFrom(system());
+        var vars = new long[] { 0, 1 };
+        var exprs = new LinearExpression[] { LinearExpression.of(0, 0, 1), LinearExpression.of(0, 1) };
+        var flat = CPolyhedron.from(system()).parallelAffineImage(vars, exprs);
+        p.parallelAffineImage(vars, exprs);
+        assertEquals(flat, p.toPolyhedron());
+        assertEquals(4, p.getSpaceDimension());
+        assertNull(p.getNative());
+    }
+
+}
@@ -0,0 +1,76 @@
+package it.unich.jppl;
+
+import static it.unich.jppl.ConstraintFixtures.ge;
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelAffineTest {
+
+    // 0 <= x0 <= 1, 2 <= x1 <= 5, x2 = 7
+    static CPolyhedron start() {
+        return CPolyhedron.universe(3).add(ge(0, 1)).add(ge(1, -1)).add(ge(-2, 0, 1))
+                .add(ge(5, 0, -1)).add(Constraint.of(LinearExpression.of(-7, 0, 0, 1), ConstraintType.EQUAL));
+    }
+
+    @Test
+    void testSwap() {
+        var vars = new long[] { 0, 1 };
+        var exprs = new LinearExpression[] { LinearExpression.of(0, 0, 1), LinearExpression.of(0, 1) };
+        var expected = CPolyhedron.universe(3).add(ge(0, 0, 1)).add(ge(1, 0, -1)).add(ge(-2, 1))
+                .add(ge(5, -1)).add(Constraint.of(LinearExpression.of(-7, 0, 0, 1), ConstraintType.EQUAL));
+        var ph = start().parallelAffineImage(vars, exprs);
+        assertEquals(expected, ph);
+        assertEquals(3, ph.getSpaceDimension());
+        assertEquals(start(), ph.parallelAffinePreImage(vars, exprs));
+    }
+
+    @Test
+    void testAcyclic() {
+        // (x0, x1) := (x1 + x2, 2 * x2), which needs no temporary dimension
+        var vars = new long[] { 0, 1 };
+        var exprs = new LinearExpression[] { LinearExpression.of(0, 0, 1, 1), LinearExpression.of(0, 0, 0, 2) };
+        var expected = start().affineImage(0, exprs[0]).affineImage(1, exprs[1]);
+        assertEquals(expected, start().parallelAffineImage(vars, exprs));
+        var reversed = new long[] { 1, 0 };
+        var rexprs = new LinearExpression[] { exprs[1], exprs[0] };
+        assertEquals(expected, start().parallelAffineImage(reversed, rexprs));
+        var pre = start().affinePreImage(1, exprs[1]).affinePreImage(0, exprs[0]);
+        assertEquals(pre, start().parallelAffinePreImage(vars, exprs));
+    }
+
+    @Test
+    void testFibonacci() {
+        // (x0, x1) := (x1, x0 + x1) with divisors, compared with the manual computation
+        var vars = new long[] { 0, 1 };
+        var exprs = new LinearExpression[] { LinearExpression.of(0, 0, 1), LinearExpression.of(0, 1, 1) };
+        var dens = new Coefficient[] { Coefficient.ONE, Coefficient.valueOf(2) };
+        var expected = start().addSpaceDimensionsAndEmbed(1).affineImage(3, LinearExpression.of(0, 1))
+                .affineImage(0, exprs[0]).affineImage(1, LinearExpression.of(0, 0, 1, 0, 1), dens[1])
+                .removeHigherSpaceDimensions(3);
+        assertEquals(expected, start().parallelAffineImage(vars, exprs, dens));
+        var ph = start().parallelAffineImage(vars, exprs, dens).parallelAffinePreImage(vars, exprs, dens);
+        assertTrue(ph.contains(start()));
+    }
+
+    @Test
+    void testBoxes() {
+        var box = DoubleBox.from(start());
+        var vars = new long[] { 0, 1, 2 };
+        var exprs = new LinearExpression[] { LinearExpression.of(0, 0, 1), LinearExpression.of(0, 0, 0, 1),
+                LinearExpression.of(0, 1) };
+        var image = box.clone().parallelAffineImage(vars, exprs);
+        assertEquals(3, image.getSpaceDimension());
+        var expected = CPolyhedron.universe(3).add(ge(-2, 1)).add(ge(5, -1))
+                .add(Constraint.of(LinearExpression.of(-7, 0, 1), ConstraintType.EQUAL)).add(ge(0, 0, 0, 1))
+                .add(ge(1, 0, 0, -1));
+        assertEquals(DoubleBox.from(expected), image);
+        assertThrows(IllegalArgumentException.class,
+                () -> box.parallelAffineImage(new long[] { 0, 0 }, new LinearExpression[] { exprs[0], exprs[1] }));
+        assertThrows(IllegalArgumentException.class, () -> box.parallelAffinePreImage(vars, exprs,
+                new Coefficient[] { Coefficient.ONE }));
+    }
+
+}
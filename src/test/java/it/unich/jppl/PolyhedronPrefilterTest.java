@@ -0,0 +1,77 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.Constraint.ConstraintType;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class PolyhedronPrefilterTest {
+
+    static CPolyhedron square(long lo, long hi) {
+        var cs = ConstraintSystem.fromMatrix(new long[][] { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } },
+                new long[] { -lo, hi, -lo, hi }, new ConstraintType[] { ConstraintType.GREATER_OR_EQUAL,
+                        ConstraintType.GREATER_OR_EQUAL, ConstraintType.GREATER_OR_EQUAL,
+                        ConstraintType.GREATER_OR_EQUAL });
+        return CPolyhedron.from(cs);
+    }
+
+    @Test
+    void testPrefilter() {
+        var enabled = PolyhedronPrefilter.isEnabled();
+        PolyhedronPrefilter.setEnabled(true);
+        PolyhedronPrefilter.reset();
+        try {
+            var big = square(0, 10);
+            var small = square(2, 3);
+            var far = square(20, 30);
+            var line = CPolyhedron.universe(2)
+                    .add(Constraint.of(LinearExpression.of(-1, 1, -1), ConstraintType.EQUAL));
+            assertTrue(big.contains(small));
+            assertFalse(small.contains(big));
+            assertFalse(big.contains(far));
+            assertFalse(big.strictlyContains(far));
+            assertTrue(big.isDisjointFrom(far));
+            assertFalse(big.isDisjointFrom(small));
+            assertFalse(big.contains(line));
+            assertFalse(line.contains(small));
+            assertTrue(big.contains(CPolyhedron.empty(2)));
+            assertEquals(9, PolyhedronPrefilter.getChecks());
+            assertEquals(6, PolyhedronPrefilter.getHits());
+            big.add(Constraint.of(LinearExpression.of(-5, 1, 0), ConstraintType.GREATER_OR_EQUAL));
+            assertFalse(big.contains(small));
+            assertEquals(7, PolyhedronPrefilter.getHits());
+            PolyhedronPrefilter.setEnabled(false);
+            assertFalse(big.contains(small));
+            assertEquals(10, PolyhedronPrefilter.getChecks());
+        } finally {
+            PolyhedronPrefilter.setEnabled(enabled);
+        }
+    }
+
+    @Test
+    void testRounding() {
+        var enabled = PolyhedronPrefilter.isEnabled();
+        PolyhedronPrefilter.setEnabled(true);
+        try {
+            // the lower bound n - 1/3 of x and the bound n of y are rounded by different paths
+            var n = new BigInteger("12345678901234567891");
+            var three = BigInteger.valueOf(3);
+            var x = CPolyhedron.universe(1)
+                    .add(Constraint.of(LinearExpression.of(BigInteger.ONE.subtract(n.multiply(three)), three),
+                            ConstraintType.GREATER_OR_EQUAL))
+                    .add(Constraint.of(LinearExpression.of(n, BigInteger.ONE.negate()),
+                            ConstraintType.GREATER_OR_EQUAL));
+            var y = CPolyhedron.universe(1)
+                    .add(Constraint.of(LinearExpression.of(n.negate(), BigInteger.ONE), ConstraintType.EQUAL));
+            assertTrue(x.contains(y));
+            assertFalse(x.isDisjointFrom(y));
+            assertFalse(y.contains(x));
+        } finally {
+            PolyhedronPrefilter.setEnabled(enabled);
+        }
+    }
+
+}
@@ -221,4 +221,20 @@ public class PolyhedronTest {
         assertEquals(STRICTLY_INTERSECTS, ph2.getRelationWith(c1));
     }
 
+    @Test
+    void testHashCode() {
+        var x = Constraint.of(LinearExpression.of(0, 1, 0), ConstraintType.GREATER_OR_EQUAL);
+        var y = Constraint.of(LinearExpression.of(0, 0, 1), ConstraintType.GREATER_OR_EQUAL);
+        var xy = Constraint.of(LinearExpression.of(0, 1, 1), ConstraintType.GREATER_OR_EQUAL);
+        var ph1 = CPolyhedron.from(ConstraintSystem.of(x, y));
+        var ph2 = CPolyhedron.from(ConstraintSystem.of(y, xy, x));
+        assertEquals(ph1, ph2);
+        assertEquals(ph1.hashCode(), ph2.hashCode());
+        int h = ph1.hashCode();
+        ph1.unconstrain(0);
+        assertNotEquals(ph1, ph2);
+        assertNotEquals(h, ph1.hashCode());
+        ph2.unconstrain(0);
+        assertEquals(ph1.hashCode(), ph2.hashCode());
+    }
 }
@@ -0,0 +1,74 @@
+package it.unich.jppl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unich.jppl.WeightBudget.Degradation;
+
+import org.junit.jupiter.api.Test;
+
+public class WeightBudgetTest {
+
+    static CPolyhedron cube(int n, long k) {
+        var ph = CPolyhedron.universe(n);
+        for (int i = 0; i < n; i++) {
+            var coeffs = new long[n];
+            coeffs[i] = 1;
+            ph.add(Constraint.of(LinearExpression.of(0, coeffs), Constraint.ConstraintType.GREATER_OR_EQUAL));
+            coeffs[i] = -1;
+            ph.add(Constraint.of(LinearExpression.of(k, coeffs), Constraint.ConstraintType.GREATER_OR_EQUAL));
+        }
+        return ph;
+    }
+
+    @Test
+    void testAccounting() {
+        var budget = new WeightBudget(Long.MAX_VALUE / 2);
+        var x = cube(2, 1);
+        var budgeted = x.withBudget(budget);
+        budgeted.polyHull(cube(2, 2));
+        assertEquals(cube(2, 2), x);
+        budgeted.intersection(cube(2, 1));
+        assertEquals(cube(2, 1), x);
+        assertEquals(0, budgeted.getFallbacks());
+        assertEquals(2, budget.getOperations());
+        assertEquals(0, budget.getExhaustions());
+        var weights = budget.getWeights();
+        assertTrue(weights.get("polyHull") >= WeightBudget.MIN_WEIGHT);
+        assertEquals(weights.get("intersection"), budget.getLastWeight());
+        assertEquals(weights.get("polyHull") + weights.get("intersection"), budget.getConsumedWeight());
+        assertEquals(budget.getTotalWeight() - budget.getConsumedWeight(), budget.getRemainingWeight());
+        assertThrows(IllegalArgumentException.class, () -> new WeightBudget(0));
+    }
+
+    @Test
+    void testReproducible() {
+        var b1 = new WeightBudget(Long.MAX_VALUE / 2);
+        var b2 = new WeightBudget(Long.MAX_VALUE / 2);
+        cube(6, 1).withBudget(b1).polyHull(cube(6, 2).affineImage(0, LinearExpression.of(0, 1, 1), Coefficient.ONE));
+        cube(6, 1).withBudget(b2).polyHull(cube(6, 2).affineImage(0, LinearExpression.of(0, 1, 1), Coefficient.ONE));
+        assertEquals(b1.getConsumedWeight(), b2.getConsumedWeight());
+    }
+
+    @Test
+    void testDegradation() {
+        var x = cube(8, 1);
+        var y = cube(8, 2).affineImage(0, LinearExpression.of(0, 1, 1), Coefficient.ONE);
+        var budget = new WeightBudget(1, 1, Degradation.OVER_APPROXIMATE);
+        var budgeted = x.withBudget(budget);
+        budgeted.polyHull(y);
+        assertEquals(1, budgeted.getFallbacks());
+        assertEquals(1, budget.getExhaustions());
+        assertEquals(1, budget.getConsumedWeight());
+        assertTrue(x.contains(cube(8, 1).polyHull(y)));
+        budgeted.intersection(y);
+        assertEquals(0, budget.getLastWeight());
+        assertEquals(2, budgeted.getFallbacks());
+
+        var z = cube(8, 1);
+        var strict = z.withBudget(new WeightBudget(1, 1, Degradation.THROW));
+        var e = assertThrows(PPLRuntimeException.class, () -> strict.polyHull(y));
+        assertEquals(PPLRuntimeException.TIMEOUT_EXCEPTION, e.getCode());
+        assertEquals(cube(8, 1), z);
+    }
+
+}
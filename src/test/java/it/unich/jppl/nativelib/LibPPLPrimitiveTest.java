@@ -0,0 +1,44 @@
+package it.unich.jppl.nativelib;
+
+import static it.unich.jppl.nativelib.LibPPLPrimitive.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.jna.Pointer;
+
+import org.junit.jupiter.api.Test;
+
+public class LibPPLPrimitiveTest {
+
+    @Test
+    void testScratch() throws InterruptedException {
+        var p = scratch();
+        assertSame(p, scratch());
+        var other = new AtomicReference<Pointer>();
+        var t = new Thread(() -> other.set(scratch()));
+        t.start();
+        t.join();
+        assertNotNull(other.get());
+        assertNotEquals(p, other.get());
+    }
+
+    @Test
+    void testBackend() {
+        assertEquals("jna", LibPPLPrimitive.loadBackend("jna").getName());
+        assertThrows(IllegalArgumentException.class, () -> LibPPLPrimitive.loadBackend("unknown"));
+        if (Runtime.version().feature() < 22)
+            assertThrows(IllegalStateException.class, () -> LibPPLPrimitive.loadBackend("ffm"));
+    }
+
+    @Test
+    void testLinearExpression() {
+        var pd = scratch();
+        assertEquals(0, ppl_new_Linear_Expression_with_dimension(pd, 3));
+        var le = pd.getPointer(0);
+        assertEquals(0, ppl_Linear_Expression_space_dimension(le, pd));
+        assertEquals(3, pd.getLong(0));
+        assertEquals(0, LibPPL.ppl_delete_Linear_Expression(le));
+    }
+
+}
@@ -0,0 +1,40 @@
+package it.unich.jppl.nativelib;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class NativeProfilerTest {
+
+    @Test
+    void testBuckets() {
+        assertEquals(0, NativeProfiler.bucketOf(0));
+        assertEquals(0, NativeProfiler.bucketOf(1));
+        assertEquals(1, NativeProfiler.bucketOf(2));
+        assertEquals(1, NativeProfiler.bucketOf(3));
+        assertEquals(10, NativeProfiler.bucketOf(1024));
+        assertEquals(NativeProfiler.BUCKETS - 1, NativeProfiler.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testQuantiles() {
+        var histogram = new long[NativeProfiler.BUCKETS];
+        histogram[3] = 90;
+        histogram[10] = 10;
+        var p = new NativeProfiler.FunctionProfile("f", 100, 20000, histogram);
+        assertEquals(16, p.getQuantileNanos(0.5));
+        assertEquals(16, p.getQuantileNanos(0.9));
+        assertEquals(2048, p.getQuantileNanos(0.99));
+        assertEquals(200.0, p.getMeanNanos());
+    }
+
+    @Test
+    void testDisabled() {
+        LibPPL.ppl_version_major();
+        if (!NativeProfiler.isEnabled())
+            assertTrue(NativeProfiler.snapshot().isEmpty());
+        else
+            assertTrue(NativeProfiler.snapshot().stream().anyMatch(p -> p.getName().equals("ppl_version_major")));
+    }
+
+}